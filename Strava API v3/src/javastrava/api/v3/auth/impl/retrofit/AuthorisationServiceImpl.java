@@ -37,7 +37,7 @@ public class AuthorisationServiceImpl implements AuthorisationService {
 	@Override
 	public Token tokenExchange(final Integer clientId, final String clientSecret, final String code, final AuthorisationScope... scopes) throws BadRequestException, UnauthorizedException {
 		final TokenResponse response = this.api.tokenExchange(clientId, clientSecret, code);
-		final Token token = new Token(response, scopes);
+		final Token token = new Token(response, clientId, scopes);
 		TokenManager.instance().storeToken(token);
 		return token;
 	}
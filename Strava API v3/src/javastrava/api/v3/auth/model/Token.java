@@ -3,6 +3,7 @@ package javastrava.api.v3.auth.model;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import javastrava.api.v3.auth.AuthorisationService;
 import javastrava.api.v3.auth.TokenService;
@@ -29,6 +30,7 @@ import javastrava.api.v3.service.impl.StravaServiceImpl;
 import javastrava.api.v3.service.impl.StreamServiceImpl;
 import javastrava.api.v3.service.impl.UploadServiceImpl;
 import javastrava.api.v3.service.impl.WebhookServiceImpl;
+import javastrava.util.StravaExecutors;
 
 /**
  * <p>
@@ -85,6 +87,16 @@ public class Token {
 	 */
 	private String tokenType;
 
+	/**
+	 * Client id of the application to which the token was issued, if known; used to account for the application's rate limit usage
+	 */
+	private Integer clientId;
+
+	/**
+	 * Executor on which the token's asynchronous service methods, and parallel page requests, are run
+	 */
+	private Executor executor = StravaExecutors.defaultExecutor();
+
 	/**
 	 * No-args constructor
 	 */
@@ -104,6 +116,43 @@ public class Token {
 	 *            The list of authorisation scopes to be associated with the token
 	 */
 	public Token(final TokenResponse tokenResponse, final AuthorisationScope... scopes) {
+		this(tokenResponse, null, scopes);
+	}
+
+	/**
+	 * <p>
+	 * Constructor for a token issued to a known application
+	 * </p>
+	 *
+	 * @param tokenResponse
+	 *            The response as received from {@link AuthorisationService#tokenExchange(Integer, String, String, AuthorisationScope...)}
+	 * @param clientId
+	 *            The client id of the application to which the token was issued
+	 * @param scopes
+	 *            The list of authorisation scopes to be associated with the token
+	 */
+	public Token(final TokenResponse tokenResponse, final Integer clientId, final AuthorisationScope... scopes) {
+		this(tokenResponse, clientId, StravaExecutors.defaultExecutor(), scopes);
+	}
+
+	/**
+	 * <p>
+	 * Constructor for a token issued to a known application, whose asynchronous service methods and parallel page requests are run on the given
+	 * executor
+	 * </p>
+	 *
+	 * @param tokenResponse
+	 *            The response as received from {@link AuthorisationService#tokenExchange(Integer, String, String, AuthorisationScope...)}
+	 * @param clientId
+	 *            The client id of the application to which the token was issued
+	 * @param executor
+	 *            The executor; see {@link StravaExecutors} for the standard kinds
+	 * @param scopes
+	 *            The list of authorisation scopes to be associated with the token
+	 */
+	public Token(final TokenResponse tokenResponse, final Integer clientId, final Executor executor, final AuthorisationScope... scopes) {
+		this.clientId = clientId;
+		this.executor = executor;
 		this.athlete = tokenResponse.getAthlete();
 		this.token = tokenResponse.getAccessToken();
 		this.tokenType = tokenResponse.getTokenType();
@@ -159,6 +208,13 @@ public class Token {
 		} else if (!this.athlete.equals(other.athlete)) {
 			return false;
 		}
+		if (this.clientId == null) {
+			if (other.clientId != null) {
+				return false;
+			}
+		} else if (!this.clientId.equals(other.clientId)) {
+			return false;
+		}
 		if (this.scopes == null) {
 			if (other.scopes != null) {
 				return false;
@@ -197,6 +253,20 @@ public class Token {
 		return this.athlete;
 	}
 
+	/**
+	 * @return the clientId
+	 */
+	public Integer getClientId() {
+		return this.clientId;
+	}
+
+	/**
+	 * @return the executor on which asynchronous service methods and parallel page requests are run
+	 */
+	public Executor getExecutor() {
+		return this.executor;
+	}
+
 	/**
 	 * @return the scopes
 	 */
@@ -249,6 +319,7 @@ public class Token {
 		final int prime = 31;
 		int result = 1;
 		result = (prime * result) + ((this.athlete == null) ? 0 : this.athlete.hashCode());
+		result = (prime * result) + ((this.clientId == null) ? 0 : this.clientId.hashCode());
 		result = (prime * result) + ((this.scopes == null) ? 0 : this.scopes.hashCode());
 		result = (prime * result) + ((this.services == null) ? 0 : this.services.hashCode());
 		result = (prime * result) + ((this.token == null) ? 0 : this.token.hashCode());
@@ -306,6 +377,22 @@ public class Token {
 		this.athlete = athlete;
 	}
 
+	/**
+	 * @param clientId
+	 *            the clientId to set
+	 */
+	public void setClientId(final Integer clientId) {
+		this.clientId = clientId;
+	}
+
+	/**
+	 * @param executor
+	 *            the executor on which asynchronous service methods and parallel page requests are run
+	 */
+	public void setExecutor(final Executor executor) {
+		this.executor = executor;
+	}
+
 	/**
 	 * @param scopes
 	 *            the scopes to set
@@ -344,7 +431,7 @@ public class Token {
 	@Override
 	public String toString() {
 		return "Token [athlete=" + this.athlete + ", token=" + this.token + ", scopes=" + this.scopes + ", services=" + this.services + ", tokenType=" //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
-				+ this.tokenType + "]"; //$NON-NLS-1$
+				+ this.tokenType + ", clientId=" + this.clientId + "]"; //$NON-NLS-1$ //$NON-NLS-2$
 	}
 
 }
@@ -1,7 +1,10 @@
 package javastrava.api.v3.auth.ref;
 
+import java.util.Map;
+
 import javastrava.config.StravaConfig;
 import javastrava.json.impl.gson.serializer.AuthorisationApprovalPromptSerializer;
+import javastrava.util.ReferenceUtils;
 
 /**
  * <p>
@@ -44,14 +47,14 @@ public enum AuthorisationApprovalPrompt {
 	 * @return The instance of {@link AuthorisationApprovalPrompt} with the correct id
 	 */
 	public static AuthorisationApprovalPrompt create(final String id) {
-		for (final AuthorisationApprovalPrompt prompt : AuthorisationApprovalPrompt.values()) {
-			if (prompt.getId().equals(id)) {
-				return prompt;
-			}
-		}
-		return AuthorisationApprovalPrompt.UNKNOWN;
+		final AuthorisationApprovalPrompt value = BY_ID.get(id);
+		return (value == null ? UNKNOWN : value);
 	}
 
+	/**
+	 * Values by identifier, for {@link #create(String)}
+	 */
+	private static final Map<String, AuthorisationApprovalPrompt> BY_ID = ReferenceUtils.index(values(), AuthorisationApprovalPrompt::getId);
 	/**
 	 * Identifier
 	 */
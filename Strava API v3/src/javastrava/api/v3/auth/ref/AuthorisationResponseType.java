@@ -1,6 +1,9 @@
 package javastrava.api.v3.auth.ref;
 
+import java.util.Map;
+
 import javastrava.config.StravaConfig;
+import javastrava.util.ReferenceUtils;
 
 /**
  * <p>
@@ -36,14 +39,14 @@ public enum AuthorisationResponseType {
 	 * @return An instance of {@link AuthorisationResponseType} corresponding to the id, or {@link #UNKNOWN} if no such instance is available.
 	 */
 	public static AuthorisationResponseType create(final String id) {
-		for (final AuthorisationResponseType type : AuthorisationResponseType.values()) {
-			if (type.getId().equals(id)) {
-				return type;
-			}
-		}
-		return AuthorisationResponseType.UNKNOWN;
+		final AuthorisationResponseType value = BY_ID.get(id);
+		return (value == null ? UNKNOWN : value);
 	}
 
+	/**
+	 * Values by identifier, for {@link #create(String)}
+	 */
+	private static final Map<String, AuthorisationResponseType> BY_ID = ReferenceUtils.index(values(), AuthorisationResponseType::getId);
 	/**
 	 * <p>
 	 * Identifier
@@ -1,8 +1,11 @@
 package javastrava.api.v3.auth.ref;
 
+import java.util.Map;
+
 import javastrava.config.Messages;
 import javastrava.config.StravaConfig;
 import javastrava.json.impl.gson.serializer.AuthorisationScopeSerializer;
+import javastrava.util.ReferenceUtils;
 
 /**
  * <p>
@@ -34,19 +37,19 @@ public enum AuthorisationScope {
 	 * <p>
 	 * Used when deserialising JSON returned by the Strava API
 	 * </p>
-	 * @see AuthorisationScopeSerializer#deserialize(com.google.gson.JsonElement, java.lang.reflect.Type, com.google.gson.JsonDeserializationContext)
+	 * @see AuthorisationScopeSerializer#fromValue(String)
 	 * @param id String value returned by Strava
 	 * @return Returns the matching instance of {@link AuthorisationScope}, or {@link AuthorisationScope#UNKNOWN} if there is no match
 	 */
 	public static AuthorisationScope create(final String id) {
-		for (final AuthorisationScope scope : AuthorisationScope.values()) {
-			if (scope.getId().equals(id)) {
-				return scope;
-			}
-		}
-		return AuthorisationScope.UNKNOWN;
+		final AuthorisationScope value = BY_ID.get(id);
+		return (value == null ? UNKNOWN : value);
 	}
 
+	/**
+	 * Values by identifier, for {@link #create(String)}
+	 */
+	private static final Map<String, AuthorisationScope> BY_ID = ReferenceUtils.index(values(), AuthorisationScope::getId);
 	/**
 	 * Identifier
 	 */
@@ -78,7 +81,7 @@ public enum AuthorisationScope {
 	}
 
 	/**
-	 * @see AuthorisationScopeSerializer#serialize(AuthorisationScope, java.lang.reflect.Type, com.google.gson.JsonSerializationContext)
+	 * @see AuthorisationScopeSerializer#toValue(AuthorisationScope)
 	 * @return the id
 	 */
 	public String getId() {
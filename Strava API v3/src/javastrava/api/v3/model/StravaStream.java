@@ -1,5 +1,8 @@
 package javastrava.api.v3.model;
 
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
 
 import javastrava.api.v3.model.reference.StravaStreamResolutionType;
@@ -16,6 +19,14 @@ import javastrava.api.v3.model.reference.StravaStreamType;
  * the values at a given index correspond to the same time.
  * </p>
  *
+ * <p>
+ * The samples are held in columns of primitives rather than as lists of objects: a <code>float[]</code> for numeric data, a
+ * <code>float[]</code> of interleaved latitudes and longitudes for GPS co-ordinates, and a {@link BitSet} for the moving flag, with a second
+ * {@link BitSet} marking the gaps (samples which Strava returned as <code>null</code>). A 10,000 point stream then takes 40KB rather than
+ * several hundred. {@link #getData()}, {@link #getMapPoints()} and {@link #getMoving()} still return lists, as views of the columns; use
+ * the <code>get...Column</code> methods to work with the columns directly.
+ * </p>
+ *
  * @author Dan Shannon
  *
  */
@@ -25,18 +36,27 @@ public class StravaStream {
 	 */
 	private StravaStreamType					type;
 	/**
-	 * Raw data (either this or {@link #mapPoints} or {@link #moving} will be populated, depending on the {@link #type} of stream).
+	 * Number of samples in the stream
 	 */
-	private List<Float>							data;
+	private int									size;
 	/**
-	 * Raw GPS co-ordinates (either this or {@link #data} or {@link #moving} will be populated, depending on the {@link #type} of
-	 * stream).
+	 * Raw data (either this or {@link #mapPoints} or {@link #moving} will be populated, depending on the {@link #type} of stream). Gaps
+	 * are {@link Float#NaN}.
 	 */
-	private List<StravaMapPoint>				mapPoints;
+	private float[]								data;
+	/**
+	 * Raw GPS co-ordinates, as latitude and longitude of each sample in turn (either this or {@link #data} or {@link #moving} will be
+	 * populated, depending on the {@link #type} of stream). Gaps are {@link Float#NaN}.
+	 */
+	private float[]								mapPoints;
 	/**
 	 * Boolean data stream indicating whether athlete was moving or not (either this or {@link #data} or {@link #mapPoints} will be populated, depending on the {@link #type} of stream).
 	 */
-	private List<Boolean>						moving;
+	private BitSet								moving;
+	/**
+	 * Set for each sample which Strava returned as <code>null</code>
+	 */
+	private BitSet								gaps;
 	/**
 	 * Method of downsampling applied by Strava when returning the stream (if appropriate) - either by distance or by time
 	 */
@@ -55,6 +75,16 @@ public class StravaStream {
 	public StravaStream() {
 		super();
 	}
+	/**
+	 * Forgets whichever column is populated
+	 */
+	private void clearColumns() {
+		this.size = 0;
+		this.data = null;
+		this.mapPoints = null;
+		this.moving = null;
+		this.gaps = null;
+	}
 	/**
 	 * @see java.lang.Object#equals(java.lang.Object)
 	 */
@@ -70,18 +100,13 @@ public class StravaStream {
 			return false;
 		}
 		final StravaStream other = (StravaStream) obj;
-		if (this.data == null) {
-			if (other.data != null) {
-				return false;
-			}
-		} else if (!this.data.equals(other.data)) {
+		if (this.size != other.size) {
 			return false;
 		}
-		if (this.mapPoints == null) {
-			if (other.mapPoints != null) {
-				return false;
-			}
-		} else if (!this.mapPoints.equals(other.mapPoints)) {
+		if (!Arrays.equals(this.data, other.data)) {
+			return false;
+		}
+		if (!Arrays.equals(this.mapPoints, other.mapPoints)) {
 			return false;
 		}
 		if (this.moving == null) {
@@ -91,6 +116,9 @@ public class StravaStream {
 		} else if (!this.moving.equals(other.moving)) {
 			return false;
 		}
+		if (!gapSet().equals(other.gapSet())) {
+			return false;
+		}
 		if (this.originalSize == null) {
 			if (other.originalSize != null) {
 				return false;
@@ -110,21 +138,125 @@ public class StravaStream {
 		return true;
 	}
 	/**
-	 * @return the data
+	 * @return the data, as a view of {@link #getDataColumn()} in which gaps are <code>null</code>; or <code>null</code> if this isn't a
+	 *         numeric stream
 	 */
 	public List<Float> getData() {
+		if (this.data == null) {
+			return null;
+		}
+		return new AbstractList<Float>() {
+			@Override
+			public Float get(final int index) {
+				checkIndex(index);
+				return isGap(index) ? null : Float.valueOf(StravaStream.this.data[index]);
+			}
+
+			@Override
+			public Float set(final int index, final Float value) {
+				final Float previous = get(index);
+				StravaStream.this.data[index] = (value == null ? Float.NaN : value.floatValue());
+				setGap(index, value == null);
+				return previous;
+			}
+
+			@Override
+			public int size() {
+				return StravaStream.this.size;
+			}
+		};
+	}
+	/**
+	 * @return the numeric data, or <code>null</code> if this isn't a numeric stream. The array is not copied; gaps are {@link Float#NaN}.
+	 */
+	public float[] getDataColumn() {
 		return this.data;
 	}
 	/**
-	 * @return the mapPoints
+	 * @return the samples which Strava returned as <code>null</code> (a copy)
+	 */
+	public BitSet getGaps() {
+		return (BitSet) gapSet().clone();
+	}
+	/**
+	 * @return the samples which Strava returned as <code>null</code>
+	 */
+	private BitSet gapSet() {
+		return (this.gaps == null ? new BitSet() : this.gaps);
+	}
+	/**
+	 * @return the mapPoints, as a view of {@link #getMapPointColumn()} which creates each {@link StravaMapPoint} as it is asked for; or
+	 *         <code>null</code> if this isn't a GPS stream
 	 */
 	public List<StravaMapPoint> getMapPoints() {
+		if (this.mapPoints == null) {
+			return null;
+		}
+		return new AbstractList<StravaMapPoint>() {
+			@Override
+			public StravaMapPoint get(final int index) {
+				checkIndex(index);
+				if (isGap(index)) {
+					return null;
+				}
+				return new StravaMapPoint(fromColumn(StravaStream.this.mapPoints[2 * index]), fromColumn(StravaStream.this.mapPoints[(2 * index) + 1]));
+			}
+
+			@Override
+			public StravaMapPoint set(final int index, final StravaMapPoint point) {
+				final StravaMapPoint previous = get(index);
+				StravaStream.this.mapPoints[2 * index] = (point == null ? Float.NaN : toColumn(point.getLatitude()));
+				StravaStream.this.mapPoints[(2 * index) + 1] = (point == null ? Float.NaN : toColumn(point.getLongitude()));
+				setGap(index, point == null);
+				return previous;
+			}
+
+			@Override
+			public int size() {
+				return StravaStream.this.size;
+			}
+		};
+	}
+	/**
+	 * @return the GPS co-ordinates as latitude and longitude of each sample in turn, or <code>null</code> if this isn't a GPS stream. The array is
+	 *         not copied; gaps are {@link Float#NaN}.
+	 */
+	public float[] getMapPointColumn() {
 		return this.mapPoints;
 	}
 	/**
-	 * @return the moving
+	 * @return the moving, as a view of {@link #getMovingColumn()} in which gaps are <code>null</code>; or <code>null</code> if this isn't a
+	 *         moving stream
 	 */
 	public List<Boolean> getMoving() {
+		if (this.moving == null) {
+			return null;
+		}
+		return new AbstractList<Boolean>() {
+			@Override
+			public Boolean get(final int index) {
+				checkIndex(index);
+				return isGap(index) ? null : Boolean.valueOf(StravaStream.this.moving.get(index));
+			}
+
+			@Override
+			public Boolean set(final int index, final Boolean value) {
+				final Boolean previous = get(index);
+				StravaStream.this.moving.set(index, value == Boolean.TRUE);
+				setGap(index, value == null);
+				return previous;
+			}
+
+			@Override
+			public int size() {
+				return StravaStream.this.size;
+			}
+		};
+	}
+	/**
+	 * @return the samples at which the athlete was moving, or <code>null</code> if this isn't a moving stream. The set is not copied.
+	 */
+	public BitSet getMovingColumn() {
 		return this.moving;
 	}
 	/**
@@ -145,6 +277,12 @@ public class StravaStream {
 	public StravaStreamSeriesDownsamplingType getSeriesType() {
 		return this.seriesType;
 	}
+	/**
+	 * @return the number of samples in the stream
+	 */
+	public int getSize() {
+		return this.size;
+	}
 	/**
 	 * @return the type
 	 */
@@ -158,9 +296,11 @@ public class StravaStream {
 	public int hashCode() {
 		final int prime = 31;
 		int result = 1;
-		result = (prime * result) + ((this.data == null) ? 0 : this.data.hashCode());
-		result = (prime * result) + ((this.mapPoints == null) ? 0 : this.mapPoints.hashCode());
+		result = (prime * result) + this.size;
+		result = (prime * result) + Arrays.hashCode(this.data);
+		result = (prime * result) + Arrays.hashCode(this.mapPoints);
 		result = (prime * result) + ((this.moving == null) ? 0 : this.moving.hashCode());
+		result = (prime * result) + gapSet().hashCode();
 		result = (prime * result) + ((this.originalSize == null) ? 0 : this.originalSize.hashCode());
 		result = (prime * result) + ((this.resolution == null) ? 0 : this.resolution.hashCode());
 		result = (prime * result) + ((this.seriesType == null) ? 0 : this.seriesType.hashCode());
@@ -168,22 +308,118 @@ public class StravaStream {
 		return result;
 	}
 	/**
-	 * @param data the data to set
+	 * @param index Index of a sample
+	 * @return <code>true</code> if Strava returned the sample as <code>null</code>
+	 */
+	public boolean isGap(final int index) {
+		return (this.gaps != null) && this.gaps.get(index);
+	}
+	/**
+	 * @param data the data to set (copied into {@link #getDataColumn()})
 	 */
 	public void setData(final List<Float> data) {
-		this.data = data;
+		if (data == null) {
+			if (this.data != null) {
+				clearColumns();
+			}
+			return;
+		}
+		final float[] values = new float[data.size()];
+		final BitSet dataGaps = new BitSet();
+		for (int i = 0; i < values.length; i++) {
+			final Float value = data.get(i);
+			if (value == null) {
+				values[i] = Float.NaN;
+				dataGaps.set(i);
+			} else {
+				values[i] = value.floatValue();
+			}
+		}
+		setDataColumn(values, dataGaps.isEmpty() ? null : dataGaps);
+	}
+	/**
+	 * @param data Numeric data, one element per sample, not copied; gaps should be {@link Float#NaN}
+	 * @param gaps Samples which Strava returned as <code>null</code>, or <code>null</code> if there are none
+	 */
+	public void setDataColumn(final float[] data, final BitSet gaps) {
+		clearColumns();
+		if (data != null) {
+			this.data = data;
+			this.size = data.length;
+			this.gaps = gaps;
+		}
 	}
 	/**
-	 * @param mapPoints the mapPoints to set
+	 * @param mapPoints the mapPoints to set (copied into {@link #getMapPointColumn()})
 	 */
 	public void setMapPoints(final List<StravaMapPoint> mapPoints) {
-		this.mapPoints = mapPoints;
+		if (mapPoints == null) {
+			if (this.mapPoints != null) {
+				clearColumns();
+			}
+			return;
+		}
+		final float[] coordinates = new float[2 * mapPoints.size()];
+		final BitSet pointGaps = new BitSet();
+		for (int i = 0; i < mapPoints.size(); i++) {
+			final StravaMapPoint point = mapPoints.get(i);
+			if (point == null) {
+				coordinates[2 * i] = Float.NaN;
+				coordinates[(2 * i) + 1] = Float.NaN;
+				pointGaps.set(i);
+			} else {
+				coordinates[2 * i] = toColumn(point.getLatitude());
+				coordinates[(2 * i) + 1] = toColumn(point.getLongitude());
+			}
+		}
+		setMapPointColumn(coordinates, pointGaps.isEmpty() ? null : pointGaps);
+	}
+	/**
+	 * @param mapPoints Latitude and longitude of each sample in turn (so two elements per sample), not copied; gaps should be {@link Float#NaN}
+	 * @param gaps Samples which Strava returned as <code>null</code>, or <code>null</code> if there are none
+	 */
+	public void setMapPointColumn(final float[] mapPoints, final BitSet gaps) {
+		clearColumns();
+		if (mapPoints != null) {
+			this.mapPoints = mapPoints;
+			this.size = mapPoints.length / 2;
+			this.gaps = gaps;
+		}
 	}
 	/**
-	 * @param moving the moving to set
+	 * @param moving the moving to set (copied into {@link #getMovingColumn()})
 	 */
 	public void setMoving(final List<Boolean> moving) {
-		this.moving = moving;
+		if (moving == null) {
+			if (this.moving != null) {
+				clearColumns();
+			}
+			return;
+		}
+		final BitSet flags = new BitSet(moving.size());
+		final BitSet movingGaps = new BitSet();
+		for (int i = 0; i < moving.size(); i++) {
+			final Boolean flag = moving.get(i);
+			if (flag == null) {
+				movingGaps.set(i);
+			} else if (flag.booleanValue()) {
+				flags.set(i);
+			}
+		}
+		setMovingColumn(flags, moving.size(), movingGaps.isEmpty() ? null : movingGaps);
+	}
+	/**
+	 * @param moving Samples at which the athlete was moving, not copied
+	 * @param size Number of samples
+	 * @param gaps Samples which Strava returned as <code>null</code>, or <code>null</code> if there are none
+	 */
+	public void setMovingColumn(final BitSet moving, final int size, final BitSet gaps) {
+		clearColumns();
+		if (moving != null) {
+			this.moving = moving;
+			this.size = size;
+			this.gaps = gaps;
+		}
 	}
 	/**
 	 * @param originalSize the originalSize to set
@@ -214,7 +450,44 @@ public class StravaStream {
 	 */
 	@Override
 	public String toString() {
-		return "StravaStream [type=" + this.type + ", data=" + this.data + ", mapPoints=" + this.mapPoints + ", moving=" + this.moving + ", seriesType=" //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+		return "StravaStream [type=" + this.type + ", data=" + getData() + ", mapPoints=" + getMapPoints() + ", moving=" + getMoving() + ", seriesType=" //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
 				+ this.seriesType + ", originalSize=" + this.originalSize + ", resolution=" + this.resolution + "]"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 	}
+	/**
+	 * @param index Index of a sample
+	 * @throws IndexOutOfBoundsException if there's no such sample
+	 */
+	private void checkIndex(final int index) {
+		if ((index < 0) || (index >= this.size)) {
+			throw new IndexOutOfBoundsException(Integer.toString(index));
+		}
+	}
+	/**
+	 * @param index Index of a sample
+	 * @param gap Whether it is a gap
+	 */
+	private void setGap(final int index, final boolean gap) {
+		if (gap) {
+			if (this.gaps == null) {
+				this.gaps = new BitSet();
+			}
+			this.gaps.set(index);
+		} else if (this.gaps != null) {
+			this.gaps.clear(index);
+		}
+	}
+	/**
+	 * @param value A latitude or longitude as held in the column
+	 * @return The same as a {@link Float}, or <code>null</code> if it's missing
+	 */
+	static Float fromColumn(final float value) {
+		return Float.isNaN(value) ? null : Float.valueOf(value);
+	}
+	/**
+	 * @param value A latitude or longitude
+	 * @return The same as held in the column
+	 */
+	static float toColumn(final Float value) {
+		return (value == null) ? Float.NaN : value.floatValue();
+	}
 }
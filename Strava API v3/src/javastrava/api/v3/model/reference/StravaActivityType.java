@@ -1,8 +1,11 @@
 package javastrava.api.v3.model.reference;
 
+import java.util.Map;
+
 import javastrava.config.Messages;
 import javastrava.config.StravaConfig;
 import javastrava.json.impl.gson.serializer.ActivityTypeSerializer;
+import javastrava.util.ReferenceUtils;
 
 /**
  * <p>
@@ -89,6 +92,10 @@ public enum StravaActivityType {
 	 */
 	UNKNOWN(StravaConfig.string("Common.unknown"), Messages.string("Common.unknown.description")); //$NON-NLS-1$ //$NON-NLS-2$
 
+	/**
+	 * Values by identifier, for {@link #create(String)} (which ignores case)
+	 */
+	private static final Map<ReferenceUtils.CaseInsensitiveKey, StravaActivityType> BY_ID = ReferenceUtils.indexIgnoringCase(values(), StravaActivityType::getId);
 	/**
 	 * Identifier
 	 */
@@ -118,20 +125,16 @@ public enum StravaActivityType {
 	/**
 	 * @param id The string representation of the activity type as returned by the Strava API
 	 * @return The {@link StravaActivityType} with the matching id, or {@link StravaActivityType#UNKNOWN} if there is no match
-	 * @see ActivityTypeSerializer#deserialize(com.google.gson.JsonElement, java.lang.reflect.Type, com.google.gson.JsonDeserializationContext)
+	 * @see ActivityTypeSerializer#fromValue(String)
 	 */
 	public static StravaActivityType create(final String id) {
-		for (StravaActivityType type : StravaActivityType.values()) {
-			if (type.getId().equalsIgnoreCase(id)) {
-				return type;
-			}
-		}
-		return UNKNOWN;
+		final StravaActivityType value = ReferenceUtils.lookupIgnoringCase(BY_ID, id);
+		return (value == null ? UNKNOWN : value);
 	}
 
 	/**
 	 * @return the id
-	 * @see ActivityTypeSerializer#serialize(StravaActivityType, java.lang.reflect.Type, com.google.gson.JsonSerializationContext)
+	 * @see ActivityTypeSerializer#toValue(StravaActivityType)
 	 */
 	public String getId() {
 		return this.id;
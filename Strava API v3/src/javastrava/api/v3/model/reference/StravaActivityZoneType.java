@@ -1,9 +1,12 @@
 package javastrava.api.v3.model.reference;
 
+import java.util.Map;
+
 import javastrava.api.v3.service.ActivityService;
 import javastrava.config.Messages;
 import javastrava.config.StravaConfig;
 import javastrava.json.impl.gson.serializer.ActivityZoneTypeSerializer;
+import javastrava.util.ReferenceUtils;
 
 /**
  * <p>
@@ -29,6 +32,10 @@ public enum StravaActivityZoneType {
 	 */
 	UNKNOWN(StravaConfig.string("Common.unknown"), Messages.string("Common.unknown.description")); //$NON-NLS-1$ //$NON-NLS-2$
 
+	/**
+	 * Values by identifier, for {@link #create(String)}
+	 */
+	private static final Map<String, StravaActivityZoneType> BY_ID = ReferenceUtils.index(values(), StravaActivityZoneType::getId);
 	/**
 	 * Identifier
 	 */
@@ -51,7 +58,7 @@ public enum StravaActivityZoneType {
 	/**
 	 * Used by JSON serialisation
 	 * @return The string representation of this {@link StravaActivityZoneType}
-	 * @see ActivityZoneTypeSerializer#serialize(StravaActivityZoneType, java.lang.reflect.Type, com.google.gson.JsonSerializationContext)
+	 * @see ActivityZoneTypeSerializer#toValue(StravaActivityZoneType)
 	 */
 	public String getValue() {
 		return this.id;
@@ -63,13 +70,8 @@ public enum StravaActivityZoneType {
 	 * @return The matching {@link StravaActivityZoneType}, or {@link StravaActivityZoneType#UNKNOWN} if there is no match
 	 */
 	public static StravaActivityZoneType create(final String id) {
-		StravaActivityZoneType[] types = StravaActivityZoneType.values();
-		for (StravaActivityZoneType type : types) {
-			if (type.getId().equals(id)) {
-				return type;
-			}
-		}
-		return UNKNOWN;
+		final StravaActivityZoneType value = BY_ID.get(id);
+		return (value == null ? UNKNOWN : value);
 	}
 
 	/**
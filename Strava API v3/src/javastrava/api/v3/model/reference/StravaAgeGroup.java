@@ -1,9 +1,12 @@
 package javastrava.api.v3.model.reference;
 
+import java.util.Map;
+
 import javastrava.api.v3.model.StravaSegmentLeaderboard;
 import javastrava.config.Messages;
 import javastrava.config.StravaConfig;
 import javastrava.json.impl.gson.serializer.AgeGroupSerializer;
+import javastrava.util.ReferenceUtils;
 
 /**
  * <p>
@@ -45,6 +48,10 @@ public enum StravaAgeGroup {
 	 */
 	UNKNOWN(StravaConfig.string("Common.unknown"), Messages.string("Common.unknown.description")); //$NON-NLS-1$ //$NON-NLS-2$
 
+	/**
+	 * Values by identifier, for {@link #create(String)}
+	 */
+	private static final Map<String, StravaAgeGroup> BY_ID = ReferenceUtils.index(values(), StravaAgeGroup::getId);
 	/**
 	 * Identifier
 	 */
@@ -67,7 +74,7 @@ public enum StravaAgeGroup {
 	/**
 	 * Used by JSON serialisation
 	 * @return The string representation of the {@link StravaAgeGroup} to be used in JSON
-	 * @see AgeGroupSerializer#serialize(StravaAgeGroup, java.lang.reflect.Type, com.google.gson.JsonSerializationContext)
+	 * @see AgeGroupSerializer#toValue(StravaAgeGroup)
 	 */
 	public String getValue() {
 		return this.id;
@@ -79,13 +86,8 @@ public enum StravaAgeGroup {
 	 * @return The matching {@link StravaAgeGroup}, or {@link StravaAgeGroup#UNKNOWN} if there is no match
 	 */
 	public static StravaAgeGroup create(final String id) {
-		StravaAgeGroup[] ageGroups = StravaAgeGroup.values();
-		for (StravaAgeGroup ageGroup : ageGroups) {
-			if (ageGroup.getId().equals(id)) {
-				return ageGroup;
-			}
-		}
-		return StravaAgeGroup.UNKNOWN;
+		final StravaAgeGroup value = BY_ID.get(id);
+		return (value == null ? UNKNOWN : value);
 	}
 
 	/**
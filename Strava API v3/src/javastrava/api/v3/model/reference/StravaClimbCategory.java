@@ -1,9 +1,12 @@
 package javastrava.api.v3.model.reference;
 
+import java.util.Map;
+
 import javastrava.api.v3.model.StravaSegment;
 import javastrava.config.Messages;
 import javastrava.config.StravaConfig;
 import javastrava.json.impl.gson.serializer.ClimbCategorySerializer;
+import javastrava.util.ReferenceUtils;
 
 /**
  * <p>
@@ -45,6 +48,10 @@ public enum StravaClimbCategory {
 	 */
 	UNKNOWN(StravaConfig.integer("Common.unknown.integer"), Messages.string("Common.unknown.description")); //$NON-NLS-1$ //$NON-NLS-2$
 
+	/**
+	 * Values by identifier, for {@link #create(Integer)}
+	 */
+	private static final Map<Integer, StravaClimbCategory> BY_ID = ReferenceUtils.index(values(), StravaClimbCategory::getId);
 	/**
 	 * Identifier
 	 */
@@ -67,7 +74,7 @@ public enum StravaClimbCategory {
 	/**
 	 * Used by JSON serialisation
 	 * @return The integer value to be used with the Strava API
-	 * @see ClimbCategorySerializer#serialize(StravaClimbCategory, java.lang.reflect.Type, com.google.gson.JsonSerializationContext)
+	 * @see ClimbCategorySerializer#toValue(StravaClimbCategory)
 	 */
 	public Integer getValue() {
 		return this.id;
@@ -77,16 +84,11 @@ public enum StravaClimbCategory {
 	 * Used by JSON deserialisation
 	 * @param id The integer representation of the {@link StravaClimbCategory} as returned by the Strava API
 	 * @return The matching {@link StravaClimbCategory}, or {@link StravaClimbCategory#UNKNOWN} if there is no match
-	 * @see ClimbCategorySerializer#deserialize(com.google.gson.JsonElement, java.lang.reflect.Type, com.google.gson.JsonDeserializationContext)
+	 * @see ClimbCategorySerializer#fromValue(Integer)
 	 */
 	public static StravaClimbCategory create(final Integer id) {
-		StravaClimbCategory[] categories = StravaClimbCategory.values();
-		for (StravaClimbCategory category : categories) {
-			if (category.getId().equals(id)) {
-				return category;
-			}
-		}
-		return StravaClimbCategory.UNKNOWN;
+		final StravaClimbCategory value = BY_ID.get(id);
+		return (value == null ? UNKNOWN : value);
 	}
 
 	/**
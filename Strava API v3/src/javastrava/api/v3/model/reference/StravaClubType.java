@@ -1,8 +1,11 @@
 package javastrava.api.v3.model.reference;
 
+import java.util.Map;
+
 import javastrava.config.Messages;
 import javastrava.config.StravaConfig;
 import javastrava.json.impl.gson.serializer.ClubTypeSerializer;
+import javastrava.util.ReferenceUtils;
 
 /**
  * <p>
@@ -40,6 +43,10 @@ public enum StravaClubType {
 	 */
 	UNKNOWN(StravaConfig.string("Common.unknown"), Messages.string("Common.unknown.description")); //$NON-NLS-1$ //$NON-NLS-2$
 
+	/**
+	 * Values by identifier, for {@link #create(String)}
+	 */
+	private static final Map<String, StravaClubType> BY_ID = ReferenceUtils.index(values(), StravaClubType::getId);
 	/**
 	 * Identifier
 	 */
@@ -62,7 +69,7 @@ public enum StravaClubType {
 	/**
 	 * Used by JSON serialisation
 	 * @return The string representation of this {@link StravaClubType} to be used with the Strava API
-	 * @see ClubTypeSerializer#serialize(StravaClubType, java.lang.reflect.Type, com.google.gson.JsonSerializationContext)
+	 * @see ClubTypeSerializer#toValue(StravaClubType)
 	 */
 	public String getValue() {
 		return this.id;
@@ -74,13 +81,8 @@ public enum StravaClubType {
 	 * @return The matching {@link StravaClubType}, or {@link StravaClubType#UNKNOWN} if there is no match
 	 */
 	public static StravaClubType create(final String id) {
-		StravaClubType[] clubTypes = StravaClubType.values();
-		for (StravaClubType clubType : clubTypes) {
-			if (clubType.getId().equals(id)) {
-				return clubType;
-			}
-		}
-		return StravaClubType.UNKNOWN;
+		final StravaClubType value = BY_ID.get(id);
+		return (value == null ? UNKNOWN : value);
 	}
 
 	/**
@@ -1,8 +1,11 @@
 package javastrava.api.v3.model.reference;
 
+import java.util.Map;
+
 import javastrava.config.Messages;
 import javastrava.config.StravaConfig;
 import javastrava.json.impl.gson.serializer.FollowerStateSerializer;
+import javastrava.util.ReferenceUtils;
 
 /**
  * <p>
@@ -32,6 +35,10 @@ public enum StravaFollowerState {
 	 */
 	UNKNOWN(StravaConfig.string("Common.unknown"), Messages.string("Common.unknown.description")); //$NON-NLS-1$ //$NON-NLS-2$
 
+	/**
+	 * Values by identifier, for {@link #create(String)}
+	 */
+	private static final Map<String, StravaFollowerState> BY_ID = ReferenceUtils.index(values(), StravaFollowerState::getId);
 	/**
 	 * Identifier
 	 */
@@ -54,7 +61,7 @@ public enum StravaFollowerState {
 	/**
 	 * Used by JSON serialisation
 	 * @return The string representation of this {@link StravaFollowerState} to be used with the Strava API
-	 * @see FollowerStateSerializer#serialize(StravaFollowerState, java.lang.reflect.Type, com.google.gson.JsonSerializationContext)
+	 * @see FollowerStateSerializer#toValue(StravaFollowerState)
 	 */
 	public String getValue() {
 		return this.id;
@@ -66,13 +73,8 @@ public enum StravaFollowerState {
 	 * @return The matching {@link StravaFollowerState}, or {@link StravaFollowerState#UNKNOWN} if there is no match
 	 */
 	public static StravaFollowerState create(final String id) {
-		StravaFollowerState[] followerStates = StravaFollowerState.values();
-		for (StravaFollowerState followerState : followerStates) {
-			if (followerState.getId().equals(id)) {
-				return followerState;
-			}
-		}
-		return StravaFollowerState.UNKNOWN;
+		final StravaFollowerState value = BY_ID.get(id);
+		return (value == null ? UNKNOWN : value);
 	}
 
 	/**
@@ -1,8 +1,11 @@
 package javastrava.api.v3.model.reference;
 
+import java.util.Map;
+
 import javastrava.config.Messages;
 import javastrava.config.StravaConfig;
 import javastrava.json.impl.gson.serializer.FrameTypeSerializer;
+import javastrava.util.ReferenceUtils;
 
 /**
  * <p>
@@ -36,6 +39,10 @@ public enum StravaFrameType {
 	 */
 	UNKNOWN(StravaConfig.integer("Common.unknown.integer"), Messages.string("Common.unknown.description")); //$NON-NLS-1$ //$NON-NLS-2$
 
+	/**
+	 * Values by identifier, for {@link #create(Integer)}
+	 */
+	private static final Map<Integer, StravaFrameType> BY_ID = ReferenceUtils.index(values(), StravaFrameType::getId);
 	/**
 	 * Identifier
 	 */
@@ -58,7 +65,7 @@ public enum StravaFrameType {
 	/**
 	 * Used by JSON serialisation
 	 * @return The integer representation of this {@link StravaFrameType} to be used with the Strava API
-	 * @see FrameTypeSerializer#serialize(StravaFrameType, java.lang.reflect.Type, com.google.gson.JsonSerializationContext)
+	 * @see FrameTypeSerializer#toValue(StravaFrameType)
 	 */
 	public Integer getValue() {
 		return this.id;
@@ -70,13 +77,8 @@ public enum StravaFrameType {
 	 * @return The matching {@link StravaFrameType}, or {@link StravaFrameType#UNKNOWN} if there is no match
 	 */
 	public static StravaFrameType create(final Integer id) {
-		StravaFrameType[] frameTypes = StravaFrameType.values();
-		for (StravaFrameType frameType : frameTypes) {
-			if (frameType.getId().equals(id)) {
-				return frameType;
-			}
-		}
-		return StravaFrameType.UNKNOWN;
+		final StravaFrameType value = BY_ID.get(id);
+		return (value == null ? UNKNOWN : value);
 	}
 
 	/**
@@ -1,8 +1,11 @@
 package javastrava.api.v3.model.reference;
 
+import java.util.Map;
+
 import javastrava.api.v3.model.StravaGear;
 import javastrava.config.Messages;
 import javastrava.config.StravaConfig;
+import javastrava.util.ReferenceUtils;
 
 /**
  * Type of {@link StravaGear}
@@ -25,6 +28,10 @@ public enum StravaGearType {
 	 */
 	UNKNOWN(StravaConfig.string("Common.unknown"),Messages.string("Common.unknown.description")); //$NON-NLS-1$ //$NON-NLS-2$
 	
+	/**
+	 * Values by identifier, for {@link #create(String)} (which ignores case)
+	 */
+	private static final Map<ReferenceUtils.CaseInsensitiveKey, StravaGearType> BY_ID = ReferenceUtils.indexIgnoringCase(values(), StravaGearType::getId);
 	/**
 	 * Identifier
 	 */
@@ -58,12 +65,8 @@ public enum StravaGearType {
 	 * @return The matching {@link StravaGearType}, or {@link StravaGearType#UNKNOWN} if there is no match
 	 */
 	public static StravaGearType create(final String id) {
-		for (StravaGearType type : StravaGearType.values()) {
-			if (type.getId().toLowerCase().equals(id.toLowerCase())) {
-				return type;
-			}
-		}
-		return UNKNOWN;
+		final StravaGearType value = ReferenceUtils.lookupIgnoringCase(BY_ID, id);
+		return (value == null ? UNKNOWN : value);
 	}
 
 	/**
@@ -1,8 +1,11 @@
 package javastrava.api.v3.model.reference;
 
+import java.util.Map;
+
 import javastrava.config.Messages;
 import javastrava.config.StravaConfig;
 import javastrava.json.impl.gson.serializer.GenderSerializer;
+import javastrava.util.ReferenceUtils;
 
 /**
  * <p>
@@ -28,6 +31,10 @@ public enum StravaGender {
 	 */
 	UNKNOWN(StravaConfig.string("Common.unknown"), Messages.string("Common.unknown.description")); //$NON-NLS-1$ //$NON-NLS-2$
 
+	/**
+	 * Values by identifier, for {@link #create(String)}
+	 */
+	private static final Map<String, StravaGender> BY_ID = ReferenceUtils.index(values(), StravaGender::getId);
 	/**
 	 * Identifier
 	 */
@@ -50,7 +57,7 @@ public enum StravaGender {
 	/**
 	 * Used by JSON serialisation
 	 * @return The string representation of this {@link StravaGender} to be used with the Strava API
-	 * @see GenderSerializer#serialize(StravaGender, java.lang.reflect.Type, com.google.gson.JsonSerializationContext)
+	 * @see GenderSerializer#toValue(StravaGender)
 	 */
 	public String getValue() {
 		return this.id;
@@ -62,13 +69,8 @@ public enum StravaGender {
 	 * @return The matching {@link StravaGender}, or {@link StravaGender#UNKNOWN} if there is no match
 	 */
 	public static StravaGender create(final String id) {
-		StravaGender[] genders = StravaGender.values();
-		for (StravaGender gender : genders) {
-			if (gender.getId().equals(id)) {
-				return gender;
-			}
-		}
-		return StravaGender.UNKNOWN;
+		final StravaGender value = BY_ID.get(id);
+		return (value == null ? UNKNOWN : value);
 	}
 
 	/**
@@ -1,9 +1,12 @@
 package javastrava.api.v3.model.reference;
 
+import java.util.Map;
+
 import javastrava.api.v3.model.StravaSegmentLeaderboard;
 import javastrava.config.Messages;
 import javastrava.config.StravaConfig;
 import javastrava.json.impl.gson.serializer.LeaderboardDateRangeSerializer;
+import javastrava.util.ReferenceUtils;
 
 /**
  * <p>
@@ -37,6 +40,10 @@ public enum StravaLeaderboardDateRange {
 	 */
 	UNKNOWN(StravaConfig.string("Common.unknown"), Messages.string("Common.unknown.description")); //$NON-NLS-1$ //$NON-NLS-2$
 
+	/**
+	 * Values by identifier, for {@link #create(String)}
+	 */
+	private static final Map<String, StravaLeaderboardDateRange> BY_ID = ReferenceUtils.index(values(), StravaLeaderboardDateRange::getId);
 	/**
 	 * Identifier
 	 */
@@ -59,7 +66,7 @@ public enum StravaLeaderboardDateRange {
 	/**
 	 * Used by JSON serialisation
 	 * @return The string representation of this {@link StravaLeaderboardDateRange} to be used with the Strava API
-	 * @see LeaderboardDateRangeSerializer#serialize(StravaLeaderboardDateRange, java.lang.reflect.Type, com.google.gson.JsonSerializationContext)
+	 * @see LeaderboardDateRangeSerializer#toValue(StravaLeaderboardDateRange)
 	 */
 	public String getValue() {
 		return this.id;
@@ -71,12 +78,8 @@ public enum StravaLeaderboardDateRange {
 	 * @return The matching {@link StravaLeaderboardDateRange}, or {@link StravaLeaderboardDateRange#UNKNOWN} if there is no match
 	 */
 	public static StravaLeaderboardDateRange create(final String id) {
-		for (StravaLeaderboardDateRange dateRange : StravaLeaderboardDateRange.values()) {
-			if (dateRange.getId().equals(id)) {
-				return dateRange;
-			}
-		}
-		return UNKNOWN;
+		final StravaLeaderboardDateRange value = BY_ID.get(id);
+		return (value == null ? UNKNOWN : value);
 	}
 
 	/**
@@ -1,8 +1,11 @@
 package javastrava.api.v3.model.reference;
 
+import java.util.Map;
+
 import javastrava.config.Messages;
 import javastrava.config.StravaConfig;
 import javastrava.json.impl.gson.serializer.MeasurementMethodSerializer;
+import javastrava.util.ReferenceUtils;
 
 /**
  * <p>
@@ -28,6 +31,10 @@ public enum StravaMeasurementMethod {
 	 */
 	UNKNOWN(StravaConfig.string("Common.unknown"), Messages.string("Common.unknown.description")); //$NON-NLS-1$ //$NON-NLS-2$
 
+	/**
+	 * Values by identifier, for {@link #create(String)}
+	 */
+	private static final Map<String, StravaMeasurementMethod> BY_ID = ReferenceUtils.index(values(), StravaMeasurementMethod::getId);
 	/**
 	 * Identifier
 	 */
@@ -50,7 +57,7 @@ public enum StravaMeasurementMethod {
 	/**
 	 * Used by JSON serialisation
 	 * @return The string representation of the {@link StravaMeasurementMethod} to be used with the Strava API
-	 * @see MeasurementMethodSerializer#serialize(StravaMeasurementMethod, java.lang.reflect.Type, com.google.gson.JsonSerializationContext)
+	 * @see MeasurementMethodSerializer#toValue(StravaMeasurementMethod)
 	 */
 	public String getValue() {
 		return this.id;
@@ -62,13 +69,8 @@ public enum StravaMeasurementMethod {
 	 * @return The matching {@link StravaMeasurementMethod}, or {@link StravaMeasurementMethod#UNKNOWN} if there is no match
 	 */
 	public static StravaMeasurementMethod create(final String id) {
-		StravaMeasurementMethod[] methods = StravaMeasurementMethod.values();
-		for (StravaMeasurementMethod method : methods) {
-			if (method.getId().equals(id)) {
-				return method;
-			}
-		}
-		return StravaMeasurementMethod.UNKNOWN;
+		final StravaMeasurementMethod value = BY_ID.get(id);
+		return (value == null ? UNKNOWN : value);
 	}
 
 	/**
@@ -3,9 +3,12 @@
  */
 package javastrava.api.v3.model.reference;
 
+import java.util.Map;
+
 import javastrava.config.Messages;
 import javastrava.config.StravaConfig;
 import javastrava.json.impl.gson.serializer.ClimbCategorySerializer;
+import javastrava.util.ReferenceUtils;
 
 /**
  * <p>Identifies the source of a photo which has been attached to an activity</p>
@@ -30,17 +33,16 @@ public enum StravaPhotoSource {
 	 * Used by JSON deserialisation
 	 * @param id The integer representation of the {@link StravaClimbCategory} as returned by the Strava API
 	 * @return The matching {@link StravaClimbCategory}, or {@link StravaClimbCategory#UNKNOWN} if there is no match
-	 * @see ClimbCategorySerializer#deserialize(com.google.gson.JsonElement, java.lang.reflect.Type, com.google.gson.JsonDeserializationContext)
+	 * @see ClimbCategorySerializer#fromValue(Integer)
 	 */
 	public static StravaPhotoSource create(final Integer id) {
-		final StravaPhotoSource[] sources = StravaPhotoSource.values();
-		for (final StravaPhotoSource source : sources) {
-			if (source.getId().equals(id)) {
-				return source;
-			}
-		}
-		return StravaPhotoSource.UNKNOWN;
+		final StravaPhotoSource value = BY_ID.get(id);
+		return (value == null ? UNKNOWN : value);
 	}
+	/**
+	 * Values by identifier, for {@link #create(Integer)}
+	 */
+	private static final Map<Integer, StravaPhotoSource> BY_ID = ReferenceUtils.index(values(), StravaPhotoSource::getId);
 	/**
 	 * Identifier
 	 */
@@ -78,7 +80,7 @@ public enum StravaPhotoSource {
 	/**
 	 * Used by JSON serialisation
 	 * @return The integer value to be used with the Strava API
-	 * @see ClimbCategorySerializer#serialize(StravaClimbCategory, java.lang.reflect.Type, com.google.gson.JsonSerializationContext)
+	 * @see ClimbCategorySerializer#toValue(StravaClimbCategory)
 	 */
 	public Integer getValue() {
 		return this.id;
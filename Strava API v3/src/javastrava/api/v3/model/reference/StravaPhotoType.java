@@ -1,8 +1,11 @@
 package javastrava.api.v3.model.reference;
 
+import java.util.Map;
+
 import javastrava.config.Messages;
 import javastrava.config.StravaConfig;
 import javastrava.json.impl.gson.serializer.PhotoTypeSerializer;
+import javastrava.util.ReferenceUtils;
 
 /**
  * <p>
@@ -24,6 +27,10 @@ public enum StravaPhotoType {
 	 */
 	UNKNOWN(StravaConfig.string("Common.unknown"), Messages.string("Common.unknown.description")); //$NON-NLS-1$ //$NON-NLS-2$
 
+	/**
+	 * Values by identifier, for {@link #create(String)}
+	 */
+	private static final Map<String, StravaPhotoType> BY_ID = ReferenceUtils.index(values(), StravaPhotoType::getId);
 	/**
 	 * Identifier
 	 */
@@ -46,7 +53,7 @@ public enum StravaPhotoType {
 	/**
 	 * Used by JSON serialisation
 	 * @return The string representation of this {@link StravaPhotoType} to be used with the Strava API
-	 * @see PhotoTypeSerializer#serialize(StravaPhotoType, java.lang.reflect.Type, com.google.gson.JsonSerializationContext)
+	 * @see PhotoTypeSerializer#toValue(StravaPhotoType)
 	 */
 	public String getValue() {
 		return this.id;
@@ -58,13 +65,8 @@ public enum StravaPhotoType {
 	 * @return The matching {@link StravaPhotoType}, or {@link StravaPhotoType#UNKNOWN} if there is no match
 	 */
 	public static StravaPhotoType create(final String id) {
-		StravaPhotoType[] types = StravaPhotoType.values();
-		for (StravaPhotoType type : types) {
-			if (type.getId().equals(id)) {
-				return type;
-			}
-		}
-		return StravaPhotoType.UNKNOWN;
+		final StravaPhotoType value = BY_ID.get(id);
+		return (value == null ? UNKNOWN : value);
 	}
 
 	/**
@@ -1,8 +1,11 @@
 package javastrava.api.v3.model.reference;
 
+import java.util.Map;
+
 import javastrava.config.Messages;
 import javastrava.config.StravaConfig;
 import javastrava.json.impl.gson.serializer.ResourceStateSerializer;
+import javastrava.util.ReferenceUtils;
 
 /**
  * <p>
@@ -46,6 +49,10 @@ public enum StravaResourceState {
 	 */
 	UNKNOWN(StravaConfig.integer("Common.unknown.integer"), Messages.string("Common.unknown.description")); //$NON-NLS-1$ //$NON-NLS-2$
 
+	/**
+	 * Values by identifier, for {@link #create(Integer)}
+	 */
+	private static final Map<Integer, StravaResourceState> BY_ID = ReferenceUtils.index(values(), StravaResourceState::getValue);
 	/**
 	 * Identifier
 	 */
@@ -58,7 +65,7 @@ public enum StravaResourceState {
 	/**
 	 * Used by JSON serialisation
 	 * @return The integer representation of this {@link StravaResourceState} to be used with the Strava API
-	 * @see ResourceStateSerializer#serialize(StravaResourceState, java.lang.reflect.Type, com.google.gson.JsonSerializationContext)
+	 * @see ResourceStateSerializer#toValue(StravaResourceState)
 	 */
 	public Integer getValue() {
 		return this.id;
@@ -80,13 +87,8 @@ public enum StravaResourceState {
 	 * @return The matching {@link StravaResourceState}, or {@link StravaResourceState#UNKNOWN} if there is no match
 	 */
 	public static StravaResourceState create(final Integer id) {
-		StravaResourceState[] states = StravaResourceState.values();
-		for (StravaResourceState state : states) {
-			if (state.getValue() != null && state.getValue().equals(id)) {
-				return state;
-			}
-		}
-		return StravaResourceState.UNKNOWN;
+		final StravaResourceState value = BY_ID.get(id);
+		return (value == null ? UNKNOWN : value);
 	}
 
 	/**
@@ -1,9 +1,12 @@
 package javastrava.api.v3.model.reference;
 
+import java.util.Map;
+
 import javastrava.api.v3.model.StravaSegment;
 import javastrava.config.Messages;
 import javastrava.config.StravaConfig;
 import javastrava.json.impl.gson.serializer.SegmentActivityTypeSerializer;
+import javastrava.util.ReferenceUtils;
 
 /**
  * <p>
@@ -33,6 +36,10 @@ public enum StravaSegmentActivityType {
 	 */
 	UNKNOWN(StravaConfig.string("Common.unknown"), Messages.string("Common.unknown.description")); //$NON-NLS-1$ //$NON-NLS-2$
 
+	/**
+	 * Values by identifier, for {@link #create(String)}
+	 */
+	private static final Map<String, StravaSegmentActivityType> BY_ID = ReferenceUtils.index(values(), StravaSegmentActivityType::getId);
 	/**
 	 * Identifier
 	 */
@@ -55,7 +62,7 @@ public enum StravaSegmentActivityType {
 	/**
 	 * Used by JSON serialisation
 	 * @return The string representation of the {@link StravaSegmentActivityType} to be used with the Strava API
-	 * @see SegmentActivityTypeSerializer#serialize(StravaSegmentActivityType, java.lang.reflect.Type, com.google.gson.JsonSerializationContext)
+	 * @see SegmentActivityTypeSerializer#toValue(StravaSegmentActivityType)
 	 */
 	public String getValue() {
 		return this.id;
@@ -67,13 +74,8 @@ public enum StravaSegmentActivityType {
 	 * @return The matching {@link StravaSegmentActivityType}, or {@link StravaSegmentActivityType#UNKNOWN} if there is no match
 	 */
 	public static StravaSegmentActivityType create(final String id) {
-		StravaSegmentActivityType[] activityTypes = StravaSegmentActivityType.values();
-		for (StravaSegmentActivityType activityType : activityTypes) {
-			if (activityType.getId().equals(id)) {
-				return activityType;
-			}
-		}
-		return StravaSegmentActivityType.UNKNOWN;
+		final StravaSegmentActivityType value = BY_ID.get(id);
+		return (value == null ? UNKNOWN : value);
 	}
 
 	/**
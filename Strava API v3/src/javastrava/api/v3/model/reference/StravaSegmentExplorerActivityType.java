@@ -1,9 +1,12 @@
 package javastrava.api.v3.model.reference;
 
+import java.util.Map;
+
 import javastrava.api.v3.service.SegmentService;
 import javastrava.config.Messages;
 import javastrava.config.StravaConfig;
 import javastrava.json.impl.gson.serializer.SegmentExplorerActivityTypeSerializer;
+import javastrava.util.ReferenceUtils;
 
 /**
  * <p>
@@ -31,6 +34,10 @@ public enum StravaSegmentExplorerActivityType {
 	 */
 	UNKNOWN(StravaConfig.string("Common.unknown"), Messages.string("Common.unknown.description")); //$NON-NLS-1$ //$NON-NLS-2$
 
+	/**
+	 * Values by identifier, for {@link #create(String)}
+	 */
+	private static final Map<String, StravaSegmentExplorerActivityType> BY_ID = ReferenceUtils.index(values(), StravaSegmentExplorerActivityType::getId);
 	/**
 	 * Identifier
 	 */
@@ -53,7 +60,7 @@ public enum StravaSegmentExplorerActivityType {
 	/**
 	 * Used by JSON serialisation
 	 * @return The string representation of this {@link StravaSegmentExplorerActivityType} to be used with the Strava API
-	 * @see SegmentExplorerActivityTypeSerializer#serialize(StravaSegmentExplorerActivityType, java.lang.reflect.Type, com.google.gson.JsonSerializationContext)
+	 * @see SegmentExplorerActivityTypeSerializer#toValue(StravaSegmentExplorerActivityType)
 	 */
 	public String getValue() {
 		return this.id;
@@ -65,12 +72,8 @@ public enum StravaSegmentExplorerActivityType {
 	 * @return The matching {@link StravaSegmentExplorerActivityType}, or {@link StravaSegmentExplorerActivityType#UNKNOWN} if there is no match
 	 */
 	public static StravaSegmentExplorerActivityType create(final String id) {
-		for (StravaSegmentExplorerActivityType type : StravaSegmentExplorerActivityType.values()) {
-			if (type.getId().equals(id)) {
-				return type;
-			}
-		}
-		return UNKNOWN;
+		final StravaSegmentExplorerActivityType value = BY_ID.get(id);
+		return (value == null ? UNKNOWN : value);
 	}
 
 	/**
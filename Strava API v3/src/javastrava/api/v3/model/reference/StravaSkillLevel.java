@@ -3,8 +3,11 @@
  */
 package javastrava.api.v3.model.reference;
 
+import java.util.Map;
+
 import javastrava.config.Messages;
 import javastrava.config.StravaConfig;
+import javastrava.util.ReferenceUtils;
 
 /**
  * @author Dan Shannon
@@ -36,14 +39,14 @@ public enum StravaSkillLevel {
 	 * @return The enumeration, or {@link #UNKNOWN} if not found
 	 */
 	public static StravaSkillLevel create(final Integer id) {
-		for (final StravaSkillLevel skillLevel : StravaSkillLevel.values()) {
-			if (skillLevel.getId().equals(id)) {
-				return skillLevel;
-			}
-		}
-		return UNKNOWN;
+		final StravaSkillLevel value = BY_ID.get(id);
+		return (value == null ? UNKNOWN : value);
 	}
 
+	/**
+	 * Values by identifier, for {@link #create(Integer)}
+	 */
+	private static final Map<Integer, StravaSkillLevel> BY_ID = ReferenceUtils.index(values(), StravaSkillLevel::getId);
 	/**
 	 * Identifier
 	 */
@@ -1,9 +1,12 @@
 package javastrava.api.v3.model.reference;
 
+import java.util.Map;
+
 import javastrava.api.v3.model.StravaClub;
 import javastrava.config.Messages;
 import javastrava.config.StravaConfig;
 import javastrava.json.impl.gson.serializer.SportTypeSerializer;
+import javastrava.util.ReferenceUtils;
 
 /**
  * <p>
@@ -37,6 +40,10 @@ public enum StravaSportType {
 	 */
 	UNKNOWN(StravaConfig.string("Common.unknown"), Messages.string("Common.unknown.description")); //$NON-NLS-1$ //$NON-NLS-2$
 
+	/**
+	 * Values by identifier, for {@link #create(String)}
+	 */
+	private static final Map<String, StravaSportType> BY_ID = ReferenceUtils.index(values(), StravaSportType::getId);
 	/**
 	 * Identifier
 	 */
@@ -59,7 +66,7 @@ public enum StravaSportType {
 	/**
 	 * Used by JSON serialisation
 	 * @return The string representation of this {@link StravaSportType} to be used with the Strava API
-	 * @see SportTypeSerializer#serialize(StravaSportType, java.lang.reflect.Type, com.google.gson.JsonSerializationContext)
+	 * @see SportTypeSerializer#toValue(StravaSportType)
 	 */
 	public String getValue() {
 		return this.id;
@@ -69,16 +76,11 @@ public enum StravaSportType {
 	 * Used by JSON deserialisation
 	 * @param id The string representation of a {@link StravaSportType} as returned by the Strava API
 	 * @return The matching {@link StravaSportType}, or {@link StravaSportType#UNKNOWN} if there is no match
-	 * @see SportTypeSerializer#deserialize(com.google.gson.JsonElement, java.lang.reflect.Type, com.google.gson.JsonDeserializationContext)
+	 * @see SportTypeSerializer#fromValue(String)
 	 */
 	public static StravaSportType create(final String id) {
-		StravaSportType[] sportTypes = StravaSportType.values();
-		for (StravaSportType sportType : sportTypes) {
-			if (sportType.getId().equals(id)) {
-				return sportType;
-			}
-		}
-		return StravaSportType.UNKNOWN;
+		final StravaSportType value = BY_ID.get(id);
+		return (value == null ? UNKNOWN : value);
 	}
 
 	/**
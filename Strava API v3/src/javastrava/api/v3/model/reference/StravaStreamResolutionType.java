@@ -1,9 +1,12 @@
 package javastrava.api.v3.model.reference;
 
+import java.util.Map;
+
 import javastrava.api.v3.model.StravaStream;
 import javastrava.config.Messages;
 import javastrava.config.StravaConfig;
 import javastrava.json.impl.gson.serializer.StreamResolutionTypeSerializer;
+import javastrava.util.ReferenceUtils;
 
 /**
  * <p>
@@ -33,6 +36,10 @@ public enum StravaStreamResolutionType {
 	 */
 	UNKNOWN(StravaConfig.string("Common.unknown"), Messages.string("Common.unknown.description"), 0); //$NON-NLS-1$ //$NON-NLS-2$ 
 
+	/**
+	 * Values by identifier, for {@link #create(String)}
+	 */
+	private static final Map<String, StravaStreamResolutionType> BY_ID = ReferenceUtils.index(values(), StravaStreamResolutionType::getId);
 	/**
 	 * Identifier
 	 */
@@ -61,7 +68,7 @@ public enum StravaStreamResolutionType {
 	/**
 	 * Used by JSON serialisation
 	 * @return The string representation of this {@link StravaStreamResolutionType} to be used with the Strava API
-	 * @see StreamResolutionTypeSerializer#serialize(StravaStreamResolutionType, java.lang.reflect.Type, com.google.gson.JsonSerializationContext)
+	 * @see StreamResolutionTypeSerializer#toValue(StravaStreamResolutionType)
 	 */
 	public String getValue() {
 		return this.id;
@@ -73,13 +80,8 @@ public enum StravaStreamResolutionType {
 	 * @return The matching {@link StravaStreamResolutionType}, or {@link StravaStreamResolutionType#UNKNOWN} if there is no match
 	 */
 	public static StravaStreamResolutionType create(final String id) {
-		StravaStreamResolutionType[] types = StravaStreamResolutionType.values();
-		for (StravaStreamResolutionType type : types) {
-			if (type.getId().equals(id)) {
-				return type;
-			}
-		}
-		return StravaStreamResolutionType.UNKNOWN;
+		final StravaStreamResolutionType value = BY_ID.get(id);
+		return (value == null ? UNKNOWN : value);
 	}
 
 	/**
@@ -1,7 +1,10 @@
 package javastrava.api.v3.model.reference;
 
+import java.util.Map;
+
 import javastrava.config.Messages;
 import javastrava.config.StravaConfig;
+import javastrava.util.ReferenceUtils;
 
 /**
  * <p>
@@ -27,6 +30,10 @@ public enum StravaStreamSeriesDownsamplingType {
 	 */
 	UNKNOWN(StravaConfig.string("Common.unknown"), Messages.string("Common.unknown.description")); //$NON-NLS-1$ //$NON-NLS-2$
 
+	/**
+	 * Values by identifier, for {@link #create(String)}
+	 */
+	private static final Map<String, StravaStreamSeriesDownsamplingType> BY_ID = ReferenceUtils.index(values(), StravaStreamSeriesDownsamplingType::getId);
 	/**
 	 * Identifier
 	 */
@@ -60,13 +67,8 @@ public enum StravaStreamSeriesDownsamplingType {
 	 * @return The matching {@link StravaStreamSeriesDownsamplingType}, or {@link StravaStreamSeriesDownsamplingType#UNKNOWN} if there is no match
 	 */
 	public static StravaStreamSeriesDownsamplingType create(final String id) {
-		StravaStreamSeriesDownsamplingType[] types = StravaStreamSeriesDownsamplingType.values();
-		for (StravaStreamSeriesDownsamplingType type : types) {
-			if (type.getId().equals(id)) {
-				return type;
-			}
-		}
-		return StravaStreamSeriesDownsamplingType.UNKNOWN;
+		final StravaStreamSeriesDownsamplingType value = BY_ID.get(id);
+		return (value == null ? UNKNOWN : value);
 	}
 
 	/**
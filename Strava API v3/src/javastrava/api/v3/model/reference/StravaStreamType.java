@@ -1,8 +1,11 @@
 package javastrava.api.v3.model.reference;
 
+import java.util.Map;
+
 import javastrava.config.Messages;
 import javastrava.config.StravaConfig;
 import javastrava.json.impl.gson.serializer.StreamTypeSerializer;
+import javastrava.util.ReferenceUtils;
 
 /**
  * <p>
@@ -64,6 +67,10 @@ public enum StravaStreamType {
 	 */
 	UNKNOWN(StravaConfig.string("Common.unknown"), Messages.string("Common.unknown.description")); //$NON-NLS-1$ //$NON-NLS-2$
 
+	/**
+	 * Values by identifier, for {@link #create(String)}
+	 */
+	private static final Map<String, StravaStreamType> BY_ID = ReferenceUtils.index(values(), StravaStreamType::getId);
 	/**
 	 * Identifier
 	 */
@@ -86,7 +93,7 @@ public enum StravaStreamType {
 	/**
 	 * Used by JSON serialisation
 	 * @return The string representation of this {@link StravaStreamType} to be used with the Strava API
-	 * @see StreamTypeSerializer#serialize(StravaStreamType, java.lang.reflect.Type, com.google.gson.JsonSerializationContext)
+	 * @see StreamTypeSerializer#toValue(StravaStreamType)
 	 */
 	public String getValue() {
 		return this.id;
@@ -98,13 +105,8 @@ public enum StravaStreamType {
 	 * @return The matching {@link StravaStreamType}, or {@link StravaStreamType#UNKNOWN} if there is no match
 	 */
 	public static StravaStreamType create(final String id) {
-		StravaStreamType[] streamTypes = StravaStreamType.values();
-		for (StravaStreamType streamType : streamTypes) {
-			if (streamType.getId().equals(id)) {
-				return streamType;
-			}
-		}
-		return StravaStreamType.UNKNOWN;
+		final StravaStreamType value = BY_ID.get(id);
+		return (value == null ? UNKNOWN : value);
 	}
 
 	/**
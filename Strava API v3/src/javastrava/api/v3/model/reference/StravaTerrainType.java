@@ -3,8 +3,11 @@
  */
 package javastrava.api.v3.model.reference;
 
+import java.util.Map;
+
 import javastrava.config.Messages;
 import javastrava.config.StravaConfig;
+import javastrava.util.ReferenceUtils;
 
 /**
  * @author danshannon
@@ -34,14 +37,14 @@ public enum StravaTerrainType {
 	 * @return The enumeration instance with the given id, or {@link #UNKNOWN} if there is no match
 	 */
 	public static StravaTerrainType create(final Integer id) {
-		for (final StravaTerrainType terrainType : StravaTerrainType.values()) {
-			if (terrainType.getId().equals(id)) {
-				return terrainType;
-			}
-		}
-		return UNKNOWN;
+		final StravaTerrainType value = BY_ID.get(id);
+		return (value == null ? UNKNOWN : value);
 	}
 
+	/**
+	 * Values by identifier, for {@link #create(Integer)}
+	 */
+	private static final Map<Integer, StravaTerrainType> BY_ID = ReferenceUtils.index(values(), StravaTerrainType::getId);
 	/**
 	 * Identifier
 	 */
@@ -1,5 +1,7 @@
 package javastrava.api.v3.model.reference;
 
+import java.util.Map;
+
 import java.util.ArrayList;
 import java.util.List;
 
@@ -7,6 +9,7 @@ import javastrava.api.v3.model.StravaSegmentLeaderboard;
 import javastrava.config.Messages;
 import javastrava.config.StravaConfig;
 import javastrava.json.impl.gson.serializer.WeightClassSerializer;
+import javastrava.util.ReferenceUtils;
 
 /**
  * <p>
@@ -72,6 +75,10 @@ public enum StravaWeightClass {
 	 */
 	UNKNOWN(StravaConfig.string("Common.unknown"), Messages.string("Common.unknown.description"), StravaMeasurementMethod.UNKNOWN); //$NON-NLS-1$ //$NON-NLS-2$
 
+	/**
+	 * Values by identifier, for {@link #create(String)}
+	 */
+	private static final Map<String, StravaWeightClass> BY_ID = ReferenceUtils.index(values(), StravaWeightClass::getId);
 	/**
 	 * Identifier
 	 */
@@ -100,7 +107,7 @@ public enum StravaWeightClass {
 	/**
 	 * Used by JSON serialisation
 	 * @return The string representation of this {@link StravaWeightClass} to be used with the Strava API
-	 * @see WeightClassSerializer#serialize(StravaWeightClass, java.lang.reflect.Type, com.google.gson.JsonSerializationContext)
+	 * @see WeightClassSerializer#toValue(StravaWeightClass)
 	 */
 	public String getValue() {
 		return this.id;
@@ -112,13 +119,8 @@ public enum StravaWeightClass {
 	 * @return The matching {@link StravaWeightClass}, or {@link StravaWeightClass#UNKNOWN} if there is no match
 	 */
 	public static StravaWeightClass create(final String id) {
-		StravaWeightClass[] weightClasses = StravaWeightClass.values();
-		for (StravaWeightClass weightClass : weightClasses) {
-			if (weightClass.getId().equals(id)) {
-				return weightClass;
-			}
-		}
-		return UNKNOWN;
+		final StravaWeightClass value = BY_ID.get(id);
+		return (value == null ? UNKNOWN : value);
 	}
 
 	/**
@@ -1,9 +1,12 @@
 package javastrava.api.v3.model.reference;
 
+import java.util.Map;
+
 import javastrava.api.v3.model.StravaActivity;
 import javastrava.config.Messages;
 import javastrava.config.StravaConfig;
 import javastrava.json.impl.gson.serializer.WorkoutTypeSerializer;
+import javastrava.util.ReferenceUtils;
 
 /**
  * <p>
@@ -37,6 +40,10 @@ public enum StravaWorkoutType {
 	 */
 	UNKNOWN(StravaConfig.integer("Common.unknown.integer"), Messages.string("Common.unknown.description")); //$NON-NLS-1$ //$NON-NLS-2$
 
+	/**
+	 * Values by identifier, for {@link #create(Integer)}
+	 */
+	private static final Map<Integer, StravaWorkoutType> BY_ID = ReferenceUtils.index(values(), StravaWorkoutType::getId);
 	/**
 	 * Identifier
 	 */
@@ -59,7 +66,7 @@ public enum StravaWorkoutType {
 	/**
 	 * Used by JSON serialisation
 	 * @return The integer representation of this {@link StravaWorkoutType} to be used with the Strava API
-	 * @see WorkoutTypeSerializer#serialize(StravaWorkoutType, java.lang.reflect.Type, com.google.gson.JsonSerializationContext)
+	 * @see WorkoutTypeSerializer#toValue(StravaWorkoutType)
 	 */
 	public Integer getValue() {
 		return this.id;
@@ -69,16 +76,11 @@ public enum StravaWorkoutType {
 	 * Used by JSON deserialisation
 	 * @param id The integer representation of a {@link StravaWorkoutType} as returned by the Strava API
 	 * @return The matching {@link StravaWorkoutType}, or {@link StravaWorkoutType#UNKNOWN} if there is no match
-	 * @see WorkoutTypeSerializer#deserialize(com.google.gson.JsonElement, java.lang.reflect.Type, com.google.gson.JsonDeserializationContext)
+	 * @see WorkoutTypeSerializer#fromValue(Integer)
 	 */
 	public static StravaWorkoutType create(final Integer id) {
-		StravaWorkoutType[] workoutTypes = StravaWorkoutType.values();
-		for (StravaWorkoutType workoutType : workoutTypes) {
-			if (workoutType.getId().equals(id)) {
-				return workoutType;
-			}
-		}
-		return StravaWorkoutType.UNKNOWN;
+		final StravaWorkoutType value = BY_ID.get(id);
+		return (value == null ? UNKNOWN : value);
 	}
 
 	/**
@@ -3,8 +3,11 @@
  */
 package javastrava.api.v3.model.webhook.reference;
 
+import java.util.Map;
+
 import javastrava.config.Messages;
 import javastrava.config.StravaConfig;
+import javastrava.util.ReferenceUtils;
 
 /**
  * @author Dan Shannon
@@ -26,13 +29,13 @@ public enum StravaSubscriptionAspectType {
 	 * @return Matching instance, or {@link #UNKNOWN} if there is no match
 	 */
 	public static StravaSubscriptionAspectType create(final Integer id) {
-		for (final StravaSubscriptionAspectType type : StravaSubscriptionAspectType.values()) {
-			if (type.getId().equals(id)) {
-				return type;
-			}
-		}
-		return UNKNOWN;
+		final StravaSubscriptionAspectType value = BY_ID.get(id);
+		return (value == null ? UNKNOWN : value);
 	}
+	/**
+	 * Values by identifier, for {@link #create(Integer)}
+	 */
+	private static final Map<Integer, StravaSubscriptionAspectType> BY_ID = ReferenceUtils.index(values(), StravaSubscriptionAspectType::getId);
 	/**
 	 * Identifier
 	 */
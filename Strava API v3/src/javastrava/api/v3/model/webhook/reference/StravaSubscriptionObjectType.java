@@ -3,8 +3,11 @@
  */
 package javastrava.api.v3.model.webhook.reference;
 
+import java.util.Map;
+
 import javastrava.config.Messages;
 import javastrava.config.StravaConfig;
+import javastrava.util.ReferenceUtils;
 
 /**
  * @author Dan Shannon
@@ -25,13 +28,13 @@ public enum StravaSubscriptionObjectType {
 	 * @return The matching instance, or {@link #UNKNOWN} if there is no match
 	 */
 	public static StravaSubscriptionObjectType create(final Integer id) {
-		for (final StravaSubscriptionObjectType type : StravaSubscriptionObjectType.values()) {
-			if (type.getId().equals(id)) {
-				return type;
-			}
-		}
-		return UNKNOWN;
+		final StravaSubscriptionObjectType value = BY_ID.get(id);
+		return (value == null ? UNKNOWN : value);
 	}
+	/**
+	 * Values by identifier, for {@link #create(Integer)}
+	 */
+	private static final Map<Integer, StravaSubscriptionObjectType> BY_ID = ReferenceUtils.index(values(), StravaSubscriptionObjectType::getId);
 	/**
 	 * Identifier
 	 */
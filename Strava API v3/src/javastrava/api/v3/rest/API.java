@@ -3,7 +3,6 @@ package javastrava.api.v3.rest;
 import java.util.MissingResourceException;
 import java.util.concurrent.CompletableFuture;
 
-import javastrava.api.v3.auth.impl.retrofit.AuthorisationServiceImpl;
 import javastrava.api.v3.auth.model.Token;
 import javastrava.api.v3.auth.model.TokenResponse;
 import javastrava.api.v3.model.StravaActivity;
@@ -41,46 +40,34 @@ import javastrava.api.v3.model.webhook.reference.StravaSubscriptionAspectType;
 import javastrava.api.v3.model.webhook.reference.StravaSubscriptionObjectType;
 import javastrava.api.v3.rest.async.StravaAPICallback;
 import javastrava.api.v3.rest.async.StravaAPIFuture;
-import javastrava.api.v3.rest.util.RetrofitClientResponseInterceptor;
-import javastrava.api.v3.rest.util.RetrofitErrorHandler;
+import javastrava.api.v3.rest.util.StravaTransport;
 import javastrava.api.v3.service.exception.BadRequestException;
 import javastrava.api.v3.service.exception.NotFoundException;
 import javastrava.api.v3.service.exception.UnauthorizedException;
 import javastrava.config.StravaConfig;
-import javastrava.json.impl.gson.JsonUtilImpl;
 import retrofit.RestAdapter;
 import retrofit.RestAdapter.LogLevel;
-import retrofit.converter.GsonConverter;
 import retrofit.mime.TypedFile;
 
 /**
  * <p>
- * Provides a static method {@link #instance(Class, Token)} which constructs a standard retrofit service with all the required options.
+ * Provides a static method {@link #instance(Class, Token)} which constructs a standard retrofit service with all the required options, on top of
+ * the process-wide {@link StravaTransport}.
  * </p>
  *
  * @author Dan Shannon
  *
  */
 public class API {
-	/**
-	 * Instance of authorisation API which is used for token exchange
-	 */
-	private static AuthorisationAPI authorisationAPI;
-
 	/**
 	 * <p>
-	 * Get an instance of the authorisation API (cached)
+	 * Get an instance of the authorisation API (shared)
 	 * </p>
 	 *
 	 * @return Instance of the authorisation API
 	 */
 	public static AuthorisationAPI authorisationInstance() {
-		if (authorisationAPI == null) {
-			authorisationAPI = new RestAdapter.Builder().setClient(new RetrofitClientResponseInterceptor())
-					.setConverter(new GsonConverter(new JsonUtilImpl().getGson())).setLogLevel(API.logLevel(AuthorisationServiceImpl.class))
-					.setEndpoint(StravaConfig.AUTH_ENDPOINT).setErrorHandler(new RetrofitErrorHandler()).build().create(AuthorisationAPI.class);
-		}
-		return authorisationAPI;
+		return StravaTransport.authorisationService(AuthorisationAPI.class);
 	}
 
 	/**
@@ -95,7 +82,8 @@ public class API {
 
 	/**
 	 * <p>
-	 * Creates and returns a new API RestAdapter instance.
+	 * Creates and returns a new API service instance, which uses the shared {@link StravaTransport} and carries only the token's authorisation
+	 * header
 	 * </p>
 	 *
 	 * @param class1
@@ -107,19 +95,7 @@ public class API {
 	 * @return A REST service
 	 */
 	public static <T> T instance(final Class<T> class1, final Token token) {
-		return new RestAdapter.Builder()
-		// Client overrides handling of Strava-specific headers in the response, to deal with rate limiting
-		.setClient(new RetrofitClientResponseInterceptor())
-		// Converter is a GSON implementation with custom converters
-		.setConverter(new GsonConverter(new JsonUtilImpl().getGson()))
-		// Log level is determined per API service
-		.setLogLevel(API.logLevel(class1))
-		// Endpoint is the same for all services
-		.setEndpoint(StravaConfig.ENDPOINT)
-		// Request interceptor adds the access token into headers for each request
-		.setRequestInterceptor(request -> request.addHeader(StravaConfig.string("strava.authorization_header_name"), token.getTokenType() + " " + token.getToken())) //$NON-NLS-1$ //$NON-NLS-2$
-		// Error handler deals with Strava's implementations of 400, 401, 403, 404 errors etc.
-		.setErrorHandler(new RetrofitErrorHandler()).build().create(class1);
+		return StravaTransport.service(class1, token);
 	}
 
 	/**
@@ -30,8 +30,8 @@ public class StravaAPICallback<T> implements Callback<T> {
 	 */
 	@Override
 	public void failure(final RetrofitError error) {
-		// final RuntimeException exception = (RuntimeException) errorHandler.handleError(error);
-		this.future.completeExceptionally(error.getCause());
+		// The error handler has already mapped the error to a javastrava exception, which is the cause
+		this.future.completeExceptionally(error.getCause() == null ? error : error.getCause());
 	}
 
 	/**
@@ -46,6 +46,14 @@ public class StravaAPIFuture<T> {
 
 	}
 
+	/**
+	 * @return A {@link CompletableFuture} which completes when the call to the API does, so that further work can be composed on it without
+	 *         blocking a thread; if the call fails, it completes exceptionally with the javastrava exception
+	 */
+	public CompletableFuture<T> toCompletableFuture() {
+		return this.future.thenApply(result -> result);
+	}
+
 	/**
 	 * Wrapper for the {@link CompletableFuture#get()} method handles exceptions and maps to javastrava exceptions
 	 * @return The object asked for
@@ -1,12 +1,21 @@
 package javastrava.api.v3.rest.util;
 
 import java.io.IOException;
-import java.util.StringTokenizer;
+import java.io.InterruptedIOException;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
 
 import com.squareup.okhttp.OkHttpClient;
 
 import javastrava.api.v3.service.impl.StravaServiceImpl;
 import javastrava.config.StravaConfig;
+import javastrava.ratelimit.StravaRateLimitLedger;
+import javastrava.ratelimit.StravaRateLimitUsage;
+import javastrava.ratelimit.StravaRateLimiter;
+import javastrava.ratelimit.StravaRequestPriority;
 import retrofit.client.Header;
 import retrofit.client.OkClient;
 import retrofit.client.Request;
@@ -16,11 +25,30 @@ import retrofit.client.Response;
  * <p>
  * Overrides the OkHttp client in order to intercept the rate limit data returned by the API in headers
  * </p>
- * 
+ *
+ * <p>
+ * Each request is first admitted by the application's {@link StravaRateLimiter}. Usage is recorded in the {@link StravaRateLimitLedger} of the application to which the request's token was issued, stamped with the server's
+ * time from the <code>Date</code> header so that responses arriving out of order are accounted to the right window.
+ * </p>
+ *
  * @author Dan Shannon
  *
  */
 public class RetrofitClientResponseInterceptor extends OkClient {
+	/**
+	 * Name of the header containing rate limit usage
+	 */
+	private static final String USAGE_HEADER_NAME = StravaConfig.string("strava.rate-limit-usage-header-name"); //$NON-NLS-1$
+
+	/**
+	 * Name of the header containing rate limits
+	 */
+	private static final String LIMIT_HEADER_NAME = StravaConfig.string("strava.rate-limit-limit-header-name"); //$NON-NLS-1$
+
+	/**
+	 * Name of the standard HTTP header containing the server's time
+	 */
+	private static final String DATE_HEADER_NAME = "Date"; //$NON-NLS-1$
 
 	/**
 	 * No-args constructor
@@ -28,6 +56,7 @@ public class RetrofitClientResponseInterceptor extends OkClient {
 	public RetrofitClientResponseInterceptor() {
 		super();
 	}
+
 	/**
 	 * @param client The client to use
 	 */
@@ -37,32 +66,170 @@ public class RetrofitClientResponseInterceptor extends OkClient {
 
 	/**
 	 * <p>
-	 * Gets and stores the values of the rate limit information headers returned by Strava with each response
+	 * Waits for the {@link StravaRateLimiter} to admit the request (unless throttling is disabled, or the {@link StravaTransport} has already had it
+	 * admitted), then gets and stores the values of the rate limit information headers returned by Strava with the response
 	 * </p>
-	 * 
+	 *
 	 * @see retrofit.client.OkClient#execute(retrofit.client.Request)
 	 */
 	@Override
 	public Response execute(final Request request) throws IOException {
-		Response response = super.execute(request);
-
-		for (Header header : response.getHeaders()) {
-			if (header.getName().equals(StravaConfig.string("strava.rate-limit-usage-header-name"))) { //$NON-NLS-1$
-				String values = header.getValue();
-				StringTokenizer tokenizer = new StringTokenizer(values, ","); //$NON-NLS-1$
-				StravaServiceImpl.requestRate = Integer.valueOf(tokenizer.nextToken()).intValue();
-				StravaServiceImpl.requestRateDaily = Integer.valueOf(tokenizer.nextToken()).intValue();
-				StravaServiceImpl.requestRatePercentage();
+		Integer application = null;
+		StravaRequestPriority priority = StravaRequestPriority.INTERACTIVE;
+		boolean admitted = false;
+		List<Header> headers = request.getHeaders();
+		for (final Header header : request.getHeaders()) {
+			if (StravaTransport.PRIORITY_HEADER_NAME.equals(header.getName())) {
+				priority = StravaRequestPriority.valueOf(header.getValue());
+				headers = removeHeader(headers, request, header);
+			} else if (StravaTransport.APPLICATION_HEADER_NAME.equals(header.getName())) {
+				application = parse(header.getValue());
+				headers = removeHeader(headers, request, header);
+			} else if (StravaTransport.ADMITTED_HEADER_NAME.equals(header.getName())) {
+				admitted = true;
+				headers = removeHeader(headers, request, header);
 			}
-			if (header.getName().equals(StravaConfig.string("strava.rate-limit-limit-header-name"))) { //$NON-NLS-1$
-				String values = header.getValue();
-				StringTokenizer tokenizer = new StringTokenizer(values, ","); //$NON-NLS-1$
-				StravaConfig.RATE_LIMIT = Integer.valueOf(tokenizer.nextToken()).intValue();
-				StravaConfig.RATE_LIMIT_DAILY = Integer.valueOf(tokenizer.nextToken()).intValue();
-				StravaServiceImpl.requestRateDailyPercentage();
+		}
+		final Request outbound = (headers == request.getHeaders() ? request : new Request(request.getMethod(), request.getUrl(), headers, request
+				.getBody()));
+
+		if (!StravaConfig.THROTTLE_ENABLED || admitted) {
+			// Nothing to wait for, or the caller has already waited (and will release the permit when it has the response)
+			return record(application, super.execute(outbound));
+		}
+
+		final StravaRateLimiter limiter = StravaRateLimiter.forApplication(application);
+		try {
+			limiter.acquire(priority);
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException(e.getMessage());
+		}
+		try {
+			return record(application, super.execute(outbound));
+		} finally {
+			limiter.release();
+		}
+	}
+
+	/**
+	 * <p>
+	 * Records the values of the rate limit information headers returned by Strava in the application's ledger, and passes the response on to the
+	 * {@link StravaTransport} (which keeps it for requests being coalesced)
+	 * </p>
+	 *
+	 * @param application
+	 *            Client id of the application which made the request, or <code>null</code> if not known
+	 * @param response
+	 *            The response
+	 * @return The response
+	 */
+	private static Response record(final Integer application, final Response response) {
+		StravaTransport.received(response);
+		String usage = null;
+		String limit = null;
+		String date = null;
+		for (final Header header : response.getHeaders()) {
+			final String name = header.getName();
+			if (USAGE_HEADER_NAME.equalsIgnoreCase(name)) {
+				usage = header.getValue();
+			} else if (LIMIT_HEADER_NAME.equalsIgnoreCase(name)) {
+				limit = header.getValue();
+			} else if (DATE_HEADER_NAME.equalsIgnoreCase(name)) {
+				date = header.getValue();
 			}
 		}
 
+		if ((usage != null) || (limit != null)) {
+			final StravaRateLimitLedger ledger = StravaRateLimitLedger.forApplication(application);
+			final StravaRateLimitUsage recorded = ledger.record(first(usage), second(usage), first(limit), second(limit), serverTime(date));
+			publishLegacyRates(recorded);
+			StravaServiceImpl.requestRatePercentage(recorded);
+			StravaServiceImpl.requestRateDailyPercentage(recorded);
+		}
+
 		return response;
 	}
+
+	/**
+	 * Keeps the deprecated process-wide request rates up to date for callers which still read them
+	 *
+	 * @param recorded
+	 *            Usage just recorded
+	 */
+	@SuppressWarnings("deprecation")
+	private static void publishLegacyRates(final StravaRateLimitUsage recorded) {
+		StravaServiceImpl.requestRate = recorded.getRequests();
+		StravaServiceImpl.requestRateDaily = recorded.getRequestsDaily();
+	}
+
+	/**
+	 * @param headers
+	 *            Headers to be sent so far
+	 * @param request
+	 *            The request as issued
+	 * @param header
+	 *            Private header to be removed
+	 * @return The headers to be sent, without the private header; copied from the request's headers the first time one is removed
+	 */
+	private static List<Header> removeHeader(final List<Header> headers, final Request request, final Header header) {
+		final List<Header> copy = (headers == request.getHeaders() ? new ArrayList<Header>(headers) : headers);
+		copy.remove(header);
+		return copy;
+	}
+
+	/**
+	 * @param values
+	 *            Comma-separated header value, e.g. <code>"54,1203"</code>
+	 * @return The first value, or <code>null</code> if not present
+	 */
+	private static Integer first(final String values) {
+		if (values == null) {
+			return null;
+		}
+		final int comma = values.indexOf(',');
+		return parse(comma < 0 ? values : values.substring(0, comma));
+	}
+
+	/**
+	 * @param values
+	 *            Comma-separated header value, e.g. <code>"54,1203"</code>
+	 * @return The second value, or <code>null</code> if not present
+	 */
+	private static Integer second(final String values) {
+		if (values == null) {
+			return null;
+		}
+		final int comma = values.indexOf(',');
+		return (comma < 0 ? null : parse(values.substring(comma + 1)));
+	}
+
+	/**
+	 * @param value
+	 *            String value
+	 * @return Integer value, or <code>null</code> if it isn't a number
+	 */
+	private static Integer parse(final String value) {
+		try {
+			return Integer.valueOf(value.trim());
+		} catch (final NumberFormatException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * @param date
+	 *            Value of the HTTP <code>Date</code> header
+	 * @return Server time in milliseconds since the epoch, or the local time if the header is missing or can't be parsed
+	 */
+	private static long serverTime(final String date) {
+		if (date != null) {
+			try {
+				return ZonedDateTime.parse(date, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+			} catch (final DateTimeParseException e) {
+				// Fall through to local time
+			}
+		}
+		return System.currentTimeMillis();
+	}
 }
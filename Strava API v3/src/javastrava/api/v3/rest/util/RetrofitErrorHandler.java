@@ -139,14 +139,20 @@ public class RetrofitErrorHandler implements ErrorHandler {
 			return new NotFoundException(response,cause);
 		}
 
+		// Handle 429 Too Many Requests error
+		if (r.getStatus() == 429) {
+			log.error(status + " : " + response); //$NON-NLS-1$
+			return new StravaAPIRateLimitException(status, response, cause);
+		}
+
 		// Handle 500 Internal Server error
 		if (r.getStatus() == 500) {
 			log.error(status + " : " + response); //$NON-NLS-1$
 			return new StravaInternalServerErrorException(status, response, cause);
 		}
 
-		// Handle 503 Service Unavailable error
-		if (r.getStatus() == 503) {
+		// Handle 503 Service Unavailable error (and the equivalent gateway errors)
+		if ((r.getStatus() == 502) || (r.getStatus() == 503) || (r.getStatus() == 504)) {
 			log.error(status + " : " + response); //$NON-NLS-1$
 			return new StravaServiceUnavailableException(status, response, cause);
 		}
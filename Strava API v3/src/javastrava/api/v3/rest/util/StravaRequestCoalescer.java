@@ -0,0 +1,364 @@
+package javastrava.api.v3.rest.util;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+
+import javastrava.config.StravaConfig;
+import javastrava.json.impl.gson.JsonUtilImpl;
+import retrofit.Callback;
+import retrofit.RetrofitError;
+import retrofit.client.Response;
+
+/**
+ * <p>
+ * Single-flight de-duplication of identical concurrent GET requests
+ * </p>
+ *
+ * <p>
+ * When a GET is issued while an identical one (same API method, same arguments, same token) is still in flight, the second caller doesn't issue a
+ * request of its own; it waits for the first request's outcome and shares it. This saves rate limit when, for example, many threads miss the cache
+ * for the same popular activity at the same time.
+ * </p>
+ *
+ * <p>
+ * Service code goes on to modify the objects it is given (applying privacy rules, setting resource state, splitting leaderboards), so each
+ * coalesced caller receives its own copy of the result, made by round-tripping it through the JSON serialisers. The result is only copied if some
+ * other caller actually waited for it; the caller which issued the request keeps the original.
+ * </p>
+ *
+ * @author Dan Shannon
+ *
+ */
+public class StravaRequestCoalescer {
+	/**
+	 * Identifies a request: token, API method and arguments
+	 */
+	private static final class RequestKey {
+		/**
+		 * Value of the authorisation header
+		 */
+		private final String authorisation;
+		/**
+		 * API method
+		 */
+		private final Method method;
+		/**
+		 * Arguments to the method
+		 */
+		private final Object[] args;
+		/**
+		 * Pre-computed hash code
+		 */
+		private final int hash;
+
+		/**
+		 * @param authorisation
+		 *            Value of the authorisation header
+		 * @param method
+		 *            API method
+		 * @param args
+		 *            Arguments to the method
+		 */
+		RequestKey(final String authorisation, final Method method, final Object[] args) {
+			this.authorisation = authorisation;
+			this.method = method;
+			this.args = args;
+			this.hash = (31 * ((31 * authorisation.hashCode()) + method.hashCode())) + Arrays.hashCode(args);
+		}
+
+		/**
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(final Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof RequestKey)) {
+				return false;
+			}
+			final RequestKey other = (RequestKey) obj;
+			return (this.hash == other.hash) && this.method.equals(other.method) && this.authorisation.equals(other.authorisation)
+					&& Arrays.equals(this.args, other.args);
+		}
+
+		/**
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return this.hash;
+		}
+	}
+
+	/**
+	 * A snapshot of the successful outcome of a request, from which each coalesced caller makes its own copy
+	 */
+	private static final class Outcome {
+		/**
+		 * The result, as JSON, or <code>null</code> if it was <code>null</code>
+		 */
+		private final JsonElement json;
+		/**
+		 * Class of the result
+		 */
+		private final Class<?> type;
+		/**
+		 * The response to the request, without its body, or <code>null</code> if it isn't known
+		 */
+		private final Response response;
+
+		/**
+		 * @param result
+		 *            The result
+		 * @param response
+		 *            The response to the request, or <code>null</code> if it isn't known
+		 */
+		Outcome(final Object result, final Response response) {
+			this.json = (result == null ? null : GSON.toJsonTree(result));
+			this.type = (result == null ? null : result.getClass());
+			this.response = (response == null ? null : new Response(response.getUrl(), response.getStatus(), response.getReason(), response
+					.getHeaders(), null));
+		}
+
+		/**
+		 * @return A new copy of the result
+		 */
+		Object copy() {
+			return (this.json == null ? null : GSON.fromJson(this.json, this.type));
+		}
+	}
+
+	/**
+	 * <p>
+	 * A request in flight, registered by the caller which issued it and joined by any identical requests made before it lands
+	 * </p>
+	 */
+	public static final class Flight {
+		/**
+		 * Completed with the outcome of the request once it lands, if anyone joined it
+		 */
+		final CompletableFuture<Outcome> future = new CompletableFuture<Outcome>();
+		/**
+		 * Number of callers which have joined the request
+		 */
+		private int waiters = 0;
+		/**
+		 * Whether the request has landed, after which it can't be joined
+		 */
+		private boolean landed = false;
+
+		/**
+		 * @return <code>true</code> if the caller has joined the request, <code>false</code> if it has already landed
+		 */
+		synchronized boolean join() {
+			if (this.landed) {
+				return false;
+			}
+			this.waiters++;
+			return true;
+		}
+
+		/**
+		 * @return <code>true</code> if nobody has joined the request, which now can't be joined, so need not be sent; <code>false</code> if
+		 *         somebody has, so it must still be sent
+		 */
+		synchronized boolean abandon() {
+			if (this.waiters > 0) {
+				return false;
+			}
+			this.landed = true;
+			return true;
+		}
+
+		/**
+		 * @return Number of callers which joined the request before it landed
+		 */
+		synchronized int land() {
+			this.landed = true;
+			return this.waiters;
+		}
+	}
+
+	/**
+	 * Used to copy results for coalesced callers
+	 */
+	static final Gson GSON = new JsonUtilImpl().getGson();
+
+	/**
+	 * Requests currently in flight
+	 */
+	private static final ConcurrentHashMap<Object, Flight> IN_FLIGHT = new ConcurrentHashMap<Object, Flight>();
+
+	/**
+	 * Number of requests which were not issued because an identical one was already in flight
+	 */
+	private static final AtomicLong COALESCED = new AtomicLong();
+
+	/**
+	 * @param method
+	 *            An API method
+	 * @return <code>true</code> if requests made by the method may be coalesced
+	 */
+	public static boolean coalesces(final Method method) {
+		return StravaConfig.HTTP_COALESCE_GETS && "GET".equals(StravaRetryPolicy.httpMethod(method)); //$NON-NLS-1$
+	}
+
+	/**
+	 * @param authorisation
+	 *            Value of the authorisation header
+	 * @param method
+	 *            API method
+	 * @param args
+	 *            Arguments to the method (may be <code>null</code>)
+	 * @param count
+	 *            Number of arguments which identify the request (i.e. excluding any callback)
+	 * @return Key identifying the request
+	 */
+	public static Object key(final String authorisation, final Method method, final Object[] args, final int count) {
+		return new RequestKey(authorisation, method, (args == null ? new Object[0] : Arrays.copyOf(args, count)));
+	}
+
+	/**
+	 * <p>
+	 * Registers a request as in flight, unless an identical request already is, in which case the caller joins that request
+	 * </p>
+	 *
+	 * @param key
+	 *            Key identifying the request
+	 * @param flight
+	 *            Flight which the caller will land, via {@link #land(Object, Flight, Object, Response, Throwable)}, with the outcome of the request
+	 * @return <code>null</code> if the caller should issue the request, otherwise the identical request already in flight, which the caller has joined
+	 */
+	public static Flight lead(final Object key, final Flight flight) {
+		while (true) {
+			final Flight existing = IN_FLIGHT.putIfAbsent(key, flight);
+			if (existing == null) {
+				return null;
+			}
+			if (existing.join()) {
+				COALESCED.incrementAndGet();
+				return existing;
+			}
+			// Landed but not yet removed; it's too late to join it
+			IN_FLIGHT.remove(key, existing);
+		}
+	}
+
+	/**
+	 * <p>
+	 * Records the outcome of a request registered with {@link #lead(Object, Flight)}, passing a copy of it on to any coalesced callers. Must be called
+	 * before the caller which issued the request is given the result, as the result is copied from that object.
+	 * </p>
+	 *
+	 * @param key
+	 *            Key identifying the request
+	 * @param flight
+	 *            The request's flight
+	 * @param result
+	 *            The result, if the request succeeded
+	 * @param response
+	 *            The response, if the request succeeded and it is known
+	 * @param error
+	 *            The failure, if it didn't
+	 */
+	public static void land(final Object key, final Flight flight, final Object result, final Response response, final Throwable error) {
+		IN_FLIGHT.remove(key, flight);
+		if (flight.land() == 0) {
+			// Nobody joined, so nobody needs a copy
+			return;
+		}
+		if (error != null) {
+			flight.future.completeExceptionally(error);
+			return;
+		}
+		try {
+			flight.future.complete(new Outcome(result, response));
+		} catch (final RuntimeException e) {
+			flight.future.completeExceptionally(e);
+		}
+	}
+
+	/**
+	 * <p>
+	 * Waits for the outcome of a request in flight
+	 * </p>
+	 *
+	 * @param flight
+	 *            The request, which the caller has joined
+	 * @return The caller's own copy of the result of the request
+	 * @throws Throwable
+	 *             The failure of the request
+	 */
+	public static Object await(final Flight flight) throws Throwable {
+		try {
+			return flight.future.join().copy();
+		} catch (final CompletionException e) {
+			throw unwrap(e);
+		}
+	}
+
+	/**
+	 * <p>
+	 * Passes the outcome of a request in flight to a callback once it lands
+	 * </p>
+	 *
+	 * @param flight
+	 *            The request, which the caller has joined
+	 * @param callback
+	 *            The caller's callback, which is given its own copy of the result
+	 */
+	public static void forward(final Flight flight, final Callback<Object> callback) {
+		flight.future.whenComplete((outcome, error) -> {
+			if (error != null) {
+				callback.failure(RetrofitError.unexpectedError(null, unwrap(error)));
+				return;
+			}
+			final Object copy;
+			try {
+				copy = outcome.copy();
+			} catch (final RuntimeException e) {
+				callback.failure(RetrofitError.unexpectedError(null, e));
+				return;
+			}
+			callback.success(copy, outcome.response);
+		});
+	}
+
+	/**
+	 * @param error
+	 *            Failure as reported by a future
+	 * @return The underlying failure
+	 */
+	public static Throwable unwrap(final Throwable error) {
+		return ((error instanceof CompletionException) && (error.getCause() != null) ? error.getCause() : error);
+	}
+
+	/**
+	 * @return Number of requests which were not issued because an identical one was already in flight
+	 */
+	public static long getCoalescedRequests() {
+		return COALESCED.get();
+	}
+
+	/**
+	 * @return Number of coalescable requests currently in flight
+	 */
+	public static int getInFlight() {
+		return IN_FLIGHT.size();
+	}
+
+	/**
+	 * No-args constructor - all access is static
+	 */
+	private StravaRequestCoalescer() {
+	}
+
+}
@@ -0,0 +1,275 @@
+package javastrava.api.v3.rest.util;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javastrava.api.v3.service.exception.StravaAPINetworkException;
+import javastrava.api.v3.service.exception.StravaAPIRateLimitException;
+import javastrava.api.v3.service.exception.StravaInternalServerErrorException;
+import javastrava.api.v3.service.exception.StravaServiceUnavailableException;
+import javastrava.config.StravaConfig;
+import javastrava.ratelimit.StravaRateLimitLedger;
+import javastrava.ratelimit.StravaRequestPriority;
+import retrofit.http.DELETE;
+import retrofit.http.GET;
+import retrofit.http.HEAD;
+import retrofit.http.PATCH;
+import retrofit.http.POST;
+import retrofit.http.PUT;
+
+/**
+ * <p>
+ * Decides whether, and after how long, a failed request to the Strava API should be retried by the {@link StravaTransport}
+ * </p>
+ *
+ * <p>
+ * Rules are per exception type:
+ * </p>
+ * <ul>
+ * <li>{@link StravaAPIRateLimitException} - the request was rejected before Strava did anything with it, so it is always safe to replay. It is
+ * retried once the rate limit window has reset, unless that is more than {@link StravaConfig#RETRY_RATE_LIMIT_MAX_WAIT_MS} away (or, for
+ * {@link StravaRequestPriority#INTERACTIVE interactive} requests, {@link StravaConfig#RETRY_INTERACTIVE_RATE_LIMIT_MAX_WAIT_MS})</li>
+ * <li>{@link StravaServiceUnavailableException}, {@link StravaInternalServerErrorException} and {@link StravaAPINetworkException} - Strava may or
+ * may not have acted on the request, so it is only retried if it is idempotent (i.e. not a POST or PATCH, such as creating a comment or uploading
+ * an activity). Retries back off exponentially with jitter.</li>
+ * </ul>
+ * <p>
+ * No other failure is retried.
+ * </p>
+ *
+ * @author Dan Shannon
+ *
+ */
+public class StravaRetryPolicy {
+	/**
+	 * Per-exception retry rules
+	 */
+	private enum Rule {
+		/**
+		 * Rejected by the rate limit; safe to replay, wait for the window to reset
+		 */
+		RATE_LIMIT(true, true),
+		/**
+		 * Server or network failure; only replay idempotent requests, back off exponentially
+		 */
+		TRANSIENT(false, false);
+
+		/**
+		 * Whether non-idempotent requests may be replayed
+		 */
+		final boolean replayNonIdempotent;
+
+		/**
+		 * Whether to wait for the rate limit window to reset rather than backing off exponentially
+		 */
+		final boolean waitForReset;
+
+		/**
+		 * @param replayNonIdempotent
+		 *            Whether non-idempotent requests may be replayed
+		 * @param waitForReset
+		 *            Whether to wait for the rate limit window to reset
+		 */
+		private Rule(final boolean replayNonIdempotent, final boolean waitForReset) {
+			this.replayNonIdempotent = replayNonIdempotent;
+			this.waitForReset = waitForReset;
+		}
+	}
+
+	/**
+	 * Logger
+	 */
+	private static Logger log = LogManager.getLogger();
+
+	/**
+	 * HTTP method used by each API method, as determined from its Retrofit annotation
+	 */
+	private static final ConcurrentHashMap<Method, String> HTTP_METHODS = new ConcurrentHashMap<Method, String>();
+
+	/**
+	 * Number of retries, by class of exception which caused them
+	 */
+	private static final ConcurrentHashMap<Class<?>, AtomicLong> RETRIES = new ConcurrentHashMap<Class<?>, AtomicLong>();
+
+	/**
+	 * Number of requests which failed with a retryable error, but were not retried because attempts (or time) ran out
+	 */
+	private static final AtomicLong GIVE_UPS = new AtomicLong();
+
+	/**
+	 * Number of requests which succeeded after being retried
+	 */
+	private static final AtomicLong RECOVERIES = new AtomicLong();
+
+	/**
+	 * <p>
+	 * Determines whether a failed request should be retried
+	 * </p>
+	 *
+	 * @param cause
+	 *            The exception with which the request failed
+	 * @param method
+	 *            The API method which issued the request
+	 * @param attempt
+	 *            The number of attempts made so far, including the one that failed
+	 * @param ledger
+	 *            Rate limit ledger of the application which made the request
+	 * @param priority
+	 *            Priority with which the request was issued
+	 * @return Delay in milliseconds before the request should be retried, or -1 if it should not be retried
+	 */
+	public static long retryDelay(final Throwable cause, final Method method, final int attempt, final StravaRateLimitLedger ledger,
+			final StravaRequestPriority priority) {
+		final Rule rule = rule(cause);
+		if (rule == null) {
+			return -1;
+		}
+		final String httpMethod = httpMethod(method);
+		if (!rule.replayNonIdempotent && !isIdempotent(httpMethod)) {
+			return -1;
+		}
+		if (attempt >= StravaConfig.RETRY_MAX_ATTEMPTS) {
+			giveUp(cause, method, attempt);
+			return -1;
+		}
+
+		final ThreadLocalRandom random = ThreadLocalRandom.current();
+		long delay;
+		if (rule.waitForReset) {
+			delay = (ledger.getRemainingDaily() == 0 ? ledger.getMillisUntilDailyReset() : ledger.getMillisUntilReset());
+			delay += random.nextLong(StravaConfig.RETRY_BASE_DELAY_MS + 1);
+			final long maxWait = (priority == StravaRequestPriority.BULK ? StravaConfig.RETRY_RATE_LIMIT_MAX_WAIT_MS
+					: Math.min(StravaConfig.RETRY_RATE_LIMIT_MAX_WAIT_MS, StravaConfig.RETRY_INTERACTIVE_RATE_LIMIT_MAX_WAIT_MS));
+			if (delay > maxWait) {
+				giveUp(cause, method, attempt);
+				return -1;
+			}
+		} else {
+			final long backoff = Math.min(StravaConfig.RETRY_MAX_DELAY_MS, StravaConfig.RETRY_BASE_DELAY_MS << Math.min(attempt - 1, 30));
+			delay = (backoff / 2) + random.nextLong((backoff / 2) + 1);
+		}
+
+		RETRIES.computeIfAbsent(cause.getClass(), key -> new AtomicLong()).incrementAndGet();
+		log.warn(String.format("%s %s failed with %s on attempt %d, retrying in %dms", httpMethod, method.getName(), cause.getClass().getSimpleName(), //$NON-NLS-1$
+				Integer.valueOf(attempt), Long.valueOf(delay)));
+		return delay;
+	}
+
+	/**
+	 * <p>
+	 * Records that a request succeeded after one or more retries
+	 * </p>
+	 */
+	public static void recovered() {
+		RECOVERIES.incrementAndGet();
+	}
+
+	/**
+	 * @return Total number of retries
+	 */
+	public static long getRetries() {
+		long total = 0;
+		for (final AtomicLong count : RETRIES.values()) {
+			total += count.get();
+		}
+		return total;
+	}
+
+	/**
+	 * @param exceptionClass
+	 *            Class of exception
+	 * @return Number of retries caused by exceptions of that class
+	 */
+	public static long getRetries(final Class<? extends Throwable> exceptionClass) {
+		final AtomicLong count = RETRIES.get(exceptionClass);
+		return (count == null ? 0 : count.get());
+	}
+
+	/**
+	 * @return Number of requests which failed with a retryable error but were not retried because attempts (or time) ran out
+	 */
+	public static long getGiveUps() {
+		return GIVE_UPS.get();
+	}
+
+	/**
+	 * @return Number of requests which succeeded after being retried
+	 */
+	public static long getRecoveries() {
+		return RECOVERIES.get();
+	}
+
+	/**
+	 * @param method
+	 *            An API method
+	 * @return The HTTP method it uses, or <code>null</code> if it has no Retrofit HTTP method annotation
+	 */
+	public static String httpMethod(final Method method) {
+		final String httpMethod = HTTP_METHODS.get(method);
+		if (httpMethod != null) {
+			return httpMethod;
+		}
+		return HTTP_METHODS.computeIfAbsent(method, key -> {
+			for (final Annotation annotation : key.getAnnotations()) {
+				final Class<? extends Annotation> type = annotation.annotationType();
+				if ((type == GET.class) || (type == POST.class) || (type == PUT.class) || (type == DELETE.class) || (type == HEAD.class)
+						|| (type == PATCH.class)) {
+					return type.getSimpleName();
+				}
+			}
+			return ""; //$NON-NLS-1$
+		});
+	}
+
+	/**
+	 * @param httpMethod
+	 *            HTTP method
+	 * @return <code>true</code> if repeating a request with the method has the same effect as making it once
+	 */
+	public static boolean isIdempotent(final String httpMethod) {
+		return "GET".equals(httpMethod) || "HEAD".equals(httpMethod) || "PUT".equals(httpMethod) || "DELETE".equals(httpMethod); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+	}
+
+	/**
+	 * @param cause
+	 *            The failure
+	 * @param method
+	 *            The API method
+	 * @param attempt
+	 *            Number of attempts made
+	 */
+	private static void giveUp(final Throwable cause, final Method method, final int attempt) {
+		GIVE_UPS.incrementAndGet();
+		log.error(String.format("%s failed with %s after %d attempts, giving up", method.getName(), cause.getClass().getSimpleName(), //$NON-NLS-1$
+				Integer.valueOf(attempt)));
+	}
+
+	/**
+	 * @param cause
+	 *            The failure
+	 * @return The rule which applies to it, or <code>null</code> if it should not be retried
+	 */
+	private static Rule rule(final Throwable cause) {
+		if (cause instanceof StravaAPIRateLimitException) {
+			return Rule.RATE_LIMIT;
+		}
+		if ((cause instanceof StravaServiceUnavailableException) || (cause instanceof StravaInternalServerErrorException)
+				|| (cause instanceof StravaAPINetworkException)) {
+			return Rule.TRANSIENT;
+		}
+		return null;
+	}
+
+	/**
+	 * No-args constructor - all access is static
+	 */
+	private StravaRetryPolicy() {
+	}
+
+}
@@ -0,0 +1,757 @@
+package javastrava.api.v3.rest.util;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.squareup.okhttp.ConnectionPool;
+import com.squareup.okhttp.Dispatcher;
+import com.squareup.okhttp.OkHttpClient;
+
+import javastrava.api.v3.auth.model.Token;
+import javastrava.api.v3.rest.API;
+import javastrava.api.v3.rest.async.StravaAPICallback;
+import javastrava.api.v3.service.exception.StravaAPINetworkException;
+import javastrava.config.StravaConfig;
+import javastrava.json.impl.gson.JsonUtilImpl;
+import javastrava.ratelimit.StravaRateLimitLedger;
+import javastrava.ratelimit.StravaRateLimiter;
+import javastrava.ratelimit.StravaRequestObserver;
+import javastrava.ratelimit.StravaRequestPriority;
+import retrofit.Callback;
+import retrofit.RequestInterceptor;
+import retrofit.RestAdapter;
+import retrofit.RetrofitError;
+import retrofit.client.Response;
+import retrofit.converter.GsonConverter;
+
+/**
+ * <p>
+ * Process-wide HTTP transport shared by every {@link API} instance, regardless of the token in use
+ * </p>
+ *
+ * <p>
+ * A single tuned {@link OkHttpClient} (and therefore a single connection pool and dispatcher), a single HTTP executor for asynchronous calls, a
+ * single JSON converter and a single error handler are shared by all tokens, as is one {@link RestAdapter} per API interface. The only per-token
+ * state is the value of the authorisation header, which is applied to each request by the thin proxy returned from {@link #service(Class, Token)}.
+ * </p>
+ *
+ * <p>
+ * The proxy also retries requests which fail with transient errors, according to the {@link StravaRetryPolicy}. Synchronous calls are retried on
+ * the calling thread; asynchronous calls are re-issued from a scheduler so no thread is held while waiting. Identical concurrent GET requests are
+ * coalesced into one by the {@link StravaRequestCoalescer}.
+ * </p>
+ *
+ * <p>
+ * Calls are admitted by the application's {@link StravaRateLimiter} before they are handed to Retrofit. Synchronous calls wait on the calling
+ * thread; asynchronous calls wait without holding a thread, so the shared HTTP executor's threads only ever do HTTP and the limiter's priorities
+ * decide the order in which calls are dispatched. A {@link javastrava.ratelimit.StravaRequestObserver} set on the calling thread is told when each
+ * attempt is admitted and how long its HTTP call took.
+ * </p>
+ *
+ * @author Dan Shannon
+ *
+ */
+public class StravaTransport {
+	/**
+	 * Authorisation header value for the request being issued on the current thread. Retrofit runs request interceptors on the calling thread for
+	 * both synchronous and asynchronous calls, so this is always set by the token proxy before the shared service sees the call.
+	 */
+	private static final ThreadLocal<String> AUTHORISATION = new ThreadLocal<String>();
+
+	/**
+	 * Rate limit ledger of the application to which the token issuing the request on the current thread was issued; set alongside
+	 * {@link #AUTHORISATION}
+	 */
+	private static final ThreadLocal<StravaRateLimitLedger> LEDGER = new ThreadLocal<StravaRateLimitLedger>();
+
+	/**
+	 * Set while a request which has already been admitted by the rate limiter is issued on the current thread
+	 */
+	private static final ThreadLocal<Boolean> ADMITTED = new ThreadLocal<Boolean>();
+
+	/**
+	 * Set while a coalesced synchronous request is issued on the current thread, so that its response can be passed on to coalesced callers along
+	 * with the result
+	 */
+	private static final ThreadLocal<Response[]> RESPONSE = new ThreadLocal<Response[]>();
+
+	/**
+	 * Name of the authorisation header
+	 */
+	private static final String AUTHORISATION_HEADER_NAME = StravaConfig.string("strava.authorization_header_name"); //$NON-NLS-1$
+
+	/**
+	 * Name of the private header used to pass the priority of a request to the rate limiter; it is removed before the request is sent
+	 */
+	static final String PRIORITY_HEADER_NAME = "X-Javastrava-Priority"; //$NON-NLS-1$
+
+	/**
+	 * Name of the private header used to pass the client id of the application which issued a request to the rate limiter and ledger; it is removed
+	 * before the request is sent. Asynchronous requests execute away from the calling thread, so the request itself is the only reliable way to
+	 * identify the application when it is executed and when the response arrives.
+	 */
+	static final String APPLICATION_HEADER_NAME = "X-Javastrava-Application"; //$NON-NLS-1$
+
+	/**
+	 * Name of the private header marking a request which has already been admitted by the rate limiter, so the client doesn't wait for it again;
+	 * it is removed before the request is sent
+	 */
+	static final String ADMITTED_HEADER_NAME = "X-Javastrava-Admitted"; //$NON-NLS-1$
+
+	/**
+	 * Message of the exception with which a request fails if it is no longer wanted by the time it is admitted
+	 */
+	private static final String ABANDONED = "Request abandoned before it was sent"; //$NON-NLS-1$
+
+	/**
+	 * The single connection pool used for all requests to Strava
+	 */
+	private static final ConnectionPool CONNECTION_POOL = new ConnectionPool(StravaConfig.HTTP_MAX_IDLE_CONNECTIONS, StravaConfig.HTTP_KEEP_ALIVE_DURATION_MS);
+
+	/**
+	 * Executor used by Retrofit to run asynchronous requests
+	 */
+	private static final ExecutorService HTTP_EXECUTOR = httpExecutor();
+
+	/**
+	 * Schedules retries of failed asynchronous requests; re-issuing a request is quick as it is executed on {@link #HTTP_EXECUTOR}, so one thread
+	 * will do
+	 */
+	private static final ScheduledExecutorService RETRY_EXECUTOR = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		final Thread thread = new Thread(runnable, "javastrava-retry"); //$NON-NLS-1$
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	/**
+	 * The single HTTP client used for all requests to Strava
+	 */
+	private static final OkHttpClient HTTP_CLIENT = httpClient();
+
+	/**
+	 * Retrofit client wrapping {@link #HTTP_CLIENT}, which intercepts rate limit headers
+	 */
+	private static final RetrofitClientResponseInterceptor CLIENT = new RetrofitClientResponseInterceptor(HTTP_CLIENT);
+
+	/**
+	 * JSON converter; GSON instances are thread safe so one will do for everyone
+	 */
+	private static final GsonConverter CONVERTER = new GsonConverter(new JsonUtilImpl().getGson());
+
+	/**
+	 * Error handler; it is stateless so one will do for everyone
+	 */
+	private static final RetrofitErrorHandler ERROR_HANDLER = new RetrofitErrorHandler();
+
+	/**
+	 * Request interceptor which adds the authorisation header for the token in use on the current thread, and marks requests issued for a known
+	 * application or with a non-default {@link StravaRequestPriority} so the rate limiter can see them wherever the request is executed
+	 */
+	private static final RequestInterceptor AUTHORISATION_INTERCEPTOR = request -> {
+		final String authorisation = AUTHORISATION.get();
+		if (authorisation != null) {
+			request.addHeader(AUTHORISATION_HEADER_NAME, authorisation);
+		}
+		final StravaRateLimitLedger ledger = LEDGER.get();
+		if ((ledger != null) && !StravaRateLimitLedger.DEFAULT_APPLICATION.equals(ledger.getClientId())) {
+			request.addHeader(APPLICATION_HEADER_NAME, ledger.getClientId().toString());
+		}
+		final StravaRequestPriority priority = StravaRateLimiter.priority();
+		if (priority != StravaRequestPriority.INTERACTIVE) {
+			request.addHeader(PRIORITY_HEADER_NAME, priority.name());
+		}
+		if (ADMITTED.get() != null) {
+			request.addHeader(ADMITTED_HEADER_NAME, Boolean.TRUE.toString());
+		}
+	};
+
+	/**
+	 * Shared (token-independent) service instances, one per API interface
+	 */
+	private static final ConcurrentHashMap<Class<?>, Object> SERVICES = new ConcurrentHashMap<Class<?>, Object>();
+
+	/**
+	 * Shared service instances for the authorisation endpoint, one per API interface
+	 */
+	private static final ConcurrentHashMap<Class<?>, Object> AUTHORISATION_SERVICES = new ConcurrentHashMap<Class<?>, Object>();
+
+	/**
+	 * <p>
+	 * Called by the client with each response it receives, on the thread that executed the request
+	 * </p>
+	 *
+	 * @param response
+	 *            The response
+	 */
+	static void received(final Response response) {
+		final Response[] holder = RESPONSE.get();
+		if (holder != null) {
+			holder[0] = response;
+		}
+	}
+
+	/**
+	 * @return Name of the authorisation header
+	 */
+	public static String authorisationHeaderName() {
+		return AUTHORISATION_HEADER_NAME;
+	}
+
+	/**
+	 * <p>
+	 * Returns the shared service for the authorisation endpoint (which does not require an access token)
+	 * </p>
+	 *
+	 * @param class1
+	 *            The API interface
+	 * @param <T>
+	 *            Class of API interface to be instantiated
+	 * @return The shared service
+	 */
+	public static <T> T authorisationService(final Class<T> class1) {
+		return class1.cast(AUTHORISATION_SERVICES.computeIfAbsent(class1, key -> adapter(StravaConfig.AUTH_ENDPOINT, key, null).create(key)));
+	}
+
+	/**
+	 * @return Number of connections currently held in the shared connection pool
+	 */
+	public static int connectionCount() {
+		return CONNECTION_POOL.getConnectionCount();
+	}
+
+	/**
+	 * <p>
+	 * Returns a service which issues its requests via the shared transport, authorised with the given token
+	 * </p>
+	 *
+	 * @param class1
+	 *            The API interface
+	 * @param token
+	 *            The access token required for authentication of requests to the Strava API
+	 * @param <T>
+	 *            Class of API interface to be instantiated (one of the *API.java interfaces)
+	 * @return A REST service
+	 */
+	public static <T> T service(final Class<T> class1, final Token token) {
+		final Object shared = sharedService(class1);
+		final String authorisation = token.getTokenType() + " " + token.getToken(); //$NON-NLS-1$
+		final StravaRateLimitLedger ledger = StravaRateLimitLedger.forApplication(token.getClientId());
+		return class1.cast(Proxy.newProxyInstance(class1.getClassLoader(), new Class<?>[] { class1 }, (proxy, method, args) -> {
+			final StravaRequestObserver observer = StravaRateLimiter.observer();
+			final int count = (args == null ? 0 : args.length);
+			final boolean async = (count > 0) && (args[count - 1] instanceof Callback);
+			final Object key = (StravaRequestCoalescer.coalesces(method) ? StravaRequestCoalescer.key(authorisation, method, args, async ? count - 1
+					: count) : null);
+			final StravaRequestCoalescer.Flight flight = (key == null ? null : new StravaRequestCoalescer.Flight());
+			final StravaRequestCoalescer.Flight existing = (key == null ? null : StravaRequestCoalescer.lead(key, flight));
+
+			if (async) {
+				@SuppressWarnings("unchecked")
+				final Callback<Object> callback = (Callback<Object>) args[count - 1];
+				if (existing != null) {
+					StravaRequestCoalescer.forward(existing, callback);
+					return null;
+				}
+				final Object[] asyncArgs = args.clone();
+				final RetryingCallback retrying = new RetryingCallback(shared, method, asyncArgs, authorisation, ledger, callback, key, flight,
+						observer);
+				asyncArgs[count - 1] = retrying;
+				retrying.send();
+				return null;
+			}
+
+			if (existing != null) {
+				return StravaRequestCoalescer.await(existing);
+			}
+			if (key == null) {
+				return invokeWithRetry(shared, method, args, authorisation, ledger, observer, null);
+			}
+			final Response[] response = new Response[1];
+			RESPONSE.set(response);
+			try {
+				final Object result = invokeWithRetry(shared, method, args, authorisation, ledger, observer, flight);
+				StravaRequestCoalescer.land(key, flight, result, response[0], null);
+				return result;
+			} catch (final Throwable e) {
+				StravaRequestCoalescer.land(key, flight, null, null, e);
+				throw e;
+			} finally {
+				RESPONSE.remove();
+			}
+		}));
+	}
+
+	/**
+	 * <p>
+	 * Invokes a method of a shared service on the current thread, retrying according to the {@link StravaRetryPolicy}
+	 * </p>
+	 *
+	 * @param shared
+	 *            The shared service
+	 * @param method
+	 *            The method
+	 * @param args
+	 *            Arguments to the method
+	 * @param authorisation
+	 *            Value of the authorisation header
+	 * @param ledger
+	 *            Rate limit ledger of the application
+	 * @param observer
+	 *            Observer of the request, or <code>null</code> if there isn't one
+	 * @param flight
+	 *            The request's flight, joined by coalesced callers, or <code>null</code> if the request is not coalesced
+	 * @return The result of the method
+	 * @throws Throwable
+	 *             Whatever the method throws on its last attempt
+	 */
+	private static Object invokeWithRetry(final Object shared, final Method method, final Object[] args, final String authorisation,
+			final StravaRateLimitLedger ledger, final StravaRequestObserver observer, final StravaRequestCoalescer.Flight flight) throws Throwable {
+		int attempt = 1;
+		while (true) {
+			try {
+				final Object result = admitAndInvoke(shared, method, args, authorisation, ledger, observer, flight);
+				if (attempt > 1) {
+					StravaRetryPolicy.recovered();
+				}
+				return result;
+			} catch (final RuntimeException e) {
+				final long delay = StravaRetryPolicy.retryDelay(e, method, attempt, ledger, StravaRateLimiter.priority());
+				if (delay < 0) {
+					throw e;
+				}
+				try {
+					Thread.sleep(delay);
+				} catch (final InterruptedException interrupted) {
+					Thread.currentThread().interrupt();
+					throw e;
+				}
+				attempt++;
+			}
+		}
+	}
+
+	/**
+	 * <p>
+	 * Waits on the current thread until the application's rate limiter admits the request, then invokes it; the observer (if any) is told about
+	 * the request once it has been admitted, so the time it is given covers the HTTP call only
+	 * </p>
+	 *
+	 * @param shared
+	 *            The shared service
+	 * @param method
+	 *            The method
+	 * @param args
+	 *            Arguments to the method
+	 * @param authorisation
+	 *            Value of the authorisation header
+	 * @param ledger
+	 *            Rate limit ledger of the application
+	 * @param observer
+	 *            Observer of the request, or <code>null</code> if there isn't one
+	 * @param flight
+	 *            The request's flight, joined by coalesced callers, or <code>null</code> if the request is not coalesced
+	 * @return The result of the method
+	 * @throws Throwable
+	 *             Whatever the method throws
+	 */
+	private static Object admitAndInvoke(final Object shared, final Method method, final Object[] args, final String authorisation,
+			final StravaRateLimitLedger ledger, final StravaRequestObserver observer, final StravaRequestCoalescer.Flight flight) throws Throwable {
+		final StravaRateLimiter limiter = (StravaConfig.THROTTLE_ENABLED ? StravaRateLimiter.forApplication(ledger.getClientId()) : null);
+		if (limiter != null) {
+			try {
+				limiter.acquire(StravaRateLimiter.priority());
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new StravaAPINetworkException(e.getMessage(), null, e);
+			}
+		}
+		try {
+			if (observer != null) {
+				if (unwanted(observer, flight)) {
+					observer.abandoned();
+					throw new CancellationException(ABANDONED);
+				}
+				observer.admitted(ledger);
+			}
+			final long start = System.nanoTime();
+			try {
+				final Object result = invoke(shared, method, args, authorisation, ledger, limiter != null);
+				if (observer != null) {
+					observer.completed(System.nanoTime() - start, null);
+				}
+				return result;
+			} catch (final Throwable e) {
+				if (observer != null) {
+					observer.completed(System.nanoTime() - start, e);
+				}
+				throw e;
+			}
+		} finally {
+			if (limiter != null) {
+				limiter.release();
+			}
+		}
+	}
+
+	/**
+	 * @param observer
+	 *            Observer of the request
+	 * @param flight
+	 *            The request's flight, joined by coalesced callers, or <code>null</code> if the request is not coalesced
+	 * @return <code>true</code> if the observer no longer wants the request, and nobody else has joined it, so it need not be sent
+	 */
+	private static boolean unwanted(final StravaRequestObserver observer, final StravaRequestCoalescer.Flight flight) {
+		return !observer.wanted() && ((flight == null) || flight.abandon());
+	}
+
+	/**
+	 * <p>
+	 * Invokes a method of a shared service, with the given authorisation
+	 * </p>
+	 *
+	 * @param shared
+	 *            The shared service
+	 * @param method
+	 *            The method
+	 * @param args
+	 *            Arguments to the method
+	 * @param authorisation
+	 *            Value of the authorisation header
+	 * @param ledger
+	 *            Rate limit ledger of the application
+	 * @param admitted
+	 *            Whether the request has already been admitted by the rate limiter
+	 * @return The result of the method
+	 * @throws Throwable
+	 *             Whatever the method throws
+	 */
+	static Object invoke(final Object shared, final Method method, final Object[] args, final String authorisation, final StravaRateLimitLedger ledger,
+			final boolean admitted) throws Throwable {
+		final String previous = AUTHORISATION.get();
+		final StravaRateLimitLedger previousLedger = LEDGER.get();
+		AUTHORISATION.set(authorisation);
+		LEDGER.set(ledger);
+		if (admitted) {
+			ADMITTED.set(Boolean.TRUE);
+		}
+		try {
+			return method.invoke(shared, args);
+		} catch (final InvocationTargetException e) {
+			throw e.getCause();
+		} finally {
+			if (previous == null) {
+				AUTHORISATION.remove();
+			} else {
+				AUTHORISATION.set(previous);
+			}
+			if (previousLedger == null) {
+				LEDGER.remove();
+			} else {
+				LEDGER.set(previousLedger);
+			}
+			if (admitted) {
+				ADMITTED.remove();
+			}
+		}
+	}
+
+	/**
+	 * <p>
+	 * Callback which re-issues a failed asynchronous request (after the delay required by the {@link StravaRetryPolicy}) before passing the final
+	 * outcome on to the original callback. It extends {@link StravaAPICallback} only because that is the type the API interfaces declare; it has no
+	 * future of its own.
+	 * </p>
+	 *
+	 * <p>
+	 * Each attempt waits to be admitted by the rate limiter without holding a thread, and is only then handed to Retrofit (and so to the HTTP
+	 * executor); the permit is released when the outcome arrives.
+	 * </p>
+	 */
+	private static class RetryingCallback extends StravaAPICallback<Object> {
+		/**
+		 * The shared service
+		 */
+		private final Object shared;
+		/**
+		 * The method being called
+		 */
+		private final Method method;
+		/**
+		 * Arguments to the method, the last being this callback
+		 */
+		private final Object[] args;
+		/**
+		 * Value of the authorisation header
+		 */
+		private final String authorisation;
+		/**
+		 * Rate limit ledger of the application
+		 */
+		private final StravaRateLimitLedger ledger;
+		/**
+		 * The original callback
+		 */
+		private final Callback<Object> callback;
+		/**
+		 * Priority with which the request was originally issued
+		 */
+		private final StravaRequestPriority priority;
+		/**
+		 * Key identifying the request to the {@link StravaRequestCoalescer}, or <code>null</code> if it is not coalesced
+		 */
+		private final Object key;
+		/**
+		 * The request's flight, joined by coalesced callers, or <code>null</code> if the request is not coalesced
+		 */
+		private final StravaRequestCoalescer.Flight flight;
+		/**
+		 * Number of attempts made so far
+		 */
+		private volatile int attempt = 1;
+		/**
+		 * Whether the current attempt holds a permit from the rate limiter
+		 */
+		private volatile boolean admitted = false;
+		/**
+		 * Observer of the request, or <code>null</code> if there isn't one
+		 */
+		private final StravaRequestObserver observer;
+		/**
+		 * When the current attempt was admitted (from {@link System#nanoTime()})
+		 */
+		private volatile long sentAt;
+
+		/**
+		 * @param shared
+		 *            The shared service
+		 * @param method
+		 *            The method being called
+		 * @param args
+		 *            Arguments to the method, the last being this callback
+		 * @param authorisation
+		 *            Value of the authorisation header
+		 * @param ledger
+		 *            Rate limit ledger of the application
+		 * @param callback
+		 *            The original callback
+		 * @param key
+		 *            Key identifying the request to the {@link StravaRequestCoalescer}, or <code>null</code> if it is not coalesced
+		 * @param flight
+		 *            The request's flight, joined by coalesced callers, or <code>null</code> if the request is not coalesced
+		 * @param observer
+		 *            Observer of the request, or <code>null</code> if there isn't one
+		 */
+		RetryingCallback(final Object shared, final Method method, final Object[] args, final String authorisation, final StravaRateLimitLedger ledger,
+				final Callback<Object> callback, final Object key, final StravaRequestCoalescer.Flight flight, final StravaRequestObserver observer) {
+			super(null);
+			this.observer = observer;
+			this.key = key;
+			this.flight = flight;
+			this.shared = shared;
+			this.method = method;
+			this.args = args;
+			this.authorisation = authorisation;
+			this.ledger = ledger;
+			this.callback = callback;
+			this.priority = StravaRateLimiter.priority();
+		}
+
+		/**
+		 * Sends the current attempt once the rate limiter admits it
+		 */
+		void send() {
+			if (!StravaConfig.THROTTLE_ENABLED) {
+				issue();
+				return;
+			}
+			limiter().acquireAsync(this.priority).thenRun(() -> {
+				this.admitted = true;
+				issue();
+			});
+		}
+
+		/**
+		 * Hands the current attempt to Retrofit
+		 */
+		private void issue() {
+			if (this.observer != null) {
+				if (unwanted(this.observer, this.flight)) {
+					release();
+					this.observer.abandoned();
+					final CancellationException abandoned = new CancellationException(ABANDONED);
+					if (this.key != null) {
+						StravaRequestCoalescer.land(this.key, this.flight, null, null, abandoned);
+					}
+					this.callback.failure(RetrofitError.unexpectedError(null, abandoned));
+					return;
+				}
+				this.observer.admitted(this.ledger);
+			}
+			this.sentAt = System.nanoTime();
+			StravaRateLimiter.withPriority(this.priority, () -> {
+				try {
+					invoke(this.shared, this.method, this.args, this.authorisation, this.ledger, this.admitted);
+				} catch (final Throwable e) {
+					release();
+					completed(e);
+					if (this.key != null) {
+						StravaRequestCoalescer.land(this.key, this.flight, null, null, e);
+					}
+					this.callback.failure(RetrofitError.unexpectedError(null, e));
+				}
+				return null;
+			});
+		}
+
+		/**
+		 * Releases the permit held by the current attempt, if it holds one
+		 */
+		private void release() {
+			if (this.admitted) {
+				this.admitted = false;
+				limiter().release();
+			}
+		}
+
+		/**
+		 * Tells the observer, if there is one, the outcome of the current attempt
+		 *
+		 * @param failure
+		 *            Why the attempt failed, or <code>null</code> if it succeeded
+		 */
+		private void completed(final Throwable failure) {
+			if (this.observer != null) {
+				this.observer.completed(System.nanoTime() - this.sentAt, failure);
+			}
+		}
+
+		/**
+		 * @return The rate limiter of the application
+		 */
+		private StravaRateLimiter limiter() {
+			return StravaRateLimiter.forApplication(this.ledger.getClientId());
+		}
+
+		/**
+		 * @see retrofit.Callback#failure(retrofit.RetrofitError)
+		 */
+		@Override
+		public void failure(final RetrofitError error) {
+			release();
+			final Throwable cause = (error.getCause() == null ? error : error.getCause());
+			completed(cause);
+			final long delay = StravaRetryPolicy.retryDelay(cause, this.method, this.attempt, this.ledger, this.priority);
+			if (delay < 0) {
+				if (this.key != null) {
+					StravaRequestCoalescer.land(this.key, this.flight, null, null, cause);
+				}
+				this.callback.failure(error);
+				return;
+			}
+			this.attempt++;
+			RETRY_EXECUTOR.schedule(this::send, delay, TimeUnit.MILLISECONDS);
+		}
+
+		/**
+		 * @see retrofit.Callback#success(java.lang.Object, retrofit.client.Response)
+		 */
+		@Override
+		public void success(final Object t, final Response response) {
+			release();
+			completed(null);
+			if (this.attempt > 1) {
+				StravaRetryPolicy.recovered();
+			}
+			if (this.key != null) {
+				StravaRequestCoalescer.land(this.key, this.flight, t, response, null);
+			}
+			this.callback.success(t, response);
+		}
+	}
+
+	/**
+	 * @param endpoint
+	 *            Endpoint the adapter will issue requests to
+	 * @param class1
+	 *            The API interface, used to determine log level
+	 * @param interceptor
+	 *            Request interceptor, or <code>null</code> if none is required
+	 * @return A rest adapter built on the shared transport
+	 */
+	private static RestAdapter adapter(final String endpoint, final Class<?> class1, final RequestInterceptor interceptor) {
+		final RestAdapter.Builder builder = new RestAdapter.Builder()
+				// Client overrides handling of Strava-specific headers in the response, to deal with rate limiting
+				.setClient(CLIENT)
+				// Asynchronous requests run on the shared executor; callbacks complete futures so can run on the same thread
+				.setExecutors(HTTP_EXECUTOR, Runnable::run)
+				// Converter is a GSON implementation with custom converters
+				.setConverter(CONVERTER)
+				// Log level is determined per API service
+				.setLogLevel(API.logLevel(class1))
+				.setEndpoint(endpoint)
+				// Error handler deals with Strava's implementations of 400, 401, 403, 404 errors etc.
+				.setErrorHandler(ERROR_HANDLER);
+		if (interceptor != null) {
+			builder.setRequestInterceptor(interceptor);
+		}
+		return builder.build();
+	}
+
+	/**
+	 * @return The shared HTTP client
+	 */
+	private static OkHttpClient httpClient() {
+		final OkHttpClient client = new OkHttpClient();
+		client.setConnectionPool(CONNECTION_POOL);
+		client.setConnectTimeout(StravaConfig.HTTP_CONNECT_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+		client.setReadTimeout(StravaConfig.HTTP_READ_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+		final Dispatcher dispatcher = new Dispatcher(HTTP_EXECUTOR);
+		dispatcher.setMaxRequests(StravaConfig.HTTP_MAX_REQUESTS);
+		dispatcher.setMaxRequestsPerHost(StravaConfig.HTTP_MAX_REQUESTS);
+		client.setDispatcher(dispatcher);
+		return client;
+	}
+
+	/**
+	 * @return A bounded executor of daemon threads, so that an idle transport doesn't prevent the JVM from exiting
+	 */
+	private static ExecutorService httpExecutor() {
+		final AtomicInteger threadCount = new AtomicInteger();
+		final ThreadFactory threadFactory = runnable -> {
+			final Thread thread = new Thread(runnable, "javastrava-http-" + threadCount.incrementAndGet()); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		};
+		final ThreadPoolExecutor executor = new ThreadPoolExecutor(StravaConfig.HTTP_MAX_REQUESTS, StravaConfig.HTTP_MAX_REQUESTS, 60, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<Runnable>(), threadFactory);
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+	/**
+	 * @param class1
+	 *            The API interface
+	 * @return The shared, token-independent service for the interface
+	 */
+	private static Object sharedService(final Class<?> class1) {
+		return SERVICES.computeIfAbsent(class1, key -> adapter(StravaConfig.ENDPOINT, key, AUTHORISATION_INTERCEPTOR).create(key));
+	}
+
+	/**
+	 * No-args constructor - all access is static
+	 */
+	private StravaTransport() {
+	}
+
+}
@@ -3,6 +3,8 @@ package javastrava.api.v3.service;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import javastrava.api.v3.model.StravaActivity;
 import javastrava.api.v3.model.StravaActivityUpdate;
@@ -420,6 +422,21 @@ public interface ActivityService extends StravaService {
 	 */
 	public CompletableFuture<Void> giveKudosAsync(final Integer activityId) throws NotFoundException;
 
+	/**
+	 * <p>
+	 * Forgets everything cached about the identified {@link StravaActivity}, including any record that it doesn't exist, so the next request for it goes
+	 * to Strava
+	 * </p>
+	 *
+	 * <p>
+	 * Call this when told by some other route (typically a webhook event) that the activity has been created, updated or deleted.
+	 * </p>
+	 *
+	 * @param activityId
+	 *            Identifier of the activity
+	 */
+	public void invalidateActivity(final Integer activityId);
+
 	/**
 	 * <p>
 	 * Comments on an activity can be viewed by any user. However, only internal applications are allowed to create or delete them.
@@ -1188,6 +1205,33 @@ public interface ActivityService extends StravaService {
 	 */
 	public List<StravaActivity> listAllAuthenticatedAthleteActivities(final LocalDateTime before, final LocalDateTime after);
 
+	/**
+	 * <p>
+	 * This endpoint returns a list of {@link StravaActivity activities} for the authenticated {@link StravaAthlete}, stopping at the first one which
+	 * meets the stop condition.
+	 * </p>
+	 *
+	 * <p>
+	 * Pagination is NOT supported. Pages are requested until the stop condition is met or there are no more activities; pages asked for beyond the
+	 * one in which it is met are cancelled. For example, <code>a -&gt; a.getStartDate().isBefore(since)</code> gets the activities since a given
+	 * date, newest first, without reading the rest of the athlete's history.
+	 * </p>
+	 *
+	 * <p>
+	 * URL GET https://www.strava.com/api/v3/athlete/activities
+	 * </p>
+	 *
+	 * @see <a href="http://strava.github.io/api/v3/activities/">http://strava.github.io/api/v3/activities/</a>
+	 *
+	 * @param before (Optional) Return only rides started BEFORE this date/time
+	 * @param after (Optional) Return only rides started AFTER this data/time
+	 * @param stopWhen Condition met by the first activity which is NOT wanted
+	 * @return Returns an array of {@link StravaActivity} summary representations sorted newest first by default, up to (but not including) the
+	 *         first which meets the stop condition.
+	 */
+	public List<StravaActivity> listAllAuthenticatedAthleteActivities(final LocalDateTime before, final LocalDateTime after,
+			final Predicate<StravaActivity> stopWhen);
+
 	/**
 	 * <p>
 	 * This endpoint returns a list of {@link StravaActivity activities} for the authenticated {@link StravaAthlete}.
@@ -1230,6 +1274,33 @@ public interface ActivityService extends StravaService {
 	 */
 	public CompletableFuture<List<StravaActivity>> listAllAuthenticatedAthleteActivitiesAsync(final LocalDateTime before, final LocalDateTime after);
 
+	/**
+	 * <p>
+	 * This endpoint returns a list of {@link StravaActivity activities} for the authenticated {@link StravaAthlete}, stopping at the first one which
+	 * meets the stop condition.
+	 * </p>
+	 *
+	 * <p>
+	 * Pagination is NOT supported. Pages are requested until the stop condition is met or there are no more activities; pages asked for beyond the
+	 * one in which it is met are cancelled. For example, <code>a -&gt; a.getStartDate().isBefore(since)</code> gets the activities since a given
+	 * date, newest first, without reading the rest of the athlete's history.
+	 * </p>
+	 *
+	 * <p>
+	 * URL GET https://www.strava.com/api/v3/athlete/activities
+	 * </p>
+	 *
+	 * @see <a href="http://strava.github.io/api/v3/activities/">http://strava.github.io/api/v3/activities/</a>
+	 *
+	 * @param before (Optional) Return only rides started BEFORE this date/time
+	 * @param after (Optional) Return only rides started AFTER this data/time
+	 * @param stopWhen Condition met by the first activity which is NOT wanted
+	 * @return (A {@link CompletableFuture} which returns) Returns an array of {@link StravaActivity} summary representations sorted newest first by default,
+	 *         up to (but not including) the first which meets the stop condition.
+	 */
+	public CompletableFuture<List<StravaActivity>> listAllAuthenticatedAthleteActivitiesAsync(final LocalDateTime before, final LocalDateTime after,
+			final Predicate<StravaActivity> stopWhen);
+
 	/**
 	 * <p>
 	 * List the recent activities performed by those the current authenticated {@link StravaAthlete} is following.
@@ -1670,6 +1741,38 @@ public interface ActivityService extends StravaService {
 	 */
 	public CompletableFuture<List<StravaActivity>> listRelatedActivitiesAsync(final Integer id, final Paging pagingInstruction);
 
+	/**
+	 * <p>
+	 * Streams ALL the activities for the authenticated athlete, fetching pages from Strava only as the stream is consumed
+	 * </p>
+	 *
+	 * <p>
+	 * Unlike {@link #listAllAuthenticatedAthleteActivities()}, pages which have been read are not held in memory, and a caller which stops early doesn't spend rate limit on the rest.
+	 * Close the stream (e.g. with try-with-resources) if it isn't consumed to the end.
+	 * </p>
+	 *
+	 * @return Stream of {@link StravaActivity activity} summary {@link StravaResourceState representations}
+	 */
+	public Stream<StravaActivity> streamAllAuthenticatedAthleteActivities();
+
+	/**
+	 * <p>
+	 * Streams ALL the activities for the authenticated athlete, within the given time range, fetching pages from Strava only as the stream is consumed
+	 * </p>
+	 *
+	 * <p>
+	 * Unlike {@link #listAllAuthenticatedAthleteActivities(LocalDateTime, LocalDateTime)}, pages which have been read are not held in memory, and a caller which stops early doesn't spend rate limit on the rest.
+	 * Close the stream (e.g. with try-with-resources) if it isn't consumed to the end.
+	 * </p>
+	 *
+	 * @param before
+	 *            (Optional) Result will start with activities whose start_date is before this value
+	 * @param after
+	 *            (Optional) Result will start with activities whose start_date is after this value
+	 * @return Stream of {@link StravaActivity activity} summary {@link StravaResourceState representations}
+	 */
+	public Stream<StravaActivity> streamAllAuthenticatedAthleteActivities(final LocalDateTime before, final LocalDateTime after);
+
 	/**
 	 * <p>
 	 * Requires write permissions, as requested during the authorization process.
@@ -2,6 +2,7 @@ package javastrava.api.v3.service;
 
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import javastrava.api.v3.model.StravaActivity;
 import javastrava.api.v3.model.StravaAthlete;
@@ -618,4 +619,24 @@ public interface ClubService extends StravaService {
 	 * @return Returns an array of {@link StravaActivity activity} summary {@link StravaResourceState representations}.
 	 */
 	public CompletableFuture<List<StravaActivity>> listRecentClubActivitiesAsync(final Integer clubId, final Paging pagingInstruction);
+
+	/**
+	 * <p>
+	 * Streams ALL the members of the club, fetching pages from Strava only as the stream is consumed
+	 * </p>
+	 *
+	 * <p>
+	 * Unlike {@link #listAllClubMembers(Integer)}, pages which have been read are not held in memory, and a caller which stops early doesn't spend rate limit on the rest.
+	 * Close the stream (e.g. with try-with-resources) if it isn't consumed to the end.
+	 * </p>
+	 *
+	 * <p>
+	 * The stream is empty if the club does not exist or is private
+	 * </p>
+	 *
+	 * @param clubId
+	 *            The id of the {@link StravaClub} whose member {@link StravaAthlete athletes} should be returned
+	 * @return Stream of {@link StravaAthlete athlete} summary {@link StravaResourceState representations}
+	 */
+	public Stream<StravaAthlete> streamAllClubMembers(final Integer clubId);
 }
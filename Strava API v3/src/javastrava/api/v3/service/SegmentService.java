@@ -3,6 +3,8 @@ package javastrava.api.v3.service;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import javastrava.api.v3.model.StravaAthlete;
 import javastrava.api.v3.model.StravaClub;
@@ -46,7 +48,9 @@ public interface SegmentService extends StravaService {
 	 * </p>
 	 *
 	 * <p>
-	 * Pagination is NOT supported. Returns THE ENTIRE leaderboard.
+	 * Pagination is NOT supported. Returns THE ENTIRE leaderboard. The first page gives the number of entries, and the rest of the pages are then
+	 * requested concurrently at {@link javastrava.ratelimit.StravaRequestPriority#BULK bulk} priority. Use {@link #streamAllSegmentLeaderboard(Integer)}
+	 * to work through the ranks as they arrive.
 	 * </p>
 	 *
 	 * <p>
@@ -120,7 +124,8 @@ public interface SegmentService extends StravaService {
 	 * </p>
 	 *
 	 * <p>
-	 * Pagination is NOT supported. Returns THE ENTIRE leaderboard.
+	 * Pagination is NOT supported. Returns THE ENTIRE leaderboard. The first page gives the number of entries, and the rest of the pages are then
+	 * requested concurrently at {@link javastrava.ratelimit.StravaRequestPriority#BULK bulk} priority.
 	 * </p>
 	 *
 	 * <p>
@@ -563,6 +568,44 @@ public interface SegmentService extends StravaService {
 	 */
 	public List<StravaSegmentEffort> listAllSegmentEfforts(final Integer segmentId, final Integer athleteId, final LocalDateTime startDate, final LocalDateTime endDate);
 
+	/**
+	 * <p>
+	 * Retrieve an array of {@link StravaSegmentEffort segment efforts}, for a given {@link StravaSegment}, filtered by {@link StravaAthlete} and/or a date
+	 * range, stopping at the first one which meets the stop condition.
+	 * </p>
+	 *
+	 * <p>
+	 * Pagination is NOT supported. Pages are requested until the stop condition is met or there are no more efforts; pages asked for beyond the one
+	 * in which it is met are cancelled.
+	 * </p>
+	 *
+	 * <p>
+	 * Returns <code>null</code> if the segment does not exist.
+	 * </p>
+	 *
+	 * <p>
+	 * URL GET https://www.strava.com/api/v3/segments/:id/all_efforts
+	 * </p>
+	 *
+	 * @see <a href="http://strava.github.io/api/v3/segments/#efforts">http://strava.github.io/api/v3/segments/#efforts</a>
+	 *
+	 * @param segmentId
+	 *            The id of the {@link StravaSegment} for which {@link StravaSegmentEffort segment efforts} are to be returned
+	 * @param athleteId
+	 *            (Optional) id of the {@link StravaAthlete} to filter results by
+	 * @param startDate
+	 *            (Optional) ISO 8601 formatted date time
+	 * @param endDate
+	 *            (Optional) ISO 8601 formatted date time
+	 * @param stopWhen
+	 *            Condition met by the first segment effort which is NOT wanted
+	 * @return Returns an array of {@link StravaSegmentEffort segment effort} summary {@link StravaResourceState representations}, in the same order
+	 *         as {@link #listAllSegmentEfforts(Integer, Integer, LocalDateTime, LocalDateTime)}, up to (but not including) the first which meets the stop
+	 *         condition.
+	 */
+	public List<StravaSegmentEffort> listAllSegmentEfforts(final Integer segmentId, final Integer athleteId, final LocalDateTime startDate,
+			final LocalDateTime endDate, final Predicate<StravaSegmentEffort> stopWhen);
+
 	/**
 	 * <p>
 	 * Retrieve an array of {@link StravaSegmentEffort segment efforts}, for a given {@link StravaSegment}.
@@ -634,6 +677,44 @@ public interface SegmentService extends StravaService {
 	 */
 	public CompletableFuture<List<StravaSegmentEffort>> listAllSegmentEffortsAsync(final Integer segmentId, final Integer athleteId, final LocalDateTime startDate, final LocalDateTime endDate);
 
+	/**
+	 * <p>
+	 * Retrieve an array of {@link StravaSegmentEffort segment efforts}, for a given {@link StravaSegment}, filtered by {@link StravaAthlete} and/or a date
+	 * range, stopping at the first one which meets the stop condition.
+	 * </p>
+	 *
+	 * <p>
+	 * Pagination is NOT supported. Pages are requested until the stop condition is met or there are no more efforts; pages asked for beyond the one
+	 * in which it is met are cancelled.
+	 * </p>
+	 *
+	 * <p>
+	 * Returns <code>null</code> if the segment does not exist.
+	 * </p>
+	 *
+	 * <p>
+	 * URL GET https://www.strava.com/api/v3/segments/:id/all_efforts
+	 * </p>
+	 *
+	 * @see <a href="http://strava.github.io/api/v3/segments/#efforts">http://strava.github.io/api/v3/segments/#efforts</a>
+	 *
+	 * @param segmentId
+	 *            The id of the {@link StravaSegment} for which {@link StravaSegmentEffort segment efforts} are to be returned
+	 * @param athleteId
+	 *            (Optional) id of the {@link StravaAthlete} to filter results by
+	 * @param startDate
+	 *            (Optional) ISO 8601 formatted date time
+	 * @param endDate
+	 *            (Optional) ISO 8601 formatted date time
+	 * @param stopWhen
+	 *            Condition met by the first segment effort which is NOT wanted
+	 * @return (A {@link CompletableFuture} which returns) Returns an array of {@link StravaSegmentEffort segment effort} summary
+	 *         {@link StravaResourceState representations}, in the same order as {@link #listAllSegmentEfforts(Integer, Integer, LocalDateTime, LocalDateTime)},
+	 *         up to (but not including) the first which meets the stop condition.
+	 */
+	public CompletableFuture<List<StravaSegmentEffort>> listAllSegmentEffortsAsync(final Integer segmentId, final Integer athleteId, final LocalDateTime startDate,
+			final LocalDateTime endDate, final Predicate<StravaSegmentEffort> stopWhen);
+
 	/**
 	 * <p>
 	 * Returns a {@link StravaResourceState#SUMMARY summary representation} of ALL the {@link StravaSegment segments} starred by the identified
@@ -1242,4 +1323,112 @@ public interface SegmentService extends StravaService {
 	public CompletableFuture<StravaSegmentExplorerResponse> segmentExploreAsync(final StravaMapPoint southwestCorner, final StravaMapPoint northeastCorner,
 			final StravaSegmentExplorerActivityType activityType, final StravaClimbCategory minCat, final StravaClimbCategory maxCat);
 
+	/**
+	 * <p>
+	 * Streams ALL the {@link StravaSegmentEffort segment efforts} for a given {@link StravaSegment}, fetching pages from Strava only as the stream is
+	 * consumed
+	 * </p>
+	 *
+	 * <p>
+	 * Unlike {@link #listAllSegmentEfforts(Integer)}, pages which have been read are not held in memory, and a caller which stops early doesn't spend rate limit on the rest.
+	 * Close the stream (e.g. with try-with-resources) if it isn't consumed to the end.
+	 * </p>
+	 *
+	 * <p>
+	 * The stream is empty if the segment does not exist.
+	 * </p>
+	 *
+	 * @param segmentId
+	 *            The id of the {@link StravaSegment} for which {@link StravaSegmentEffort segment efforts} are to be returned
+	 * @return Stream of {@link StravaSegmentEffort segment effort} summary {@link StravaResourceState representations} sorted by start_date_local
+	 *         ascending
+	 */
+	public Stream<StravaSegmentEffort> streamAllSegmentEfforts(final Integer segmentId);
+
+	/**
+	 * <p>
+	 * Streams ALL the {@link StravaSegmentEffort segment efforts} for a given {@link StravaSegment}, filtered by {@link StravaAthlete} and/or a date
+	 * range, fetching pages from Strava only as the stream is consumed
+	 * </p>
+	 *
+	 * <p>
+	 * Unlike {@link #listAllSegmentEfforts(Integer, Integer, LocalDateTime, LocalDateTime)}, pages which have been read are not held in memory, and a caller which stops early doesn't spend rate limit on the rest.
+	 * Close the stream (e.g. with try-with-resources) if it isn't consumed to the end.
+	 * </p>
+	 *
+	 * <p>
+	 * The stream is empty if the segment does not exist.
+	 * </p>
+	 *
+	 * @param segmentId
+	 *            The id of the {@link StravaSegment} for which {@link StravaSegmentEffort segment efforts} are to be returned
+	 * @param athleteId
+	 *            (Optional) id of the {@link StravaAthlete} to filter results by
+	 * @param startDate
+	 *            (Optional) ISO 8601 formatted date time
+	 * @param endDate
+	 *            (Optional) ISO 8601 formatted date time
+	 * @return Stream of {@link StravaSegmentEffort segment effort} summary {@link StravaResourceState representations} sorted by start_date_local
+	 *         ascending or by elapsed_time if an athlete_id is provided.
+	 */
+	public Stream<StravaSegmentEffort> streamAllSegmentEfforts(final Integer segmentId, final Integer athleteId, final LocalDateTime startDate,
+			final LocalDateTime endDate);
+
+	/**
+	 * <p>
+	 * Streams THE ENTIRE {@link StravaSegmentLeaderboard leaderboard} for a given {@link StravaSegment}, in order of rank, fetching pages from Strava
+	 * only as the stream is consumed
+	 * </p>
+	 *
+	 * <p>
+	 * Unlike {@link #getAllSegmentLeaderboard(Integer)}, the first ranks can be used before the rest have arrived, and a caller which stops early
+	 * (e.g. after the top 100) doesn't spend rate limit on the rest. Close the stream (e.g. with try-with-resources) if it isn't consumed to the end.
+	 * The authenticated athlete's neighbourhood is not included, other than in its place in the ranking.
+	 * </p>
+	 *
+	 * <p>
+	 * The stream is empty if the segment does not exist or is private.
+	 * </p>
+	 *
+	 * @param segmentId
+	 *            The id of the segment to return a leaderboard for
+	 * @return Stream of {@link StravaSegmentLeaderboardEntry leaderboard entries} in order of rank
+	 */
+	public Stream<StravaSegmentLeaderboardEntry> streamAllSegmentLeaderboard(final Integer segmentId);
+
+	/**
+	 * <p>
+	 * Streams THE ENTIRE {@link StravaSegmentLeaderboard leaderboard} for a given {@link StravaSegment}, filtered as for
+	 * {@link #getAllSegmentLeaderboard(Integer, StravaGender, StravaAgeGroup, StravaWeightClass, Boolean, Integer, StravaLeaderboardDateRange)}, in
+	 * order of rank, fetching pages from Strava only as the stream is consumed
+	 * </p>
+	 *
+	 * <p>
+	 * The first ranks can be used before the rest have arrived, and a caller which stops early doesn't spend rate limit on the rest. Close the stream
+	 * (e.g. with try-with-resources) if it isn't consumed to the end.
+	 * </p>
+	 *
+	 * <p>
+	 * The stream is empty if the segment does not exist or is private.
+	 * </p>
+	 *
+	 * @param segmentId
+	 *            The id of the segment to return a leaderboard for
+	 * @param gender
+	 *            (Optional) {@link StravaGender StravaGender} to filter results by
+	 * @param ageGroup
+	 *            (Optional) {@link StravaAgeGroup Age group} to filter results by
+	 * @param weightClass
+	 *            (Optional) {@link StravaWeightClass Weight class} to filter results by
+	 * @param following
+	 *            (Optional) If <code>true</code> then will return only results for {@link StravaAthlete athletes} that the currently authenticated athlete is
+	 *            following
+	 * @param clubId
+	 *            (Optional) Id of {@link StravaClub} to filter results by
+	 * @param dateRange
+	 *            (Optional) Use to set to return results for this year, this month, this week etc.
+	 * @return Stream of {@link StravaSegmentLeaderboardEntry leaderboard entries} in order of rank
+	 */
+	public Stream<StravaSegmentLeaderboardEntry> streamAllSegmentLeaderboard(final Integer segmentId, final StravaGender gender, final StravaAgeGroup ageGroup,
+			final StravaWeightClass weightClass, final Boolean following, final Integer clubId, final StravaLeaderboardDateRange dateRange);
 }
@@ -5,6 +5,9 @@ import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import javastrava.api.v3.auth.TokenService;
 import javastrava.api.v3.auth.model.Token;
@@ -27,6 +30,7 @@ import javastrava.api.v3.model.StravaSegment;
 import javastrava.api.v3.model.StravaSegmentEffort;
 import javastrava.api.v3.model.StravaSegmentExplorerResponse;
 import javastrava.api.v3.model.StravaSegmentLeaderboard;
+import javastrava.api.v3.model.StravaSegmentLeaderboardEntry;
 import javastrava.api.v3.model.StravaStatistics;
 import javastrava.api.v3.model.StravaStream;
 import javastrava.api.v3.model.StravaUploadResponse;
@@ -120,6 +124,20 @@ public class Strava implements ActivityService, AthleteService, ClubService, Gea
 		this.webhookService = token.getService(WebhookService.class);
 	}
 
+	/**
+	 * Constructor for a token whose asynchronous methods and parallel page requests should run on the given executor, rather than the one it was
+	 * created with
+	 *
+	 * @param token
+	 *            the access token to be used with calls to the Strava API
+	 * @param executor
+	 *            the executor; see {@link javastrava.util.StravaExecutors} for the standard kinds
+	 */
+	public Strava(final Token token, final Executor executor) {
+		this(token);
+		token.setExecutor(executor);
+	}
+
 	/**
 	 * @param uploadId Upload identifier
 	 * @return Returns an Upload response object which includes the status of the upload and the upload id
@@ -933,6 +951,15 @@ public class Strava implements ActivityService, AthleteService, ClubService, Gea
 		return this.activityService.giveKudosAsync(activityId);
 	}
 
+	/**
+	 * @param activityId Activity identifier
+	 * @see javastrava.api.v3.service.ActivityService#invalidateActivity(java.lang.Integer)
+	 */
+	@Override
+	public void invalidateActivity(final Integer activityId) {
+		this.activityService.invalidateActivity(activityId);
+	}
+
 	/**
 	 * @param scopes Authorisation scopes to check are in the token
 	 * @return <code>true</code> if the token has all the identified scopes, <code>false</code> otherwise
@@ -1354,6 +1381,19 @@ public class Strava implements ActivityService, AthleteService, ClubService, Gea
 		return this.activityService.listAllAuthenticatedAthleteActivities(before, after);
 	}
 
+	/**
+	 * @param before (Optional) Only return activities before this date/time
+	 * @param after (Optional) Only return activities after this date/time
+	 * @param stopWhen Condition met by the first activity which is not wanted
+	 * @return List of the authenticated athlete's activities, filtered by dates, up to the first which meets the stop condition
+	 * @see javastrava.api.v3.service.ActivityService#listAllAuthenticatedAthleteActivities(java.time.LocalDateTime, java.time.LocalDateTime, java.util.function.Predicate)
+	 */
+	@Override
+	public List<StravaActivity> listAllAuthenticatedAthleteActivities(final LocalDateTime before, final LocalDateTime after,
+			final Predicate<StravaActivity> stopWhen) {
+		return this.activityService.listAllAuthenticatedAthleteActivities(before, after, stopWhen);
+	}
+
 	/**
 	 * <p>
 	 * USE WITH CAUTION - ATHLETES WITH MANY ACTIVITIES WILL REQUIRE MANY CALLS TO THE STRAVA API
@@ -1380,6 +1420,19 @@ public class Strava implements ActivityService, AthleteService, ClubService, Gea
 		return this.activityService.listAllAuthenticatedAthleteActivitiesAsync(before, after);
 	}
 
+	/**
+	 * @param before (Optional) Only return activities before this date/time
+	 * @param after (Optional) Only return activities after this date/time
+	 * @param stopWhen Condition met by the first activity which is not wanted
+	 * @return List of the authenticated athlete's activities, filtered by dates, up to the first which meets the stop condition
+	 * @see javastrava.api.v3.service.ActivityService#listAllAuthenticatedAthleteActivitiesAsync(java.time.LocalDateTime, java.time.LocalDateTime, java.util.function.Predicate)
+	 */
+	@Override
+	public CompletableFuture<List<StravaActivity>> listAllAuthenticatedAthleteActivitiesAsync(final LocalDateTime before, final LocalDateTime after,
+			final Predicate<StravaActivity> stopWhen) {
+		return this.activityService.listAllAuthenticatedAthleteActivitiesAsync(before, after, stopWhen);
+	}
+
 	/**
 	 * <p>
 	 * USE WITH CAUTION - ATHLETES WITH MANY FRIENDS WILL REQUIRE MANY CALLS TO THE STRAVA API
@@ -1544,6 +1597,22 @@ public class Strava implements ActivityService, AthleteService, ClubService, Gea
 		return this.segmentService.listAllSegmentEfforts(segmentId, athleteId, startDate, endDate);
 	}
 
+	/**
+	 * @param segmentId Segment identifier
+	 * @param athleteId (Optional) Athlete identifier
+	 * @param startDate (Optional) Do not return activities before this date/time
+	 * @param endDate (Optional) Do not return activities after this date/time
+	 * @param stopWhen Condition met by the first effort which is not wanted
+	 * @return List of efforts on the segment, filtered as required, up to the first which meets the stop condition, or <code>null</code> if the
+	 *         segment does not exist
+	 * @see javastrava.api.v3.service.SegmentService#listAllSegmentEfforts(java.lang.Integer, java.lang.Integer, java.time.LocalDateTime, java.time.LocalDateTime, java.util.function.Predicate)
+	 */
+	@Override
+	public List<StravaSegmentEffort> listAllSegmentEfforts(final Integer segmentId, final Integer athleteId, final LocalDateTime startDate,
+			final LocalDateTime endDate, final Predicate<StravaSegmentEffort> stopWhen) {
+		return this.segmentService.listAllSegmentEfforts(segmentId, athleteId, startDate, endDate, stopWhen);
+	}
+
 	/**
 	 * <p>
 	 * USE WITH CAUTION - POPULAR SEGMENTS CAN HAVE TENS OF THOUSANDS OF EFFORTS, REQUIRING A VERY LARGE NUMBER OF CALLS TO THE STRAVA API
@@ -1571,6 +1640,22 @@ public class Strava implements ActivityService, AthleteService, ClubService, Gea
 		return this.segmentService.listAllSegmentEffortsAsync(segmentId, athleteId, startDate, endDate);
 	}
 
+	/**
+	 * @param segmentId Segment identifier
+	 * @param athleteId (Optional) Athlete identifier
+	 * @param startDate (Optional) Do not return activities before this date/time
+	 * @param endDate (Optional) Do not return activities after this date/time
+	 * @param stopWhen Condition met by the first effort which is not wanted
+	 * @return List of efforts on the segment, filtered as required, up to the first which meets the stop condition, or <code>null</code> if the
+	 *         segment does not exist
+	 * @see javastrava.api.v3.service.SegmentService#listAllSegmentEffortsAsync(java.lang.Integer, java.lang.Integer, java.time.LocalDateTime, java.time.LocalDateTime, java.util.function.Predicate)
+	 */
+	@Override
+	public CompletableFuture<List<StravaSegmentEffort>> listAllSegmentEffortsAsync(final Integer segmentId, final Integer athleteId, final LocalDateTime startDate,
+			final LocalDateTime endDate, final Predicate<StravaSegmentEffort> stopWhen) {
+		return this.segmentService.listAllSegmentEffortsAsync(segmentId, athleteId, startDate, endDate, stopWhen);
+	}
+
 	/**
 	 * @param athleteId Athlete identifier
 	 * @return list of ALL segments starred by the identified athlete, or <code>null</code> if the athlete does not exist
@@ -2378,6 +2463,87 @@ public class Strava implements ActivityService, AthleteService, ClubService, Gea
 		return this.athleteService.statisticsAsync(athleteId);
 	}
 
+	/**
+	 * @return Stream of the authenticated athlete's activities
+	 * @see javastrava.api.v3.service.ActivityService#streamAllAuthenticatedAthleteActivities()
+	 */
+	@Override
+	public Stream<StravaActivity> streamAllAuthenticatedAthleteActivities() {
+		return this.activityService.streamAllAuthenticatedAthleteActivities();
+	}
+
+	/**
+	 * @param before Result will start with activities whose start_date is before this value
+	 * @param after Result will start with activities whose start_date is after this value
+	 * @return Stream of the authenticated athlete's activities in the time range
+	 * @see javastrava.api.v3.service.ActivityService#streamAllAuthenticatedAthleteActivities(LocalDateTime, LocalDateTime)
+	 */
+	@Override
+	public Stream<StravaActivity> streamAllAuthenticatedAthleteActivities(final LocalDateTime before, final LocalDateTime after) {
+		return this.activityService.streamAllAuthenticatedAthleteActivities(before, after);
+	}
+
+	/**
+	 * @param clubId Club identifier
+	 * @return Stream of the club's members
+	 * @see javastrava.api.v3.service.ClubService#streamAllClubMembers(java.lang.Integer)
+	 */
+	@Override
+	public Stream<StravaAthlete> streamAllClubMembers(final Integer clubId) {
+		return this.clubService.streamAllClubMembers(clubId);
+	}
+
+	/**
+	 * @param segmentId Segment identifier
+	 * @return Stream of the segment's efforts
+	 * @see javastrava.api.v3.service.SegmentService#streamAllSegmentEfforts(java.lang.Integer)
+	 */
+	@Override
+	public Stream<StravaSegmentEffort> streamAllSegmentEfforts(final Integer segmentId) {
+		return this.segmentService.streamAllSegmentEfforts(segmentId);
+	}
+
+	/**
+	 * @param segmentId Segment identifier
+	 * @param athleteId (Optional) Athlete identifier
+	 * @param startDate (Optional) Start of the date range
+	 * @param endDate (Optional) End of the date range
+	 * @return Stream of the segment's efforts
+	 * @see javastrava.api.v3.service.SegmentService#streamAllSegmentEfforts(java.lang.Integer, java.lang.Integer, LocalDateTime, LocalDateTime)
+	 */
+	@Override
+	public Stream<StravaSegmentEffort> streamAllSegmentEfforts(final Integer segmentId, final Integer athleteId, final LocalDateTime startDate,
+			final LocalDateTime endDate) {
+		return this.segmentService.streamAllSegmentEfforts(segmentId, athleteId, startDate, endDate);
+	}
+
+	/**
+	 * @param segmentId Segment identifier
+	 * @return Stream of the segment's leaderboard entries in order of rank
+	 * @see javastrava.api.v3.service.SegmentService#streamAllSegmentLeaderboard(java.lang.Integer)
+	 */
+	@Override
+	public Stream<StravaSegmentLeaderboardEntry> streamAllSegmentLeaderboard(final Integer segmentId) {
+		return this.segmentService.streamAllSegmentLeaderboard(segmentId);
+	}
+
+	/**
+	 * @param segmentId Segment identifier
+	 * @param gender (Optional) Gender to filter by
+	 * @param ageGroup (Optional) Age group to filter by
+	 * @param weightClass (Optional) Weight class to filter by
+	 * @param following (Optional) Whether to include only athletes the authenticated athlete is following
+	 * @param clubId (Optional) Club to filter by
+	 * @param dateRange (Optional) Date range to filter by
+	 * @return Stream of the segment's leaderboard entries in order of rank
+	 * @see javastrava.api.v3.service.SegmentService#streamAllSegmentLeaderboard(java.lang.Integer, javastrava.api.v3.model.reference.StravaGender, javastrava.api.v3.model.reference.StravaAgeGroup, javastrava.api.v3.model.reference.StravaWeightClass, java.lang.Boolean, java.lang.Integer, javastrava.api.v3.model.reference.StravaLeaderboardDateRange)
+	 */
+	@Override
+	public Stream<StravaSegmentLeaderboardEntry> streamAllSegmentLeaderboard(final Integer segmentId, final StravaGender gender, final StravaAgeGroup ageGroup,
+			final StravaWeightClass weightClass, final Boolean following, final Integer clubId, final StravaLeaderboardDateRange dateRange) {
+		return this.segmentService.streamAllSegmentLeaderboard(segmentId, gender, ageGroup, weightClass, following, clubId, dateRange);
+	}
+
 	/**
 	 * @param activityId Activity identifier
 	 * @param activity Representation of fields to be updated on the activity
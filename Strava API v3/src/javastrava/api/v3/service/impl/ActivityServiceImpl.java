@@ -5,6 +5,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import javastrava.api.v3.auth.model.Token;
 import javastrava.api.v3.model.StravaActivity;
@@ -24,6 +26,7 @@ import javastrava.api.v3.service.exception.UnauthorizedException;
 import javastrava.cache.StravaCache;
 import javastrava.cache.impl.StravaCacheImpl;
 import javastrava.config.Messages;
+import javastrava.util.FutureUtils;
 import javastrava.util.Paging;
 import javastrava.util.PagingHandler;
 import javastrava.util.PrivacyUtils;
@@ -96,6 +99,17 @@ public class ActivityServiceImpl extends StravaServiceImpl implements ActivitySe
 		this.photoCache = new StravaCacheImpl<StravaPhoto, Integer>(StravaPhoto.class, token);
 	}
 
+	/**
+	 * @param activities
+	 *            Activities returned by Strava
+	 * @return The activities, with Strava's slight weirdnesses with privacy handled, having put them in the cache
+	 */
+	private List<StravaActivity> cacheActivities(final List<StravaActivity> activities) {
+		final List<StravaActivity> handled = PrivacyUtils.handlePrivateActivities(activities, this.getToken());
+		this.activityCache.putAll(handled);
+		return handled;
+	}
+
 	/**
 	 * @see javastrava.api.v3.service.StravaService#clearCache()
 	 */
@@ -108,33 +122,137 @@ public class ActivityServiceImpl extends StravaServiceImpl implements ActivitySe
 	}
 
 	/**
-	 * @see javastrava.api.v3.service.ActivityService#createComment(java.lang.Integer,
-	 *      java.lang.String)
-	 */
-	@Override
-	public StravaComment createComment(final Integer activityId, final String text) throws NotFoundException,
-	BadRequestException {
+	 * <p>
+	 * Checks that a comment can be posted with the token
+	 * </p>
+	 *
+	 * @param text
+	 *            Text of the comment
+	 * @throws IllegalArgumentException
+	 *             If the comment is empty
+	 * @throws UnauthorizedException
+	 *             If the token doesn't have write access
+	 */
+	private void checkCanComment(final String text) {
 		if ((text == null) || text.equals("")) { //$NON-NLS-1$
 			throw new IllegalArgumentException(Messages.string("ActivityServiceImpl.commentCannotBeEmpty")); //$NON-NLS-1$
 		}
 
 		// TODO This is a workaround for issue #30 - API allows comments to be posted without write access
 		// Token must have write access
-		if (!(getToken().hasWriteAccess())) {
-			throw new UnauthorizedException(Messages.string("ActivityServiceImpl.commentWithoutWriteAccess")); //$NON-NLS-1$
+		requireWriteAccess("ActivityServiceImpl.commentWithoutWriteAccess"); //$NON-NLS-1$
+		// End of workaround
+	}
+
+	/**
+	 * <p>
+	 * Checks that a manual activity can be created with the token
+	 * </p>
+	 *
+	 * @param activity
+	 *            The activity to be created
+	 * @throws UnauthorizedException
+	 *             If the token doesn't have write access, or the activity is private and the token doesn't have view_private access
+	 */
+	private void checkCanCreate(final StravaActivity activity) {
+		// Token must have write access
+		requireWriteAccess("ActivityServiceImpl.createActivityWithoutWriteAccess"); //$NON-NLS-1$
+
+		// Token must have view_private to write a private activity
+		if ((activity.getPrivateActivity() != null) && activity.getPrivateActivity().equals(Boolean.TRUE)
+				&& !getToken().hasViewPrivate()) {
+			throw new UnauthorizedException(Messages.string("ActivityServiceImpl.createPrivateActivityWithoutViewPrivate")); //$NON-NLS-1$
 		}
+	}
+
+	/**
+	 * <p>
+	 * Checks that comments can be deleted with the token
+	 * </p>
+	 *
+	 * @throws UnauthorizedException
+	 *             If the token doesn't have write access
+	 */
+	private void checkCanDeleteComment() {
+		// TODO This is a workaround for issue #63 (can delete comments without write access)
+		// Token must have write access
+		requireWriteAccess("ActivityServiceImpl.deleteCommentWithoutWriteAccess"); //$NON-NLS-1$
 		// End of workaround
+	}
 
-		// Activity must exist
-		final StravaActivity activity = getActivity(activityId);
+	/**
+	 * @param activity
+	 *            An activity, or <code>null</code> if it doesn't exist
+	 * @param notFoundMessage
+	 *            Key of the message to give if the activity doesn't exist
+	 * @param privateMessage
+	 *            Key of the message to give if the activity is private and inaccessible, or <code>null</code> if that doesn't matter
+	 * @return The activity
+	 * @throws NotFoundException
+	 *             If the activity doesn't exist
+	 * @throws UnauthorizedException
+	 *             If the activity is private and inaccessible
+	 */
+	private static StravaActivity requireAccessible(final StravaActivity activity, final String notFoundMessage, final String privateMessage) {
 		if (activity == null) {
-			throw new NotFoundException(Messages.string("ActivityServiceImpl.commentOnInvalidActivity")); //$NON-NLS-1$
+			throw new NotFoundException(Messages.string(notFoundMessage));
+		}
+		if ((privateMessage != null) && (activity.getResourceState() == StravaResourceState.PRIVATE)) {
+			throw new UnauthorizedException(Messages.string(privateMessage));
+		}
+		return activity;
+	}
+
+	/**
+	 * @param message
+	 *            Key of the message to give if the token doesn't have write access
+	 * @throws UnauthorizedException
+	 *             If the token doesn't have write access
+	 */
+	private void requireWriteAccess(final String message) {
+		if (!getToken().hasWriteAccess()) {
+			throw new UnauthorizedException(Messages.string(message));
 		}
+	}
 
-		// If activity is private and not accessible, cannot be commented on
-		if (activity.getResourceState() == StravaResourceState.PRIVATE) {
-			throw new UnauthorizedException(Messages.string("ActivityServiceImpl.commentOnPrivateActivity")); //$NON-NLS-1$
+	/**
+	 * @param cause
+	 *            Why Strava refused to create a manual activity
+	 * @return <code>true</code> if it was because the activity was invalid
+	 */
+	private static boolean isInvalidActivity(final Throwable cause) {
+		if (cause instanceof BadRequestException) {
+			return true;
 		}
+		// TODO Workaround for issue javastrava-api #49
+		// (https://github.com/danshannon/javastravav3api/issues/49)
+		return (cause instanceof StravaInternalServerErrorException);
+		// End of workaround
+	}
+
+	/**
+	 * @param activity
+	 *            Activity returned by Strava
+	 * @return The activity, having put it in the cache unless it's UPDATING
+	 */
+	private StravaActivity cacheActivity(final StravaActivity activity) {
+		if (activity.getResourceState() != StravaResourceState.UPDATING) {
+			this.activityCache.put(activity);
+		}
+		return activity;
+	}
+
+	/**
+	 * @see javastrava.api.v3.service.ActivityService#createComment(java.lang.Integer,
+	 *      java.lang.String)
+	 */
+	@Override
+	public StravaComment createComment(final Integer activityId, final String text) throws NotFoundException,
+	BadRequestException {
+		checkCanComment(text);
+
+		// Activity must exist, and if it is private and not accessible, cannot be commented on
+		requireAccessible(getActivity(activityId), "ActivityServiceImpl.commentOnInvalidActivity", "ActivityServiceImpl.commentOnPrivateActivity"); //$NON-NLS-1$ //$NON-NLS-2$
 
 		// Create the comment
 		final StravaComment comment = this.api.createComment(activityId, text);
@@ -151,10 +269,21 @@ public class ActivityServiceImpl extends StravaServiceImpl implements ActivitySe
 	 */
 	@Override
 	public CompletableFuture<StravaComment> createCommentAsync(final Integer activityId, final String text) throws NotFoundException, BadRequestException {
-		return StravaServiceImpl.future(() -> {
-			return createComment(activityId, text);
+		return FutureUtils.attempt(() -> {
+			checkCanComment(text);
+
+			return deliver(getActivityAsync(activityId).thenCompose(activity -> {
+				// Activity must exist, and if it is private and not accessible, cannot be commented on
+				requireAccessible(activity, "ActivityServiceImpl.commentOnInvalidActivity", "ActivityServiceImpl.commentOnPrivateActivity"); //$NON-NLS-1$ //$NON-NLS-2$
+
+				// Create the comment
+				return call(() -> this.api.createCommentAsync(activityId, text));
+			}).thenApply(comment -> {
+				// Put the comment in cache
+				this.commentCache.put(comment);
+				return comment;
+			}));
 		});
-
 	}
 
 	/**
@@ -162,38 +291,21 @@ public class ActivityServiceImpl extends StravaServiceImpl implements ActivitySe
 	 */
 	@Override
 	public StravaActivity createManualActivity(final StravaActivity activity) {
-		// Token must have write access
-		if (!getToken().hasWriteAccess()) {
-			throw new UnauthorizedException(Messages.string("ActivityServiceImpl.createActivityWithoutWriteAccess")); //$NON-NLS-1$
-		}
-
-		// Token must have view_private to write a private activity
-		if ((activity.getPrivateActivity() != null) && activity.getPrivateActivity().equals(Boolean.TRUE)
-				&& !getToken().hasViewPrivate()) {
-			throw new UnauthorizedException(Messages.string("ActivityServiceImpl.createPrivateActivityWithoutViewPrivate")); //$NON-NLS-1$
-		}
+		checkCanCreate(activity);
 
 		// Create the activity
 		StravaActivity stravaResponse = null;
 		try {
 			stravaResponse = this.api.createManualActivity(activity);
-		} catch (final BadRequestException e) {
-			throw new IllegalArgumentException(e);
-		}
-		// TODO Workaround for issue javastrava-api #49
-		// (https://github.com/danshannon/javastravav3api/issues/49)
-		catch (final StravaInternalServerErrorException e) {
-			throw new IllegalArgumentException(e);
-		}
-		// End of workaround
-
-		// Put the activity in cache
-		if (stravaResponse.getResourceState() != StravaResourceState.UPDATING) {
-			this.activityCache.put(stravaResponse);
+		} catch (final RuntimeException e) {
+			if (isInvalidActivity(e)) {
+				throw new IllegalArgumentException(e);
+			}
+			throw e;
 		}
 
-		// Return the activity
-		return stravaResponse;
+		// Put the activity in cache, and return it
+		return cacheActivity(stravaResponse);
 	}
 
 	/**
@@ -201,8 +313,19 @@ public class ActivityServiceImpl extends StravaServiceImpl implements ActivitySe
 	 */
 	@Override
 	public CompletableFuture<StravaActivity> createManualActivityAsync(final StravaActivity activity) {
-		return StravaServiceImpl.future(() -> {
-			return createManualActivity(activity);
+		return FutureUtils.attempt(() -> {
+			checkCanCreate(activity);
+
+			// Create the activity
+			final CompletableFuture<StravaActivity> created = FutureUtils.recover(call(() -> this.api.createManualActivityAsync(activity)), cause -> {
+				if (isInvalidActivity(cause)) {
+					throw new IllegalArgumentException(cause);
+				}
+				throw cause;
+			});
+
+			// Put the activity in cache
+			return deliver(created.thenApply(this::cacheActivity));
 		});
 	}
 
@@ -212,30 +335,22 @@ public class ActivityServiceImpl extends StravaServiceImpl implements ActivitySe
 	@Override
 	public StravaActivity deleteActivity(final Integer id) throws NotFoundException {
 		// Token must have write access
-		if (!getToken().hasWriteAccess()) {
-			throw new UnauthorizedException(Messages.string("ActivityServiceImpl.deleteActivityWithoutWriteAccess")); //$NON-NLS-1$
-		}
+		requireWriteAccess("ActivityServiceImpl.deleteActivityWithoutWriteAccess"); //$NON-NLS-1$
 
-		// Activity must exist
-		StravaActivity activity = getActivity(id);
-		if (activity == null) {
-			throw new NotFoundException(Messages.string("ActivityServiceImpl.deleteInvalidActivity")); //$NON-NLS-1$
-		}
-
-		// To delete a private activity, token must have view_private access
-		if (activity.getResourceState() == StravaResourceState.PRIVATE) {
-			throw new UnauthorizedException(Messages.string("ActivityServiceImpl.deletePrivateActivityWithoutViewPrivate")); //$NON-NLS-1$
-		}
+		// Activity must exist; to delete a private activity, token must have view_private access
+		requireAccessible(getActivity(id), "ActivityServiceImpl.deleteInvalidActivity", //$NON-NLS-1$
+				"ActivityServiceImpl.deletePrivateActivityWithoutViewPrivate"); //$NON-NLS-1$
 
 		// Now we can do the delete
+		StravaActivity activity;
 		try {
 			activity = this.api.deleteActivity(id);
 		} catch (final NotFoundException e) {
 			return null;
 		}
 
-		// If the delete worked, also remove it from the cache
-		this.activityCache.remove(id);
+		// If the delete worked, also remove it from the cache, and remember that it's gone
+		forgetActivity(id);
 
 		// And finally, return it
 		return activity;
@@ -246,36 +361,47 @@ public class ActivityServiceImpl extends StravaServiceImpl implements ActivitySe
 	 */
 	@Override
 	public CompletableFuture<StravaActivity> deleteActivityAsync(final Integer activityId) throws NotFoundException {
-		return StravaServiceImpl.future(() -> {
-			return deleteActivity(activityId);
+		return FutureUtils.attempt(() -> {
+			// Token must have write access
+			requireWriteAccess("ActivityServiceImpl.deleteActivityWithoutWriteAccess"); //$NON-NLS-1$
+
+			return deliver(getActivityAsync(activityId).thenCompose(activity -> {
+				// Activity must exist; to delete a private activity, token must have view_private access
+				requireAccessible(activity, "ActivityServiceImpl.deleteInvalidActivity", //$NON-NLS-1$
+						"ActivityServiceImpl.deletePrivateActivityWithoutViewPrivate"); //$NON-NLS-1$
+
+				// Now we can do the delete
+				return FutureUtils.recover(call(() -> this.api.deleteActivityAsync(activityId)).thenApply(deleted -> {
+					// If the delete worked, also remove it from the cache, and remember that it's gone
+					forgetActivity(activityId);
+					return deleted;
+				}), NotFoundException.class, e -> null);
+			}));
 		});
 	}
 
+	/**
+	 * Removes a deleted activity from the cache, and remembers that it's gone
+	 *
+	 * @param activityId
+	 *            The activity's id
+	 */
+	private void forgetActivity(final Integer activityId) {
+		this.activityCache.remove(activityId);
+		this.activityCache.putNotFound(activityId);
+	}
+
 	/**
 	 * @see javastrava.api.v3.service.ActivityService#deleteComment(java.lang.Integer,
 	 *      java.lang.Integer)
 	 */
 	@Override
 	public void deleteComment(final Integer activityId, final Integer commentId) throws NotFoundException {
-		// TODO This is a workaround for issue #63 (can delete comments without write access)
-		// Token must have write access
-		if (!(getToken().hasWriteAccess())) {
-			throw new UnauthorizedException(Messages.string("ActivityServiceImpl.deleteCommentWithoutWriteAccess")); //$NON-NLS-1$
-		}
-		// End of workaround
-
-		// Activity must exist
-		final StravaActivity activity = getActivity(activityId);
-		if (activity == null) {
-			throw new NotFoundException(Messages.string("ActivityServiceImpl.deleteCommentOnInvalidActivity")); //$NON-NLS-1$
-		}
+		checkCanDeleteComment();
 
-		// Token must have view_private to delete a comment on a private
-		// activity
-		if (activity.getResourceState() == StravaResourceState.PRIVATE) {
-			throw new UnauthorizedException(Messages.string("ActivityServiceImpl.deleteCommentOnPrivateActivity")); //$NON-NLS-1$
-		}
-		// End of workaround
+		// Activity must exist; token must have view_private to delete a comment on a private activity
+		requireAccessible(getActivity(activityId), "ActivityServiceImpl.deleteCommentOnInvalidActivity", //$NON-NLS-1$
+				"ActivityServiceImpl.deleteCommentOnPrivateActivity"); //$NON-NLS-1$
 
 		// Delete the comment
 		this.api.deleteComment(activityId, commentId);
@@ -298,9 +424,20 @@ public class ActivityServiceImpl extends StravaServiceImpl implements ActivitySe
 	 */
 	@Override
 	public CompletableFuture<Void> deleteCommentAsync(final Integer activityId, final Integer commentId) throws NotFoundException {
-		return StravaServiceImpl.future(() -> {
-			deleteComment(activityId, commentId);
-			return null;
+		return FutureUtils.attempt(() -> {
+			checkCanDeleteComment();
+
+			return deliver(getActivityAsync(activityId).thenCompose(activity -> {
+				// Activity must exist; token must have view_private to delete a comment on a private activity
+				requireAccessible(activity, "ActivityServiceImpl.deleteCommentOnInvalidActivity", //$NON-NLS-1$
+						"ActivityServiceImpl.deleteCommentOnPrivateActivity"); //$NON-NLS-1$
+
+				// Delete the comment, and remove it from the cache
+				return call(() -> this.api.deleteCommentAsync(activityId, commentId)).thenApply(response -> {
+					this.commentCache.remove(commentId);
+					return (Void) null;
+				});
+			}));
 		});
 	}
 
@@ -309,10 +446,7 @@ public class ActivityServiceImpl extends StravaServiceImpl implements ActivitySe
 	 */
 	@Override
 	public CompletableFuture<Void> deleteCommentAsync(final StravaComment comment) throws NotFoundException {
-		return StravaServiceImpl.future(() -> {
-			deleteComment(comment);
-			return null;
-		});
+		return deleteCommentAsync(comment.getActivityId(), comment.getId());
 	}
 
 	/**
@@ -331,6 +465,17 @@ public class ActivityServiceImpl extends StravaServiceImpl implements ActivitySe
 		}
 	}
 
+	/**
+	 * Update the given activity, without blocking
+	 * @param id Activity identifier
+	 * @param update Updates to be made to the activity
+	 * @return Future which completes with the activity returned from Strava as a result of the update
+	 */
+	private CompletableFuture<StravaActivity> doUpdateActivityAsync(final Integer id, final StravaActivityUpdate update) {
+		this.activityCache.remove(id);
+		return FutureUtils.recover(call(() -> this.api.updateActivityAsync(id, update)), NotFoundException.class, e -> null);
+	}
+
 	/**
 	 * @see javastrava.api.v3.service.ActivityService#getActivity(java.lang.Integer)
 	 */
@@ -345,29 +490,67 @@ public class ActivityServiceImpl extends StravaServiceImpl implements ActivitySe
 	 */
 	@Override
 	public StravaActivity getActivity(final Integer activityId, final Boolean includeAllEfforts) {
-		// Attempt to get the activity from cache
-		StravaActivity stravaResponse = this.activityCache.get(activityId);
+		// Attempt to get the activity from cache (if it's stale, it gets refreshed in the background)
+		StravaActivity stravaResponse = this.activityCache.get(activityId, id -> retrieveActivity(id, includeAllEfforts));
 		if ((stravaResponse != null) && (stravaResponse.getResourceState() != StravaResourceState.META)) {
 			return stravaResponse;
 		}
 
+		// If Strava recently said it doesn't exist, don't ask again
+		if (this.activityCache.isNotFound(activityId)) {
+			return null;
+		}
+
 		// If it wasn't in cache, then get it from the API
+		stravaResponse = retrieveActivity(activityId, includeAllEfforts);
+		if (stravaResponse == null) {
+			// Activity doesn't exist - remember that, and return null
+			this.activityCache.putNotFound(activityId);
+			return null;
+		}
+
+		// Put the activity in cache unless it's UPDATING, and return it
+		return cacheActivity(stravaResponse);
+	}
+
+	/**
+	 * Retrieves an activity from the API
+	 *
+	 * @param activityId
+	 *            The activity id
+	 * @param includeAllEfforts
+	 *            Whether to include all segment efforts
+	 * @return The activity, or <code>null</code> if it doesn't exist
+	 */
+	private StravaActivity retrieveActivity(final Integer activityId, final Boolean includeAllEfforts) {
 		try {
-			stravaResponse = this.api.getActivity(activityId, includeAllEfforts);
+			return this.api.getActivity(activityId, includeAllEfforts);
 		} catch (final NotFoundException e) {
-			// Activity doesn't exist - return null
 			return null;
 		} catch (final UnauthorizedException e) {
-			stravaResponse = PrivacyUtils.privateActivity(activityId);
-		}
-
-		// Put the activity in cache unless it's UPDATING
-		if (stravaResponse.getResourceState() != StravaResourceState.UPDATING) {
-			this.activityCache.put(stravaResponse);
+			return PrivacyUtils.privateActivity(activityId);
 		}
+	}
 
-		// And return it
-		return stravaResponse;
+	/**
+	 * Retrieves an activity from the asynchronous API
+	 *
+	 * @param activityId
+	 *            The activity id
+	 * @param includeAllEfforts
+	 *            Whether to include all segment efforts
+	 * @return Future which completes with the activity, or <code>null</code> if it doesn't exist
+	 */
+	private CompletableFuture<StravaActivity> retrieveActivityAsync(final Integer activityId, final Boolean includeAllEfforts) {
+		return FutureUtils.recover(call(() -> this.api.getActivityAsync(activityId, includeAllEfforts)), cause -> {
+			if (cause instanceof NotFoundException) {
+				return null;
+			}
+			if (cause instanceof UnauthorizedException) {
+				return PrivacyUtils.privateActivity(activityId);
+			}
+			throw cause;
+		});
 	}
 
 	/**
@@ -375,9 +558,7 @@ public class ActivityServiceImpl extends StravaServiceImpl implements ActivitySe
 	 */
 	@Override
 	public CompletableFuture<StravaActivity> getActivityAsync(final Integer activityId) {
-		return StravaServiceImpl.future(() -> {
-			return getActivity(activityId);
-		});
+		return getActivityAsync(activityId, Boolean.FALSE);
 	}
 
 	/**
@@ -385,9 +566,28 @@ public class ActivityServiceImpl extends StravaServiceImpl implements ActivitySe
 	 */
 	@Override
 	public CompletableFuture<StravaActivity> getActivityAsync(final Integer activityId, final Boolean includeAllEfforts) {
-		return StravaServiceImpl.future(() -> {
-			return getActivity(activityId, includeAllEfforts);
-		});
+		// Attempt to get the activity from cache (if it's stale, it gets refreshed in the background)
+		final StravaActivity cached = this.activityCache.get(activityId, id -> retrieveActivity(id, includeAllEfforts));
+		if ((cached != null) && (cached.getResourceState() != StravaResourceState.META)) {
+			return CompletableFuture.completedFuture(cached);
+		}
+
+		// If Strava recently said it doesn't exist, don't ask again
+		if (this.activityCache.isNotFound(activityId)) {
+			return CompletableFuture.completedFuture(null);
+		}
+
+		// If it wasn't in cache, then get it from the API
+		return deliver(retrieveActivityAsync(activityId, includeAllEfforts).thenApply(stravaResponse -> {
+			if (stravaResponse == null) {
+				// Activity doesn't exist - remember that, and return null
+				this.activityCache.putNotFound(activityId);
+				return null;
+			}
+
+			// Put the activity in cache unless it's UPDATING
+			return cacheActivity(stravaResponse);
+		}));
 	}
 
 	/**
@@ -396,20 +596,10 @@ public class ActivityServiceImpl extends StravaServiceImpl implements ActivitySe
 	@Override
 	public void giveKudos(final Integer activityId) throws NotFoundException {
 		// Must have write access to give kudos
-		if (!(getToken().hasWriteAccess())) {
-			throw new UnauthorizedException(Messages.string("ActivityServiceImpl.kudosWithoutWriteAccess")); //$NON-NLS-1$
-		}
+		requireWriteAccess("ActivityServiceImpl.kudosWithoutWriteAccess"); //$NON-NLS-1$
 
-		// Activity must exist
-		final StravaActivity activity = getActivity(activityId);
-		if (activity == null) {
-			throw new NotFoundException(Messages.string("ActivityServiceImpl.kudosInvalidActivity")); //$NON-NLS-1$
-		}
-
-		// Must have view_private to give kudos to a private activity
-		if (!getToken().hasViewPrivate() && (activity.getResourceState() == StravaResourceState.PRIVATE)) {
-			throw new UnauthorizedException(Messages.string("ActivityServiceImpl.kudosPrivateActivityWithoutViewPrivate")); //$NON-NLS-1$
-		}
+		// Activity must exist; must have view_private to give kudos to a private activity
+		requireAccessible(getActivity(activityId), "ActivityServiceImpl.kudosInvalidActivity", kudosPrivateMessage()); //$NON-NLS-1$
 
 		this.api.giveKudos(activityId);
 
@@ -420,12 +610,55 @@ public class ActivityServiceImpl extends StravaServiceImpl implements ActivitySe
 	 */
 	@Override
 	public CompletableFuture<Void> giveKudosAsync(final Integer activityId) throws NotFoundException {
-		return StravaServiceImpl.future(() -> {
-			giveKudos(activityId);
-			return null;
+		return FutureUtils.attempt(() -> {
+			// Must have write access to give kudos
+			requireWriteAccess("ActivityServiceImpl.kudosWithoutWriteAccess"); //$NON-NLS-1$
+
+			return deliver(getActivityAsync(activityId).thenCompose(activity -> {
+				// Activity must exist; must have view_private to give kudos to a private activity
+				requireAccessible(activity, "ActivityServiceImpl.kudosInvalidActivity", kudosPrivateMessage()); //$NON-NLS-1$
+
+				return call(() -> this.api.giveKudosAsync(activityId)).thenApply(response -> (Void) null);
+			}));
 		});
 	}
 
+	/**
+	 * @return Key of the message to give if kudos are given to a private activity without view_private access, or <code>null</code> if the token
+	 *         has view_private access
+	 */
+	private String kudosPrivateMessage() {
+		return (getToken().hasViewPrivate() ? null : "ActivityServiceImpl.kudosPrivateActivityWithoutViewPrivate"); //$NON-NLS-1$
+	}
+
+	/**
+	 * @see javastrava.api.v3.service.ActivityService#invalidateActivity(java.lang.Integer)
+	 */
+	@Override
+	public void invalidateActivity(final Integer activityId) {
+		if (activityId == null) {
+			return;
+		}
+		this.activityCache.remove(activityId);
+
+		// Also forget its comments, laps and photos
+		for (final StravaComment comment : this.commentCache.list()) {
+			if (activityId.equals(comment.getActivityId())) {
+				this.commentCache.remove(comment.getId());
+			}
+		}
+		for (final StravaLap lap : this.lapCache.list()) {
+			if ((lap.getActivity() != null) && activityId.equals(lap.getActivity().getId())) {
+				this.lapCache.remove(lap.getId());
+			}
+		}
+		for (final StravaPhoto photo : this.photoCache.list()) {
+			if (activityId.equals(photo.getActivityId())) {
+				this.photoCache.remove(photo.getId());
+			}
+		}
+	}
+
 	/**
 	 * @see javastrava.api.v3.service.ActivityService#listActivityComments(java.lang.Integer)
 	 */
@@ -450,24 +683,12 @@ public class ActivityServiceImpl extends StravaServiceImpl implements ActivitySe
 	@Override
 	public List<StravaComment> listActivityComments(final Integer id, final Boolean markdown,
 			final Paging pagingInstruction) {
-		// If the activity doesn't exist, then neither do the comments
-		final StravaActivity activity = getActivity(id);
-		if (activity == null) { // doesn't exist
-			return null;
-		}
-
-		// If the activity is private and not accessible, don't return the
-		// comments
-		if (activity.getResourceState() == StravaResourceState.PRIVATE) { // is
-			// private
-			return new ArrayList<StravaComment>();
-		}
-
-		// Get the comments from Strava
-		final List<StravaComment> comments = PagingHandler.handlePaging(
+		// If the activity doesn't exist, then neither do the comments; if it is private and not accessible, don't return them
+		final List<StravaComment> comments = listBelongingTo(getActivity(id), () -> PagingHandler.handlePaging(
 				pagingInstruction,
 				thisPage -> Arrays.asList(ActivityServiceImpl.this.api.listActivityComments(id, markdown,
-						thisPage.getPage(), thisPage.getPageSize())));
+						thisPage.getPage(), thisPage.getPageSize())),
+				getExecutor()));
 
 		// And put them in the cache
 		this.commentCache.putAll(comments);
@@ -490,9 +711,7 @@ public class ActivityServiceImpl extends StravaServiceImpl implements ActivitySe
 	 */
 	@Override
 	public CompletableFuture<List<StravaComment>> listActivityCommentsAsync(final Integer activityId) {
-		return StravaServiceImpl.future(() -> {
-			return listActivityComments(activityId);
-		});
+		return listActivityCommentsAsync(activityId, Boolean.FALSE);
 	}
 
 	/**
@@ -500,9 +719,7 @@ public class ActivityServiceImpl extends StravaServiceImpl implements ActivitySe
 	 */
 	@Override
 	public CompletableFuture<List<StravaComment>> listActivityCommentsAsync(final Integer activityId, final Boolean markdown) {
-		return StravaServiceImpl.future(() -> {
-			return listActivityComments(activityId, markdown);
-		});
+		return listActivityCommentsAsync(activityId, markdown, null);
 	}
 
 	/**
@@ -510,9 +727,14 @@ public class ActivityServiceImpl extends StravaServiceImpl implements ActivitySe
 	 */
 	@Override
 	public CompletableFuture<List<StravaComment>> listActivityCommentsAsync(final Integer activityId, final Boolean markdown, final Paging pagingInstruction) {
-		return StravaServiceImpl.future(() -> {
-			return listActivityComments(activityId, markdown, pagingInstruction);
-		});
+		// If the activity doesn't exist, then neither do the comments; if it is private and not accessible, don't return them
+		return deliver(getActivityAsync(activityId).thenCompose(activity -> listBelongingToAsync(activity, () -> PagingHandler.handlePagingAsync(
+				pagingInstruction, thisPage -> callList(() -> this.api.listActivityCommentsAsync(activityId, markdown, thisPage.getPage(), thisPage
+						.getPageSize()))))).thenApply(comments -> {
+							// And put them in the cache
+							this.commentCache.putAll(comments);
+							return comments;
+						}));
 	}
 
 	/**
@@ -520,9 +742,7 @@ public class ActivityServiceImpl extends StravaServiceImpl implements ActivitySe
 	 */
 	@Override
 	public CompletableFuture<List<StravaComment>> listActivityCommentsAsync(final Integer activityId, final Paging pagingInstruction) {
-		return StravaServiceImpl.future(() -> {
-			return listActivityComments(activityId, pagingInstruction);
-		});
+		return listActivityCommentsAsync(activityId, Boolean.FALSE, pagingInstruction);
 	}
 
 	/**
@@ -539,19 +759,9 @@ public class ActivityServiceImpl extends StravaServiceImpl implements ActivitySe
 	 */
 	@Override
 	public List<StravaAthlete> listActivityKudoers(final Integer id, final Paging pagingInstruction) {
-		// If the activity doesn't exist, then neither do the kudoers
-		final StravaActivity activity = getActivity(id);
-		if (activity == null) {
-			return null;
-		}
-
-		// If the activity is private and inaccessible, return an empty list
-		if (activity.getResourceState() == StravaResourceState.PRIVATE) {
-			return new ArrayList<StravaAthlete>();
-		}
-
-		return PagingHandler.handlePaging(pagingInstruction, thisPage -> Arrays.asList(ActivityServiceImpl.this.api
-				.listActivityKudoers(id, thisPage.getPage(), thisPage.getPageSize())));
+		// If the activity doesn't exist, then neither do the kudoers; if it is private and inaccessible, return an empty list
+		return listBelongingTo(getActivity(id), () -> PagingHandler.handlePaging(pagingInstruction, thisPage -> Arrays.asList(
+				ActivityServiceImpl.this.api.listActivityKudoers(id, thisPage.getPage(), thisPage.getPageSize())), getExecutor()));
 
 	}
 
@@ -560,9 +770,7 @@ public class ActivityServiceImpl extends StravaServiceImpl implements ActivitySe
 	 */
 	@Override
 	public CompletableFuture<List<StravaAthlete>> listActivityKudoersAsync(final Integer activityId) {
-		return StravaServiceImpl.future(() -> {
-			return listActivityKudoers(activityId);
-		});
+		return listActivityKudoersAsync(activityId, null);
 	}
 
 	/**
@@ -570,9 +778,10 @@ public class ActivityServiceImpl extends StravaServiceImpl implements ActivitySe
 	 */
 	@Override
 	public CompletableFuture<List<StravaAthlete>> listActivityKudoersAsync(final Integer activityId, final Paging pagingInstruction) {
-		return StravaServiceImpl.future(() -> {
-			return listActivityKudoers(activityId, pagingInstruction);
-		});
+		// If the activity doesn't exist, then neither do the kudoers; if it is private and inaccessible, return an empty list
+		return deliver(getActivityAsync(activityId).thenCompose(activity -> listBelongingToAsync(activity, () -> PagingHandler.handlePagingAsync(
+				pagingInstruction, thisPage -> callList(() -> this.api.listActivityKudoersAsync(activityId, thisPage.getPage(), thisPage
+						.getPageSize()))))));
 	}
 
 	/**
@@ -580,41 +789,28 @@ public class ActivityServiceImpl extends StravaServiceImpl implements ActivitySe
 	 */
 	@Override
 	public List<StravaLap> listActivityLaps(final Integer id) {
-		// If the activity doesn't exist, return null
-		final StravaActivity activity = getActivity(id);
-		if (activity == null) {
-			return null;
-		}
-
-		// If the activity is private and inaccessible, return an empty list
-		if (activity.getResourceState() == StravaResourceState.PRIVATE) {
-			return new ArrayList<StravaLap>();
-		}
-
-		// Try to get the laps from cache
-		final List<StravaLap> cachedLaps = this.lapCache.list();
-		List<StravaLap> laps = new ArrayList<StravaLap>();
-		for (final StravaLap lap : cachedLaps) {
-			if (lap.getActivity().getId().equals(id)) {
-				laps.add(lap);
+		// If the activity doesn't exist, return null; if it is private and inaccessible, return an empty list
+		return listBelongingTo(getActivity(id), () -> {
+			// Try to get the laps from cache
+			final List<StravaLap> laps = cachedLaps(id);
+			if (!laps.isEmpty()) {
+				return laps;
 			}
-		}
-		if (!laps.isEmpty()) {
-			return laps;
-		}
 
-		// Get the laps from Strava
-		try {
-			laps = Arrays.asList(this.api.listActivityLaps(id));
-		} catch (final NotFoundException e) {
-			return null;
-		}
+			// Get the laps from Strava
+			final List<StravaLap> stravaLaps;
+			try {
+				stravaLaps = Arrays.asList(this.api.listActivityLaps(id));
+			} catch (final NotFoundException e) {
+				return null;
+			}
 
-		// Put them all in the cache
-		this.lapCache.putAll(laps);
+			// Put them all in the cache
+			this.lapCache.putAll(stravaLaps);
 
-		// Finally, return the laps
-		return laps;
+			// Finally, return the laps
+			return stravaLaps;
+		});
 
 	}
 
@@ -623,58 +819,59 @@ public class ActivityServiceImpl extends StravaServiceImpl implements ActivitySe
 	 */
 	@Override
 	public CompletableFuture<List<StravaLap>> listActivityLapsAsync(final Integer activityId) {
-		return StravaServiceImpl.future(() -> {
-			return listActivityLaps(activityId);
-		});
+		// If the activity doesn't exist, return null; if it is private and inaccessible, return an empty list
+		return deliver(getActivityAsync(activityId).thenCompose(activity -> listBelongingToAsync(activity, () -> {
+			// Try to get the laps from cache
+			final List<StravaLap> laps = cachedLaps(activityId);
+			if (!laps.isEmpty()) {
+				return CompletableFuture.completedFuture(laps);
+			}
+
+			// Get the laps from Strava, and put them all in the cache
+			return FutureUtils.recover(callList(() -> this.api.listActivityLapsAsync(activityId)), NotFoundException.class, e -> null).thenApply(
+					stravaLaps -> {
+						this.lapCache.putAll(stravaLaps);
+						return stravaLaps;
+					});
+		})));
 	}
 
 	/**
-	 * @see javastrava.api.v3.service.ActivityService#listActivityPhotos(java.lang.Integer)
+	 * @param activityId
+	 *            The activity id
+	 * @return The activity's laps which are in the cache
 	 */
-	@Override
-	public List<StravaPhoto> listActivityPhotos(final Integer id) {
-		// If the activity doesn't exist, return null
-		final StravaActivity activity = getActivity(id);
-		if (activity == null) {
-			return null;
-		}
-
-		// If the activity is private and inaccessible, return an empty list
-		if (activity.getResourceState() == StravaResourceState.PRIVATE) {
-			return new ArrayList<StravaPhoto>();
-		}
-
-		// Try to get the photos from cache
-		final List<StravaPhoto> cachedPhotos = this.photoCache.list();
-		List<StravaPhoto> photos = new ArrayList<StravaPhoto>();
-		for (final StravaPhoto photo : cachedPhotos) {
-			if (photo.getActivityId().equals(id)) {
-				photos.add(photo);
+	private List<StravaLap> cachedLaps(final Integer activityId) {
+		final List<StravaLap> laps = new ArrayList<StravaLap>();
+		for (final StravaLap lap : this.lapCache.list()) {
+			if (lap.getActivity().getId().equals(activityId)) {
+				laps.add(lap);
 			}
 		}
+		return laps;
+	}
 
-		// Attempt to get the photos from Strava
-		try {
-			final StravaPhoto[] photoArray = this.api.listActivityPhotos(id);
-
-			// TODO This fixes an inconsistency with the listActivityComments
-			// API (issue #76)
-			// call on Strava, which returns an empty array, not null
-			if (photoArray == null) {
-				photos = new ArrayList<StravaPhoto>();
-			} else {
-				photos = Arrays.asList(photoArray);
+	/**
+	 * @see javastrava.api.v3.service.ActivityService#listActivityPhotos(java.lang.Integer)
+	 */
+	@Override
+	public List<StravaPhoto> listActivityPhotos(final Integer id) {
+		// If the activity doesn't exist, return null; if it is private and inaccessible, return an empty list
+		return listBelongingTo(getActivity(id), () -> {
+			// Attempt to get the photos from Strava
+			final List<StravaPhoto> photos;
+			try {
+				photos = photoList(this.api.listActivityPhotos(id));
+			} catch (final NotFoundException e) {
+				return null;
 			}
 
-		} catch (final NotFoundException e) {
-			return null;
-		}
+			// Put all the photos in cache
+			this.photoCache.putAll(photos);
 
-		// Put all the photos in cache
-		this.photoCache.putAll(photos);
-
-		// Return the photos
-		return photos;
+			// Return the photos
+			return photos;
+		});
 	}
 
 	/**
@@ -682,9 +879,31 @@ public class ActivityServiceImpl extends StravaServiceImpl implements ActivitySe
 	 */
 	@Override
 	public CompletableFuture<List<StravaPhoto>> listActivityPhotosAsync(final Integer activityId) {
-		return StravaServiceImpl.future(() -> {
-			return listActivityPhotos(activityId);
-		});
+		// If the activity doesn't exist, return null; if it is private and inaccessible, return an empty list
+		return deliver(getActivityAsync(activityId).thenCompose(activity -> listBelongingToAsync(activity, () -> {
+			// Attempt to get the photos from Strava
+			final CompletableFuture<List<StravaPhoto>> photos = call(() -> this.api.listActivityPhotosAsync(activityId)).thenApply(
+					ActivityServiceImpl::photoList);
+			return FutureUtils.recover(photos, NotFoundException.class, e -> null).thenApply(stravaPhotos -> {
+				// Put all the photos in cache
+				this.photoCache.putAll(stravaPhotos);
+				return stravaPhotos;
+			});
+		})));
+	}
+
+	/**
+	 * @param photoArray
+	 *            Photos returned by Strava
+	 * @return The photos as a list
+	 */
+	private static List<StravaPhoto> photoList(final StravaPhoto[] photoArray) {
+		// TODO This fixes an inconsistency with the listActivityComments API (issue #76)
+		// call on Strava, which returns an empty array, not null
+		if (photoArray == null) {
+			return new ArrayList<StravaPhoto>();
+		}
+		return Arrays.asList(photoArray);
 	}
 
 	/**
@@ -692,22 +911,14 @@ public class ActivityServiceImpl extends StravaServiceImpl implements ActivitySe
 	 */
 	@Override
 	public List<StravaActivityZone> listActivityZones(final Integer id) {
-		// If the activity doesn't exist, return null
-		final StravaActivity activity = getActivity(id);
-		if (activity == null) {
-			return null;
-		}
-
-		// If the activity is private and inaccesible, return an empty list
-		if (activity.getResourceState() == StravaResourceState.PRIVATE) {
-			return new ArrayList<StravaActivityZone>();
-		}
-
-		try {
-			return Arrays.asList(this.api.listActivityZones(id));
-		} catch (final NotFoundException e) {
-			return null;
-		}
+		// If the activity doesn't exist, return null; if it is private and inaccesible, return an empty list
+		return listBelongingTo(getActivity(id), () -> {
+			try {
+				return Arrays.asList(this.api.listActivityZones(id));
+			} catch (final NotFoundException e) {
+				return null;
+			}
+		});
 	}
 
 	/**
@@ -715,9 +926,9 @@ public class ActivityServiceImpl extends StravaServiceImpl implements ActivitySe
 	 */
 	@Override
 	public CompletableFuture<List<StravaActivityZone>> listActivityZonesAsync(final Integer activityId) {
-		return StravaServiceImpl.future(() -> {
-			return listActivityZones(activityId);
-		});
+		// If the activity doesn't exist, return null; if it is private and inaccesible, return an empty list
+		return deliver(getActivityAsync(activityId).thenCompose(activity -> listBelongingToAsync(activity, () -> FutureUtils.recover(callList(
+				() -> this.api.listActivityZonesAsync(activityId)), NotFoundException.class, e -> null))));
 	}
 
 	/**
@@ -725,7 +936,7 @@ public class ActivityServiceImpl extends StravaServiceImpl implements ActivitySe
 	 */
 	@Override
 	public List<StravaComment> listAllActivityComments(final Integer activityId) {
-		return PagingHandler.handleListAll(thisPage -> listActivityComments(activityId, thisPage));
+		return PagingHandler.handleListAll(thisPage -> listActivityComments(activityId, thisPage), getExecutor());
 	}
 
 	/**
@@ -733,9 +944,7 @@ public class ActivityServiceImpl extends StravaServiceImpl implements ActivitySe
 	 */
 	@Override
 	public CompletableFuture<List<StravaComment>> listAllActivityCommentsAsync(final Integer activityId) {
-		return StravaServiceImpl.future(() -> {
-			return listAllActivityComments(activityId);
-		});
+		return deliver(PagingHandler.handleListAllAsync(thisPage -> listActivityCommentsAsync(activityId, thisPage)));
 	}
 
 	/**
@@ -743,7 +952,7 @@ public class ActivityServiceImpl extends StravaServiceImpl implements ActivitySe
 	 */
 	@Override
 	public List<StravaAthlete> listAllActivityKudoers(final Integer activityId) {
-		return PagingHandler.handleListAll(thisPage -> listActivityKudoers(activityId, thisPage));
+		return PagingHandler.handleListAll(thisPage -> listActivityKudoers(activityId, thisPage), getExecutor());
 	}
 
 	/**
@@ -751,9 +960,7 @@ public class ActivityServiceImpl extends StravaServiceImpl implements ActivitySe
 	 */
 	@Override
 	public CompletableFuture<List<StravaAthlete>> listAllActivityKudoersAsync(final Integer activityId) {
-		return StravaServiceImpl.future(() -> {
-			return listAllActivityKudoers(activityId);
-		});
+		return deliver(PagingHandler.handleListAllAsync(thisPage -> listActivityKudoersAsync(activityId, thisPage)));
 	}
 
 	/**
@@ -761,7 +968,7 @@ public class ActivityServiceImpl extends StravaServiceImpl implements ActivitySe
 	 */
 	@Override
 	public List<StravaActivity> listAllAuthenticatedAthleteActivities() {
-		return PagingHandler.handleListAll(thisPage -> listAuthenticatedAthleteActivities(thisPage));
+		return PagingHandler.handleListAll(thisPage -> listAuthenticatedAthleteActivities(thisPage), getExecutor());
 
 	}
 
@@ -773,19 +980,26 @@ public class ActivityServiceImpl extends StravaServiceImpl implements ActivitySe
 	public List<StravaActivity> listAllAuthenticatedAthleteActivities(final LocalDateTime before,
 			final LocalDateTime after) {
 		final List<StravaActivity> activities = PagingHandler
-				.handleListAll(thisPage -> listAuthenticatedAthleteActivities(before, after, thisPage));
+				.handleListAll(thisPage -> listAuthenticatedAthleteActivities(before, after, thisPage), getExecutor());
 
 		return activities;
 	}
 
+	/**
+	 * @see javastrava.api.v3.service.ActivityService#listAllAuthenticatedAthleteActivities(java.time.LocalDateTime, java.time.LocalDateTime, java.util.function.Predicate)
+	 */
+	@Override
+	public List<StravaActivity> listAllAuthenticatedAthleteActivities(final LocalDateTime before, final LocalDateTime after,
+			final Predicate<StravaActivity> stopWhen) {
+		return PagingHandler.handleListAllUntil(thisPage -> listAuthenticatedAthleteActivities(before, after, thisPage), stopWhen, getExecutor());
+	}
+
 	/**
 	 * @see javastrava.api.v3.service.ActivityService#listAllAuthenticatedAthleteActivitiesAsync()
 	 */
 	@Override
 	public CompletableFuture<List<StravaActivity>> listAllAuthenticatedAthleteActivitiesAsync() {
-		return StravaServiceImpl.future(() -> {
-			return listAllAuthenticatedAthleteActivities();
-		});
+		return deliver(PagingHandler.handleListAllAsync(thisPage -> listAuthenticatedAthleteActivitiesAsync(thisPage)));
 	}
 
 	/**
@@ -793,9 +1007,16 @@ public class ActivityServiceImpl extends StravaServiceImpl implements ActivitySe
 	 */
 	@Override
 	public CompletableFuture<List<StravaActivity>> listAllAuthenticatedAthleteActivitiesAsync(final LocalDateTime before, final LocalDateTime after) {
-		return StravaServiceImpl.future(() -> {
-			return listAllAuthenticatedAthleteActivities(before, after);
-		});
+		return deliver(PagingHandler.handleListAllAsync(thisPage -> listAuthenticatedAthleteActivitiesAsync(before, after, thisPage)));
+	}
+
+	/**
+	 * @see javastrava.api.v3.service.ActivityService#listAllAuthenticatedAthleteActivitiesAsync(java.time.LocalDateTime, java.time.LocalDateTime, java.util.function.Predicate)
+	 */
+	@Override
+	public CompletableFuture<List<StravaActivity>> listAllAuthenticatedAthleteActivitiesAsync(final LocalDateTime before, final LocalDateTime after,
+			final Predicate<StravaActivity> stopWhen) {
+		return deliver(PagingHandler.handleListAllUntilAsync(thisPage -> listAuthenticatedAthleteActivitiesAsync(before, after, thisPage), stopWhen));
 	}
 
 	/**
@@ -803,7 +1024,7 @@ public class ActivityServiceImpl extends StravaServiceImpl implements ActivitySe
 	 */
 	@Override
 	public List<StravaActivity> listAllFriendsActivities() {
-		return PagingHandler.handleListAll(thisPage -> listFriendsActivities(thisPage));
+		return PagingHandler.handleListAll(thisPage -> listFriendsActivities(thisPage), getExecutor());
 	}
 
 	/**
@@ -811,9 +1032,7 @@ public class ActivityServiceImpl extends StravaServiceImpl implements ActivitySe
 	 */
 	@Override
 	public CompletableFuture<List<StravaActivity>> listAllFriendsActivitiesAsync() {
-		return StravaServiceImpl.future(() -> {
-			return listAllFriendsActivities();
-		});
+		return deliver(PagingHandler.handleListAllAsync(thisPage -> listFriendsActivitiesAsync(thisPage)));
 	}
 
 	/**
@@ -821,7 +1040,7 @@ public class ActivityServiceImpl extends StravaServiceImpl implements ActivitySe
 	 */
 	@Override
 	public List<StravaActivity> listAllRelatedActivities(final Integer activityId) {
-		return PagingHandler.handleListAll(thisPage -> listRelatedActivities(activityId, thisPage));
+		return PagingHandler.handleListAll(thisPage -> listRelatedActivities(activityId, thisPage), getExecutor());
 	}
 
 	/**
@@ -829,9 +1048,7 @@ public class ActivityServiceImpl extends StravaServiceImpl implements ActivitySe
 	 */
 	@Override
 	public CompletableFuture<List<StravaActivity>> listAllRelatedActivitiesAsync(final Integer activityId) {
-		return StravaServiceImpl.future(() -> {
-			return listAllRelatedActivities(activityId);
-		});
+		return deliver(PagingHandler.handleListAllAsync(thisPage -> listRelatedActivitiesAsync(activityId, thisPage)));
 	}
 
 	/**
@@ -862,18 +1079,12 @@ public class ActivityServiceImpl extends StravaServiceImpl implements ActivitySe
 		final Integer secondsAfter = StravaDateUtils.secondsSinceUnixEpoch(after);
 
 		// Get the activities from Strava
-		List<StravaActivity> activities = PagingHandler.handlePaging(pagingInstruction, thisPage -> Arrays
+		final List<StravaActivity> activities = PagingHandler.handlePaging(pagingInstruction, thisPage -> Arrays
 				.asList(this.api.listAuthenticatedAthleteActivities(secondsBefore, secondsAfter, thisPage.getPage(),
-						thisPage.getPageSize())));
+						thisPage.getPageSize())), getExecutor());
 
-		// Handle Strava's slight weirdnesses with privacy
-		activities = PrivacyUtils.handlePrivateActivities(activities, this.getToken());
-
-		// Put the activities in the cache
-		this.activityCache.putAll(activities);
-
-		// Return them
-		return activities;
+		// Handle Strava's slight weirdnesses with privacy, put them in the cache, and return them
+		return cacheActivities(activities);
 	}
 
 	/**
@@ -889,9 +1100,7 @@ public class ActivityServiceImpl extends StravaServiceImpl implements ActivitySe
 	 */
 	@Override
 	public CompletableFuture<List<StravaActivity>> listAuthenticatedAthleteActivitiesAsync() {
-		return StravaServiceImpl.future(() -> {
-			return listAuthenticatedAthleteActivities();
-		});
+		return listAuthenticatedAthleteActivitiesAsync(null, null, null);
 	}
 
 	/**
@@ -899,9 +1108,7 @@ public class ActivityServiceImpl extends StravaServiceImpl implements ActivitySe
 	 */
 	@Override
 	public CompletableFuture<List<StravaActivity>> listAuthenticatedAthleteActivitiesAsync(final LocalDateTime before, final LocalDateTime after) {
-		return StravaServiceImpl.future(() -> {
-			return listAuthenticatedAthleteActivities(before, after);
-		});
+		return listAuthenticatedAthleteActivitiesAsync(before, after, null);
 	}
 
 	/**
@@ -910,9 +1117,14 @@ public class ActivityServiceImpl extends StravaServiceImpl implements ActivitySe
 	@Override
 	public CompletableFuture<List<StravaActivity>> listAuthenticatedAthleteActivitiesAsync(final LocalDateTime before, final LocalDateTime after,
 			final Paging pagingInstruction) {
-		return StravaServiceImpl.future(() -> {
-			return listAuthenticatedAthleteActivities(before, after, pagingInstruction);
-		});
+		final Integer secondsBefore = StravaDateUtils.secondsSinceUnixEpoch(before);
+		final Integer secondsAfter = StravaDateUtils.secondsSinceUnixEpoch(after);
+
+		// Get the activities from Strava
+		final CompletableFuture<List<StravaActivity>> activities = PagingHandler.handlePagingAsync(pagingInstruction, thisPage -> callList(
+				() -> this.api.listAuthenticatedAthleteActivitiesAsync(secondsBefore, secondsAfter, thisPage.getPage(), thisPage.getPageSize())));
+
+		return deliver(activities.thenApply(this::cacheActivities));
 	}
 
 	/**
@@ -920,9 +1132,7 @@ public class ActivityServiceImpl extends StravaServiceImpl implements ActivitySe
 	 */
 	@Override
 	public CompletableFuture<List<StravaActivity>> listAuthenticatedAthleteActivitiesAsync(final Paging pagingInstruction) {
-		return StravaServiceImpl.future(() -> {
-			return listAuthenticatedAthleteActivities(pagingInstruction);
-		});
+		return listAuthenticatedAthleteActivitiesAsync(null, null, pagingInstruction);
 	}
 
 	/**
@@ -939,17 +1149,11 @@ public class ActivityServiceImpl extends StravaServiceImpl implements ActivitySe
 	@Override
 	public List<StravaActivity> listFriendsActivities(final Paging pagingInstruction) {
 		// Attempt to get the activities from Strava
-		List<StravaActivity> activities = PagingHandler.handlePaging(pagingInstruction,
-				thisPage -> Arrays.asList(this.api.listFriendsActivities(thisPage.getPage(), thisPage.getPageSize())));
-
-		// Handle any privacy errors
-		activities = PrivacyUtils.handlePrivateActivities(activities, this.getToken());
+		final List<StravaActivity> activities = PagingHandler.handlePaging(pagingInstruction,
+				thisPage -> Arrays.asList(this.api.listFriendsActivities(thisPage.getPage(), thisPage.getPageSize())), getExecutor());
 
-		// Put the activities in the cache
-		this.activityCache.putAll(activities);
-
-		// Return the activities
-		return activities;
+		// Handle Strava's slight weirdnesses with privacy, put them in the cache, and return them
+		return cacheActivities(activities);
 	}
 
 	/**
@@ -957,9 +1161,7 @@ public class ActivityServiceImpl extends StravaServiceImpl implements ActivitySe
 	 */
 	@Override
 	public CompletableFuture<List<StravaActivity>> listFriendsActivitiesAsync() {
-		return StravaServiceImpl.future(() -> {
-			return listFriendsActivities();
-		});
+		return listFriendsActivitiesAsync(null);
 	}
 
 	/**
@@ -967,9 +1169,11 @@ public class ActivityServiceImpl extends StravaServiceImpl implements ActivitySe
 	 */
 	@Override
 	public CompletableFuture<List<StravaActivity>> listFriendsActivitiesAsync(final Paging pagingInstruction) {
-		return StravaServiceImpl.future(() -> {
-			return listFriendsActivities(pagingInstruction);
-		});
+		// Attempt to get the activities from Strava
+		final CompletableFuture<List<StravaActivity>> activities = PagingHandler.handlePagingAsync(pagingInstruction,
+				thisPage -> callList(() -> this.api.listFriendsActivitiesAsync(thisPage.getPage(), thisPage.getPageSize())));
+
+		return deliver(activities.thenApply(this::cacheActivities));
 	}
 
 	/**
@@ -987,18 +1191,12 @@ public class ActivityServiceImpl extends StravaServiceImpl implements ActivitySe
 	@Override
 	public List<StravaActivity> listRelatedActivities(final Integer id, final Paging pagingInstruction) {
 		// Attempt to get the activities from Strava
-		List<StravaActivity> activities = PagingHandler.handlePaging(pagingInstruction, thisPage -> Arrays
+		final List<StravaActivity> activities = PagingHandler.handlePaging(pagingInstruction, thisPage -> Arrays
 				.asList(ActivityServiceImpl.this.api.listRelatedActivities(id, thisPage.getPage(),
-						thisPage.getPageSize())));
-
-		// Handle any privacy errors
-		activities = PrivacyUtils.handlePrivateActivities(activities, this.getToken());
-
-		// Put all the activities in cache
-		this.activityCache.putAll(activities);
+						thisPage.getPageSize())), getExecutor());
 
-		// Return the activities
-		return activities;
+		// Handle Strava's slight weirdnesses with privacy, put them in the cache, and return them
+		return cacheActivities(activities);
 	}
 
 	/**
@@ -1006,9 +1204,7 @@ public class ActivityServiceImpl extends StravaServiceImpl implements ActivitySe
 	 */
 	@Override
 	public CompletableFuture<List<StravaActivity>> listRelatedActivitiesAsync(final Integer id) {
-		return StravaServiceImpl.future(() -> {
-			return listRelatedActivities(id);
-		});
+		return listRelatedActivitiesAsync(id, null);
 	}
 
 	/**
@@ -1016,9 +1212,27 @@ public class ActivityServiceImpl extends StravaServiceImpl implements ActivitySe
 	 */
 	@Override
 	public CompletableFuture<List<StravaActivity>> listRelatedActivitiesAsync(final Integer id, final Paging pagingInstruction) {
-		return StravaServiceImpl.future(() -> {
-			return listRelatedActivities(id, pagingInstruction);
-		});
+		// Attempt to get the activities from Strava
+		final CompletableFuture<List<StravaActivity>> activities = PagingHandler.handlePagingAsync(pagingInstruction,
+				thisPage -> callList(() -> this.api.listRelatedActivitiesAsync(id, thisPage.getPage(), thisPage.getPageSize())));
+
+		return deliver(activities.thenApply(this::cacheActivities));
+	}
+
+	/**
+	 * @see javastrava.api.v3.service.ActivityService#streamAllAuthenticatedAthleteActivities()
+	 */
+	@Override
+	public Stream<StravaActivity> streamAllAuthenticatedAthleteActivities() {
+		return PagingHandler.handleStreamAll(thisPage -> listAuthenticatedAthleteActivities(thisPage), getExecutor());
+	}
+
+	/**
+	 * @see javastrava.api.v3.service.ActivityService#streamAllAuthenticatedAthleteActivities(LocalDateTime, LocalDateTime)
+	 */
+	@Override
+	public Stream<StravaActivity> streamAllAuthenticatedAthleteActivities(final LocalDateTime before, final LocalDateTime after) {
+		return PagingHandler.handleStreamAll(thisPage -> listAuthenticatedAthleteActivities(before, after, thisPage), getExecutor());
 	}
 
 	/**
@@ -1031,56 +1245,93 @@ public class ActivityServiceImpl extends StravaServiceImpl implements ActivitySe
 		if (activity == null) {
 			return getActivity(activityId);
 		}
-		StravaActivity response = null;
 
-		// Activity must exist to be updated
-		final StravaActivity stravaActivity = getActivity(activityId);
-		if (stravaActivity == null) {
-			throw new NotFoundException(Messages.string("ActivityServiceImpl.updateInvalidActivity")); //$NON-NLS-1$
-		}
+		// Activity must exist to be updated, and must not be private and inaccessible
+		requireAccessible(getActivity(activityId), "ActivityServiceImpl.updateInvalidActivity", "ActivityServiceImpl.updatePrivateActivity"); //$NON-NLS-1$ //$NON-NLS-2$
 
-		// Activity must not be private and inaccessible
-		if (stravaActivity.getResourceState() == StravaResourceState.PRIVATE) {
-			throw new UnauthorizedException(Messages.string("ActivityServiceImpl.updatePrivateActivity")); //$NON-NLS-1$
+		// Update the commute flag on its own first
+		final StravaActivityUpdate commuteUpdate = commuteUpdate(update);
+		if (commuteUpdate != null) {
+			checkCommuteUpdated(activityId, update, doUpdateActivity(activityId, commuteUpdate));
 		}
 
-		// TODO Workaround for issue javastrava-api #36
-		// (https://github.com/danshannon/javastravav3api/issues/36)
-		if (update.getCommute() != null) {
-			final StravaActivityUpdate commuteUpdate = new StravaActivityUpdate();
-			commuteUpdate.setCommute(update.getCommute());
-			response = doUpdateActivity(activityId, commuteUpdate);
-			if (response.getCommute() != update.getCommute()) {
-				throw new StravaUnknownAPIException(
-						Messages.string("ActivityServiceImpl.failedToUpdateCommuteFlag") + activityId, null, null); //$NON-NLS-1$
-			}
-
-			update.setCommute(null);
-		}
+		// Perform the update on Strava, and put it back in the cache, unless it's UPDATING
+		return cacheActivity(doUpdateActivity(activityId, update));
 
-		// End of workaround
-
-		// Perform the update on Strava
-		response = doUpdateActivity(activityId, update);
+	}
 
-		// Put it back in the cache, unless it's UPDATING
-		if (response.getResourceState() != StravaResourceState.UPDATING) {
-			this.activityCache.put(response);
+	/**
+	 * @see javastrava.api.v3.service.ActivityService#updateActivityAsync(java.lang.Integer, javastrava.api.v3.model.StravaActivityUpdate)
+	 */
+	@Override
+	public CompletableFuture<StravaActivity> updateActivityAsync(final Integer activityId, final StravaActivityUpdate activity) throws NotFoundException {
+		final StravaActivityUpdate update = activity;
+		if (activity == null) {
+			return getActivityAsync(activityId);
 		}
 
-		// Return the updated activity
-		return response;
+		return deliver(getActivityAsync(activityId).thenCompose(stravaActivity -> {
+			// Activity must exist to be updated, and must not be private and inaccessible
+			requireAccessible(stravaActivity, "ActivityServiceImpl.updateInvalidActivity", "ActivityServiceImpl.updatePrivateActivity"); //$NON-NLS-1$ //$NON-NLS-2$
+
+			// Update the commute flag on its own first
+			final StravaActivityUpdate commuteUpdate = commuteUpdate(update);
+			if (commuteUpdate != null) {
+				return doUpdateActivityAsync(activityId, commuteUpdate).thenCompose(response -> {
+					checkCommuteUpdated(activityId, update, response);
+					return doUpdateActivityAsync(activityId, update);
+				});
+			}
 
+			// Perform the update on Strava
+			return doUpdateActivityAsync(activityId, update);
+		}).thenApply(this::cacheActivity));
 	}
 
 	/**
-	 * @see javastrava.api.v3.service.ActivityService#updateActivityAsync(java.lang.Integer, javastrava.api.v3.model.StravaActivityUpdate)
+	 * <p>
+	 * The commute flag has to be updated on its own (workaround for issue javastrava-api #36,
+	 * https://github.com/danshannon/javastravav3api/issues/36)
+	 * </p>
+	 *
+	 * @param update
+	 *            Updates to be made to the activity
+	 * @return An update of just the commute flag, or <code>null</code> if the commute flag isn't being updated
 	 */
-	@Override
-	public CompletableFuture<StravaActivity> updateActivityAsync(final Integer activityId, final StravaActivityUpdate activity) throws NotFoundException {
-		return StravaServiceImpl.future(() -> {
-			return updateActivity(activityId, activity);
-		});
+	private static StravaActivityUpdate commuteUpdate(final StravaActivityUpdate update) {
+		// TODO Workaround for issue javastrava-api #36
+		// (https://github.com/danshannon/javastravav3api/issues/36)
+		if (update.getCommute() == null) {
+			return null;
+		}
+		final StravaActivityUpdate commuteUpdate = new StravaActivityUpdate();
+		commuteUpdate.setCommute(update.getCommute());
+		return commuteUpdate;
+		// End of workaround
+	}
+
+	/**
+	 * <p>
+	 * Checks that the commute flag was updated, and takes it out of the rest of the update
+	 * </p>
+	 *
+	 * @param activityId
+	 *            Activity identifier
+	 * @param update
+	 *            Updates to be made to the activity
+	 * @param response
+	 *            Activity returned from Strava as a result of updating the commute flag
+	 * @throws StravaUnknownAPIException
+	 *             If the commute flag wasn't updated
+	 * @see #commuteUpdate(StravaActivityUpdate)
+	 */
+	private static void checkCommuteUpdated(final Integer activityId, final StravaActivityUpdate update, final StravaActivity response) {
+		if (response.getCommute() != update.getCommute()) {
+			throw new StravaUnknownAPIException(
+					Messages.string("ActivityServiceImpl.failedToUpdateCommuteFlag") + activityId, null, null); //$NON-NLS-1$
+		}
+
+		update.setCommute(null);
 	}
 
 }
@@ -15,8 +15,10 @@ import javastrava.api.v3.service.exception.NotFoundException;
 import javastrava.api.v3.service.exception.UnauthorizedException;
 import javastrava.cache.StravaCache;
 import javastrava.cache.impl.StravaCacheImpl;
+import javastrava.util.FutureUtils;
 import javastrava.util.Paging;
 import javastrava.util.PagingHandler;
+import javastrava.util.PrivacyUtils;
 
 /**
  * <p>
@@ -76,6 +78,16 @@ public class AthleteServiceImpl extends StravaServiceImpl implements AthleteServ
 		this.effortCache = new StravaCacheImpl<StravaSegmentEffort, Long>(StravaSegmentEffort.class, token);
 	}
 
+	/**
+	 * @param athletes
+	 *            Athletes returned by Strava
+	 * @return The athletes, having put them in the cache so they can be read back later
+	 */
+	private List<StravaAthlete> cacheAthletes(final List<StravaAthlete> athletes) {
+		this.athleteCache.putAll(athletes);
+		return athletes;
+	}
+
 	/**
 	 * @see javastrava.api.v3.service.StravaService#clearCache()
 	 */
@@ -96,18 +108,22 @@ public class AthleteServiceImpl extends StravaServiceImpl implements AthleteServ
 			return athlete;
 		}
 
+		// If Strava recently said it doesn't exist, don't ask again
+		if (this.athleteCache.isNotFound(id)) {
+			return null;
+		}
+
 		// Attempt to get the athlete from the API if it's not in cache
 		try {
 			athlete = this.api.getAthlete(id);
 		} catch (final NotFoundException e) {
+			this.athleteCache.putNotFound(id);
 			return null;
 		} catch (final UnauthorizedException e) {
-			if (accessTokenIsValid()) {
-				athlete = new StravaAthlete();
-				athlete.setId(id);
-				return athlete;
+			if (!accessTokenIsValid()) {
+				throw e;
 			}
-			throw e;
+			athlete = PrivacyUtils.privateAthlete(id);
 		}
 
 		// Put the athlete in the cache
@@ -120,9 +136,37 @@ public class AthleteServiceImpl extends StravaServiceImpl implements AthleteServ
 	 */
 	@Override
 	public CompletableFuture<StravaAthlete> getAthleteAsync(final Integer athleteId) {
-		return StravaServiceImpl.future(() -> {
-			return getAthlete(athleteId);
+		// Attempt to get the athlete from the cache
+		final StravaAthlete cached = this.athleteCache.get(athleteId);
+		if ((cached != null) && (cached.getResourceState() != StravaResourceState.META)) {
+			return CompletableFuture.completedFuture(cached);
+		}
+
+		// If Strava recently said it doesn't exist, don't ask again
+		if (this.athleteCache.isNotFound(athleteId)) {
+			return CompletableFuture.completedFuture(null);
+		}
+
+		// Attempt to get the athlete from the API if it's not in cache
+		final CompletableFuture<StravaAthlete> athlete = FutureUtils.recoverWith(call(() -> this.api.getAthleteAsync(athleteId)), cause -> {
+			if (cause instanceof NotFoundException) {
+				this.athleteCache.putNotFound(athleteId);
+				return CompletableFuture.completedFuture(null);
+			}
+			if (cause instanceof UnauthorizedException) {
+				return accessTokenIsValidAsync().thenCompose(valid -> valid.booleanValue() ? CompletableFuture.completedFuture(PrivacyUtils
+						.privateAthlete(athleteId)) : FutureUtils.<StravaAthlete> failed(cause));
+			}
+			return FutureUtils.failed(cause);
 		});
+
+		return deliver(athlete.thenApply(stravaAthlete -> {
+			// Put the athlete in the cache
+			if (stravaAthlete != null) {
+				this.athleteCache.put(stravaAthlete);
+			}
+			return stravaAthlete;
+		}));
 	}
 
 	/**
@@ -149,9 +193,17 @@ public class AthleteServiceImpl extends StravaServiceImpl implements AthleteServ
 	 */
 	@Override
 	public CompletableFuture<StravaAthlete> getAuthenticatedAthleteAsync() {
-		return StravaServiceImpl.future(() -> {
-			return getAuthenticatedAthlete();
-		});
+		// Try to get it from the cache
+		final StravaAthlete cached = this.athleteCache.get(this.getToken().getAthlete().getId());
+		if (cached != null) {
+			return CompletableFuture.completedFuture(cached);
+		}
+
+		// Now get it via the API, put it in the cache and return
+		return deliver(call(() -> this.api.getAuthenticatedAthleteAsync()).thenApply(athlete -> {
+			this.athleteCache.put(athlete);
+			return athlete;
+		}));
 	}
 
 	/**
@@ -160,7 +212,7 @@ public class AthleteServiceImpl extends StravaServiceImpl implements AthleteServ
 	@Override
 	public List<StravaAthlete> listAllAthleteFriends(final Integer athleteId) {
 		// Always get from Strava, not from cache, as there's no way to be sure the cache is up to date
-		final List<StravaAthlete> athletes = PagingHandler.handleListAll(thisPage -> listAthleteFriends(athleteId, thisPage));
+		final List<StravaAthlete> athletes = PagingHandler.handleListAll(thisPage -> listAthleteFriends(athleteId, thisPage), getExecutor());
 
 		// Return them
 		return athletes;
@@ -171,9 +223,8 @@ public class AthleteServiceImpl extends StravaServiceImpl implements AthleteServ
 	 */
 	@Override
 	public CompletableFuture<List<StravaAthlete>> listAllAthleteFriendsAsync(final Integer athleteId) {
-		return StravaServiceImpl.future(() -> {
-			return listAllAthleteFriends(athleteId);
-		});
+		// Always get from Strava, not from cache, as there's no way to be sure the cache is up to date
+		return deliver(PagingHandler.handleListAllAsync(thisPage -> listAthleteFriendsAsync(athleteId, thisPage)));
 	}
 
 	/**
@@ -181,7 +232,7 @@ public class AthleteServiceImpl extends StravaServiceImpl implements AthleteServ
 	 */
 	@Override
 	public List<StravaSegmentEffort> listAllAthleteKOMs(final Integer athleteId) {
-		return PagingHandler.handleListAll(thisPage -> listAthleteKOMs(athleteId, thisPage));
+		return PagingHandler.handleListAll(thisPage -> listAthleteKOMs(athleteId, thisPage), getExecutor());
 	}
 
 	/**
@@ -189,9 +240,7 @@ public class AthleteServiceImpl extends StravaServiceImpl implements AthleteServ
 	 */
 	@Override
 	public CompletableFuture<List<StravaSegmentEffort>> listAllAthleteKOMsAsync(final Integer athleteId) {
-		return StravaServiceImpl.future(() -> {
-			return listAllAthleteKOMs(athleteId);
-		});
+		return deliver(PagingHandler.handleListAllAsync(thisPage -> listAthleteKOMsAsync(athleteId, thisPage)));
 	}
 
 	/**
@@ -199,7 +248,7 @@ public class AthleteServiceImpl extends StravaServiceImpl implements AthleteServ
 	 */
 	@Override
 	public List<StravaAthlete> listAllAthletesBothFollowing(final Integer athleteId) {
-		return PagingHandler.handleListAll(thisPage -> listAthletesBothFollowing(athleteId, thisPage));
+		return PagingHandler.handleListAll(thisPage -> listAthletesBothFollowing(athleteId, thisPage), getExecutor());
 
 	}
 
@@ -208,9 +257,7 @@ public class AthleteServiceImpl extends StravaServiceImpl implements AthleteServ
 	 */
 	@Override
 	public CompletableFuture<List<StravaAthlete>> listAllAthletesBothFollowingAsync(final Integer athleteId) {
-		return StravaServiceImpl.future(() -> {
-			return listAllAthletesBothFollowing(athleteId);
-		});
+		return deliver(PagingHandler.handleListAllAsync(thisPage -> listAthletesBothFollowingAsync(athleteId, thisPage)));
 	}
 
 	/**
@@ -218,7 +265,7 @@ public class AthleteServiceImpl extends StravaServiceImpl implements AthleteServ
 	 */
 	@Override
 	public List<StravaAthlete> listAllAuthenticatedAthleteFriends() {
-		return PagingHandler.handleListAll(thisPage -> listAuthenticatedAthleteFriends(thisPage));
+		return PagingHandler.handleListAll(thisPage -> listAuthenticatedAthleteFriends(thisPage), getExecutor());
 	}
 
 	/**
@@ -226,9 +273,7 @@ public class AthleteServiceImpl extends StravaServiceImpl implements AthleteServ
 	 */
 	@Override
 	public CompletableFuture<List<StravaAthlete>> listAllAuthenticatedAthleteFriendsAsync() {
-		return StravaServiceImpl.future(() -> {
-			return listAllAuthenticatedAthleteFriends();
-		});
+		return deliver(PagingHandler.handleListAllAsync(thisPage -> listAuthenticatedAthleteFriendsAsync(thisPage)));
 	}
 
 	/**
@@ -246,7 +291,7 @@ public class AthleteServiceImpl extends StravaServiceImpl implements AthleteServ
 	@Override
 	public List<StravaAthlete> listAthleteFriends(final Integer id, final Paging pagingInstruction) {
 		final List<StravaAthlete> athletes = PagingHandler.handlePaging(pagingInstruction, thisPage -> Arrays.asList(AthleteServiceImpl.this.api
-				.listAthleteFriends(id, thisPage.getPage(), thisPage.getPageSize())));
+				.listAthleteFriends(id, thisPage.getPage(), thisPage.getPageSize())), getExecutor());
 
 		// Put them in the cache so they can be read back later
 		this.athleteCache.putAll(athletes);
@@ -260,9 +305,7 @@ public class AthleteServiceImpl extends StravaServiceImpl implements AthleteServ
 	 */
 	@Override
 	public CompletableFuture<List<StravaAthlete>> listAthleteFriendsAsync(final Integer athleteId) {
-		return StravaServiceImpl.future(() -> {
-			return listAthleteFriends(athleteId);
-		});
+		return listAthleteFriendsAsync(athleteId, null);
 	}
 
 	/**
@@ -270,9 +313,11 @@ public class AthleteServiceImpl extends StravaServiceImpl implements AthleteServ
 	 */
 	@Override
 	public CompletableFuture<List<StravaAthlete>> listAthleteFriendsAsync(final Integer athleteId, final Paging pagingInstruction) {
-		return StravaServiceImpl.future(() -> {
-			return listAthleteFriends(athleteId, pagingInstruction);
-		});
+		final CompletableFuture<List<StravaAthlete>> athletes = PagingHandler.handlePagingAsync(pagingInstruction, thisPage -> callList(
+				() -> this.api.listAthleteFriendsAsync(athleteId, thisPage.getPage(), thisPage.getPageSize())));
+
+		// Put them in the cache so they can be read back later
+		return deliver(athletes.thenApply(this::cacheAthletes));
 	}
 
 	/**
@@ -292,7 +337,8 @@ public class AthleteServiceImpl extends StravaServiceImpl implements AthleteServ
 		final List<StravaSegmentEffort> efforts = PagingHandler.handlePaging(
 				pagingInstruction,
 				thisPage -> Arrays.asList(AthleteServiceImpl.this.api.listAthleteKOMs(id, thisPage.getPage(),
-						thisPage.getPageSize())));
+						thisPage.getPageSize())),
+				getExecutor());
 
 		this.effortCache.putAll(efforts);
 
@@ -304,9 +350,7 @@ public class AthleteServiceImpl extends StravaServiceImpl implements AthleteServ
 	 */
 	@Override
 	public CompletableFuture<List<StravaSegmentEffort>> listAthleteKOMsAsync(final Integer athleteId) {
-		return StravaServiceImpl.future(() -> {
-			return listAthleteKOMs(athleteId);
-		});
+		return listAthleteKOMsAsync(athleteId, null);
 	}
 
 	/**
@@ -314,9 +358,13 @@ public class AthleteServiceImpl extends StravaServiceImpl implements AthleteServ
 	 */
 	@Override
 	public CompletableFuture<List<StravaSegmentEffort>> listAthleteKOMsAsync(final Integer athleteId, final Paging pagingInstruction) {
-		return StravaServiceImpl.future(() -> {
-			return listAthleteKOMs(athleteId, pagingInstruction);
-		});
+		final CompletableFuture<List<StravaSegmentEffort>> efforts = PagingHandler.handlePagingAsync(pagingInstruction, thisPage -> callList(
+				() -> this.api.listAthleteKOMsAsync(athleteId, thisPage.getPage(), thisPage.getPageSize())));
+
+		return deliver(efforts.thenApply(stravaEfforts -> {
+			this.effortCache.putAll(stravaEfforts);
+			return stravaEfforts;
+		}));
 	}
 
 	/**
@@ -334,7 +382,7 @@ public class AthleteServiceImpl extends StravaServiceImpl implements AthleteServ
 	@Override
 	public List<StravaAthlete> listAthletesBothFollowing(final Integer id, final Paging pagingInstruction) {
 		final List<StravaAthlete> athletes = PagingHandler.handlePaging(pagingInstruction, thisPage -> Arrays.asList(AthleteServiceImpl.this.api
-				.listAthletesBothFollowing(id, thisPage.getPage(), thisPage.getPageSize())));
+				.listAthletesBothFollowing(id, thisPage.getPage(), thisPage.getPageSize())), getExecutor());
 
 		this.athleteCache.putAll(athletes);
 
@@ -346,9 +394,7 @@ public class AthleteServiceImpl extends StravaServiceImpl implements AthleteServ
 	 */
 	@Override
 	public CompletableFuture<List<StravaAthlete>> listAthletesBothFollowingAsync(final Integer athleteId) {
-		return StravaServiceImpl.future(() -> {
-			return listAthletesBothFollowing(athleteId);
-		});
+		return listAthletesBothFollowingAsync(athleteId, null);
 	}
 
 	/**
@@ -356,9 +402,10 @@ public class AthleteServiceImpl extends StravaServiceImpl implements AthleteServ
 	 */
 	@Override
 	public CompletableFuture<List<StravaAthlete>> listAthletesBothFollowingAsync(final Integer athleteId, final Paging pagingInstruction) {
-		return StravaServiceImpl.future(() -> {
-			return listAthletesBothFollowing(athleteId, pagingInstruction);
-		});
+		final CompletableFuture<List<StravaAthlete>> athletes = PagingHandler.handlePagingAsync(pagingInstruction, thisPage -> callList(
+				() -> this.api.listAthletesBothFollowingAsync(athleteId, thisPage.getPage(), thisPage.getPageSize())));
+
+		return deliver(athletes.thenApply(this::cacheAthletes));
 	}
 
 	/**
@@ -377,7 +424,8 @@ public class AthleteServiceImpl extends StravaServiceImpl implements AthleteServ
 		final List<StravaAthlete> athletes = PagingHandler.handlePaging(
 				pagingInstruction,
 				thisPage -> Arrays.asList(AthleteServiceImpl.this.api.listAuthenticatedAthleteFriends(
-						thisPage.getPage(), thisPage.getPageSize())));
+						thisPage.getPage(), thisPage.getPageSize())),
+				getExecutor());
 
 		this.athleteCache.putAll(athletes);
 
@@ -389,9 +437,7 @@ public class AthleteServiceImpl extends StravaServiceImpl implements AthleteServ
 	 */
 	@Override
 	public CompletableFuture<List<StravaAthlete>> listAuthenticatedAthleteFriendsAsync() {
-		return StravaServiceImpl.future(() -> {
-			return listAuthenticatedAthleteFriends();
-		});
+		return listAuthenticatedAthleteFriendsAsync(null);
 	}
 
 	/**
@@ -399,9 +445,10 @@ public class AthleteServiceImpl extends StravaServiceImpl implements AthleteServ
 	 */
 	@Override
 	public CompletableFuture<List<StravaAthlete>> listAuthenticatedAthleteFriendsAsync(final Paging pagingInstruction) {
-		return StravaServiceImpl.future(() -> {
-			return listAuthenticatedAthleteFriends(pagingInstruction);
-		});
+		final CompletableFuture<List<StravaAthlete>> athletes = PagingHandler.handlePagingAsync(pagingInstruction, thisPage -> callList(
+				() -> this.api.listAuthenticatedAthleteFriendsAsync(thisPage.getPage(), thisPage.getPageSize())));
+
+		return deliver(athletes.thenApply(this::cacheAthletes));
 	}
 
 	/**
@@ -426,9 +473,16 @@ public class AthleteServiceImpl extends StravaServiceImpl implements AthleteServ
 	 */
 	@Override
 	public CompletableFuture<StravaStatistics> statisticsAsync(final Integer athleteId) {
-		return StravaServiceImpl.future(() -> {
-			return statistics(athleteId);
-		});
+		return deliver(FutureUtils.recoverWith(call(() -> this.api.statisticsAsync(athleteId)), cause -> {
+			if (cause instanceof NotFoundException) {
+				return CompletableFuture.completedFuture(null);
+			}
+			if (cause instanceof UnauthorizedException) {
+				return accessTokenIsValidAsync().thenCompose(valid -> valid.booleanValue() ? CompletableFuture.completedFuture(new StravaStatistics())
+						: FutureUtils.<StravaStatistics> failed(cause));
+			}
+			return FutureUtils.failed(cause);
+		}));
 	}
 
 	/**
@@ -451,9 +505,10 @@ public class AthleteServiceImpl extends StravaServiceImpl implements AthleteServ
 	 */
 	@Override
 	public CompletableFuture<StravaAthlete> updateAuthenticatedAthleteAsync(final String city, final String state, final String country, final StravaGender sex, final Float weight) {
-		return StravaServiceImpl.future(() -> {
-			return updateAuthenticatedAthlete(city, state, country, sex, weight);
-		});
+		return deliver(call(() -> this.api.updateAuthenticatedAthleteAsync(city, state, country, sex, weight)).thenApply(athlete -> {
+			this.athleteCache.put(athlete);
+			return athlete;
+		}));
 	}
 
 }
@@ -7,6 +7,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import javastrava.api.v3.auth.model.Token;
 import javastrava.api.v3.model.StravaActivity;
@@ -21,6 +22,7 @@ import javastrava.api.v3.service.exception.NotFoundException;
 import javastrava.api.v3.service.exception.UnauthorizedException;
 import javastrava.cache.StravaCache;
 import javastrava.cache.impl.StravaCacheImpl;
+import javastrava.util.FutureUtils;
 import javastrava.util.Paging;
 import javastrava.util.PagingHandler;
 import javastrava.util.PrivacyUtils;
@@ -86,7 +88,7 @@ public class ClubServiceImpl extends StravaServiceImpl implements ClubService {
 	 */
 	private ClubServiceImpl(final Token token) {
 		super(token);
-		this.clubCache = new StravaCacheImpl<StravaClub, Integer>(StravaClub.class, token);
+		this.clubCache = new StravaCacheImpl<StravaClub, Integer>(StravaClub.class, token, PrivacyUtils::clubIsShareable);
 	}
 
 	/**
@@ -102,19 +104,22 @@ public class ClubServiceImpl extends StravaServiceImpl implements ClubService {
 	 */
 	@Override
 	public StravaClub getClub(final Integer id) {
-		// Attempt to get the club from the cache
-		StravaClub club = this.clubCache.get(id);
+		// Attempt to get the club from the cache (if it's stale, it gets refreshed in the background)
+		StravaClub club = this.clubCache.get(id, this::retrieveClub);
 		if ((club != null) && (club.getResourceState() != StravaResourceState.META)) {
 			return club;
 		}
 
+		// If Strava recently said it doesn't exist, don't ask again
+		if (this.clubCache.isNotFound(id)) {
+			return null;
+		}
+
 		// If it wasn't in cache, get it from Strava
-		try {
-			club = this.api.getClub(id);
-		} catch (final NotFoundException e) {
+		club = retrieveClub(id);
+		if (club == null) {
+			this.clubCache.putNotFound(id);
 			return null;
-		} catch (final UnauthorizedException e) {
-			club = PrivacyUtils.privateClubRepresentation(id);
 		}
 
 		// Put it in the cache and return it
@@ -122,14 +127,60 @@ public class ClubServiceImpl extends StravaServiceImpl implements ClubService {
 		return club;
 	}
 
+	/**
+	 * Retrieves a club from the API
+	 *
+	 * @param id
+	 *            The club id
+	 * @return The club, or <code>null</code> if it doesn't exist
+	 */
+	private StravaClub retrieveClub(final Integer id) {
+		try {
+			return this.api.getClub(id);
+		} catch (final NotFoundException e) {
+			return null;
+		} catch (final UnauthorizedException e) {
+			return PrivacyUtils.privateClubRepresentation(id);
+		}
+	}
+
 	/**
 	 * @see javastrava.api.v3.service.ClubService#getClubAsync(java.lang.Integer)
 	 */
 	@Override
 	public CompletableFuture<StravaClub> getClubAsync(final Integer clubId) {
-		return StravaServiceImpl.future(() -> {
-			return getClub(clubId);
+		// Attempt to get the club from the cache (if it's stale, it gets refreshed in the background)
+		final StravaClub cached = this.clubCache.get(clubId, this::retrieveClub);
+		if ((cached != null) && (cached.getResourceState() != StravaResourceState.META)) {
+			return CompletableFuture.completedFuture(cached);
+		}
+
+		// If Strava recently said it doesn't exist, don't ask again
+		if (this.clubCache.isNotFound(clubId)) {
+			return CompletableFuture.completedFuture(null);
+		}
+
+		// If it wasn't in cache, get it from Strava
+		final CompletableFuture<StravaClub> club = FutureUtils.recover(call(() -> this.api.getClubAsync(clubId)), cause -> {
+			if (cause instanceof NotFoundException) {
+				return null;
+			}
+			if (cause instanceof UnauthorizedException) {
+				return PrivacyUtils.privateClubRepresentation(clubId);
+			}
+			throw cause;
 		});
+
+		return deliver(club.thenApply(stravaClub -> {
+			if (stravaClub == null) {
+				this.clubCache.putNotFound(clubId);
+				return null;
+			}
+
+			// Put it in the cache and return it
+			this.clubCache.put(stravaClub);
+			return stravaClub;
+		}));
 	}
 
 	/**
@@ -154,9 +205,7 @@ public class ClubServiceImpl extends StravaServiceImpl implements ClubService {
 	 */
 	@Override
 	public CompletableFuture<StravaClubMembershipResponse> joinClubAsync(final Integer clubId) {
-		return StravaServiceImpl.future(() -> {
-			return joinClub(clubId);
-		});
+		return deliver(membershipChange(call(() -> this.api.joinClubAsync(clubId))));
 	}
 
 	/**
@@ -181,8 +230,25 @@ public class ClubServiceImpl extends StravaServiceImpl implements ClubService {
 	 */
 	@Override
 	public CompletableFuture<StravaClubMembershipResponse> leaveClubAsync(final Integer clubId) {
-		return StravaServiceImpl.future(() -> {
-			return leaveClub(clubId);
+		return deliver(membershipChange(call(() -> this.api.leaveClubAsync(clubId))));
+	}
+
+	/**
+	 * @param request
+	 *            Future for Strava's response to a request to join or leave a club
+	 * @return Future which completes with the response; or with a failed response if the club doesn't exist or the athlete isn't allowed to join
+	 *         or leave it
+	 */
+	private CompletableFuture<StravaClubMembershipResponse> membershipChange(final CompletableFuture<StravaClubMembershipResponse> request) {
+		return FutureUtils.recoverWith(request, cause -> {
+			if (cause instanceof NotFoundException) {
+				return CompletableFuture.completedFuture(failedClubMembershipResponse());
+			}
+			if (cause instanceof UnauthorizedException) {
+				return accessTokenIsValidAsync().thenCompose(valid -> valid.booleanValue() ? CompletableFuture
+						.completedFuture(failedClubMembershipResponse()) : FutureUtils.<StravaClubMembershipResponse> failed(cause));
+			}
+			return FutureUtils.failed(cause);
 		});
 	}
 
@@ -191,7 +257,7 @@ public class ClubServiceImpl extends StravaServiceImpl implements ClubService {
 	 */
 	@Override
 	public List<StravaAthlete> listAllClubMembers(final Integer clubId) {
-		return PagingHandler.handleListAll(thisPage -> listClubMembers(clubId, thisPage));
+		return PagingHandler.handleListAll(thisPage -> listClubMembers(clubId, thisPage), getExecutor());
 
 	}
 
@@ -200,9 +266,7 @@ public class ClubServiceImpl extends StravaServiceImpl implements ClubService {
 	 */
 	@Override
 	public CompletableFuture<List<StravaAthlete>> listAllClubMembersAsync(final Integer clubId) {
-		return StravaServiceImpl.future(() -> {
-			return listAllClubMembers(clubId);
-		});
+		return deliver(PagingHandler.handleListAllAsync(thisPage -> listClubMembersAsync(clubId, thisPage)));
 	}
 
 	/**
@@ -210,7 +274,7 @@ public class ClubServiceImpl extends StravaServiceImpl implements ClubService {
 	 */
 	@Override
 	public List<StravaActivity> listAllRecentClubActivities(final Integer clubId) {
-		return PagingHandler.handleListAll(thisPage -> listRecentClubActivities(clubId, thisPage));
+		return PagingHandler.handleListAll(thisPage -> listRecentClubActivities(clubId, thisPage), getExecutor());
 	}
 
 	/**
@@ -218,9 +282,7 @@ public class ClubServiceImpl extends StravaServiceImpl implements ClubService {
 	 */
 	@Override
 	public CompletableFuture<List<StravaActivity>> listAllRecentClubActivitiesAsync(final Integer clubId) {
-		return StravaServiceImpl.future(() -> {
-			return listAllRecentClubActivities(clubId);
-		});
+		return deliver(PagingHandler.handleListAllAsync(thisPage -> listRecentClubActivitiesAsync(clubId, thisPage)));
 	}
 
 	/**
@@ -236,9 +298,7 @@ public class ClubServiceImpl extends StravaServiceImpl implements ClubService {
 	 */
 	@Override
 	public CompletableFuture<List<StravaClub>> listAuthenticatedAthleteClubsAsync() {
-		return StravaServiceImpl.future(() -> {
-			return listAuthenticatedAthleteClubs();
-		});
+		return deliver(callList(() -> this.api.listAuthenticatedAthleteClubsAsync()));
 	}
 
 	/**
@@ -262,9 +322,15 @@ public class ClubServiceImpl extends StravaServiceImpl implements ClubService {
 	 */
 	@Override
 	public CompletableFuture<List<StravaClubAnnouncement>> listClubAnnouncementsAsync(final Integer clubId) {
-		return StravaServiceImpl.future(() -> {
-			return listClubAnnouncements(clubId);
-		});
+		return deliver(FutureUtils.recover(callList(() -> this.api.listClubAnnouncementsAsync(clubId)), cause -> {
+			if (cause instanceof NotFoundException) {
+				return null;
+			}
+			if (cause instanceof UnauthorizedException) {
+				return new ArrayList<StravaClubAnnouncement>();
+			}
+			throw cause;
+		}));
 	}
 
 	/**
@@ -280,9 +346,7 @@ public class ClubServiceImpl extends StravaServiceImpl implements ClubService {
 	 */
 	@Override
 	public CompletableFuture<List<StravaClubEvent>> listClubGroupEventsAsync(final Integer clubId) {
-		return StravaServiceImpl.future(() -> {
-			return Arrays.asList(this.api.listClubGroupEvents(clubId));
-		});
+		return deliver(callList(() -> this.api.listClubGroupEventsAsync(clubId)));
 	}
 
 	/**
@@ -302,7 +366,8 @@ public class ClubServiceImpl extends StravaServiceImpl implements ClubService {
 		return PagingHandler.handlePaging(
 				pagingInstruction,
 				thisPage -> Arrays.asList(this.api.listClubMembers(id, thisPage.getPage(),
-						thisPage.getPageSize())));
+						thisPage.getPageSize())),
+				getExecutor());
 	}
 
 	/**
@@ -310,9 +375,7 @@ public class ClubServiceImpl extends StravaServiceImpl implements ClubService {
 	 */
 	@Override
 	public CompletableFuture<List<StravaAthlete>> listClubMembersAsync(final Integer clubId) {
-		return StravaServiceImpl.future(() -> {
-			return listClubMembers(clubId);
-		});
+		return listClubMembersAsync(clubId, null);
 	}
 
 	/**
@@ -320,10 +383,8 @@ public class ClubServiceImpl extends StravaServiceImpl implements ClubService {
 	 */
 	@Override
 	public CompletableFuture<List<StravaAthlete>> listClubMembersAsync(final Integer clubId, final Paging pagingInstruction) {
-		return StravaServiceImpl.future(() -> {
-			return listClubMembers(clubId, pagingInstruction);
-		});
-
+		return deliver(PagingHandler.handlePagingAsync(pagingInstruction, thisPage -> callList(() -> this.api.listClubMembersAsync(clubId,
+				thisPage.getPage(), thisPage.getPageSize()))));
 	}
 
 	/**
@@ -348,7 +409,7 @@ public class ClubServiceImpl extends StravaServiceImpl implements ClubService {
 	public List<StravaActivity> listRecentClubActivities(final Integer id, final Paging pagingInstruction) {
 		final List<StravaActivity> activities = PagingHandler.handlePaging(pagingInstruction, thisPage -> Arrays
 				.asList(ClubServiceImpl.this.api.listRecentClubActivities(id, thisPage.getPage(),
-						thisPage.getPageSize())));
+						thisPage.getPageSize())), getExecutor());
 
 		return PrivacyUtils.handlePrivateActivities(activities, this.getToken());
 	}
@@ -358,8 +419,12 @@ public class ClubServiceImpl extends StravaServiceImpl implements ClubService {
 	 */
 	@Override
 	public CompletableFuture<List<StravaActivity>> listRecentClubActivitiesAsync(final Integer clubId) {
-		return StravaServiceImpl.future(() -> {
-			return listRecentClubActivities(clubId);
+		return listRecentClubActivitiesAsync(clubId, null).thenApply(activities -> {
+			// Strava API returns NULL instead of an empty array
+			if (activities == null) {
+				return new ArrayList<StravaActivity>();
+			}
+			return activities;
 		});
 	}
 
@@ -368,9 +433,17 @@ public class ClubServiceImpl extends StravaServiceImpl implements ClubService {
 	 */
 	@Override
 	public CompletableFuture<List<StravaActivity>> listRecentClubActivitiesAsync(final Integer clubId, final Paging pagingInstruction) {
-		return StravaServiceImpl.future(() -> {
-			return listRecentClubActivities(clubId, pagingInstruction);
-		});
+		final CompletableFuture<List<StravaActivity>> activities = PagingHandler.handlePagingAsync(pagingInstruction, thisPage -> callList(
+				() -> this.api.listRecentClubActivitiesAsync(clubId, thisPage.getPage(), thisPage.getPageSize())));
+
+		return deliver(activities.thenApply(stravaActivities -> PrivacyUtils.handlePrivateActivities(stravaActivities, this.getToken())));
 	}
 
+	/**
+	 * @see javastrava.api.v3.service.ClubService#streamAllClubMembers(java.lang.Integer)
+	 */
+	@Override
+	public Stream<StravaAthlete> streamAllClubMembers(final Integer clubId) {
+		return PagingHandler.handleStreamAll(thisPage -> listClubMembers(clubId, thisPage), getExecutor());
+	}
 }
@@ -11,6 +11,7 @@ import javastrava.api.v3.service.exception.NotFoundException;
 import javastrava.api.v3.service.exception.UnauthorizedException;
 import javastrava.cache.StravaCache;
 import javastrava.cache.impl.StravaCacheImpl;
+import javastrava.util.FutureUtils;
 import javastrava.util.PrivacyUtils;
 
 /**
@@ -83,19 +84,22 @@ public class GearServiceImpl extends StravaServiceImpl implements GearService {
 	 */
 	@Override
 	public StravaGear getGear(final String gearId) {
-		// Attempt to get the gear from cache
-		StravaGear gear = this.gearCache.get(gearId);
+		// Attempt to get the gear from cache (if it's stale, it gets refreshed in the background)
+		StravaGear gear = this.gearCache.get(gearId, this::retrieveGear);
 		if ((gear != null) && (gear.getResourceState() != StravaResourceState.META)) {
 			return gear;
 		}
 
+		// If Strava recently said it doesn't exist, don't ask again
+		if (this.gearCache.isNotFound(gearId)) {
+			return null;
+		}
+
 		// If it wasn't in cache, try to get it from the API
-		try {
-			gear = this.api.getGear(gearId);
-		} catch (final NotFoundException e) {
+		gear = retrieveGear(gearId);
+		if (gear == null) {
+			this.gearCache.putNotFound(gearId);
 			return null;
-		} catch (final UnauthorizedException e) {
-			gear = PrivacyUtils.privateGear(gearId);
 		}
 
 		// Put the gear in cache and return it
@@ -103,14 +107,60 @@ public class GearServiceImpl extends StravaServiceImpl implements GearService {
 		return gear;
 	}
 
+	/**
+	 * Retrieves gear from the API
+	 *
+	 * @param gearId
+	 *            The gear id
+	 * @return The gear, or <code>null</code> if it doesn't exist
+	 */
+	private StravaGear retrieveGear(final String gearId) {
+		try {
+			return this.api.getGear(gearId);
+		} catch (final NotFoundException e) {
+			return null;
+		} catch (final UnauthorizedException e) {
+			return PrivacyUtils.privateGear(gearId);
+		}
+	}
+
 	/**
 	 * @see javastrava.api.v3.service.GearService#getGearAsync(java.lang.String)
 	 */
 	@Override
 	public CompletableFuture<StravaGear> getGearAsync(final String gearId) {
-		return StravaServiceImpl.future(() -> {
-			return getGear(gearId);
+		// Attempt to get the gear from cache (if it's stale, it gets refreshed in the background)
+		final StravaGear cached = this.gearCache.get(gearId, this::retrieveGear);
+		if ((cached != null) && (cached.getResourceState() != StravaResourceState.META)) {
+			return CompletableFuture.completedFuture(cached);
+		}
+
+		// If Strava recently said it doesn't exist, don't ask again
+		if (this.gearCache.isNotFound(gearId)) {
+			return CompletableFuture.completedFuture(null);
+		}
+
+		// If it wasn't in cache, try to get it from the API
+		final CompletableFuture<StravaGear> gear = FutureUtils.recover(call(() -> this.api.getGearAsync(gearId)), cause -> {
+			if (cause instanceof NotFoundException) {
+				return null;
+			}
+			if (cause instanceof UnauthorizedException) {
+				return PrivacyUtils.privateGear(gearId);
+			}
+			throw cause;
 		});
+
+		return deliver(gear.thenApply(stravaGear -> {
+			if (stravaGear == null) {
+				this.gearCache.putNotFound(gearId);
+				return null;
+			}
+
+			// Put the gear in cache and return it
+			this.gearCache.put(stravaGear);
+			return stravaGear;
+		}));
 	}
 
 }
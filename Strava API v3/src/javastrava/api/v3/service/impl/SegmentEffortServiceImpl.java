@@ -12,6 +12,7 @@ import javastrava.api.v3.service.exception.NotFoundException;
 import javastrava.api.v3.service.exception.UnauthorizedException;
 import javastrava.cache.StravaCache;
 import javastrava.cache.impl.StravaCacheImpl;
+import javastrava.util.FutureUtils;
 import javastrava.util.PrivacyUtils;
 
 /**
@@ -80,36 +81,98 @@ public class SegmentEffortServiceImpl extends StravaServiceImpl implements Segme
 	 */
 	@Override
 	public StravaSegmentEffort getSegmentEffort(final Long segmentEffortId) {
-		// Try to get the effort from cache
-		StravaSegmentEffort effort = this.effortCache.get(segmentEffortId);
+		// Try to get the effort from cache (if it's stale, it gets refreshed in the background)
+		final StravaSegmentEffort effort = this.effortCache.get(segmentEffortId, this::retrieveSegmentEffort);
 		if ((effort != null) && (effort.getResourceState() != StravaResourceState.META)) {
 			return effort;
 		}
 
+		// If Strava recently said it doesn't exist, don't ask again
+		if (this.effortCache.isNotFound(segmentEffortId)) {
+			return null;
+		}
+
 		// If it wasn't in cache, get it from the API
+		return cacheEffort(segmentEffortId, retrieveSegmentEffort(segmentEffortId));
+	}
+
+	/**
+	 * @param segmentEffortId
+	 *            The segment effort id
+	 * @param effort
+	 *            The segment effort returned by Strava, or <code>null</code> if it doesn't exist
+	 * @return The segment effort, having put it in the cache (or remembered that it doesn't exist)
+	 */
+	private StravaSegmentEffort cacheEffort(final Long segmentEffortId, final StravaSegmentEffort effort) {
+		if (effort == null) {
+			// Segment effort doesn't exist
+			this.effortCache.putNotFound(segmentEffortId);
+			return null;
+		}
+
+		// Put the effort into cache and return it
+		this.effortCache.put(effort);
+		return effort;
+	}
+
+	/**
+	 * Retrieves a segment effort from the API
+	 *
+	 * @param segmentEffortId
+	 *            The segment effort id
+	 * @return The segment effort, or <code>null</code> if it doesn't exist
+	 */
+	private StravaSegmentEffort retrieveSegmentEffort(final Long segmentEffortId) {
+		final StravaSegmentEffort effort;
 		try {
 			effort = this.api.getSegmentEffort(segmentEffortId);
 		} catch (final NotFoundException e) {
 			// Segment effort doesn't exist
 			return null;
 		} catch (final UnauthorizedException e) {
-			effort = PrivacyUtils.privateSegmentEffort(segmentEffortId);
+			return PrivacyUtils.privateSegmentEffort(segmentEffortId);
 		}
 
+		if (!dependsOnSegmentPrivacy(effort)) {
+			return effort;
+		}
+		final StravaSegment segment = this.getToken().getService(SegmentService.class).getSegment(effort.getSegment().getId());
+		return withSegmentPrivacy(segmentEffortId, effort, segment);
+	}
+
+	/**
+	 * <p>
+	 * Strava returns the details of an effort on a private segment, even if the segment itself is inaccessible (workaround for issue javastrava-api
+	 * #78)
+	 * </p>
+	 *
+	 * @param effort
+	 *            The segment effort returned by Strava, or <code>null</code> if it doesn't exist
+	 * @return <code>true</code> if whether the effort is accessible depends on whether its segment is
+	 * @see #withSegmentPrivacy(Long, StravaSegmentEffort, StravaSegment)
+	 */
+	private static boolean dependsOnSegmentPrivacy(final StravaSegmentEffort effort) {
 		// TODO This is a workaround for issue javastrava-api #78
 		// See https://github.com/danshannon/javastravav3api/issues/78
-		if (effort.getResourceState() == StravaResourceState.DETAILED) {
-			final StravaSegment segment = this.getToken().getService(SegmentService.class)
-					.getSegment(effort.getSegment().getId());
-			if (segment.getResourceState() == StravaResourceState.PRIVATE) {
-				effort = PrivacyUtils.privateSegmentEffort(segmentEffortId);
-			}
-		}
-		// End of workaround
+		return ((effort != null) && (effort.getResourceState() == StravaResourceState.DETAILED));
+	}
 
-		// Put the effort into cache and return it
-		this.effortCache.put(effort);
+	/**
+	 * @param segmentEffortId
+	 *            The segment effort id
+	 * @param effort
+	 *            The segment effort returned by Strava
+	 * @param segment
+	 *            The effort's segment
+	 * @return The effort; or a private effort if the segment is private and inaccessible
+	 * @see #dependsOnSegmentPrivacy(StravaSegmentEffort)
+	 */
+	private static StravaSegmentEffort withSegmentPrivacy(final Long segmentEffortId, final StravaSegmentEffort effort, final StravaSegment segment) {
+		if (segment.getResourceState() == StravaResourceState.PRIVATE) {
+			return PrivacyUtils.privateSegmentEffort(segmentEffortId);
+		}
 		return effort;
+		// End of workaround
 	}
 
 	/**
@@ -117,9 +180,37 @@ public class SegmentEffortServiceImpl extends StravaServiceImpl implements Segme
 	 */
 	@Override
 	public CompletableFuture<StravaSegmentEffort> getSegmentEffortAsync(final Long segmentEffortId) {
-		return StravaServiceImpl.future(() -> {
-			return getSegmentEffort(segmentEffortId);
+		// Try to get the effort from cache (if it's stale, it gets refreshed in the background)
+		final StravaSegmentEffort cached = this.effortCache.get(segmentEffortId, this::retrieveSegmentEffort);
+		if ((cached != null) && (cached.getResourceState() != StravaResourceState.META)) {
+			return CompletableFuture.completedFuture(cached);
+		}
+
+		// If Strava recently said it doesn't exist, don't ask again
+		if (this.effortCache.isNotFound(segmentEffortId)) {
+			return CompletableFuture.completedFuture(null);
+		}
+
+		// If it wasn't in cache, get it from the API
+		final CompletableFuture<StravaSegmentEffort> effort = FutureUtils.recover(call(() -> this.api.getSegmentEffortAsync(segmentEffortId)), cause -> {
+			if (cause instanceof NotFoundException) {
+				return null;
+			}
+			if (cause instanceof UnauthorizedException) {
+				return PrivacyUtils.privateSegmentEffort(segmentEffortId);
+			}
+			throw cause;
+		});
+
+		final CompletableFuture<StravaSegmentEffort> checked = effort.thenCompose(stravaEffort -> {
+			if (!dependsOnSegmentPrivacy(stravaEffort)) {
+				return CompletableFuture.completedFuture(stravaEffort);
+			}
+			return this.getToken().getService(SegmentService.class).getSegmentAsync(stravaEffort.getSegment().getId()).thenApply(
+					segment -> withSegmentPrivacy(segmentEffortId, stravaEffort, segment));
 		});
+
+		return deliver(checked.thenApply(stravaEffort -> cacheEffort(segmentEffortId, stravaEffort)));
 	}
 
 }
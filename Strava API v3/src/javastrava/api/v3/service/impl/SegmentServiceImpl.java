@@ -7,8 +7,19 @@ import java.time.LocalDateTime;
 import java.time.Month;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import javastrava.api.v3.auth.model.Token;
 import javastrava.api.v3.model.StravaMapPoint;
@@ -33,6 +44,7 @@ import javastrava.cache.StravaCache;
 import javastrava.cache.impl.StravaCacheImpl;
 import javastrava.config.Messages;
 import javastrava.config.StravaConfig;
+import javastrava.util.FutureUtils;
 import javastrava.util.Paging;
 import javastrava.util.PagingHandler;
 import javastrava.util.PagingUtils;
@@ -47,6 +59,16 @@ import javastrava.util.PrivacyUtils;
  *
  */
 public class SegmentServiceImpl extends StravaServiceImpl implements SegmentService {
+	/**
+	 * Number of entries either side of the athlete's requested with each page of a whole leaderboard
+	 */
+	private static final Integer LEADERBOARD_CONTEXT = Integer.valueOf(2);
+
+	/**
+	 * Size of the athlete's neighbourhood in each page of a whole leaderboard
+	 */
+	private static final Integer LEADERBOARD_CONTEXT_SIZE = Integer.valueOf((LEADERBOARD_CONTEXT.intValue() * 2) + 1);
+
 	/**
 	 * <p>
 	 * Returns an instance of {@link SegmentService gear services}
@@ -94,7 +116,65 @@ public class SegmentServiceImpl extends StravaServiceImpl implements SegmentServ
 	 */
 	private SegmentServiceImpl(final Token token) {
 		super(token);
-		this.segmentCache = new StravaCacheImpl<StravaSegment, Integer>(StravaSegment.class, token);
+		this.segmentCache = new StravaCacheImpl<StravaSegment, Integer>(StravaSegment.class, token, PrivacyUtils::segmentIsShareable,
+				PrivacyUtils::segmentForSharing);
+	}
+
+	/**
+	 * <p>
+	 * Splits the athlete's entries out of a page of leaderboard returned by the Strava API, trims it according to the paging instruction, and
+	 * adds it to the leaderboard
+	 * </p>
+	 *
+	 * @param leaderboard
+	 *            The leaderboard so far
+	 * @param current
+	 *            The page returned by the Strava API
+	 * @param paging
+	 *            The paging instruction that was sent to Strava API
+	 * @param contextSize
+	 *            Number of entries either side of the athlete's to return as context
+	 * @return The leaderboard with the page added
+	 */
+	private StravaSegmentLeaderboard addLeaderboardPage(final StravaSegmentLeaderboard leaderboard, final StravaSegmentLeaderboard current,
+			final Paging paging, final Integer contextSize) {
+		splitLeaderboardPage(current, paging, contextSize);
+		if (leaderboard.getEntries() == null) {
+			return current;
+		}
+		leaderboard.getEntries().addAll(current.getEntries());
+		leaderboard.getAthleteEntries().addAll(current.getAthleteEntries());
+		return leaderboard;
+	}
+
+	/**
+	 * <p>
+	 * Gets the pages of a leaderboard one after the other, adding each to the leaderboard, until there are no more pages or an empty one is
+	 * returned
+	 * </p>
+	 *
+	 * @param leaderboard
+	 *            The leaderboard so far
+	 * @param pages
+	 *            The remaining pages to get from the Strava API
+	 * @param contextSize
+	 *            Number of entries either side of the athlete's to return as context
+	 * @param request
+	 *            Gets a page of the leaderboard from the Strava API
+	 * @return The leaderboard
+	 */
+	private CompletableFuture<StravaSegmentLeaderboard> addLeaderboardPagesAsync(final StravaSegmentLeaderboard leaderboard,
+			final Iterator<Paging> pages, final Integer contextSize, final Function<Paging, CompletableFuture<StravaSegmentLeaderboard>> request) {
+		if (!pages.hasNext()) {
+			return CompletableFuture.completedFuture(leaderboard);
+		}
+		final Paging paging = pages.next();
+		return request.apply(paging).thenCompose(current -> {
+			if (current.getEntries().isEmpty()) {
+				return CompletableFuture.completedFuture(leaderboard);
+			}
+			return addLeaderboardPagesAsync(addLeaderboardPage(leaderboard, current, paging, contextSize), pages, contextSize, request);
+		});
 	}
 
 	/**
@@ -168,6 +248,164 @@ public class SegmentServiceImpl extends StravaServiceImpl implements SegmentServ
 		this.segmentCache.removeAll();
 	}
 
+	/**
+	 * <p>
+	 * Lists the efforts on a segment, unless they shouldn't be listed. Strava lists efforts on hazardous segments (workaround for issue
+	 * javastrava-api #33, https://github.com/danshannon/javastravav3api/issues/33) and on segments the token can't see (workaround for issue
+	 * javastrava-api #45, https://github.com/danshannon/javastravav3api/issues/45), so neither are asked for.
+	 * </p>
+	 *
+	 * @param segment
+	 *            The segment, or <code>null</code> if it doesn't exist
+	 * @param invisible
+	 *            Resource state of a segment the token can't see
+	 * @param notFound
+	 *            What to return if the segment doesn't exist
+	 * @param hidden
+	 *            What to return if the segment's efforts shouldn't be listed
+	 * @param efforts
+	 *            Lists the efforts on the segment
+	 * @param <L>
+	 *            Type of the list of efforts, or of a future which completes with it
+	 * @return The efforts
+	 */
+	private static <L> L effortsOf(final StravaSegment segment, final StravaResourceState invisible, final L notFound, final L hidden,
+			final Supplier<L> efforts) {
+		if (segment == null) {
+			return notFound;
+		}
+
+		// TODO Workaround for issues javastrava-api #33 and #45
+		if ((segment.getResourceState() == invisible) || (segment.getHazardous() == Boolean.TRUE)) {
+			return hidden;
+		}
+		// End of workaround
+
+		return efforts.get();
+	}
+
+	/**
+	 * @param segment
+	 *            The segment, or <code>null</code> if it doesn't exist
+	 * @param invisible
+	 *            Resource state of a segment the token can't see
+	 * @param efforts
+	 *            Asks for the efforts on the segment
+	 * @return Future which completes with the efforts; <code>null</code> if the segment doesn't exist, empty if they shouldn't be listed
+	 * @see #effortsOf(StravaSegment, StravaResourceState, Object, Object, Supplier)
+	 */
+	private static CompletableFuture<List<StravaSegmentEffort>> effortsOfAsync(final StravaSegment segment, final StravaResourceState invisible,
+			final Supplier<CompletableFuture<List<StravaSegmentEffort>>> efforts) {
+		return effortsOf(segment, invisible, CompletableFuture.<List<StravaSegmentEffort>> completedFuture(null), CompletableFuture
+				.<List<StravaSegmentEffort>> completedFuture(new ArrayList<StravaSegmentEffort>()), efforts);
+	}
+
+	/**
+	 * @param startDateLocal
+	 *            Start date asked for, or <code>null</code>
+	 * @param endDateLocal
+	 *            End date asked for, or <code>null</code>
+	 * @return Start date to ask Strava for; if the end date is set but the start date isn't, Strava likes it to be set to something low
+	 */
+	private static String effortsStart(final LocalDateTime startDateLocal, final LocalDateTime endDateLocal) {
+		if ((startDateLocal == null) && (endDateLocal != null)) {
+			return LocalDateTime.of(1900, Month.JANUARY, 1, 0, 0, 0).toString();
+		}
+		return (startDateLocal == null ? null : startDateLocal.toString());
+	}
+
+	/**
+	 * @param startDateLocal
+	 *            Start date asked for, or <code>null</code>
+	 * @param endDateLocal
+	 *            End date asked for, or <code>null</code>
+	 * @return End date to ask Strava for; if the start date is set but the end date isn't, Strava likes it to be set to something high
+	 */
+	private static String effortsEnd(final LocalDateTime startDateLocal, final LocalDateTime endDateLocal) {
+		if ((endDateLocal == null) && (startDateLocal != null)) {
+			return LocalDateTime.of(9999, Month.DECEMBER, 31, 23, 59, 59).toString();
+		}
+		return (endDateLocal == null ? null : endDateLocal.toString());
+	}
+
+	/**
+	 * @param contextEntries
+	 *            Number of context entries asked for, or <code>null</code>
+	 * @return Number of context entries to ask Strava for; if null, then the default value for contextEntries is 2; the max is 15
+	 */
+	private static Integer leaderboardContext(final Integer contextEntries) {
+		return (contextEntries == null ? Integer.valueOf(2) : Integer.valueOf(Math.max(0, Math.min(15, contextEntries.intValue()))));
+	}
+
+	/**
+	 * @param cause
+	 *            Why getting a leaderboard failed, or <code>null</code>
+	 * @return <code>true</code> if Strava refused to give the leaderboard
+	 * @see #refusedLeaderboard(Throwable)
+	 */
+	private static boolean isLeaderboardRefusal(final Throwable cause) {
+		return ((cause instanceof NotFoundException) || (cause instanceof BadRequestException) || (cause instanceof UnauthorizedException));
+	}
+
+	/**
+	 * @param cause
+	 *            Why Strava refused to give a leaderboard
+	 * @return What to return instead: a private leaderboard if the token isn't allowed to see it, otherwise <code>null</code>
+	 * @see #isLeaderboardRefusal(Throwable)
+	 */
+	private static StravaSegmentLeaderboard refusedLeaderboard(final Throwable cause) {
+		if (cause instanceof UnauthorizedException) {
+			return PrivacyUtils.privateSegmentLeaderboard();
+		}
+		return null;
+	}
+
+	/**
+	 * <p>
+	 * Gets a segment's leaderboard: <code>null</code> if the segment doesn't exist, or a private leaderboard if it is private and inaccessible.
+	 * Strava refusing to give the leaderboard is dealt with in the same way.
+	 * </p>
+	 *
+	 * @param segment
+	 *            The segment, or <code>null</code> if it doesn't exist
+	 * @param pages
+	 *            Gets the leaderboard from Strava
+	 * @return The leaderboard
+	 */
+	private static StravaSegmentLeaderboard leaderboardOf(final StravaSegment segment, final Supplier<StravaSegmentLeaderboard> pages) {
+		return belongingTo(segment, null, PrivacyUtils.privateSegmentLeaderboard(), () -> {
+			try {
+				final StravaSegmentLeaderboard leaderboard = pages.get();
+				leaderboard.setResourceState(StravaResourceState.DETAILED);
+				return leaderboard;
+			} catch (final NotFoundException | BadRequestException | UnauthorizedException e) {
+				return refusedLeaderboard(e);
+			}
+		});
+	}
+
+	/**
+	 * @param segment
+	 *            The segment, or <code>null</code> if it doesn't exist
+	 * @param pages
+	 *            Asks for the leaderboard from Strava
+	 * @return Future which completes with the leaderboard
+	 * @see #leaderboardOf(StravaSegment, Supplier)
+	 */
+	private static CompletableFuture<StravaSegmentLeaderboard> leaderboardOfAsync(final StravaSegment segment,
+			final Supplier<CompletableFuture<StravaSegmentLeaderboard>> pages) {
+		return belongingTo(segment, CompletableFuture.<StravaSegmentLeaderboard> completedFuture(null), CompletableFuture.completedFuture(PrivacyUtils
+				.privateSegmentLeaderboard()), () -> FutureUtils.recover(pages.get().thenApply(leaderboard -> {
+					leaderboard.setResourceState(StravaResourceState.DETAILED);
+					return leaderboard;
+				}), cause -> {
+					if (isLeaderboardRefusal(cause)) {
+						return refusedLeaderboard(cause);
+					}
+					throw cause;
+				}));
+	}
+
 	/**
 	 * @see javastrava.api.v3.service.SegmentService#getAllSegmentLeaderboard(java.lang.Integer)
 	 */
@@ -188,33 +426,31 @@ public class SegmentServiceImpl extends StravaServiceImpl implements SegmentServ
 	public StravaSegmentLeaderboard getAllSegmentLeaderboard(final Integer segmentId, final StravaGender gender,
 			final StravaAgeGroup ageGroup, final StravaWeightClass weightClass, final Boolean following,
 			final Integer clubId, final StravaLeaderboardDateRange dateRange) {
-		boolean loop = true;
-		StravaSegmentLeaderboard leaderboard = new StravaSegmentLeaderboard();
-
-		int page = 0;
-		while (loop) {
-			page++;
-			StravaSegmentLeaderboard currentPage;
-			try {
-				currentPage = getSegmentLeaderboard(segmentId, gender, ageGroup, weightClass, following, clubId,
-						dateRange, new Paging(Integer.valueOf(page), StravaConfig.MAX_PAGE_SIZE), Integer.valueOf(2));
-			} catch (final UnauthorizedException e) {
-				return new StravaSegmentLeaderboard();
-			}
-			if (currentPage == null) {
-				return null; // Activity doesn't exist
-			}
-			if ((currentPage.getEntries() == null) || (currentPage.getEntries().size() < StravaConfig.MAX_PAGE_SIZE.intValue())) {
-				loop = false;
-			}
-			if (page == 1) {
-				leaderboard = currentPage;
-			} else {
-				leaderboard.getEntries().addAll(currentPage.getEntries());
+		// Check the segment once, rather than for every page
+		return leaderboardOf(getSegment(segmentId), () -> {
+			// The first page says whether there are any more
+			final StravaSegmentLeaderboard leaderboard = leaderboardPage(segmentId, gender, ageGroup, weightClass, following, clubId, dateRange,
+					new Paging(Integer.valueOf(1), StravaConfig.MAX_PAGE_SIZE));
+			if (leaderboardPageCount(leaderboard) > 1) {
+				// The rest go through the paging handler's sliding window, which stops at the first short page. It takes a page Strava refuses to
+				// be the end of the list, so the refusal is kept and reported for the whole leaderboard instead.
+				final AtomicReference<RuntimeException> refused = new AtomicReference<RuntimeException>();
+				final List<StravaSegmentLeaderboardEntry> rest = PagingHandler.handleListAll(thisPage -> {
+					try {
+						return leaderboardPage(segmentId, gender, ageGroup, weightClass, following, clubId, dateRange, leaderboardPageAfterFirst(thisPage))
+								.getEntries();
+					} catch (final NotFoundException | BadRequestException | UnauthorizedException e) {
+						refused.compareAndSet(null, e);
+						throw e;
+					}
+				}, getExecutor());
+				if (refused.get() != null) {
+					throw refused.get();
+				}
+				leaderboard.setEntries(mergeLeaderboardEntries(leaderboard.getEntries(), rest));
 			}
-		}
-		return leaderboard;
-
+			return leaderboard;
+		});
 	}
 
 	/**
@@ -222,9 +458,7 @@ public class SegmentServiceImpl extends StravaServiceImpl implements SegmentServ
 	 */
 	@Override
 	public CompletableFuture<StravaSegmentLeaderboard> getAllSegmentLeaderboardAsync(final Integer segmentId) {
-		return StravaServiceImpl.future(() -> {
-			return getAllSegmentLeaderboard(segmentId);
-		});
+		return getAllSegmentLeaderboardAsync(segmentId, null, null, null, null, null, null);
 	}
 
 	/**
@@ -233,9 +467,32 @@ public class SegmentServiceImpl extends StravaServiceImpl implements SegmentServ
 	@Override
 	public CompletableFuture<StravaSegmentLeaderboard> getAllSegmentLeaderboardAsync(final Integer segmentId, final StravaGender gender, final StravaAgeGroup ageGroup,
 			final StravaWeightClass weightClass, final Boolean following, final Integer clubId, final StravaLeaderboardDateRange dateRange) {
-		return StravaServiceImpl.future(() -> {
-			return getAllSegmentLeaderboard(segmentId, gender, ageGroup, weightClass, following, clubId, dateRange);
-		});
+		// Check the segment once, rather than for every page
+		return deliver(getSegmentAsync(segmentId).thenCompose(segment -> leaderboardOfAsync(segment, () -> {
+			// The first page says whether there are any more
+			return leaderboardPageAsync(segmentId, gender, ageGroup, weightClass, following, clubId, dateRange, new Paging(Integer.valueOf(1),
+					StravaConfig.MAX_PAGE_SIZE)).thenCompose(first -> {
+						if (leaderboardPageCount(first) <= 1) {
+							return CompletableFuture.completedFuture(first);
+						}
+
+						// The rest go through the paging handler's sliding window, as for getAllSegmentLeaderboard
+						final AtomicReference<Throwable> refused = new AtomicReference<Throwable>();
+						return PagingHandler.handleListAllAsync(thisPage -> leaderboardPageAsync(segmentId, gender, ageGroup, weightClass, following,
+								clubId, dateRange, leaderboardPageAfterFirst(thisPage)).whenComplete((page, error) -> {
+									final Throwable cause = (error == null ? null : FutureUtils.unwrap(error));
+									if (isLeaderboardRefusal(cause)) {
+										refused.compareAndSet(null, cause);
+									}
+								}).thenApply(StravaSegmentLeaderboard::getEntries)).thenCompose(rest -> {
+									if (refused.get() != null) {
+										return FutureUtils.<StravaSegmentLeaderboard> failed(refused.get());
+									}
+									first.setEntries(mergeLeaderboardEntries(first.getEntries(), rest));
+									return CompletableFuture.completedFuture(first);
+								});
+					});
+		})));
 	}
 
 	/**
@@ -243,32 +500,74 @@ public class SegmentServiceImpl extends StravaServiceImpl implements SegmentServ
 	 */
 	@Override
 	public StravaSegment getSegment(final Integer segmentId) {
-		// Try to get the segment from cache
-		StravaSegment segment = this.segmentCache.get(segmentId);
+		// Try to get the segment from cache (if it's stale, it gets refreshed in the background)
+		final StravaSegment segment = this.segmentCache.get(segmentId, this::retrieveSegment);
 		if ((segment != null) && (segment.getResourceState() != StravaResourceState.META)) {
 			return segment;
 		}
 
+		// If Strava recently said it doesn't exist, don't ask again
+		if (this.segmentCache.isNotFound(segmentId)) {
+			return null;
+		}
+
+		return cacheSegment(segmentId, retrieveSegment(segmentId));
+
+	}
+
+	/**
+	 * @param segmentId
+	 *            The segment id
+	 * @param segment
+	 *            The segment returned by Strava, or <code>null</code> if it doesn't exist
+	 * @return The segment, having put it in the cache (or remembered that it doesn't exist)
+	 */
+	private StravaSegment cacheSegment(final Integer segmentId, final StravaSegment segment) {
+		if (segment == null) {
+			this.segmentCache.putNotFound(segmentId);
+			return null;
+		}
+
+		// Put the segment in cache and return it
+		this.segmentCache.put(segment);
+		return segment;
+	}
+
+	/**
+	 * Retrieves a segment from the API
+	 *
+	 * @param segmentId
+	 *            The segment id
+	 * @return The segment, or <code>null</code> if it doesn't exist
+	 */
+	private StravaSegment retrieveSegment(final Integer segmentId) {
 		try {
-			segment = this.api.getSegment(segmentId);
+			return visibleSegment(segmentId, this.api.getSegment(segmentId));
 		} catch (final NotFoundException e) {
 			return null;
 		} catch (final UnauthorizedException e) {
-			segment = PrivacyUtils.privateSegment(segmentId);
+			return PrivacyUtils.privateSegment(segmentId);
 		}
+	}
 
+	/**
+	 * @param segmentId
+	 *            The segment id
+	 * @param segment
+	 *            The segment returned by Strava, or <code>null</code> if it doesn't exist
+	 * @return The segment as the token is allowed to see it
+	 */
+	private StravaSegment visibleSegment(final Integer segmentId, final StravaSegment segment) {
 		// TODO Workaround for javastrava-api #70
 		// If the segment is private and the token doesn't have view_private
 		// scope, then return an empty segment
-		if ((segment.getResourceState() != StravaResourceState.PRIVATE) && segment.getPrivateSegment().equals(Boolean.TRUE) && !getToken().hasViewPrivate()) {
-			segment = PrivacyUtils.privateSegment(segmentId);
+		if ((segment != null) && (segment.getResourceState() != StravaResourceState.PRIVATE) && segment.getPrivateSegment().equals(Boolean.TRUE)
+				&& !getToken().hasViewPrivate()) {
+			return PrivacyUtils.privateSegment(segmentId);
 		}
 		// End of workaround
 
-		// Put the segment in cache and return it
-		this.segmentCache.put(segment);
 		return segment;
-
 	}
 
 	/**
@@ -276,9 +575,29 @@ public class SegmentServiceImpl extends StravaServiceImpl implements SegmentServ
 	 */
 	@Override
 	public CompletableFuture<StravaSegment> getSegmentAsync(final Integer segmentId) {
-		return StravaServiceImpl.future(() -> {
-			return getSegment(segmentId);
+		// Try to get the segment from cache (if it's stale, it gets refreshed in the background)
+		final StravaSegment cached = this.segmentCache.get(segmentId, this::retrieveSegment);
+		if ((cached != null) && (cached.getResourceState() != StravaResourceState.META)) {
+			return CompletableFuture.completedFuture(cached);
+		}
+
+		// If Strava recently said it doesn't exist, don't ask again
+		if (this.segmentCache.isNotFound(segmentId)) {
+			return CompletableFuture.completedFuture(null);
+		}
+
+		final CompletableFuture<StravaSegment> segment = FutureUtils.recover(call(() -> this.api.getSegmentAsync(segmentId)).thenApply(
+				stravaSegment -> visibleSegment(segmentId, stravaSegment)), cause -> {
+			if (cause instanceof NotFoundException) {
+				return null;
+			}
+			if (cause instanceof UnauthorizedException) {
+				return PrivacyUtils.privateSegment(segmentId);
+			}
+			throw cause;
 		});
+
+		return deliver(segment.thenApply(stravaSegment -> cacheSegment(segmentId, stravaSegment)));
 	}
 
 	/**
@@ -311,29 +630,12 @@ public class SegmentServiceImpl extends StravaServiceImpl implements SegmentServ
 		// Check that the paging arguments are valid
 		PagingUtils.validatePagingArguments(pagingInstruction);
 
-		// Check that the segment is valid
-		final StravaSegment segment = getSegment(segmentId);
-
-		// If the segment doesn't exist, return null
-		if (segment == null) {
-			return null;
-		}
-
-		StravaSegmentLeaderboard leaderboard = new StravaSegmentLeaderboard();
-
-		// If the segment is private and inaccessible, then don't return a
-		// leaderboard
-		if (segment.getResourceState() == StravaResourceState.PRIVATE) {
-			return PrivacyUtils.privateSegmentLeaderboard();
-		}
-
-		// If null, then the default value for contextEntries is 2; the max is
-		// 15
-		final Integer context = (contextEntries == null ? Integer.valueOf(2) : Integer.valueOf(Math.max(0,
-				Math.min(15, contextEntries.intValue()))));
+		final Integer context = leaderboardContext(contextEntries);
 		final Integer contextSize = Integer.valueOf((context.intValue() * 2) + 1);
 
-		try {
+		// Check that the segment is valid
+		return leaderboardOf(getSegment(segmentId), () -> {
+			StravaSegmentLeaderboard leaderboard = new StravaSegmentLeaderboard();
 			for (final Paging paging : PagingUtils.convertToStravaPaging(pagingInstruction)) {
 				final StravaSegmentLeaderboard current = this.api.getSegmentLeaderboard(segmentId, gender, ageGroup,
 						weightClass, following, clubId, dateRange, paging.getPage(), paging.getPageSize(), context);
@@ -341,26 +643,10 @@ public class SegmentServiceImpl extends StravaServiceImpl implements SegmentServ
 					current.setAthleteEntries(new ArrayList<StravaSegmentLeaderboardEntry>());
 					break;
 				}
-				current.setAthleteEntries(calculateAthleteEntries(current, paging, contextSize));
-				current.getEntries().removeAll(current.getAthleteEntries());
-				current.setEntries(PagingUtils.ignoreLastN(current.getEntries(), paging.getIgnoreLastN()));
-				current.setEntries(PagingUtils.ignoreFirstN(current.getEntries(), paging.getIgnoreFirstN()));
-				if (leaderboard.getEntries() == null) {
-					leaderboard = current;
-				} else {
-					leaderboard.getEntries().addAll(current.getEntries());
-					leaderboard.getAthleteEntries().addAll(current.getAthleteEntries());
-				}
+				leaderboard = addLeaderboardPage(leaderboard, current, paging, contextSize);
 			}
-		} catch (final NotFoundException e) {
-			return null;
-		} catch (final UnauthorizedException e) {
-			return PrivacyUtils.privateSegmentLeaderboard();
-		} catch (final BadRequestException e) {
-			return null;
-		}
-		leaderboard.setResourceState(StravaResourceState.DETAILED);
-		return leaderboard;
+			return leaderboard;
+		});
 	}
 
 	/**
@@ -368,9 +654,7 @@ public class SegmentServiceImpl extends StravaServiceImpl implements SegmentServ
 	 */
 	@Override
 	public CompletableFuture<StravaSegmentLeaderboard> getSegmentLeaderboardAsync(final Integer segmentId) {
-		return StravaServiceImpl.future(() -> {
-			return getSegmentLeaderboard(segmentId);
-		});
+		return getSegmentLeaderboardAsync(segmentId, null);
 	}
 
 	/**
@@ -378,9 +662,7 @@ public class SegmentServiceImpl extends StravaServiceImpl implements SegmentServ
 	 */
 	@Override
 	public CompletableFuture<StravaSegmentLeaderboard> getSegmentLeaderboardAsync(final Integer segmentId, final Paging pagingInstruction) {
-		return StravaServiceImpl.future(() -> {
-			return getSegmentLeaderboard(segmentId, pagingInstruction);
-		});
+		return getSegmentLeaderboardAsync(segmentId, null, null, null, null, null, null, pagingInstruction, null);
 	}
 
 	/**
@@ -390,18 +672,162 @@ public class SegmentServiceImpl extends StravaServiceImpl implements SegmentServ
 	public CompletableFuture<StravaSegmentLeaderboard> getSegmentLeaderboardAsync(final Integer segmentId, final StravaGender gender, final StravaAgeGroup ageGroup,
 			final StravaWeightClass weightClass, final Boolean following, final Integer clubId, final StravaLeaderboardDateRange dateRange, final Paging pagingInstruction,
 			final Integer contextEntries) {
-		return StravaServiceImpl.future(() -> {
-			return getSegmentLeaderboard(segmentId, gender, ageGroup, weightClass, following, clubId, dateRange, pagingInstruction, contextEntries);
+		return FutureUtils.attempt(() -> {
+			// Check that the paging arguments are valid
+			PagingUtils.validatePagingArguments(pagingInstruction);
+
+			final Integer context = leaderboardContext(contextEntries);
+			final Integer contextSize = Integer.valueOf((context.intValue() * 2) + 1);
+
+			// Check that the segment is valid, then get the pages one after the other, stopping at the first empty one
+			return deliver(getSegmentAsync(segmentId).thenCompose(segment -> leaderboardOfAsync(segment, () -> addLeaderboardPagesAsync(
+					new StravaSegmentLeaderboard(), PagingUtils.convertToStravaPaging(pagingInstruction).iterator(), contextSize, paging -> call(
+							() -> this.api.getSegmentLeaderboardAsync(segmentId, gender, ageGroup, weightClass, following, clubId, dateRange, paging
+									.getPage(), paging.getPageSize(), context))))));
 		});
 	}
 
+	/**
+	 * <p>
+	 * Tidies up a list of starred segments returned by the Strava API
+	 * </p>
+	 *
+	 * @param segments
+	 *            The segments
+	 * @return The segments, with private ones handled
+	 */
+	private List<StravaSegment> handleStarredSegments(final List<StravaSegment> segments) {
+		// TODO This is a workaround for issues javastrava-api #25 and #81
+		// (https://github.com/danshannon/javastravav3api/issues/25 and https://github.com/danshannon/javastravav3api/issues/81)
+		if (segments != null) {
+			for (final StravaSegment segment : segments) {
+				if ((segment.getAthletePrEffort() != null) && (segment.getAthletePrEffort().getResourceState() == null)) {
+					segment.getAthletePrEffort().setResourceState(StravaResourceState.SUMMARY);
+				}
+			}
+		}
+
+		return PrivacyUtils.handlePrivateSegments(segments, this.getToken());
+	}
+
+	/**
+	 * <p>
+	 * Gets one page of a leaderboard, with {@link #LEADERBOARD_CONTEXT} entries either side of the athlete's, and splits the athlete's entries out
+	 * </p>
+	 *
+	 * @param segmentId
+	 *            The id of the segment
+	 * @param gender
+	 *            (Optional) Gender to filter by
+	 * @param ageGroup
+	 *            (Optional) Age group to filter by
+	 * @param weightClass
+	 *            (Optional) Weight class to filter by
+	 * @param following
+	 *            (Optional) Whether to include only athletes the authenticated athlete is following
+	 * @param clubId
+	 *            (Optional) Club to filter by
+	 * @param dateRange
+	 *            (Optional) Date range to filter by
+	 * @param paging
+	 *            The page to get
+	 * @return The page
+	 */
+	private StravaSegmentLeaderboard leaderboardPage(final Integer segmentId, final StravaGender gender, final StravaAgeGroup ageGroup,
+			final StravaWeightClass weightClass, final Boolean following, final Integer clubId, final StravaLeaderboardDateRange dateRange,
+			final Paging paging) {
+		return splitLeaderboardPage(this.api.getSegmentLeaderboard(segmentId, gender, ageGroup, weightClass, following, clubId, dateRange, paging
+				.getPage(), paging.getPageSize(), LEADERBOARD_CONTEXT), paging, LEADERBOARD_CONTEXT_SIZE);
+	}
+
+	/**
+	 * <p>
+	 * Asynchronous equivalent of {@link #leaderboardPage(Integer, StravaGender, StravaAgeGroup, StravaWeightClass, Boolean, Integer, StravaLeaderboardDateRange, Paging)}
+	 * </p>
+	 *
+	 * @param segmentId
+	 *            The id of the segment
+	 * @param gender
+	 *            (Optional) Gender to filter by
+	 * @param ageGroup
+	 *            (Optional) Age group to filter by
+	 * @param weightClass
+	 *            (Optional) Weight class to filter by
+	 * @param following
+	 *            (Optional) Whether to include only athletes the authenticated athlete is following
+	 * @param clubId
+	 *            (Optional) Club to filter by
+	 * @param dateRange
+	 *            (Optional) Date range to filter by
+	 * @param paging
+	 *            The page to get
+	 * @return Future which completes with the page
+	 */
+	private CompletableFuture<StravaSegmentLeaderboard> leaderboardPageAsync(final Integer segmentId, final StravaGender gender,
+			final StravaAgeGroup ageGroup, final StravaWeightClass weightClass, final Boolean following, final Integer clubId,
+			final StravaLeaderboardDateRange dateRange, final Paging paging) {
+		return call(() -> this.api.getSegmentLeaderboardAsync(segmentId, gender, ageGroup, weightClass, following, clubId, dateRange, paging.getPage(),
+				paging.getPageSize(), LEADERBOARD_CONTEXT)).thenApply(page -> splitLeaderboardPage(page, paging, LEADERBOARD_CONTEXT_SIZE));
+	}
+
+	/**
+	 * @param first
+	 *            The first page of a leaderboard
+	 * @return Number of pages of {@link StravaConfig#MAX_PAGE_SIZE} entries in the whole leaderboard, according to its entry count
+	 */
+	private static int leaderboardPageCount(final StravaSegmentLeaderboard first) {
+		if ((first.getEntries() == null) || (first.getEntryCount() == null)) {
+			return 1;
+		}
+		final int pageSize = StravaConfig.MAX_PAGE_SIZE.intValue();
+		return Math.max(1, (first.getEntryCount().intValue() + pageSize - 1) / pageSize);
+	}
+
+	/**
+	 * @param paging
+	 *            A page of the leaderboard after the first, counting from 1
+	 * @return The same page, counting from the start of the leaderboard
+	 */
+	private static Paging leaderboardPageAfterFirst(final Paging paging) {
+		return new Paging(Integer.valueOf(paging.getPage().intValue() + 1), paging.getPageSize());
+	}
+
+	/**
+	 * <p>
+	 * Puts the entries from the first page of a leaderboard and the rest of the pages together in order of rank. An athlete who moved from one page
+	 * to another while the pages were being read is included only once, at the better rank.
+	 * </p>
+	 *
+	 * @param first
+	 *            Entries from the first page
+	 * @param rest
+	 *            Entries from the rest of the pages, in page order
+	 * @return All the entries
+	 */
+	private static List<StravaSegmentLeaderboardEntry> mergeLeaderboardEntries(final List<StravaSegmentLeaderboardEntry> first,
+			final List<StravaSegmentLeaderboardEntry> rest) {
+		final List<StravaSegmentLeaderboardEntry> merged = new ArrayList<StravaSegmentLeaderboardEntry>(first.size() + rest.size());
+		final Set<Integer> athletes = new HashSet<Integer>();
+		for (final List<StravaSegmentLeaderboardEntry> entries : Arrays.asList(first, rest)) {
+			for (final StravaSegmentLeaderboardEntry entry : entries) {
+				if ((entry.getAthleteId() == null) || athletes.add(entry.getAthleteId())) {
+					merged.add(entry);
+				}
+			}
+		}
+
+		// Already in order unless the leaderboard changed while it was being read, in which case the sort is cheap anyway
+		merged.sort(Comparator.comparing(StravaSegmentLeaderboardEntry::getRank, Comparator.nullsLast(Comparator.<Integer> naturalOrder())));
+		return merged;
+	}
+
 	/**
 	 * @see javastrava.api.v3.service.SegmentService#listAllAuthenticatedAthleteStarredSegments()
 	 */
 	@Override
 	public List<StravaSegment> listAllAuthenticatedAthleteStarredSegments() {
-		final List<StravaSegment> segments = PagingHandler
-				.handleListAll(thisPage -> listAuthenticatedAthleteStarredSegments(thisPage));
+		final List<StravaSegment> segments = PagingHandler.handleListAll(thisPage -> listAuthenticatedAthleteStarredSegments(thisPage),
+				getExecutor());
 
 		// // TODO Workaround for issue javastrava-api #71 (see
 		// https://github.com/danshannon/javastravav3api/issues/71)
@@ -425,9 +851,7 @@ public class SegmentServiceImpl extends StravaServiceImpl implements SegmentServ
 	 */
 	@Override
 	public CompletableFuture<List<StravaSegment>> listAllAuthenticatedAthleteStarredSegmentsAsync() {
-		return StravaServiceImpl.future(() -> {
-			return listAllAuthenticatedAthleteStarredSegments();
-		});
+		return deliver(PagingHandler.handleListAllAsync(thisPage -> listAuthenticatedAthleteStarredSegmentsAsync(thisPage)));
 	}
 
 	/**
@@ -445,33 +869,18 @@ public class SegmentServiceImpl extends StravaServiceImpl implements SegmentServ
 	@Override
 	public List<StravaSegmentEffort> listAllSegmentEfforts(final Integer segmentId, final Integer athleteId,
 			final LocalDateTime startDate, final LocalDateTime endDate) {
-		// TODO Workaround for issue javastrava-api #33
-		// (https://github.com/danshannon/javastravav3api/issues/33)
-		// TODO Workaround for issue javastrava-api #45
-		// (https://github.com/danshannon/javastravav3api/issues/45)
-		// Check if the segment is flagged as hazardous
-		final StravaSegment segment = getSegment(segmentId);
-		System.out.println(segment);
-
-		// If the segment is null it doesn't exist, so return null
-		if (segment == null) {
-			return null;
-		}
-
-		final int parallelism = StravaConfig.PAGING_LIST_ALL_PARALLELISM;
-
-		// TODO This is the workaround for issue #45
-		if (segment.getResourceState() == StravaResourceState.META) {
-			return new ArrayList<StravaSegmentEffort>();
-		}
+		return listAllSegmentEfforts(segmentId, athleteId, startDate, endDate, null);
+	}
 
-		// If the segment is hazardous, return an empty list
-		if (segment.getHazardous() == Boolean.TRUE) {
-			return new ArrayList<StravaSegmentEffort>();
-		}
-		// End of workaround
-		return PagingHandler.handleListAll(thisPage -> listSegmentEfforts(segmentId, athleteId, startDate, endDate,
-				thisPage), parallelism);
+	/**
+	 * @see javastrava.api.v3.service.SegmentService#listAllSegmentEfforts(java.lang.Integer, java.lang.Integer, java.time.LocalDateTime, java.time.LocalDateTime, java.util.function.Predicate)
+	 */
+	@Override
+	public List<StravaSegmentEffort> listAllSegmentEfforts(final Integer segmentId, final Integer athleteId,
+			final LocalDateTime startDate, final LocalDateTime endDate, final Predicate<StravaSegmentEffort> stopWhen) {
+		// If the segment doesn't exist return null; if it isn't visible, or is hazardous, return an empty list
+		return effortsOf(getSegment(segmentId), StravaResourceState.META, null, new ArrayList<StravaSegmentEffort>(), () -> PagingHandler
+				.handleListAllUntil(thisPage -> listSegmentEfforts(segmentId, athleteId, startDate, endDate, thisPage), stopWhen, getExecutor()));
 	}
 
 	/**
@@ -479,9 +888,7 @@ public class SegmentServiceImpl extends StravaServiceImpl implements SegmentServ
 	 */
 	@Override
 	public CompletableFuture<List<StravaSegmentEffort>> listAllSegmentEffortsAsync(final Integer segmentId) {
-		return StravaServiceImpl.future(() -> {
-			return listAllSegmentEfforts(segmentId);
-		});
+		return listAllSegmentEffortsAsync(segmentId, null, null, null);
 	}
 
 	/**
@@ -490,9 +897,18 @@ public class SegmentServiceImpl extends StravaServiceImpl implements SegmentServ
 	@Override
 	public CompletableFuture<List<StravaSegmentEffort>> listAllSegmentEffortsAsync(final Integer segmentId, final Integer athleteId, final LocalDateTime startDate,
 			final LocalDateTime endDate) {
-		return StravaServiceImpl.future(() -> {
-			return listAllSegmentEfforts(segmentId);
-		});
+		return listAllSegmentEffortsAsync(segmentId, athleteId, startDate, endDate, null);
+	}
+
+	/**
+	 * @see javastrava.api.v3.service.SegmentService#listAllSegmentEffortsAsync(java.lang.Integer, java.lang.Integer, java.time.LocalDateTime, java.time.LocalDateTime, java.util.function.Predicate)
+	 */
+	@Override
+	public CompletableFuture<List<StravaSegmentEffort>> listAllSegmentEffortsAsync(final Integer segmentId, final Integer athleteId, final LocalDateTime startDate,
+			final LocalDateTime endDate, final Predicate<StravaSegmentEffort> stopWhen) {
+		// If the segment doesn't exist return null; if it isn't visible, or is hazardous, return an empty list
+		return deliver(getSegmentAsync(segmentId).thenCompose(segment -> effortsOfAsync(segment, StravaResourceState.META, () -> PagingHandler
+				.handleListAllUntilAsync(thisPage -> listSegmentEffortsAsync(segmentId, athleteId, startDate, endDate, thisPage), stopWhen))));
 	}
 
 	/**
@@ -500,7 +916,7 @@ public class SegmentServiceImpl extends StravaServiceImpl implements SegmentServ
 	 */
 	@Override
 	public List<StravaSegment> listAllStarredSegments(final Integer athleteId) {
-		return PagingHandler.handleListAll(thisPage -> listStarredSegments(athleteId, thisPage));
+		return PagingHandler.handleListAll(thisPage -> listStarredSegments(athleteId, thisPage), getExecutor());
 	}
 
 	/**
@@ -508,9 +924,7 @@ public class SegmentServiceImpl extends StravaServiceImpl implements SegmentServ
 	 */
 	@Override
 	public CompletableFuture<List<StravaSegment>> listAllStarredSegmentsAsync(final Integer athleteId) {
-		return StravaServiceImpl.future(() -> {
-			return listAllStarredSegments(athleteId);
-		});
+		return deliver(PagingHandler.handleListAllAsync(thisPage -> listStarredSegmentsAsync(athleteId, thisPage)));
 	}
 
 	/**
@@ -529,19 +943,10 @@ public class SegmentServiceImpl extends StravaServiceImpl implements SegmentServ
 		final List<StravaSegment> segments = PagingHandler.handlePaging(
 				pagingInstruction,
 				thisPage -> Arrays.asList(SegmentServiceImpl.this.api.listAuthenticatedAthleteStarredSegments(
-						thisPage.getPage(), thisPage.getPageSize())));
-
-		// TODO This is a workaround for issue javastrava-api #81
-		// (https://github.com/danshannon/javastravav3api/issues/81)
-		if (segments != null) {
-			for (final StravaSegment segment : segments) {
-				if ((segment.getAthletePrEffort() != null) && (segment.getAthletePrEffort().getResourceState() == null)) {
-					segment.getAthletePrEffort().setResourceState(StravaResourceState.SUMMARY);
-				}
-			}
-		}
+						thisPage.getPage(), thisPage.getPageSize())),
+				getExecutor());
 
-		return PrivacyUtils.handlePrivateSegments(segments, this.getToken());
+		return handleStarredSegments(segments);
 	}
 
 	/**
@@ -549,9 +954,7 @@ public class SegmentServiceImpl extends StravaServiceImpl implements SegmentServ
 	 */
 	@Override
 	public CompletableFuture<List<StravaSegment>> listAuthenticatedAthleteStarredSegmentsAsync() {
-		return StravaServiceImpl.future(() -> {
-			return listAuthenticatedAthleteStarredSegments();
-		});
+		return listAuthenticatedAthleteStarredSegmentsAsync(null);
 	}
 
 	/**
@@ -559,9 +962,10 @@ public class SegmentServiceImpl extends StravaServiceImpl implements SegmentServ
 	 */
 	@Override
 	public CompletableFuture<List<StravaSegment>> listAuthenticatedAthleteStarredSegmentsAsync(final Paging pagingInstruction) {
-		return StravaServiceImpl.future(() -> {
-			return listAuthenticatedAthleteStarredSegments(pagingInstruction);
-		});
+		final CompletableFuture<List<StravaSegment>> segments = PagingHandler.handlePagingAsync(pagingInstruction, thisPage -> callList(
+				() -> this.api.listAuthenticatedAthleteStarredSegmentsAsync(thisPage.getPage(), thisPage.getPageSize())));
+
+		return deliver(segments.thenApply(this::handleStarredSegments));
 	}
 
 	/**
@@ -589,48 +993,14 @@ public class SegmentServiceImpl extends StravaServiceImpl implements SegmentServ
 	@Override
 	public List<StravaSegmentEffort> listSegmentEfforts(final Integer segmentId, final Integer athleteId,
 			final LocalDateTime startDateLocalTZ, final LocalDateTime endDateLocalTZ, final Paging pagingInstruction) {
-		// TODO Workaround for issue javastrava-api #33
-		// (https://github.com/danshannon/javastravav3api/issues/33)
-		// Check if the segment is flagged as hazardous
-		final StravaSegment segment = getSegment(segmentId);
-
-		// If the segment is null it doesn't exist, so return null
-		if (segment == null) {
-			return null;
-		}
-
-		// TODO This is the workaround for issue #45
-		if (segment.getResourceState() == StravaResourceState.PRIVATE) {
-			return new ArrayList<StravaSegmentEffort>();
-		}
+		final String start = effortsStart(startDateLocalTZ, endDateLocalTZ);
+		final String end = effortsEnd(startDateLocalTZ, endDateLocalTZ);
 
-		// If the segment is hazardous, return an empty list
-		if (segment.getHazardous() == Boolean.TRUE) {
-			return new ArrayList<StravaSegmentEffort>();
-		}
-		// End of workaround
-
-		LocalDateTime endDateLocal = endDateLocalTZ;
-		LocalDateTime startDateLocal = startDateLocalTZ;
-
-		// If start date is set, but end date isn't, then Strava likes it to be
-		// set to something high
-		if ((endDateLocalTZ == null) && (startDateLocalTZ != null)) {
-			endDateLocal = LocalDateTime.of(9999, Month.DECEMBER, 31, 23, 59, 59);
-		}
-
-		// Similarly if the end date is set but start date isn't, Strava likes
-		// it to be set to something low
-		if ((startDateLocalTZ == null) && (endDateLocalTZ != null)) {
-			startDateLocal = LocalDateTime.of(1900, Month.JANUARY, 1, 0, 0, 0);
-		}
-
-		final String start = (startDateLocal == null ? null : startDateLocal.toString());
-		final String end = (endDateLocal == null ? null : endDateLocal.toString());
-
-		final List<StravaSegmentEffort> efforts = PagingHandler.handlePaging(pagingInstruction, thisPage -> Arrays
-				.asList(SegmentServiceImpl.this.api.listSegmentEfforts(segmentId, athleteId, start, end, thisPage.getPage(),
-						thisPage.getPageSize())));
+		// If the segment doesn't exist return null; if it is private, or hazardous, return an empty list
+		final List<StravaSegmentEffort> efforts = effortsOf(getSegment(segmentId), StravaResourceState.PRIVATE, null,
+				new ArrayList<StravaSegmentEffort>(), () -> PagingHandler.handlePaging(pagingInstruction, thisPage -> Arrays
+						.asList(SegmentServiceImpl.this.api.listSegmentEfforts(segmentId, athleteId, start, end, thisPage.getPage(),
+								thisPage.getPageSize())), getExecutor()));
 
 		return PrivacyUtils.handlePrivateSegmentEfforts(efforts, this.getToken());
 	}
@@ -649,9 +1019,7 @@ public class SegmentServiceImpl extends StravaServiceImpl implements SegmentServ
 	 */
 	@Override
 	public CompletableFuture<List<StravaSegmentEffort>> listSegmentEffortsAsync(final Integer segmentId) {
-		return StravaServiceImpl.future(() -> {
-			return listSegmentEfforts(segmentId);
-		});
+		return listSegmentEffortsAsync(segmentId, null, null, null, null);
 	}
 
 	/**
@@ -660,9 +1028,7 @@ public class SegmentServiceImpl extends StravaServiceImpl implements SegmentServ
 	@Override
 	public CompletableFuture<List<StravaSegmentEffort>> listSegmentEffortsAsync(final Integer segmentId, final Integer athleteId, final LocalDateTime startDateLocal,
 			final LocalDateTime endDateLocal) {
-		return StravaServiceImpl.future(() -> {
-			return listSegmentEfforts(segmentId, athleteId, startDateLocal, endDateLocal);
-		});
+		return listSegmentEffortsAsync(segmentId, athleteId, startDateLocal, endDateLocal, null);
 	}
 
 	/**
@@ -671,9 +1037,14 @@ public class SegmentServiceImpl extends StravaServiceImpl implements SegmentServ
 	@Override
 	public CompletableFuture<List<StravaSegmentEffort>> listSegmentEffortsAsync(final Integer segmentId, final Integer athleteId, final LocalDateTime startDateLocal,
 			final LocalDateTime endDateLocal, final Paging pagingInstruction) {
-		return StravaServiceImpl.future(() -> {
-			return listSegmentEfforts(segmentId, athleteId, startDateLocal, endDateLocal, pagingInstruction);
-		});
+		final String start = effortsStart(startDateLocal, endDateLocal);
+		final String end = effortsEnd(startDateLocal, endDateLocal);
+
+		// If the segment doesn't exist return null; if it is private, or hazardous, return an empty list
+		return deliver(getSegmentAsync(segmentId).thenCompose(segment -> effortsOfAsync(segment, StravaResourceState.PRIVATE, () -> PagingHandler
+				.handlePagingAsync(pagingInstruction, thisPage -> callList(() -> this.api.listSegmentEffortsAsync(segmentId, athleteId, start, end,
+						thisPage.getPage(), thisPage.getPageSize()))))).thenApply(efforts -> PrivacyUtils.handlePrivateSegmentEfforts(efforts, this
+								.getToken())));
 	}
 
 	/**
@@ -681,9 +1052,7 @@ public class SegmentServiceImpl extends StravaServiceImpl implements SegmentServ
 	 */
 	@Override
 	public CompletableFuture<List<StravaSegmentEffort>> listSegmentEffortsAsync(final Integer segmentId, final Paging pagingInstruction) {
-		return StravaServiceImpl.future(() -> {
-			return listSegmentEfforts(segmentId, pagingInstruction);
-		});
+		return listSegmentEffortsAsync(segmentId, null, null, null, pagingInstruction);
 	}
 
 	/**
@@ -702,19 +1071,9 @@ public class SegmentServiceImpl extends StravaServiceImpl implements SegmentServ
 	public List<StravaSegment> listStarredSegments(final Integer athleteId, final Paging pagingInstruction) {
 		final List<StravaSegment> segments = PagingHandler.handlePaging(pagingInstruction,
 				thisPage -> Arrays.asList(SegmentServiceImpl.this.api.listStarredSegments(athleteId, thisPage.getPage(),
-						thisPage.getPageSize())));
+						thisPage.getPageSize())), getExecutor());
 
-		// TODO This is a workaround for issue javastrava-api #25
-		// (https://github.com/danshannon/javastravav3api/issues/25)
-		if (segments != null) {
-			for (final StravaSegment segment : segments) {
-				if ((segment.getAthletePrEffort() != null) && (segment.getAthletePrEffort().getResourceState() == null)) {
-					segment.getAthletePrEffort().setResourceState(StravaResourceState.SUMMARY);
-				}
-			}
-		}
-
-		return PrivacyUtils.handlePrivateSegments(segments, this.getToken());
+		return handleStarredSegments(segments);
 	}
 
 	/**
@@ -722,9 +1081,7 @@ public class SegmentServiceImpl extends StravaServiceImpl implements SegmentServ
 	 */
 	@Override
 	public CompletableFuture<List<StravaSegment>> listStarredSegmentsAsync(final Integer athleteId) {
-		return StravaServiceImpl.future(() -> {
-			return listStarredSegments(athleteId);
-		});
+		return listStarredSegmentsAsync(athleteId, null);
 	}
 
 	/**
@@ -732,9 +1089,10 @@ public class SegmentServiceImpl extends StravaServiceImpl implements SegmentServ
 	 */
 	@Override
 	public CompletableFuture<List<StravaSegment>> listStarredSegmentsAsync(final Integer athleteId, final Paging pagingInstruction) {
-		return StravaServiceImpl.future(() -> {
-			return listStarredSegments(athleteId, pagingInstruction);
-		});
+		final CompletableFuture<List<StravaSegment>> segments = PagingHandler.handlePagingAsync(pagingInstruction, thisPage -> callList(
+				() -> this.api.listStarredSegmentsAsync(athleteId, thisPage.getPage(), thisPage.getPageSize())));
+
+		return deliver(segments.thenApply(this::handleStarredSegments));
 	}
 
 	/**
@@ -762,9 +1120,86 @@ public class SegmentServiceImpl extends StravaServiceImpl implements SegmentServ
 	@Override
 	public CompletableFuture<StravaSegmentExplorerResponse> segmentExploreAsync(final StravaMapPoint southwestCorner, final StravaMapPoint northeastCorner,
 			final StravaSegmentExplorerActivityType activityType, final StravaClimbCategory minCat, final StravaClimbCategory maxCat) {
-		return StravaServiceImpl.future(() -> {
-			return segmentExplore(southwestCorner, northeastCorner, activityType, minCat, maxCat);
-		});
+		final String bounds = southwestCorner.getLatitude()
+				+ "," + southwestCorner.getLongitude() + "," + northeastCorner.getLatitude() + "," //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				+ northeastCorner.getLongitude();
+		return deliver(call(() -> this.api.segmentExploreAsync(bounds, activityType, minCat, maxCat)).thenApply(response -> {
+			for (final StravaSegmentExplorerResponseSegment segment : response.getSegments()) {
+				segment.setResourceState(StravaResourceState.SUMMARY);
+			}
+			return response;
+		}));
+	}
+
+	/**
+	 * <p>
+	 * Splits the athlete's entries out of a page of leaderboard returned by the Strava API, and trims it according to the paging instruction
+	 * </p>
+	 *
+	 * @param current
+	 *            The page returned by the Strava API
+	 * @param paging
+	 *            The paging instruction that was sent to Strava API
+	 * @param contextSize
+	 *            Number of entries either side of the athlete's to return as context
+	 * @return The page
+	 */
+	private StravaSegmentLeaderboard splitLeaderboardPage(final StravaSegmentLeaderboard current, final Paging paging, final Integer contextSize) {
+		current.setAthleteEntries(calculateAthleteEntries(current, paging, contextSize));
+		if (current.getEntries() == null) {
+			return current;
+		}
+
+		// The athlete's entries are the very objects in the page, so compare by identity; that's linear in the size of the page, unlike removeAll
+		final Set<StravaSegmentLeaderboardEntry> athleteEntries = Collections.newSetFromMap(new IdentityHashMap<StravaSegmentLeaderboardEntry, Boolean>());
+		athleteEntries.addAll(current.getAthleteEntries());
+		final List<StravaSegmentLeaderboardEntry> entries = new ArrayList<StravaSegmentLeaderboardEntry>(current.getEntries().size());
+		for (final StravaSegmentLeaderboardEntry entry : current.getEntries()) {
+			if (!athleteEntries.contains(entry)) {
+				entries.add(entry);
+			}
+		}
+		current.setEntries(PagingUtils.trim(entries, paging));
+		return current;
+	}
+
+	/**
+	 * @see javastrava.api.v3.service.SegmentService#streamAllSegmentEfforts(java.lang.Integer)
+	 */
+	@Override
+	public Stream<StravaSegmentEffort> streamAllSegmentEfforts(final Integer segmentId) {
+		return streamAllSegmentEfforts(segmentId, null, null, null);
+	}
+
+	/**
+	 * @see javastrava.api.v3.service.SegmentService#streamAllSegmentEfforts(java.lang.Integer, java.lang.Integer, LocalDateTime, LocalDateTime)
+	 */
+	@Override
+	public Stream<StravaSegmentEffort> streamAllSegmentEfforts(final Integer segmentId, final Integer athleteId, final LocalDateTime startDate,
+			final LocalDateTime endDate) {
+		// No efforts if the segment doesn't exist, isn't visible or is hazardous
+		return effortsOf(getSegment(segmentId), StravaResourceState.META, Stream.<StravaSegmentEffort> empty(), Stream.<StravaSegmentEffort> empty(),
+				() -> PagingHandler.handleStreamAll(thisPage -> listSegmentEfforts(segmentId, athleteId, startDate, endDate, thisPage), getExecutor()));
 	}
 
+	/**
+	 * @see javastrava.api.v3.service.SegmentService#streamAllSegmentLeaderboard(java.lang.Integer)
+	 */
+	@Override
+	public Stream<StravaSegmentLeaderboardEntry> streamAllSegmentLeaderboard(final Integer segmentId) {
+		return streamAllSegmentLeaderboard(segmentId, null, null, null, null, null, null);
+	}
+
+	/**
+	 * @see javastrava.api.v3.service.SegmentService#streamAllSegmentLeaderboard(java.lang.Integer, javastrava.api.v3.model.reference.StravaGender, javastrava.api.v3.model.reference.StravaAgeGroup, javastrava.api.v3.model.reference.StravaWeightClass, java.lang.Boolean, java.lang.Integer, javastrava.api.v3.model.reference.StravaLeaderboardDateRange)
+	 */
+	@Override
+	public Stream<StravaSegmentLeaderboardEntry> streamAllSegmentLeaderboard(final Integer segmentId, final StravaGender gender,
+			final StravaAgeGroup ageGroup, final StravaWeightClass weightClass, final Boolean following, final Integer clubId,
+			final StravaLeaderboardDateRange dateRange) {
+		// No entries if the segment doesn't exist or is private
+		return belongingTo(getSegment(segmentId), Stream.<StravaSegmentLeaderboardEntry> empty(), Stream.<StravaSegmentLeaderboardEntry> empty(),
+				() -> PagingHandler.handleStreamAll(thisPage -> leaderboardPage(segmentId, gender, ageGroup, weightClass, following, clubId, dateRange,
+						thisPage).getEntries(), getExecutor()));
+	}
 }
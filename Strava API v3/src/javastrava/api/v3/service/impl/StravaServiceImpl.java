@@ -1,13 +1,28 @@
 package javastrava.api.v3.service.impl;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
 
 import javastrava.api.v3.auth.model.Token;
+import javastrava.api.v3.model.reference.StravaResourceState;
 import javastrava.api.v3.rest.API;
+import javastrava.api.v3.rest.async.StravaAPIFuture;
 import javastrava.api.v3.service.async.AsyncCallback;
 import javastrava.api.v3.service.exception.UnauthorizedException;
+import javastrava.cache.StravaCacheable;
 import javastrava.config.Messages;
 import javastrava.config.StravaConfig;
+import javastrava.ratelimit.StravaRateLimitLedger;
+import javastrava.ratelimit.StravaRateLimitUsage;
+import javastrava.ratelimit.StravaRateLimiter;
+import javastrava.ratelimit.StravaRequestPriority;
+import javastrava.util.FutureUtils;
+import javastrava.util.StravaExecutors;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -17,6 +32,13 @@ import org.apache.logging.log4j.Logger;
  * Base class for all implementations of Strava services
  * </p>
  *
+ * <p>
+ * Asynchronous service methods are built from the asynchronous API with {@link #call(Supplier)}, composing further work onto the futures it returns
+ * rather than waiting on them, so no thread is tied up while a request is on its way to Strava. That work runs on whichever thread completed the
+ * future, so it must never call a synchronous service or API method. The future handed back to the caller is passed through
+ * {@link #deliver(CompletableFuture)} so that the caller's own continuations run on the token's executor, not on the threads that do the HTTP.
+ * </p>
+ *
  * @author Dan Shannon
  *
  */
@@ -27,40 +49,49 @@ public abstract class StravaServiceImpl {
 	private static Logger log = LogManager.getLogger();
 
 	/**
-	 * Current request rate over the last 15 minutes
+	 * Current request rate over the last 15 minutes, as most recently reported by Strava for any application
+	 *
+	 * @deprecated Rate limits are accounted per application; use {@link StravaRateLimitLedger#forApplication(Integer)}
 	 */
-	public static int requestRate = 0;
+	@Deprecated
+	public static volatile int requestRate = 0;
 
 	/**
-	 * Current request rate over the last day
+	 * Current request rate over the last day, as most recently reported by Strava for any application
+	 *
+	 * @deprecated Rate limits are accounted per application; use {@link StravaRateLimitLedger#forApplication(Integer)}
 	 */
-	public static int requestRateDaily = 0;
+	@Deprecated
+	public static volatile int requestRateDaily = 0;
 
 	/**
-	 * @param <T> Type which will be returned by the future
-	 * @param callback Callback with code to be executed
-	 * @return A {@link CompletableFuture}
+	 * Calculates the percentage of the daily request limit that has been used,
+	 * issues a warning if required
+	 *
+	 * @return Percentage used.
 	 */
-	protected static <T> CompletableFuture<T> future(final AsyncCallback<T> callback) {
-		final CompletableFuture<T> future = CompletableFuture.supplyAsync(() -> callback.run());
-		return future;
+	public static float requestRateDailyPercentage() {
+		return requestRateDailyPercentage(StravaRateLimitLedger.latest().getUsage());
 	}
 
 	/**
-	 * Calculates the percentage of the daily request limit that has been used,
-	 * issues a warning if required
+	 * Calculates the percentage of the daily request limit that has been used
+	 * according to the given usage, issues a warning if required
 	 *
+	 * @param usage
+	 *            Rate limit usage as reported by Strava
 	 * @return Percentage used.
 	 */
-	public static float requestRateDailyPercentage() {
-		final float percent = (StravaConfig.RATE_LIMIT_DAILY == 0 ? 0
-				: (100 * new Float(requestRateDaily).floatValue()) / new Float(StravaConfig.RATE_LIMIT_DAILY).floatValue());
+	public static float requestRateDailyPercentage(final StravaRateLimitUsage usage) {
+		final int limit = usage.getLimitDaily();
+		final int requests = usage.getRequestsDaily();
+		final float percent = (limit == 0 ? 0 : (100f * requests) / limit);
 		if (percent > 100) {
-			log.error(String.format(Messages.string("StravaServiceImpl.exceededRateLimitDaily"), Integer.valueOf(requestRateDaily), //$NON-NLS-1$
-					Integer.valueOf(StravaConfig.RATE_LIMIT_DAILY), Float.valueOf(percent)));
+			log.error(String.format(Messages.string("StravaServiceImpl.exceededRateLimitDaily"), Integer.valueOf(requests), //$NON-NLS-1$
+					Integer.valueOf(limit), Float.valueOf(percent)));
 		} else if (percent > StravaConfig.WARN_AT_REQUEST_LIMIT_PERCENT) {
-			log.warn(String.format(Messages.string("StravaServiceImpl.approachingRateLimitDaily"), Integer.valueOf(requestRateDaily), //$NON-NLS-1$
-					Integer.valueOf(StravaConfig.RATE_LIMIT_DAILY), Float.valueOf(percent)));
+			log.warn(String.format(Messages.string("StravaServiceImpl.approachingRateLimitDaily"), Integer.valueOf(requests), //$NON-NLS-1$
+					Integer.valueOf(limit), Float.valueOf(percent)));
 		}
 		return percent;
 	}
@@ -72,14 +103,27 @@ public abstract class StravaServiceImpl {
 	 * @return Percentage used.
 	 */
 	public static float requestRatePercentage() {
-		final float percent = (StravaConfig.RATE_LIMIT == 0 ? 0
-				: (100 * new Float(requestRate).floatValue()) / new Float(StravaConfig.RATE_LIMIT).floatValue());
+		return requestRatePercentage(StravaRateLimitLedger.latest().getUsage());
+	}
+
+	/**
+	 * Calculates the percentage of the per-15-minute request limit that has
+	 * been used according to the given usage, issues a warning if required
+	 *
+	 * @param usage
+	 *            Rate limit usage as reported by Strava
+	 * @return Percentage used.
+	 */
+	public static float requestRatePercentage(final StravaRateLimitUsage usage) {
+		final int limit = usage.getLimit();
+		final int requests = usage.getRequests();
+		final float percent = (limit == 0 ? 0 : (100f * requests) / limit);
 		if (percent > 100) {
-			log.error(String.format(Messages.string("StravaServiceImpl.exceededRateLimit"), Integer.valueOf(requestRate), //$NON-NLS-1$
-					Integer.valueOf(StravaConfig.RATE_LIMIT), Float.valueOf(percent)));
+			log.error(String.format(Messages.string("StravaServiceImpl.exceededRateLimit"), Integer.valueOf(requests), //$NON-NLS-1$
+					Integer.valueOf(limit), Float.valueOf(percent)));
 		} else if (percent > StravaConfig.WARN_AT_REQUEST_LIMIT_PERCENT) {
-			log.warn(String.format(Messages.string("StravaServiceImpl.approachingRateLimit"), Integer.valueOf(requestRate), //$NON-NLS-1$
-					Integer.valueOf(StravaConfig.RATE_LIMIT), Float.valueOf(percent)));
+			log.warn(String.format(Messages.string("StravaServiceImpl.approachingRateLimit"), Integer.valueOf(requests), //$NON-NLS-1$
+					Integer.valueOf(limit), Float.valueOf(percent)));
 		}
 		return percent;
 	}
@@ -125,6 +169,147 @@ public abstract class StravaServiceImpl {
 		}
 	}
 
+	/**
+	 * <p>
+	 * Work out, without blocking, if the access token is valid (i.e. has not been revoked)
+	 * </p>
+	 *
+	 * @return Future which completes with <code>true</code> if the token can be used to get the authenticated athlete, <code>false</code> otherwise
+	 */
+	protected CompletableFuture<Boolean> accessTokenIsValidAsync() {
+		return FutureUtils.recover(call(() -> this.api.getAuthenticatedAthleteAsync()).thenApply(athlete -> Boolean.TRUE),
+				UnauthorizedException.class, e -> Boolean.FALSE);
+	}
+
+	/**
+	 * <p>
+	 * Issues a call to the asynchronous API
+	 * </p>
+	 *
+	 * <p>
+	 * Work composed onto the returned future is run with the {@link StravaRequestPriority} of the thread which made the call, so any requests it
+	 * makes carry the same priority.
+	 * </p>
+	 *
+	 * @param <T> Type which will be returned by the future
+	 * @param request Issues the call
+	 * @return Future which completes with the response; or fails with the javastrava exception, which is also how any exception thrown while
+	 *         issuing the call is reported
+	 */
+	protected static <T> CompletableFuture<T> call(final Supplier<StravaAPIFuture<T>> request) {
+		final StravaRequestPriority priority = StravaRateLimiter.priority();
+		final CompletableFuture<T> response = new CompletableFuture<T>();
+		try {
+			request.get().toCompletableFuture().whenComplete((result, error) -> StravaRateLimiter.withPriority(priority,
+					() -> Boolean.valueOf(FutureUtils.complete(response, result, error))));
+		} catch (final RuntimeException e) {
+			response.completeExceptionally(e);
+		}
+		return response;
+	}
+
+	/**
+	 * @param <T> Type of the objects in the list
+	 * @param request Issues a call to the asynchronous API which returns an array
+	 * @return Future which completes with the response as a list
+	 * @see #call(Supplier)
+	 */
+	protected static <T> CompletableFuture<List<T>> callList(final Supplier<StravaAPIFuture<T[]>> request) {
+		return call(request).thenApply(array -> Arrays.asList(array));
+	}
+
+	/**
+	 * <p>
+	 * Gets something belonging to an owner (the comments on an activity, say): if the owner doesn't exist then neither does what belongs to it,
+	 * and if the owner is private and inaccessible then so is what belongs to it
+	 * </p>
+	 *
+	 * @param <R> Type of what belongs to the owner, or of a future which completes with it
+	 * @param owner The owner, or <code>null</code> if it doesn't exist
+	 * @param notFound What to return if the owner doesn't exist
+	 * @param inaccessible What to return if the owner is private and inaccessible
+	 * @param belonging Gets what belongs to an accessible owner
+	 * @return What belongs to the owner
+	 */
+	protected static <R> R belongingTo(final StravaCacheable<?> owner, final R notFound, final R inaccessible, final Supplier<R> belonging) {
+		if (owner == null) {
+			return notFound;
+		}
+		if (owner.getResourceState() == StravaResourceState.PRIVATE) {
+			return inaccessible;
+		}
+		return belonging.get();
+	}
+
+	/**
+	 * @param <T> Type of the objects in the list
+	 * @param owner The owner, or <code>null</code> if it doesn't exist
+	 * @param list Gets the list for an accessible owner
+	 * @return The list; <code>null</code> if the owner doesn't exist, empty if it is private and inaccessible
+	 * @see #belongingTo(StravaCacheable, Object, Object, Supplier)
+	 */
+	protected static <T> List<T> listBelongingTo(final StravaCacheable<?> owner, final Supplier<List<T>> list) {
+		return belongingTo(owner, null, new ArrayList<T>(), list);
+	}
+
+	/**
+	 * @param <T> Type of the objects in the list
+	 * @param owner The owner, or <code>null</code> if it doesn't exist
+	 * @param list Asks for the list for an accessible owner
+	 * @return Future which completes with the list; <code>null</code> if the owner doesn't exist, empty if it is private and inaccessible
+	 * @see #belongingTo(StravaCacheable, Object, Object, Supplier)
+	 */
+	protected static <T> CompletableFuture<List<T>> listBelongingToAsync(final StravaCacheable<?> owner, final Supplier<CompletableFuture<List<T>>> list) {
+		return belongingTo(owner, CompletableFuture.<List<T>> completedFuture(null), CompletableFuture.<List<T>> completedFuture(
+				new ArrayList<T>()), list);
+	}
+
+	/**
+	 * <p>
+	 * Hands the result of an asynchronous service method back to the caller on the token's {@link #getExecutor() executor}, so that the caller's
+	 * continuations (which may well block) are not run on the threads that do the HTTP. Only the hand-over is run on the executor; no thread waits
+	 * for the result.
+	 * </p>
+	 *
+	 * @param <T> Type which will be returned by the future
+	 * @param future Future being composed by the service method
+	 * @return Future for the caller, which completes as <code>future</code> does
+	 */
+	protected final <T> CompletableFuture<T> deliver(final CompletableFuture<T> future) {
+		// Nothing to hand over if it's already done (e.g. it came from cache); the caller's continuations will run on the caller's thread
+		if (future.isDone()) {
+			return future;
+		}
+		final StravaRequestPriority priority = StravaRateLimiter.priority();
+		final CompletableFuture<T> delivered = new CompletableFuture<T>();
+		future.whenComplete((result, error) -> {
+			final Runnable handOver = () -> StravaRateLimiter.withPriority(priority, () -> Boolean.valueOf(FutureUtils.complete(delivered, result, error)));
+			try {
+				getExecutor().execute(handOver);
+			} catch (final RejectedExecutionException e) {
+				handOver.run();
+			}
+		});
+		return delivered;
+	}
+
+	/**
+	 * @param <T> Type which will be returned by the future
+	 * @param callback Callback with code to be executed
+	 * @return A {@link CompletableFuture}, completed on the token's {@link #getExecutor() executor}
+	 */
+	protected <T> CompletableFuture<T> future(final AsyncCallback<T> callback) {
+		return CompletableFuture.supplyAsync(() -> callback.run(), getExecutor());
+	}
+
+	/**
+	 * @return The executor on which the token's asynchronous methods deliver their results, and parallel page requests are run
+	 */
+	protected final Executor getExecutor() {
+		final Executor executor = this.token.getExecutor();
+		return (executor == null ? StravaExecutors.defaultExecutor() : executor);
+	}
+
 	/**
 	 * Get the Strava access token associated with this service
 	 * @return The token
@@ -4,13 +4,13 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 import javastrava.api.v3.auth.model.Token;
 import javastrava.api.v3.model.StravaActivity;
 import javastrava.api.v3.model.StravaSegment;
 import javastrava.api.v3.model.StravaSegmentEffort;
 import javastrava.api.v3.model.StravaStream;
-import javastrava.api.v3.model.reference.StravaResourceState;
 import javastrava.api.v3.model.reference.StravaStreamResolutionType;
 import javastrava.api.v3.model.reference.StravaStreamSeriesDownsamplingType;
 import javastrava.api.v3.model.reference.StravaStreamType;
@@ -21,6 +21,7 @@ import javastrava.api.v3.service.StreamService;
 import javastrava.api.v3.service.exception.BadRequestException;
 import javastrava.api.v3.service.exception.NotFoundException;
 import javastrava.config.Messages;
+import javastrava.util.FutureUtils;
 
 /**
  * <p>
@@ -72,6 +73,76 @@ public class StreamServiceImpl extends StravaServiceImpl implements StreamServic
 		return service;
 	}
 
+	/**
+	 * @param streams
+	 *            Future for the streams returned by Strava
+	 * @return Future which completes with the streams; or with <code>null</code> if they don't exist. A bad request fails it with an
+	 *         {@link IllegalArgumentException}.
+	 */
+	private static CompletableFuture<List<StravaStream>> streams(final CompletableFuture<List<StravaStream>> streams) {
+		return FutureUtils.recover(streams, cause -> {
+			if (cause instanceof NotFoundException) {
+				return null;
+			}
+			if (cause instanceof BadRequestException) {
+				throw new IllegalArgumentException(cause);
+			}
+			throw cause;
+		});
+	}
+
+	/**
+	 * @param request
+	 *            Gets the streams from Strava
+	 * @return The streams; or <code>null</code> if they don't exist
+	 * @throws IllegalArgumentException
+	 *             If Strava says the request is bad
+	 * @see #streams(CompletableFuture)
+	 */
+	private static List<StravaStream> streams(final Supplier<StravaStream[]> request) {
+		try {
+			return Arrays.asList(request.get());
+		} catch (final NotFoundException e) {
+			return null;
+		} catch (final BadRequestException e) {
+			throw new IllegalArgumentException(e);
+		}
+	}
+
+	/**
+	 * <p>
+	 * Streams returned by Strava have a resolution even when none was asked for, which makes them look different from what was asked for
+	 * (workaround for issue javastrava-api #21)
+	 * </p>
+	 *
+	 * @param streams
+	 *            Streams returned by Strava, or <code>null</code>
+	 * @param resolution
+	 *            Resolution requested
+	 * @return The streams, without a resolution if none was asked for
+	 */
+	private static List<StravaStream> withRequestedResolution(final List<StravaStream> streams, final StravaStreamResolutionType resolution) {
+		// TODO This is a workaround for issue javastrava-api #21
+		// (https://github.com/danshannon/javastravav3api/issues/21)
+		if ((streams != null) && (resolution == null)) {
+			for (final StravaStream stream : streams) {
+				stream.setResolution(null);
+			}
+		}
+		// End of workaround
+
+		return streams;
+	}
+
+	/**
+	 * @param types
+	 *            Stream types requested
+	 * @return Stream types to get from Strava; all of them if none were requested
+	 */
+	private static StravaStreamType[] typesToGet(final StravaStreamType[] types) {
+		return (((types == null) || (types.length == 0)) ? getAllStreamTypes() : types);
+	}
+
 	/**
 	 * convert array of types to a comma-separated string, that's what Strava
 	 * expects
@@ -123,6 +194,25 @@ public class StreamServiceImpl extends StravaServiceImpl implements StreamServic
 		}
 	}
 
+	/**
+	 * Validate that what's being asked for a segment makes any sense
+	 *
+	 * @param resolution
+	 *            Resolution requested
+	 * @param seriesType
+	 *            Downsampling type requested
+	 * @param types
+	 *            Stream types requested
+	 * @see #validateArguments(StravaStreamResolutionType, StravaStreamSeriesDownsamplingType, StravaStreamType...)
+	 */
+	private static void validateSegmentArguments(final StravaStreamResolutionType resolution,
+			final StravaStreamSeriesDownsamplingType seriesType, final StravaStreamType... types) {
+		validateArguments(resolution, seriesType, types);
+		if (seriesType == StravaStreamSeriesDownsamplingType.TIME) {
+			throw new IllegalArgumentException(Messages.string("StreamServiceImpl.cannotDownsampleSegmentByTime")); //$NON-NLS-1$
+		}
+	}
+
 	/**
 	 * <p>
 	 * Private constructor prevents anyone from getting an instance without a
@@ -160,45 +250,15 @@ public class StreamServiceImpl extends StravaServiceImpl implements StreamServic
 	@Override
 	public List<StravaStream> getActivityStreams(final Integer activityId, final StravaStreamResolutionType resolution,
 			final StravaStreamSeriesDownsamplingType seriesType, final StravaStreamType... types) {
-		StravaStreamType[] typesToGet = types;
-		validateArguments(resolution, seriesType, typesToGet);
-		if ((typesToGet == null) || (typesToGet.length == 0)) {
-			typesToGet = getAllStreamTypes();
-		}
+		validateArguments(resolution, seriesType, types);
+		final String typeString = typeString(typesToGet(types));
 
-		// Check the activity
+		// Check the activity: if it's null, it doesn't exist, so return null; if it's private, then don't return the streams, just an empty list
 		final StravaActivity activity = this.getToken().getService(ActivityService.class).getActivity(activityId);
+		final List<StravaStream> streams = listBelongingTo(activity, () -> streams(() -> this.api.getActivityStreams(activityId, typeString,
+				resolution, seriesType)));
 
-		// If it's null, it doesn't exist, so return null
-		if (activity == null) {
-			return null;
-		}
-
-		// If it's private, then don't return the streams, just an empty list
-		if (activity.getResourceState() == StravaResourceState.PRIVATE) {
-			return new ArrayList<StravaStream>();
-		}
-
-		List<StravaStream> streams = null;
-		try {
-			streams = Arrays.asList(this.api.getActivityStreams(activityId, typeString(typesToGet), resolution,
-					seriesType));
-		} catch (final NotFoundException e) {
-			return null;
-		} catch (final BadRequestException e) {
-			throw new IllegalArgumentException(e);
-		}
-
-		// TODO This is a workaround for issue javastrava-api #21
-		// (https://github.com/danshannon/javastravav3api/issues/21)
-		if ((streams != null) && (resolution == null)) {
-			for (final StravaStream stream : streams) {
-				stream.setResolution(null);
-			}
-		}
-		// End of workaround
-
-		return streams;
+		return withRequestedResolution(streams, resolution);
 	}
 
 	/**
@@ -206,9 +266,7 @@ public class StreamServiceImpl extends StravaServiceImpl implements StreamServic
 	 */
 	@Override
 	public CompletableFuture<List<StravaStream>> getActivityStreamsAsync(final Integer activityId) {
-		return StravaServiceImpl.future(() -> {
-			return getActivityStreams(activityId);
-		});
+		return getActivityStreamsAsync(activityId, null, null, getAllStreamTypes());
 	}
 
 	/**
@@ -217,8 +275,14 @@ public class StreamServiceImpl extends StravaServiceImpl implements StreamServic
 	@Override
 	public CompletableFuture<List<StravaStream>> getActivityStreamsAsync(final Integer activityId, final StravaStreamResolutionType resolution,
 			final StravaStreamSeriesDownsamplingType seriesType, final StravaStreamType... types) {
-		return StravaServiceImpl.future(() -> {
-			return getActivityStreams(activityId, resolution, seriesType, types);
+		return FutureUtils.attempt(() -> {
+			validateArguments(resolution, seriesType, types);
+			final String typeString = typeString(typesToGet(types));
+
+			// Check the activity: if it's null, it doesn't exist, so return null; if it's private, then don't return the streams, just an empty list
+			return deliver(this.getToken().getService(ActivityService.class).getActivityAsync(activityId).thenCompose(activity -> listBelongingToAsync(
+					activity, () -> streams(callList(() -> this.api.getActivityStreamsAsync(activityId, typeString, resolution, seriesType))))).thenApply(
+							streams -> withRequestedResolution(streams, resolution)));
 		});
 	}
 
@@ -239,32 +303,13 @@ public class StreamServiceImpl extends StravaServiceImpl implements StreamServic
 	public List<StravaStream> getEffortStreams(final Long effortId, final StravaStreamResolutionType resolution,
 			final StravaStreamSeriesDownsamplingType seriesType, final StravaStreamType... types) {
 		validateArguments(resolution, seriesType, types);
-		StravaStreamType[] typesToGet = types;
-		if ((types == null) || (types.length == 0)) {
-			typesToGet = getAllStreamTypes();
-		}
+		final String typeString = typeString(typesToGet(types));
 
 		// Check that the effort exists and is not private
 		final StravaSegmentEffort effort = this.getToken().getService(SegmentEffortService.class)
 				.getSegmentEffort(effortId);
 
-		// If it's null it doesn't exist, so return null
-		if (effort == null) {
-			return null;
-		}
-
-		// If its resource state is PRIVATE, then it's private duh
-		if (effort.getResourceState() == StravaResourceState.PRIVATE) {
-			return new ArrayList<StravaStream>();
-		}
-
-		try {
-			return Arrays.asList(this.api.getEffortStreams(effortId, typeString(typesToGet), resolution, seriesType));
-		} catch (final NotFoundException e) {
-			return null;
-		} catch (final BadRequestException e) {
-			throw new IllegalArgumentException(e);
-		}
+		return listBelongingTo(effort, () -> streams(() -> this.api.getEffortStreams(effortId, typeString, resolution, seriesType)));
 	}
 
 	/**
@@ -272,9 +317,7 @@ public class StreamServiceImpl extends StravaServiceImpl implements StreamServic
 	 */
 	@Override
 	public CompletableFuture<List<StravaStream>> getEffortStreamsAsync(final Long effortId) {
-		return StravaServiceImpl.future(() -> {
-			return getEffortStreams(effortId);
-		});
+		return getEffortStreamsAsync(effortId, null, null, getAllStreamTypes());
 	}
 
 	/**
@@ -283,8 +326,14 @@ public class StreamServiceImpl extends StravaServiceImpl implements StreamServic
 	@Override
 	public CompletableFuture<List<StravaStream>> getEffortStreamsAsync(final Long effortId, final StravaStreamResolutionType resolution,
 			final StravaStreamSeriesDownsamplingType seriesType, final StravaStreamType... types) {
-		return StravaServiceImpl.future(() -> {
-			return getEffortStreams(effortId, resolution, seriesType, types);
+		return FutureUtils.attempt(() -> {
+			validateArguments(resolution, seriesType, types);
+			final String typeString = typeString(typesToGet(types));
+
+			// Check that the effort exists and is not private
+			return deliver(this.getToken().getService(SegmentEffortService.class).getSegmentEffortAsync(effortId).thenCompose(
+					effort -> listBelongingToAsync(effort, () -> streams(callList(() -> this.api.getEffortStreamsAsync(effortId, typeString,
+							resolution, seriesType))))));
 		});
 	}
 
@@ -304,35 +353,13 @@ public class StreamServiceImpl extends StravaServiceImpl implements StreamServic
 	@Override
 	public List<StravaStream> getSegmentStreams(final Integer segmentId, final StravaStreamResolutionType resolution,
 			final StravaStreamSeriesDownsamplingType seriesType, final StravaStreamType... types) {
-		validateArguments(resolution, seriesType, types);
-		StravaStreamType[] typesToGet = types;
-		if (seriesType == StravaStreamSeriesDownsamplingType.TIME) {
-			throw new IllegalArgumentException(Messages.string("StreamServiceImpl.cannotDownsampleSegmentByTime")); //$NON-NLS-1$
-		}
-		if ((types == null) || (types.length == 0)) {
-			typesToGet = getAllStreamTypes();
-		}
+		validateSegmentArguments(resolution, seriesType, types);
+		final String typeString = typeString(typesToGet(types));
 
-		// Check the segment
+		// Check the segment: if it's null, it doesn't exist; if it's PRIVATE, then return an empty list
 		final StravaSegment segment = this.getToken().getService(SegmentService.class).getSegment(segmentId);
 
-		// If the segment is null, it doesn't exist
-		if (segment == null) {
-			return null;
-		}
-
-		// If the segment is PRIVATE, then return an empty list
-		if (segment.getResourceState() == StravaResourceState.PRIVATE) {
-			return new ArrayList<StravaStream>();
-		}
-
-		try {
-			return Arrays.asList(this.api.getSegmentStreams(segmentId, typeString(typesToGet), resolution, seriesType));
-		} catch (final NotFoundException e) {
-			return null;
-		} catch (final BadRequestException e) {
-			throw new IllegalArgumentException(e);
-		}
+		return listBelongingTo(segment, () -> streams(() -> this.api.getSegmentStreams(segmentId, typeString, resolution, seriesType)));
 	}
 
 	/**
@@ -340,9 +367,7 @@ public class StreamServiceImpl extends StravaServiceImpl implements StreamServic
 	 */
 	@Override
 	public CompletableFuture<List<StravaStream>> getSegmentStreamsAsync(final Integer segmentId) {
-		return StravaServiceImpl.future(() -> {
-			return getSegmentStreams(segmentId);
-		});
+		return getSegmentStreamsAsync(segmentId, null, null, getAllStreamTypes());
 	}
 
 	/**
@@ -351,8 +376,13 @@ public class StreamServiceImpl extends StravaServiceImpl implements StreamServic
 	@Override
 	public CompletableFuture<List<StravaStream>> getSegmentStreamsAsync(final Integer segmentId, final StravaStreamResolutionType resolution,
 			final StravaStreamSeriesDownsamplingType seriesType, final StravaStreamType... types) {
-		return StravaServiceImpl.future(() -> {
-			return getSegmentStreams(segmentId, resolution, seriesType, types);
+		return FutureUtils.attempt(() -> {
+			validateSegmentArguments(resolution, seriesType, types);
+			final String typeString = typeString(typesToGet(types));
+
+			// Check the segment: if it's null, it doesn't exist; if it's PRIVATE, then return an empty list
+			return deliver(this.getToken().getService(SegmentService.class).getSegmentAsync(segmentId).thenCompose(segment -> listBelongingToAsync(
+					segment, () -> streams(callList(() -> this.api.getSegmentStreamsAsync(segmentId, typeString, resolution, seriesType))))));
 		});
 	}
 
@@ -10,6 +10,7 @@ import javastrava.api.v3.service.UploadService;
 import javastrava.api.v3.service.exception.BadRequestException;
 import javastrava.api.v3.service.exception.UnauthorizedException;
 import javastrava.config.Messages;
+import javastrava.util.FutureUtils;
 import retrofit.mime.TypedFile;
 
 /**
@@ -75,9 +76,7 @@ public class UploadServiceImpl extends StravaServiceImpl implements UploadServic
 	 */
 	@Override
 	public CompletableFuture<StravaUploadResponse> checkUploadStatusAsync(final Integer uploadId) throws UnauthorizedException {
-		return StravaServiceImpl.future(() -> {
-			return checkUploadStatus(uploadId);
-		});
+		return deliver(call(() -> this.api.checkUploadStatusAsync(uploadId)));
 	}
 
 	/**
@@ -97,16 +96,8 @@ public class UploadServiceImpl extends StravaServiceImpl implements UploadServic
 	public StravaUploadResponse upload(final StravaActivityType activityType, final String name,
 			final String description, final Boolean _private, final Boolean trainer, final String dataType,
 			final String externalId, final File file) {
-		if (file == null) {
-			throw new IllegalArgumentException(Messages.string("UploadServiceImpl.cannotUploadNullFile")); //$NON-NLS-1$
-		}
-		if (!file.exists() || file.isDirectory()) {
-			throw new IllegalArgumentException(String.format(
-					Messages.string("UploadServiceImpl.fileDoesNotExist"), file.getName())); //$NON-NLS-1$
-		}
 		try {
-			return this.api.upload(activityType, name, description, _private, trainer, dataType, externalId,
-					new TypedFile("text/xml", file)); //$NON-NLS-1$
+			return this.api.upload(activityType, name, description, _private, trainer, dataType, externalId, typedFile(file));
 		} catch (final BadRequestException e) {
 			throw new IllegalArgumentException(e);
 		}
@@ -118,9 +109,31 @@ public class UploadServiceImpl extends StravaServiceImpl implements UploadServic
 	@Override
 	public CompletableFuture<StravaUploadResponse> uploadAsync(final StravaActivityType activityType, final String name, final String description, final Boolean _private,
 			final Boolean trainer, final String dataType, final String externalId, final File file) {
-		return StravaServiceImpl.future(() -> {
-			return upload(activityType, name, description, _private, trainer, dataType, externalId, file);
+		return FutureUtils.attempt(() -> {
+			final TypedFile typedFile = typedFile(file);
+			return deliver(FutureUtils.recover(call(() -> this.api.uploadAsync(activityType, name, description, _private, trainer, dataType,
+					externalId, typedFile)), BadRequestException.class, e -> {
+						throw new IllegalArgumentException(e);
+					}));
 		});
 	}
 
+	/**
+	 * @param file
+	 *            The file to be uploaded
+	 * @return The file, ready to upload
+	 * @throws IllegalArgumentException
+	 *             If there is no file, or it doesn't exist
+	 */
+	private static TypedFile typedFile(final File file) {
+		if (file == null) {
+			throw new IllegalArgumentException(Messages.string("UploadServiceImpl.cannotUploadNullFile")); //$NON-NLS-1$
+		}
+		if (!file.exists() || file.isDirectory()) {
+			throw new IllegalArgumentException(String.format(
+					Messages.string("UploadServiceImpl.fileDoesNotExist"), file.getName())); //$NON-NLS-1$
+		}
+		return new TypedFile("text/xml", file); //$NON-NLS-1$
+	}
+
 }
@@ -11,6 +11,7 @@ import java.util.concurrent.CompletableFuture;
 import javastrava.api.v3.auth.model.Token;
 import javastrava.api.v3.model.webhook.StravaEventSubscription;
 import javastrava.api.v3.service.WebhookService;
+import javastrava.util.FutureUtils;
 
 /**
  * @author danshannon
@@ -103,9 +104,8 @@ public class WebhookServiceImpl extends StravaServiceImpl implements WebhookServ
 	 */
 	@Override
 	public CompletableFuture<StravaEventSubscription> createSubscriptionAsync(final StravaEventSubscription subscription, final String verifyToken) {
-		return StravaServiceImpl.future(() -> {
-			return this.api.createSubscription(CLIENT_ID, CLIENT_SECRET, subscription.getObjectType(), subscription.getAspectType(), subscription.getCallbackURL(), verifyToken);
-		});
+		return deliver(call(() -> this.api.createSubscriptionAsync(CLIENT_ID, CLIENT_SECRET, subscription.getObjectType(), subscription.getAspectType(),
+				subscription.getCallbackURL(), verifyToken)));
 	}
 
 	/**
@@ -123,10 +123,7 @@ public class WebhookServiceImpl extends StravaServiceImpl implements WebhookServ
 	 */
 	@Override
 	public CompletableFuture<Void> deleteSubscriptionAsync(final Integer subscriptionId) {
-		return StravaServiceImpl.future(() -> {
-			this.api.deleteSubscription(subscriptionId, CLIENT_ID, CLIENT_SECRET);
-			return null;
-		});
+		return deliver(call(() -> this.api.deleteSubscriptionAsync(subscriptionId, CLIENT_ID, CLIENT_SECRET)).thenApply(response -> (Void) null));
 	}
 
 	/**
@@ -142,9 +139,7 @@ public class WebhookServiceImpl extends StravaServiceImpl implements WebhookServ
 	 */
 	@Override
 	public CompletableFuture<List<StravaEventSubscription>> listSubscriptionsAsync() {
-		return StravaServiceImpl.future(() -> {
-			return Arrays.asList(this.api.listSubscriptions(CLIENT_ID, CLIENT_SECRET));
-		});
+		return deliver(callList(() -> this.api.listSubscriptionsAsync(CLIENT_ID, CLIENT_SECRET)));
 	}
 
 }
@@ -1,6 +1,7 @@
 package javastrava.cache;
 
 import java.util.List;
+import java.util.function.Function;
 
 /**
  * <p>
@@ -10,6 +11,11 @@ import java.util.List;
  * <p>
  * Data is cached <strong>per unique token</strong> and cannot be read by a session with an access token different to the one that stored data
  * </p>
+ *
+ * <p>
+ * Cached objects go stale once their time to live (which depends on their class and resource state) has passed, and are then no longer returned by
+ * {@link #get(Object)}. {@link #get(Object, Function)} goes on returning them for a while longer, refreshing them in the background.
+ * </p>
  * 
  * @author Dan Shannon
  *
@@ -23,10 +29,42 @@ public interface StravaCache<T extends StravaCacheable<U>, U> {
 	 * </p>
 	 *
 	 * @param key The key
-	 * @return the object, or <code>null</code> if not in cache
+	 * @return the object, or <code>null</code> if not in cache or stale
 	 */
 	public T get(U key);
 
+	/**
+	 * <p>
+	 * Retrieves the object from the cache. If it is stale, it is returned anyway and a refresh is started in the background (provided there is
+	 * spare rate limit available to make it).
+	 * </p>
+	 *
+	 * @param key The key
+	 * @param revalidator Retrieves a fresh copy of the object from the API; returns <code>null</code> if the object no longer exists
+	 * @return the object, or <code>null</code> if not in cache or expired
+	 */
+	public T get(U key, Function<U, T> revalidator);
+
+	/**
+	 * <p>
+	 * Checks whether the object is known not to exist, because Strava said so recently (see {@link #putNotFound(Object)}).
+	 * </p>
+	 *
+	 * @param key The key
+	 * @return <code>true</code> if the object is known not to exist, <code>false</code> if it exists or nothing is known about it
+	 */
+	public boolean isNotFound(U key);
+
+	/**
+	 * <p>
+	 * Records, for a short time, that the object doesn't exist, so repeated lookups of it don't each cost an API call. The record is removed if the
+	 * object is later stored or removed.
+	 * </p>
+	 *
+	 * @param key The key of the object which doesn't exist
+	 */
+	public void putNotFound(U key);
+
 	/**
 	 * <p>
 	 * Returns a list of the objects in the cache
@@ -54,7 +92,7 @@ public interface StravaCache<T extends StravaCacheable<U>, U> {
 
 	/**
 	 * <p>
-	 * Removes the object identified by the key from the cache
+	 * Removes the object identified by the key from the cache, and forgets any record that it doesn't exist
 	 * </p>
 	 *
 	 * @param key The key of the object to be removed
@@ -0,0 +1,18 @@
+package javastrava.cache;
+
+/**
+ * <p>
+ * Estimates the memory used by an object stored in cache, so that caches can be bounded by weight as well as by number of entries
+ * </p>
+ *
+ * @author Dan Shannon
+ *
+ */
+public interface StravaCacheWeigher {
+	/**
+	 * @param object
+	 *            Object to be stored in cache
+	 * @return Estimated weight of the object, in bytes
+	 */
+	public int weigh(Object object);
+}
@@ -0,0 +1,149 @@
+package javastrava.cache.impl;
+
+/**
+ * <p>
+ * Count-Min sketch of the approximate access frequency of cache entries, used by {@link StravaCacheStore} to decide whether a new entry is worth
+ * evicting an existing one for (TinyLFU admission)
+ * </p>
+ *
+ * <p>
+ * Each item is counted in four 4-bit counters (so frequencies saturate at 15), sixteen counters to a <code>long</code>. Once the number of
+ * increments reaches ten times the capacity all counters are halved, so that the sketch tracks recent popularity rather than all-time popularity.
+ * </p>
+ *
+ * <p>
+ * Updates are deliberately not synchronised: a lost increment only makes a frequency very slightly less accurate, which is a far smaller cost than
+ * contention on every cache read.
+ * </p>
+ *
+ * @author Dan Shannon
+ *
+ */
+class FrequencySketch {
+	/**
+	 * Seeds for the four hash functions
+	 */
+	private static final long[] SEEDS = { 0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L };
+
+	/**
+	 * Mask used to halve every counter in a <code>long</code> at once
+	 */
+	private static final long RESET_MASK = 0x7777777777777777L;
+
+	/**
+	 * The counters
+	 */
+	private final long[] table;
+
+	/**
+	 * Mask to convert a hash into an index into the table
+	 */
+	private final int tableMask;
+
+	/**
+	 * Number of increments after which all counters are halved
+	 */
+	private final int sampleSize;
+
+	/**
+	 * Number of increments since the counters were last halved
+	 */
+	private int size;
+
+	/**
+	 * @param capacity
+	 *            Maximum number of entries in the cache
+	 */
+	FrequencySketch(final int capacity) {
+		final int maximum = Math.max(16, Math.min(capacity, 1 << 30));
+		this.table = new long[Integer.highestOneBit(maximum - 1) << 1];
+		this.tableMask = this.table.length - 1;
+		this.sampleSize = (int) Math.min(10L * maximum, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * @param item
+	 *            Hash of the item
+	 * @return Estimated number of times the item has been accessed recently (0-15)
+	 */
+	int frequency(final int item) {
+		final int hash = spread(item);
+		final int start = (hash & 3) << 2;
+		int frequency = Integer.MAX_VALUE;
+		for (int i = 0; i < 4; i++) {
+			final int index = indexOf(hash, i);
+			final int count = (int) ((this.table[index] >>> ((start + i) << 2)) & 0xfL);
+			frequency = Math.min(frequency, count);
+		}
+		return frequency;
+	}
+
+	/**
+	 * Records an access to the item
+	 *
+	 * @param item
+	 *            Hash of the item
+	 */
+	void increment(final int item) {
+		final int hash = spread(item);
+		final int start = (hash & 3) << 2;
+		boolean added = false;
+		for (int i = 0; i < 4; i++) {
+			added |= incrementAt(indexOf(hash, i), start + i);
+		}
+		if (added && (++this.size >= this.sampleSize)) {
+			reset();
+		}
+	}
+
+	/**
+	 * @param index
+	 *            Index into the table
+	 * @param counter
+	 *            Which of the sixteen counters in the <code>long</code> to increment
+	 * @return <code>true</code> if the counter was incremented, <code>false</code> if it was already saturated
+	 */
+	private boolean incrementAt(final int index, final int counter) {
+		final int offset = counter << 2;
+		final long mask = 0xfL << offset;
+		if ((this.table[index] & mask) != mask) {
+			this.table[index] += 1L << offset;
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * @param hash
+	 *            Spread hash of the item
+	 * @param i
+	 *            Which hash function to use
+	 * @return Index into the table
+	 */
+	private int indexOf(final int hash, final int i) {
+		long result = (hash + SEEDS[i]) * SEEDS[i];
+		result += (result >>> 32);
+		return ((int) result) & this.tableMask;
+	}
+
+	/**
+	 * Halves every counter
+	 */
+	private void reset() {
+		for (int i = 0; i < this.table.length; i++) {
+			this.table[i] = (this.table[i] >>> 1) & RESET_MASK;
+		}
+		this.size = this.size >>> 1;
+	}
+
+	/**
+	 * @param hash
+	 *            Item hash
+	 * @return Hash with better distribution of bits
+	 */
+	private static int spread(final int hash) {
+		int x = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+		x = ((x >>> 16) ^ x) * 0x45d9f3b;
+		return (x >>> 16) ^ x;
+	}
+}
@@ -0,0 +1,1127 @@
+package javastrava.cache.impl;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.google.gson.Gson;
+
+import javastrava.config.StravaConfig;
+import javastrava.json.impl.gson.JsonUtilImpl;
+
+/**
+ * <p>
+ * Optional on-disk tier behind {@link StravaCacheImpl}, so that a restarted application can serve objects it fetched before the restart without
+ * calling the Strava API again
+ * </p>
+ *
+ * <p>
+ * Objects are stored in a single append-only file, written and read through memory-mapped regions of {@link #REGION_SIZE} bytes. Each record is
+ * framed in binary (length, CRC-32, type, segment, id, freshness) and carries the object as deflated JSON, produced by the same Gson serialisers as
+ * the API uses, so every model class round-trips exactly. Removals are recorded as further records, so nothing is ever overwritten in place. The
+ * index of id to record is held in memory and is rebuilt by scanning the file at startup; a torn record at the end of the file (from a crash mid
+ * write) fails its CRC check and ends the scan.
+ * </p>
+ *
+ * <p>
+ * The file is compacted (rewritten with only its live records) at startup, and by the writer thread whenever it is about to grow, if less than
+ * half of it is live data. When it would grow beyond its maximum size it is compacted down to half that size, the oldest objects being dropped if
+ * the live data alone doesn't fit, so the disk tier goes on taking new objects for as long as the application runs.
+ * </p>
+ *
+ * <p>
+ * Writes are made in the background by a single thread, so putting an object in cache never waits for the disk. An object which is replaced stays
+ * readable until its new version has been written. Removals take effect in the index immediately, so a removed object can't be read back from disk.
+ * Access tokens are never written to disk; segments belonging to a token are identified by a hash of it.
+ * </p>
+ *
+ * <p>
+ * Enabled by setting <code>strava.cache.disk.enabled=true</code> in config.properties.
+ * </p>
+ *
+ * @author Dan Shannon
+ *
+ */
+public class StravaCacheDiskStore {
+	/**
+	 * An object read back from disk, with the freshness it was stored with
+	 */
+	public static final class DiskEntry {
+		/**
+		 * The object
+		 */
+		private final Object value;
+		/**
+		 * Time (milliseconds since the epoch) at which the object was stored
+		 */
+		private final long storedAt;
+		/**
+		 * Time to live in milliseconds, or a negative value if the object never goes stale
+		 */
+		private final long ttl;
+		/**
+		 * How long, in milliseconds, the object may still be served once it is stale
+		 */
+		private final long staleWhileRevalidate;
+
+		/**
+		 * @param value
+		 *            The object
+		 * @param storedAt
+		 *            Time at which the object was stored
+		 * @param ttl
+		 *            Time to live in milliseconds
+		 * @param staleWhileRevalidate
+		 *            How long the object may still be served once it is stale
+		 */
+		DiskEntry(final Object value, final long storedAt, final long ttl, final long staleWhileRevalidate) {
+			this.value = value;
+			this.storedAt = storedAt;
+			this.ttl = ttl;
+			this.staleWhileRevalidate = staleWhileRevalidate;
+		}
+
+		/**
+		 * @return the object
+		 */
+		public Object getValue() {
+			return this.value;
+		}
+
+		/**
+		 * @param now
+		 *            Current time (milliseconds since the epoch)
+		 * @return Time to live remaining, in milliseconds (0 if the object is already stale), or a negative value if the object never goes stale
+		 */
+		public long getRemainingTimeToLive(final long now) {
+			if (this.ttl < 0) {
+				return -1;
+			}
+			return Math.max(0, (this.storedAt + this.ttl) - now);
+		}
+
+		/**
+		 * @param now
+		 *            Current time (milliseconds since the epoch)
+		 * @return Remaining time, in milliseconds, for which the object may be served stale once its remaining time to live has passed
+		 */
+		public long getRemainingStaleWhileRevalidate(final long now) {
+			if (this.ttl < 0) {
+				return 0;
+			}
+			return Math.max(0, (this.storedAt + this.ttl + this.staleWhileRevalidate) - now - getRemainingTimeToLive(now));
+		}
+
+		/**
+		 * @param now
+		 *            Current time (milliseconds since the epoch)
+		 * @return <code>true</code> if the object may no longer be served at all
+		 */
+		public boolean isExpired(final long now) {
+			return (this.ttl >= 0) && (now >= (this.storedAt + this.ttl + this.staleWhileRevalidate));
+		}
+	}
+
+	/**
+	 * A live record being copied by {@link StravaCacheDiskStore#compact(long)}
+	 */
+	private static final class LiveRecord {
+		/**
+		 * Name of the segment
+		 */
+		final String segment;
+		/**
+		 * The object's id
+		 */
+		final String key;
+		/**
+		 * Offset of the record in the file being compacted
+		 */
+		final long from;
+		/**
+		 * Size of the record, including its header
+		 */
+		final int size;
+		/**
+		 * Offset of the record in the compacted file
+		 */
+		long to;
+
+		/**
+		 * @param segment
+		 *            Name of the segment
+		 * @param key
+		 *            The object's id
+		 * @param from
+		 *            Offset of the record in the file being compacted
+		 * @param size
+		 *            Size of the record, including its header
+		 */
+		LiveRecord(final String segment, final String key, final long from, final int size) {
+			this.segment = segment;
+			this.key = key;
+			this.from = from;
+			this.size = size;
+		}
+	}
+
+	/**
+	 * Logger
+	 */
+	private static Logger log = LogManager.getLogger();
+
+	/**
+	 * Size of each memory-mapped region of the file; no record may be larger than this
+	 */
+	static final int REGION_SIZE = 64 * 1024 * 1024;
+
+	/**
+	 * Size of a record's header (length and CRC)
+	 */
+	private static final int HEADER_SIZE = 8;
+
+	/**
+	 * Length written in place of a record to indicate that the rest of the region is unused
+	 */
+	private static final int END_OF_REGION = -1;
+
+	/**
+	 * Record type: an object was stored
+	 */
+	private static final byte PUT = 1;
+
+	/**
+	 * Record type: an object was removed
+	 */
+	private static final byte REMOVE = 2;
+
+	/**
+	 * Record type: all objects in a segment were removed
+	 */
+	private static final byte CLEAR = 3;
+
+	/**
+	 * Maximum number of writes waiting for the writer thread
+	 */
+	private static final int MAX_QUEUED = 10000;
+
+	/**
+	 * The default disk store, or <code>null</code> if the disk tier is disabled or couldn't be opened
+	 */
+	private static final StravaCacheDiskStore INSTANCE = open();
+
+	/**
+	 * @return The default disk store, or <code>null</code> if the disk tier is disabled
+	 */
+	public static StravaCacheDiskStore instance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * @param class1
+	 *            Class of objects in the segment
+	 * @param token
+	 *            Value of the access token the segment belongs to, or <code>null</code> for a segment shared by all tokens
+	 * @return Name identifying the segment on disk (which does not reveal the token)
+	 */
+	public static String segmentName(final Class<?> class1, final String token) {
+		if (token == null) {
+			return class1.getName() + "/*"; //$NON-NLS-1$
+		}
+		try {
+			final byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)); //$NON-NLS-1$
+			final StringBuilder name = new StringBuilder(class1.getName()).append('/');
+			for (int i = 0; i < 16; i++) {
+				name.append(Character.forDigit((digest[i] >> 4) & 0xF, 16)).append(Character.forDigit(digest[i] & 0xF, 16));
+			}
+			return name.toString();
+		} catch (final NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * @return The default disk store, as configured, or <code>null</code>
+	 */
+	private static StravaCacheDiskStore open() {
+		if (!StravaConfig.CACHE_DISK_ENABLED) {
+			return null;
+		}
+		try {
+			final StravaCacheDiskStore store = new StravaCacheDiskStore(Paths.get(StravaConfig.CACHE_DISK_FILE), StravaConfig.CACHE_DISK_MAX_BYTES);
+			Runtime.getRuntime().addShutdownHook(new Thread(() -> store.close(), "javastrava-cache-disk-shutdown")); //$NON-NLS-1$
+			return store;
+		} catch (final IOException e) {
+			log.error("Unable to open cache file " + StravaConfig.CACHE_DISK_FILE + ", continuing without a disk cache: " + e); //$NON-NLS-1$ //$NON-NLS-2$
+			return null;
+		}
+	}
+
+	/**
+	 * The file
+	 */
+	private final Path file;
+
+	/**
+	 * Maximum size of the file in bytes
+	 */
+	private final long maxBytes;
+
+	/**
+	 * Channel to the file
+	 */
+	private FileChannel channel;
+
+	/**
+	 * Held while reading through the index and the regions, and held exclusively while compaction swaps them for those of the compacted file
+	 */
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	/**
+	 * Memory-mapped regions of the file
+	 */
+	private volatile MappedByteBuffer[] regions = new MappedByteBuffer[0];
+
+	/**
+	 * Offset at which the next record will be written; only changed by the writer thread (or during startup)
+	 */
+	private long position;
+
+	/**
+	 * Total size of records which are still live
+	 */
+	private final AtomicLong liveBytes = new AtomicLong();
+
+	/**
+	 * Offset of the live record for each id, by segment name
+	 */
+	private final ConcurrentHashMap<String, ConcurrentHashMap<String, Long>> index = new ConcurrentHashMap<String, ConcurrentHashMap<String, Long>>();
+
+	/**
+	 * Serialises objects
+	 */
+	private final Gson gson = new JsonUtilImpl().getGson();
+
+	/**
+	 * Makes the writes
+	 */
+	private final ThreadPoolExecutor writer;
+
+	/**
+	 * Compresses payloads (only used by the writer thread)
+	 */
+	private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+
+	/**
+	 * Decompresses payloads
+	 */
+	private final ThreadLocal<Inflater> inflater = ThreadLocal.withInitial(() -> new Inflater());
+
+	/**
+	 * Number of objects read from disk
+	 */
+	private final AtomicLong reads = new AtomicLong();
+
+	/**
+	 * Number of records written to disk
+	 */
+	private final AtomicLong writes = new AtomicLong();
+
+	/**
+	 * Number of writes dropped because the queue or the file was full
+	 */
+	private final AtomicLong dropped = new AtomicLong();
+
+	/**
+	 * Number of times the file has been compacted
+	 */
+	private final AtomicLong compactions = new AtomicLong();
+
+	/**
+	 * Number of live objects dropped by compaction because they didn't fit
+	 */
+	private final AtomicLong evicted = new AtomicLong();
+
+	/**
+	 * @param file
+	 *            The file (created if it doesn't exist)
+	 * @param maxBytes
+	 *            Maximum size of the file, in bytes
+	 * @throws IOException
+	 *             If the file can't be opened or read
+	 */
+	public StravaCacheDiskStore(final Path file, final long maxBytes) throws IOException {
+		this.file = file;
+		this.maxBytes = Math.max(REGION_SIZE, maxBytes);
+		openFile();
+		if (this.position > this.maxBytes) {
+			// The maximum size has been reduced since the file was written
+			compact(this.maxBytes / 2);
+		} else if (isMostlyDead()) {
+			compact(this.maxBytes);
+		}
+		this.writer = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<Runnable>(MAX_QUEUED), runnable -> {
+			final Thread thread = new Thread(runnable, "javastrava-cache-disk-writer"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		log.info(String.format("Opened cache file %s: %d objects, %d of %d bytes live", file, Integer.valueOf(size()), //$NON-NLS-1$
+				Long.valueOf(this.liveBytes.get()), Long.valueOf(this.position)));
+	}
+
+	/**
+	 * <p>
+	 * Reads an object from disk
+	 * </p>
+	 *
+	 * @param segment
+	 *            Name of the segment
+	 * @param id
+	 *            The object's id
+	 * @param class1
+	 *            Class of the object
+	 * @return The object and its freshness, or <code>null</code> if it isn't on disk (or can't be read)
+	 */
+	public DiskEntry get(final String segment, final Object id, final Class<?> class1) {
+		this.lock.readLock().lock();
+		try {
+			final Map<String, Long> ids = this.index.get(segment);
+			if (ids == null) {
+				return null;
+			}
+			final Long offset = ids.get(id.toString());
+			if (offset == null) {
+				return null;
+			}
+			try {
+				final DiskEntry entry = read(offset.longValue(), class1);
+				if (entry != null) {
+					this.reads.incrementAndGet();
+				}
+				return entry;
+			} catch (final RuntimeException | DataFormatException e) {
+				log.warn("Unable to read cached " + class1.getSimpleName() + " " + id + " from disk: " + e); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				ids.remove(id.toString(), offset);
+				return null;
+			}
+		} finally {
+			this.lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * @param segment
+	 *            Name of the segment
+	 * @return Ids (as strings) of all the objects in the segment which are on disk
+	 */
+	public Collection<String> ids(final String segment) {
+		final Map<String, Long> ids = this.index.get(segment);
+		return (ids == null ? new ArrayList<String>() : new ArrayList<String>(ids.keySet()));
+	}
+
+	/**
+	 * <p>
+	 * Stores an object on disk, in the background
+	 * </p>
+	 *
+	 * @param segment
+	 *            Name of the segment
+	 * @param id
+	 *            The object's id
+	 * @param value
+	 *            The object
+	 * @param ttl
+	 *            Time to live in milliseconds, or a negative value if the object never goes stale
+	 * @param staleWhileRevalidate
+	 *            How long, in milliseconds, the object may still be served once it is stale
+	 */
+	public void put(final String segment, final Object id, final Object value, final long ttl, final long staleWhileRevalidate) {
+		final String key = id.toString();
+		final long storedAt = System.currentTimeMillis();
+		// The older version, if any, stays readable until the new one has been written
+		final boolean queued = submit(() -> {
+			final byte[] payload = deflate(this.gson.toJson(value).getBytes(StandardCharsets.UTF_8));
+			final ByteBuffer body = body(PUT, segment, key, 8 + 8 + 8 + 4 + payload.length);
+			body.putLong(storedAt).putLong(ttl).putLong(staleWhileRevalidate).putInt(payload.length).put(payload);
+			final long offset = append(body);
+			if (offset >= 0) {
+				final Long previous = this.index.computeIfAbsent(segment, name -> new ConcurrentHashMap<String, Long>()).put(key, Long.valueOf(offset));
+				release(previous);
+				this.liveBytes.addAndGet(HEADER_SIZE + body.capacity());
+			} else {
+				// The new version couldn't be written, so don't let the older one be read back instead
+				unindex(segment, key);
+			}
+		});
+		if (!queued) {
+			unindex(segment, key);
+		}
+	}
+
+	/**
+	 * <p>
+	 * Removes an object from disk
+	 * </p>
+	 *
+	 * @param segment
+	 *            Name of the segment
+	 * @param id
+	 *            The object's id
+	 */
+	public void remove(final String segment, final Object id) {
+		final String key = id.toString();
+		final boolean indexed = unindex(segment, key);
+		submit(() -> {
+			// Only record the removal if there was something on disk to remove (including an object whose write was still queued just now)
+			if (unindex(segment, key) || indexed) {
+				append(body(REMOVE, segment, key, 0));
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Removes all the objects in a segment from disk
+	 * </p>
+	 *
+	 * @param segment
+	 *            Name of the segment
+	 */
+	public void clear(final String segment) {
+		unindexAll(segment);
+		submit(() -> {
+			unindexAll(segment);
+			append(body(CLEAR, segment, "", 0)); //$NON-NLS-1$
+		});
+	}
+
+	/**
+	 * @return Number of objects on disk
+	 */
+	public int size() {
+		int size = 0;
+		for (final Map<String, Long> ids : this.index.values()) {
+			size += ids.size();
+		}
+		return size;
+	}
+
+	/**
+	 * @return Number of objects read from disk
+	 */
+	public long getReads() {
+		return this.reads.get();
+	}
+
+	/**
+	 * @return Number of records written to disk
+	 */
+	public long getWrites() {
+		return this.writes.get();
+	}
+
+	/**
+	 * @return Number of writes dropped because the write queue or the file was full
+	 */
+	public long getDropped() {
+		return this.dropped.get();
+	}
+
+	/**
+	 * @return Number of times the file has been compacted
+	 */
+	public long getCompactions() {
+		return this.compactions.get();
+	}
+
+	/**
+	 * @return Number of live objects dropped by compaction because the file was full
+	 */
+	public long getEvicted() {
+		return this.evicted.get();
+	}
+
+	/**
+	 * @return Total size of live records, in bytes
+	 */
+	public long getLiveBytes() {
+		return this.liveBytes.get();
+	}
+
+	/**
+	 * <p>
+	 * Waits for queued writes to complete
+	 * </p>
+	 *
+	 * @param timeoutMillis
+	 *            Maximum time to wait, in milliseconds
+	 * @return <code>true</code> if all queued writes completed
+	 */
+	public boolean flush(final long timeoutMillis) {
+		final long deadline = System.currentTimeMillis() + timeoutMillis;
+		while ((this.writer.getQueue().size() > 0) || (this.writer.getActiveCount() > 0)) {
+			if (System.currentTimeMillis() > deadline) {
+				return false;
+			}
+			try {
+				Thread.sleep(1);
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * <p>
+	 * Completes queued writes and forces the file's contents to disk. No more writes are accepted afterwards.
+	 * </p>
+	 */
+	public void close() {
+		this.writer.shutdown();
+		try {
+			this.writer.awaitTermination(5, TimeUnit.SECONDS);
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		for (final MappedByteBuffer region : this.regions) {
+			region.force();
+		}
+		try {
+			this.channel.close();
+		} catch (final IOException e) {
+			log.warn("Unable to close cache file " + this.file + ": " + e); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
+	/**
+	 * @param write
+	 *            Write to be made by the writer thread
+	 * @return <code>true</code> if the write was queued, <code>false</code> if it was dropped because the queue is full
+	 */
+	private boolean submit(final Runnable write) {
+		try {
+			this.writer.execute(() -> {
+				try {
+					write.run();
+				} catch (final RuntimeException e) {
+					this.dropped.incrementAndGet();
+					log.warn("Unable to write to cache file " + this.file + ": " + e); //$NON-NLS-1$ //$NON-NLS-2$
+				}
+			});
+			return true;
+		} catch (final RejectedExecutionException e) {
+			this.dropped.incrementAndGet();
+			return false;
+		}
+	}
+
+	/**
+	 * @param segment
+	 *            Name of the segment
+	 * @param key
+	 *            The object's id
+	 * @return <code>true</code> if the object was in the index
+	 */
+	private boolean unindex(final String segment, final String key) {
+		this.lock.readLock().lock();
+		try {
+			final Map<String, Long> ids = this.index.get(segment);
+			if (ids == null) {
+				return false;
+			}
+			final Long offset = ids.remove(key);
+			release(offset);
+			return (offset != null);
+		} finally {
+			this.lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * @param segment
+	 *            Name of the segment
+	 */
+	private void unindexAll(final String segment) {
+		this.lock.readLock().lock();
+		try {
+			final Map<String, Long> ids = this.index.remove(segment);
+			if (ids != null) {
+				for (final Long offset : ids.values()) {
+					release(offset);
+				}
+			}
+		} finally {
+			this.lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * @param offset
+	 *            Offset of a record which is no longer live, or <code>null</code>; called with the lock held, or by the writer thread
+	 */
+	private void release(final Long offset) {
+		if (offset != null) {
+			this.liveBytes.addAndGet(-(HEADER_SIZE + buffer(offset.longValue()).getInt()));
+		}
+	}
+
+	/**
+	 * @param type
+	 *            Record type
+	 * @param segment
+	 *            Name of the segment
+	 * @param key
+	 *            The object's id
+	 * @param extra
+	 *            Number of bytes to allow for after the id
+	 * @return Buffer for the body of the record, with the type, segment and id written
+	 */
+	private static ByteBuffer body(final byte type, final String segment, final String key, final int extra) {
+		final byte[] segmentBytes = segment.getBytes(StandardCharsets.UTF_8);
+		final byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+		final ByteBuffer body = ByteBuffer.allocate(1 + 2 + segmentBytes.length + 2 + keyBytes.length + extra);
+		body.put(type).putShort((short) segmentBytes.length).put(segmentBytes).putShort((short) keyBytes.length).put(keyBytes);
+		return body;
+	}
+
+	/**
+	 * Appends a record to the file. Only called by the writer thread (or during startup).
+	 *
+	 * @param body
+	 *            Body of the record, filled
+	 * @return Offset of the record, or -1 if it couldn't be written because the file is full
+	 */
+	private long append(final ByteBuffer body) {
+		final int length = body.capacity();
+		final int total = HEADER_SIZE + length;
+		if (total > REGION_SIZE) {
+			this.dropped.incrementAndGet();
+			return -1;
+		}
+		if (regionFor(total) >= this.regions.length) {
+			// The file is about to grow, which is the time to reclaim the space taken by dead records (and, if it is full, by the oldest objects)
+			final boolean full = isBeyondMaximum(regionFor(total));
+			if (full || isMostlyDead()) {
+				try {
+					compact(full ? (this.maxBytes / 2) : this.maxBytes);
+				} catch (final IOException e) {
+					log.warn("Unable to compact cache file " + this.file + ": " + e); //$NON-NLS-1$ //$NON-NLS-2$
+				}
+			}
+		}
+		int within = (int) (this.position % REGION_SIZE);
+		if ((within + total) > REGION_SIZE) {
+			if ((within + 4) <= REGION_SIZE) {
+				buffer(this.position).putInt(END_OF_REGION);
+			}
+			this.position += REGION_SIZE - within;
+			within = 0;
+		}
+		final int region = (int) (this.position / REGION_SIZE);
+		if (region >= this.regions.length) {
+			if (isBeyondMaximum(region)) {
+				this.dropped.incrementAndGet();
+				return -1;
+			}
+			try {
+				mapRegion(region);
+			} catch (final IOException e) {
+				this.dropped.incrementAndGet();
+				log.warn("Unable to extend cache file " + this.file + ": " + e); //$NON-NLS-1$ //$NON-NLS-2$
+				return -1;
+			}
+		}
+
+		final CRC32 crc = new CRC32();
+		crc.update(body.array(), 0, length);
+		// Body first, then the length, so a record is only visible once it is complete
+		buffer(this.position + 4).putInt((int) crc.getValue()).put(body.array(), 0, length);
+		buffer(this.position).putInt(length);
+
+		final long offset = this.position;
+		this.position += total;
+		this.writes.incrementAndGet();
+		return offset;
+	}
+
+	/**
+	 * @param total
+	 *            Size of a record, including its header
+	 * @return Index of the region the record would be appended to
+	 */
+	private int regionFor(final int total) {
+		final int within = (int) (this.position % REGION_SIZE);
+		final long offset = ((within + total) > REGION_SIZE ? (this.position + REGION_SIZE) - within : this.position);
+		return (int) (offset / REGION_SIZE);
+	}
+
+	/**
+	 * @param region
+	 *            Index of a region
+	 * @return <code>true</code> if mapping the region would take the file beyond its maximum size
+	 */
+	private boolean isBeyondMaximum(final int region) {
+		return ((long) (region + 1) * REGION_SIZE) > this.maxBytes;
+	}
+
+	/**
+	 * @return <code>true</code> if the file is more than a region long and less than half of it is live data
+	 */
+	private boolean isMostlyDead() {
+		return (this.position > REGION_SIZE) && ((this.liveBytes.get() * 2) < this.position);
+	}
+
+	/**
+	 * @param offset
+	 *            Offset of a record
+	 * @param class1
+	 *            Class of the object
+	 * @return The object and its freshness, or <code>null</code> if the record is not a put
+	 * @throws DataFormatException
+	 *             If the payload is corrupt
+	 */
+	private DiskEntry read(final long offset, final Class<?> class1) throws DataFormatException {
+		final ByteBuffer buffer = buffer(offset);
+		buffer.getInt(); // length
+		buffer.getInt(); // CRC
+		if (buffer.get() != PUT) {
+			return null;
+		}
+		final int segmentLength = buffer.getShort();
+		buffer.position(buffer.position() + segmentLength);
+		final int keyLength = buffer.getShort();
+		buffer.position(buffer.position() + keyLength);
+		final long storedAt = buffer.getLong();
+		final long ttl = buffer.getLong();
+		final long staleWhileRevalidate = buffer.getLong();
+		final byte[] payload = new byte[buffer.getInt()];
+		buffer.get(payload);
+		final String json = new String(inflate(payload), StandardCharsets.UTF_8);
+		return new DiskEntry(this.gson.fromJson(json, class1), storedAt, ttl, staleWhileRevalidate);
+	}
+
+	/**
+	 * @param offset
+	 *            Offset in the file
+	 * @return Buffer positioned at the offset, within its region
+	 */
+	private ByteBuffer buffer(final long offset) {
+		final ByteBuffer buffer = this.regions[(int) (offset / REGION_SIZE)].duplicate();
+		buffer.position((int) (offset % REGION_SIZE));
+		return buffer;
+	}
+
+	/**
+	 * @param region
+	 *            Index of the region to map, extending the file if necessary
+	 * @throws IOException
+	 *             If the region can't be mapped
+	 */
+	private void mapRegion(final int region) throws IOException {
+		this.regions = map(this.channel, this.regions, region);
+	}
+
+	/**
+	 * @param channel
+	 *            Channel to a file
+	 * @param regions
+	 *            Regions of the file already mapped
+	 * @param region
+	 *            Index of the last region to map, extending the file if necessary
+	 * @return All the mapped regions, up to and including the given one
+	 * @throws IOException
+	 *             If a region can't be mapped
+	 */
+	private static MappedByteBuffer[] map(final FileChannel channel, final MappedByteBuffer[] regions, final int region) throws IOException {
+		final MappedByteBuffer[] mapped = Arrays.copyOf(regions, region + 1);
+		for (int i = regions.length; i <= region; i++) {
+			mapped[i] = channel.map(MapMode.READ_WRITE, (long) i * REGION_SIZE, REGION_SIZE);
+		}
+		return mapped;
+	}
+
+	/**
+	 * Opens the file, maps it and rebuilds the index from it
+	 *
+	 * @throws IOException
+	 *             If the file can't be opened
+	 */
+	private void openFile() throws IOException {
+		if (this.file.getParent() != null) {
+			Files.createDirectories(this.file.getParent());
+		}
+		this.channel = FileChannel.open(this.file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		this.regions = new MappedByteBuffer[0];
+		this.index.clear();
+		this.liveBytes.set(0);
+		this.position = 0;
+		final long size = this.channel.size();
+		if (size > 0) {
+			mapRegion((int) ((size - 1) / REGION_SIZE));
+		}
+		scan();
+	}
+
+	/**
+	 * Rebuilds the index by reading every record in the file, stopping at the end of the data or at the first damaged record
+	 */
+	private void scan() {
+		final long end = (long) this.regions.length * REGION_SIZE;
+		while (this.position < end) {
+			final int within = (int) (this.position % REGION_SIZE);
+			if ((within + HEADER_SIZE) > REGION_SIZE) {
+				this.position += REGION_SIZE - within;
+				continue;
+			}
+			final ByteBuffer buffer = buffer(this.position);
+			final int length = buffer.getInt();
+			if (length == END_OF_REGION) {
+				this.position += REGION_SIZE - within;
+				continue;
+			}
+			if ((length <= 0) || ((within + HEADER_SIZE + length) > REGION_SIZE)) {
+				break;
+			}
+			final int expectedCrc = buffer.getInt();
+			final byte[] body = new byte[length];
+			buffer.get(body);
+			final CRC32 crc = new CRC32();
+			crc.update(body);
+			if ((int) crc.getValue() != expectedCrc) {
+				log.warn("Damaged record in cache file " + this.file + " at offset " + this.position + ", ignoring the rest of the file"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				break;
+			}
+			apply(ByteBuffer.wrap(body), this.position, HEADER_SIZE + length);
+			this.position += HEADER_SIZE + length;
+		}
+		// Anything after the last good record is garbage; make sure it reads as the end of the data
+		if (this.position < end) {
+			final int within = (int) (this.position % REGION_SIZE);
+			if ((within + 4) <= REGION_SIZE) {
+				buffer(this.position).putInt(0);
+			}
+		}
+	}
+
+	/**
+	 * Applies a record read during the scan to the index
+	 *
+	 * @param body
+	 *            Body of the record
+	 * @param offset
+	 *            Offset of the record
+	 * @param size
+	 *            Size of the record, including its header
+	 */
+	private void apply(final ByteBuffer body, final long offset, final int size) {
+		final byte type = body.get();
+		final byte[] segmentBytes = new byte[body.getShort()];
+		body.get(segmentBytes);
+		final byte[] keyBytes = new byte[body.getShort()];
+		body.get(keyBytes);
+		final String segment = new String(segmentBytes, StandardCharsets.UTF_8);
+		final String key = new String(keyBytes, StandardCharsets.UTF_8);
+		switch (type) {
+		case PUT:
+			release(this.index.computeIfAbsent(segment, name -> new ConcurrentHashMap<String, Long>()).put(key, Long.valueOf(offset)));
+			this.liveBytes.addAndGet(size);
+			break;
+		case REMOVE:
+			unindex(segment, key);
+			break;
+		case CLEAR:
+			unindexAll(segment);
+			break;
+		default:
+			break;
+		}
+	}
+
+	/**
+	 * <p>
+	 * Rewrites the file with only its live records; if they don't all fit in the given number of bytes, the oldest are dropped. Only called by the
+	 * writer thread (or during startup).
+	 * </p>
+	 *
+	 * <p>
+	 * Readers carry on reading the old file while the live records are copied; the lock is only held exclusively while the compacted file is put in
+	 * its place. An object removed while its record was being copied is left out of the index.
+	 * </p>
+	 *
+	 * @param budget
+	 *            Maximum number of bytes of live records to keep
+	 * @throws IOException
+	 *             If the file can't be rewritten; the old file is then still in use
+	 */
+	private void compact(final long budget) throws IOException {
+		final long before = this.position;
+
+		// Newest first, so that if they don't all fit it's the oldest which are dropped
+		final List<LiveRecord> records = new ArrayList<LiveRecord>();
+		for (final Map.Entry<String, ConcurrentHashMap<String, Long>> ids : this.index.entrySet()) {
+			for (final Map.Entry<String, Long> id : ids.getValue().entrySet()) {
+				final long offset = id.getValue().longValue();
+				records.add(new LiveRecord(ids.getKey(), id.getKey(), offset, HEADER_SIZE + buffer(offset).getInt()));
+			}
+		}
+		records.sort((record1, record2) -> Long.compare(record2.from, record1.from));
+		int keep = 0;
+		long kept = 0;
+		while ((keep < records.size()) && ((kept + records.get(keep).size) <= budget)) {
+			kept += records.get(keep).size;
+			keep++;
+		}
+		final List<LiveRecord> copied = records.subList(0, keep);
+		final List<LiveRecord> overflow = records.subList(keep, records.size());
+		Collections.reverse(copied);
+
+		final Path temp = this.file.resolveSibling(this.file.getFileName() + ".compact"); //$NON-NLS-1$
+		Files.deleteIfExists(temp);
+		long written = 0;
+		try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+			final ByteBuffer padding = ByteBuffer.allocate(4).putInt(0, END_OF_REGION);
+			for (final LiveRecord record : copied) {
+				final ByteBuffer source = buffer(record.from);
+				source.limit(source.position() + record.size);
+				final int within = (int) (written % REGION_SIZE);
+				if ((within + record.size) > REGION_SIZE) {
+					if ((within + 4) <= REGION_SIZE) {
+						padding.rewind();
+						out.write(padding, written);
+					}
+					written += REGION_SIZE - within;
+				}
+				record.to = written;
+				written += out.write(source, written);
+			}
+			out.force(true);
+		} catch (final IOException e) {
+			Files.deleteIfExists(temp);
+			throw e;
+		}
+
+		Files.move(temp, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		final FileChannel compacted = FileChannel.open(this.file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		final MappedByteBuffer[] mapped = (written > 0 ? map(compacted, new MappedByteBuffer[0], (int) ((written - 1) / REGION_SIZE))
+				: new MappedByteBuffer[0]);
+		final FileChannel old = this.channel;
+
+		int evictedNow = 0;
+		this.lock.writeLock().lock();
+		try {
+			this.channel = compacted;
+			this.regions = mapped;
+			this.position = written;
+			long live = 0;
+			for (final LiveRecord record : copied) {
+				final ConcurrentHashMap<String, Long> ids = this.index.get(record.segment);
+				if ((ids != null) && ids.replace(record.key, Long.valueOf(record.from), Long.valueOf(record.to))) {
+					live += record.size;
+				}
+			}
+			for (final LiveRecord record : overflow) {
+				final ConcurrentHashMap<String, Long> ids = this.index.get(record.segment);
+				if ((ids != null) && ids.remove(record.key, Long.valueOf(record.from))) {
+					evictedNow++;
+				}
+			}
+			this.liveBytes.set(live);
+			this.evicted.addAndGet(evictedNow);
+		} finally {
+			this.lock.writeLock().unlock();
+		}
+
+		try {
+			old.close();
+		} catch (final IOException e) {
+			log.warn("Unable to close cache file " + this.file + " after compacting it: " + e); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		this.compactions.incrementAndGet();
+		log.info(String.format("Compacted cache file %s from %d to %d bytes, dropping %d objects", this.file, Long.valueOf(before), //$NON-NLS-1$
+				Long.valueOf(this.position), Integer.valueOf(evictedNow)));
+	}
+
+	/**
+	 * @param data
+	 *            Data to compress; only called by the writer thread
+	 * @return Compressed data
+	 */
+	private byte[] deflate(final byte[] data) {
+		this.deflater.reset();
+		this.deflater.setInput(data);
+		this.deflater.finish();
+		final ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, data.length / 4));
+		final byte[] chunk = new byte[4096];
+		while (!this.deflater.finished()) {
+			out.write(chunk, 0, this.deflater.deflate(chunk));
+		}
+		return out.toByteArray();
+	}
+
+	/**
+	 * @param data
+	 *            Compressed data
+	 * @return Decompressed data
+	 * @throws DataFormatException
+	 *             If the data is corrupt
+	 */
+	private byte[] inflate(final byte[] data) throws DataFormatException {
+		final Inflater decompressor = this.inflater.get();
+		decompressor.reset();
+		decompressor.setInput(data);
+		final ByteArrayOutputStream out = new ByteArrayOutputStream(data.length * 4);
+		final byte[] chunk = new byte[4096];
+		while (!decompressor.finished()) {
+			final int inflated = decompressor.inflate(chunk);
+			if ((inflated == 0) && (decompressor.needsInput() || decompressor.needsDictionary())) {
+				throw new DataFormatException("Truncated payload"); //$NON-NLS-1$
+			}
+			out.write(chunk, 0, inflated);
+		}
+		return out.toByteArray();
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "StravaCacheDiskStore [file=" + this.file + ", objects=" + size() + ", liveBytes=" + this.liveBytes + ", reads=" + this.reads //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+				+ ", writes=" + this.writes + ", dropped=" + this.dropped + ", compactions=" + this.compactions + ", evicted=" + this.evicted + "]"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+	}
+
+}
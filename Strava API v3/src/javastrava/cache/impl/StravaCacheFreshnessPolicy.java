@@ -0,0 +1,135 @@
+package javastrava.cache.impl;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import javastrava.api.v3.model.reference.StravaResourceState;
+import javastrava.config.StravaConfig;
+
+/**
+ * <p>
+ * How long cached objects stay fresh, by class and {@link StravaResourceState resource state}
+ * </p>
+ *
+ * <p>
+ * Times to live are configured in config.properties as <code>strava.cache.ttl.&lt;class&gt;.&lt;state&gt;</code> (e.g.
+ * <code>strava.cache.ttl.StravaActivity.detailed</code>), falling back to <code>strava.cache.ttl.&lt;state&gt;</code> and then to
+ * <code>strava.cache.ttl.default</code>. They can also be overridden at runtime with {@link #setTimeToLive(Class, StravaResourceState, long)}.
+ * </p>
+ *
+ * <p>
+ * Once an object's time to live has passed it is stale. A stale object can still be served, for up to
+ * {@link StravaConfig#CACHE_STALE_WHILE_REVALIDATE_MS}, by a read which is able to refresh it in the background; after that it has expired and is
+ * treated as a cache miss.
+ * </p>
+ *
+ * @author Dan Shannon
+ *
+ */
+public class StravaCacheFreshnessPolicy {
+	/**
+	 * Prefix of the config.properties keys
+	 */
+	private static final String PREFIX = "strava.cache.ttl."; //$NON-NLS-1$
+
+	/**
+	 * Time to live, in milliseconds, used if nothing is configured
+	 */
+	private static final long DEFAULT_TTL = StravaConfig.integer(PREFIX + "default").longValue(); //$NON-NLS-1$
+
+	/**
+	 * Times to live in milliseconds, by class and resource state
+	 */
+	private static final ConcurrentHashMap<Class<?>, AtomicLongArray> TTLS = new ConcurrentHashMap<Class<?>, AtomicLongArray>();
+
+	/**
+	 * @param class1
+	 *            Class of object
+	 * @param state
+	 *            Resource state of the object (<code>null</code> is treated as {@link StravaResourceState#UNKNOWN})
+	 * @return Time to live in milliseconds, or a negative value if objects never go stale
+	 */
+	public static long getTimeToLive(final Class<?> class1, final StravaResourceState state) {
+		return ttls(class1).get(ordinal(state));
+	}
+
+	/**
+	 * <p>
+	 * Overrides the configured time to live for objects of the given class and resource state. Objects already in the cache keep the time to live
+	 * they were stored with.
+	 * </p>
+	 *
+	 * @param class1
+	 *            Class of object
+	 * @param state
+	 *            Resource state
+	 * @param ttl
+	 *            Time to live in milliseconds, or a negative value if objects should never go stale
+	 */
+	public static void setTimeToLive(final Class<?> class1, final StravaResourceState state, final long ttl) {
+		ttls(class1).set(ordinal(state), ttl);
+	}
+
+	/**
+	 * @return How long after going stale an object may still be served while it is refreshed, in milliseconds
+	 */
+	public static long getStaleWhileRevalidate() {
+		return StravaConfig.CACHE_STALE_WHILE_REVALIDATE_MS;
+	}
+
+	/**
+	 * @param class1
+	 *            Class of object
+	 * @return Times to live for the class, indexed by resource state ordinal
+	 */
+	private static AtomicLongArray ttls(final Class<?> class1) {
+		final AtomicLongArray ttls = TTLS.get(class1);
+		if (ttls != null) {
+			return ttls;
+		}
+		return TTLS.computeIfAbsent(class1, key -> {
+			final StravaResourceState[] states = StravaResourceState.values();
+			final AtomicLongArray configured = new AtomicLongArray(states.length);
+			for (final StravaResourceState state : states) {
+				configured.set(state.ordinal(), configured(key, state));
+			}
+			return configured;
+		});
+	}
+
+	/**
+	 * @param class1
+	 *            Class of object
+	 * @param state
+	 *            Resource state
+	 * @return Configured time to live in milliseconds
+	 */
+	private static long configured(final Class<?> class1, final StravaResourceState state) {
+		final String stateName = state.name().toLowerCase();
+		final String classKey = PREFIX + class1.getSimpleName() + "." + stateName; //$NON-NLS-1$
+		if (StravaConfig.contains(classKey)) {
+			return StravaConfig.integer(classKey).longValue();
+		}
+		final String stateKey = PREFIX + stateName;
+		if (StravaConfig.contains(stateKey)) {
+			return StravaConfig.integer(stateKey).longValue();
+		}
+		return DEFAULT_TTL;
+	}
+
+	/**
+	 * @param state
+	 *            Resource state
+	 * @return Its index in the arrays of times to live
+	 */
+	private static int ordinal(final StravaResourceState state) {
+		return (state == null ? StravaResourceState.UNKNOWN : state).ordinal();
+	}
+
+	/**
+	 * No-args constructor - all access is static
+	 */
+	private StravaCacheFreshnessPolicy() {
+	}
+
+}
@@ -1,17 +1,34 @@
 package javastrava.cache.impl;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 import javastrava.api.v3.auth.model.Token;
+import javastrava.api.v3.model.reference.StravaResourceState;
 import javastrava.cache.StravaCache;
 import javastrava.cache.StravaCacheable;
-
-import org.apache.commons.jcs.JCS;
-import org.apache.commons.jcs.access.GroupCacheAccess;
+import javastrava.cache.impl.StravaCacheStore.Entry;
+import javastrava.config.StravaConfig;
 
 /**
+ * <p>
+ * Implementation of {@link StravaCache} backed by a segment of a bounded {@link StravaCacheStore}
+ * </p>
+ *
+ * <p>
+ * Times to live are determined by the {@link StravaCacheFreshnessPolicy} when objects are stored, and stale objects are refreshed by the
+ * {@link StravaCacheRefresher}.
+ * </p>
+ *
+ * <p>
+ * A cache may also be given a rule (normally from {@link javastrava.util.PrivacyUtils}) identifying objects which look the same to every caller.
+ * Those are stored in a tier shared by all tokens, so a public segment or club is only fetched and held once however many athletes are being served;
+ * anything else, including private views of shareable classes, stays in the tier belonging to the token. If a shareable object also carries data
+ * specific to the caller, the shared tier holds the view every caller sees, and the full object is kept in the caller's own tier.
+ * </p>
+ *
  * @author Dan Shannon
  *
  * @param <T> Class of object to be stored in cache
@@ -23,23 +40,90 @@ public class StravaCacheImpl<T extends StravaCacheable<U>, U> implements StravaC
 	 */
 	private final Token token;
 	/**
-	 * The cache implementation (which is global, so we need to be careful about how we store stuff in it or we'll revealn  stuff to the wrong users)
+	 * Class of objects stored
 	 */
-	private final GroupCacheAccess<StravaCacheKey<U,T>, T> cache;
+	private final Class<T> class1;
 	/**
-	 * Class of object being stored in the cache
+	 * The part of the store (which is global, so we need to be careful about how we store stuff in it or we'll reveal stuff to the wrong users)
+	 * holding objects of this class for this token
 	 */
-	private final Class<T> class1;
+	private final StravaCacheSegment<U, T> segment;
+	/**
+	 * The part of the store holding objects of this class which are shared by all tokens, or <code>null</code> if objects are not shared
+	 */
+	private final StravaCacheSegment<U, T> shared;
+	/**
+	 * Identifies objects which may be shared by all tokens
+	 */
+	private final Predicate<T> shareable;
+	/**
+	 * Returns the view of a shareable object which every caller sees; the object itself if it carries nothing specific to the caller
+	 */
+	private final UnaryOperator<T> sharedView;
+	/**
+	 * Ids of objects which Strava recently said don't exist
+	 */
+	private final StravaNegativeCache<U> notFound = new StravaNegativeCache<U>();
 
 	/**
 	 * @param class1 The class of objects to be stored
 	 * @param token The security token will be used to generate the key for the stored objects
 	 */
 	public StravaCacheImpl(final Class<T> class1, final Token token) {
+		this(class1, token, StravaCacheStore.instance(), null);
+	}
+
+	/**
+	 * @param class1 The class of objects to be stored
+	 * @param token The security token will be used to generate the key for the stored objects
+	 * @param shareable Identifies objects which look the same to every caller, and so may be shared with other tokens
+	 */
+	public StravaCacheImpl(final Class<T> class1, final Token token, final Predicate<T> shareable) {
+		this(class1, token, StravaCacheStore.instance(), shareable, UnaryOperator.identity());
+	}
+
+	/**
+	 * @param class1 The class of objects to be stored
+	 * @param token The security token will be used to generate the key for the stored objects
+	 * @param shareable Identifies objects which look the same to every caller (once given by sharedView), and so may be shared with other tokens
+	 * @param sharedView Returns the view of a shareable object which every caller sees, without any data specific to the caller
+	 */
+	public StravaCacheImpl(final Class<T> class1, final Token token, final Predicate<T> shareable, final UnaryOperator<T> sharedView) {
+		this(class1, token, StravaCacheStore.instance(), shareable, sharedView);
+	}
+
+	/**
+	 * @param class1 The class of objects to be stored
+	 * @param token The security token will be used to generate the key for the stored objects
+	 * @param store The store in which to cache objects
+	 * @param shareable Identifies objects which look the same to every caller, and so may be shared with other tokens; <code>null</code> if none may be
+	 */
+	public StravaCacheImpl(final Class<T> class1, final Token token, final StravaCacheStore store, final Predicate<T> shareable) {
+		this(class1, token, store, shareable, UnaryOperator.identity());
+	}
+
+	/**
+	 * @param class1 The class of objects to be stored
+	 * @param token The security token will be used to generate the key for the stored objects
+	 * @param store The store in which to cache objects
+	 * @param shareable Identifies objects which look the same to every caller (once given by sharedView), and so may be shared with other tokens;
+	 *            <code>null</code> if none may be
+	 * @param sharedView Returns the view of a shareable object which every caller sees, without any data specific to the caller
+	 */
+	public StravaCacheImpl(final Class<T> class1, final Token token, final StravaCacheStore store, final Predicate<T> shareable,
+			final UnaryOperator<T> sharedView) {
 		this.token = token;
-		this.cache = JCS.getGroupCacheInstance("default"); //$NON-NLS-1$
 		this.class1 = class1;
-		removeAll();
+		this.segment = store.segment(class1, token);
+		if ((shareable != null) && StravaConfig.CACHE_SHARED) {
+			this.shared = store.sharedSegment(class1);
+			this.shareable = shareable;
+			this.sharedView = sharedView;
+		} else {
+			this.shared = null;
+			this.shareable = null;
+			this.sharedView = null;
+		}
 	}
 
 	/**
@@ -50,24 +134,111 @@ public class StravaCacheImpl<T extends StravaCacheable<U>, U> implements StravaC
 		if (id == null) {
 			return null;
 		}
-		final StravaCacheKey<U,T> key = new StravaCacheKey<U,T>(id, this.token, this.class1);
-		return this.cache.getFromGroup(key, groupName());
+		return counted(fresh(id));
 	}
 
 	/**
-	 * Get the token in use
-	 * @return The token
+	 * @param id
+	 *            The object's id
+	 * @return The object, from this token's tier or else the shared tier, or <code>null</code> if it isn't in cache or is stale
 	 */
-	protected Token getToken() {
-		return this.token;
+	private T fresh(final U id) {
+		final T object = this.segment.get(id);
+		if ((object != null) || (this.shared == null)) {
+			return object;
+		}
+		return this.shared.get(id);
+	}
+
+	/**
+	 * @param object
+	 *            An object about to be returned from the cache
+	 * @return The object, having counted it as a lookup absorbed by the cache if it's a private representation
+	 */
+	private T counted(final T object) {
+		if ((object != null) && (object.getResourceState() == StravaResourceState.PRIVATE)) {
+			StravaNegativeCache.privateHit();
+		}
+		return object;
+	}
+
+	/**
+	 * @see javastrava.cache.StravaCache#get(java.lang.Object, java.util.function.Function)
+	 */
+	@Override
+	public T get(final U id, final Function<U, T> revalidator) {
+		if (id == null) {
+			return null;
+		}
+		final Entry<U, T> entry = entry(id);
+		if (entry == null) {
+			return null;
+		}
+		if (!entry.isFresh(System.nanoTime()) && entry.startRefresh()) {
+			if (!StravaCacheRefresher.refresh(this.token, () -> revalidate(entry, revalidator))) {
+				entry.endRefresh();
+			}
+		}
+		return counted(entry.value);
+	}
+
+	/**
+	 * @see javastrava.cache.StravaCache#isNotFound(java.lang.Object)
+	 */
+	@Override
+	public boolean isNotFound(final U id) {
+		return this.notFound.contains(id);
+	}
+
+	/**
+	 * @see javastrava.cache.StravaCache#putNotFound(java.lang.Object)
+	 */
+	@Override
+	public void putNotFound(final U id) {
+		this.notFound.put(id);
+	}
+
+	/**
+	 * @param id
+	 *            The object's id
+	 * @return The entry for the object, from this token's tier or else the shared tier, or <code>null</code> if there isn't one
+	 */
+	private Entry<U, T> entry(final U id) {
+		final Entry<U, T> entry = this.segment.entry(id);
+		if ((entry != null) || (this.shared == null)) {
+			return entry;
+		}
+		return this.shared.entry(id);
 	}
 
 	/**
-	 * Generate the group name to store the data in cache
-	 * @return The group name, based on the token and the class being stored
+	 * Replaces a stale entry with a fresh copy of its object
+	 *
+	 * @param entry
+	 *            The stale entry
+	 * @param revalidator
+	 *            Retrieves a fresh copy of the object
 	 */
-	private String groupName() {
-		return this.class1.getName() + "::" + this.token.getToken(); //$NON-NLS-1$
+	private void revalidate(final Entry<U, T> entry, final Function<U, T> revalidator) {
+		try {
+			final T fresh = revalidator.apply(entry.id);
+			if (fresh == null) {
+				remove(entry.id);
+				putNotFound(entry.id);
+			} else {
+				put(fresh);
+			}
+		} finally {
+			entry.endRefresh();
+		}
+	}
+
+	/**
+	 * Get the token in use
+	 * @return The token
+	 */
+	protected Token getToken() {
+		return this.token;
 	}
 
 	/**
@@ -75,10 +246,9 @@ public class StravaCacheImpl<T extends StravaCacheable<U>, U> implements StravaC
 	 */
 	@Override
 	public List<T> list() {
-		final Set<StravaCacheKey<U,T>> keys = this.cache.getGroupKeys(groupName());
-		final List<T> list = new ArrayList<T>();
-		for (final StravaCacheKey<U,T> key : keys) {
-			list.add(this.cache.getFromGroup(key, groupName()));
+		final List<T> list = this.segment.values();
+		if (this.shared != null) {
+			list.addAll(this.shared.values());
 		}
 		return list;
 	}
@@ -88,19 +258,34 @@ public class StravaCacheImpl<T extends StravaCacheable<U>, U> implements StravaC
 	@Override
 	public void put(final T object) {
 		// Null safety!
-		if (object == null) {
+		if ((object == null) || (object.getId() == null)) {
 			return;
 		}
 
-		// If the object is already in the cache and is more detailed than this one, then don't store it
-		final T cached = get(object.getId());
+		// It exists after all
+		this.notFound.remove(object.getId());
+
+		// If the object is already in the cache, still fresh, and is more detailed than this one, then don't store it
+		final T cached = fresh(object.getId());
 		if ((cached != null) && (cached.getResourceState().getValue().intValue() > object.getResourceState().getValue().intValue())) {
 			return;
 		}
 
-
-		final StravaCacheKey<U,T> key = new StravaCacheKey<U,T>(object.getId(), this.token, this.class1);
-		this.cache.putInGroup(key, groupName(), object);
+		final long ttl = StravaCacheFreshnessPolicy.getTimeToLive(this.class1, object.getResourceState());
+		if ((this.shared != null) && this.shareable.test(object)) {
+			// Visible to everyone, so store it once for all tokens
+			final T view = this.sharedView.apply(object);
+			this.shared.put(object.getId(), view, ttl, StravaCacheFreshnessPolicy.getStaleWhileRevalidate());
+			if (view == object) {
+				// Make sure an older view held for this token doesn't hide it
+				this.segment.remove(object.getId());
+			} else {
+				// This token's view carries data only it can see, so keep that too
+				this.segment.put(object.getId(), object, ttl, StravaCacheFreshnessPolicy.getStaleWhileRevalidate());
+			}
+		} else {
+			this.segment.put(object.getId(), object, ttl, StravaCacheFreshnessPolicy.getStaleWhileRevalidate());
+		}
 	}
 	/**
 	 * @see javastrava.cache.StravaCache#putAll(java.util.List)
@@ -120,17 +305,27 @@ public class StravaCacheImpl<T extends StravaCacheable<U>, U> implements StravaC
 	 */
 	@Override
 	public void remove(final U id) {
-		final StravaCacheKey<U,T> key = new StravaCacheKey<U,T>(id, this.token, this.class1);
-		this.cache.removeFromGroup(key, groupName());
-
+		if (id == null) {
+			return;
+		}
+		this.notFound.remove(id);
+		this.segment.remove(id);
+		if (this.shared != null) {
+			this.shared.remove(id);
+		}
 	}
 
 	/**
+	 * <p>
+	 * Removes all the objects held for this token. Shared objects are left alone, as other tokens may be using them.
+	 * </p>
+	 *
 	 * @see javastrava.cache.StravaCache#removeAll()
 	 */
 	@Override
 	public void removeAll() {
-		this.cache.invalidateGroup(groupName());
+		this.notFound.clear();
+		this.segment.clear();
 	}
 
 	/**
@@ -138,6 +333,6 @@ public class StravaCacheImpl<T extends StravaCacheable<U>, U> implements StravaC
 	 */
 	@Override
 	public int size() {
-		return this.cache.getGroupKeys(groupName()).size();
+		return this.segment.size() + (this.shared == null ? 0 : this.shared.size());
 	}
 }
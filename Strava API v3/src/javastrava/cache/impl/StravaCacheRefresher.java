@@ -0,0 +1,164 @@
+package javastrava.cache.impl;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javastrava.api.v3.auth.model.Token;
+import javastrava.config.StravaConfig;
+import javastrava.ratelimit.StravaRateLimitLedger;
+import javastrava.ratelimit.StravaRateLimitUsage;
+import javastrava.ratelimit.StravaRateLimiter;
+import javastrava.ratelimit.StravaRequestPriority;
+
+/**
+ * <p>
+ * Refreshes stale cached objects in the background
+ * </p>
+ *
+ * <p>
+ * Refreshes are optional work, so they only spend spare rate limit: a refresh is only started if at least
+ * {@link StravaConfig#CACHE_REFRESH_MIN_REMAINING_PERCENT} of both rate limit windows remain for the token's application, and it is issued at
+ * {@link StravaRequestPriority#BULK} priority so interactive requests always go first. A refresh which can't be started is simply skipped; the
+ * stale object goes on being served until it expires, and the next read of it will try again.
+ * </p>
+ *
+ * @author Dan Shannon
+ *
+ */
+public class StravaCacheRefresher {
+	/**
+	 * Logger
+	 */
+	private static Logger log = LogManager.getLogger();
+
+	/**
+	 * Maximum number of refreshes waiting for a thread
+	 */
+	private static final int MAX_QUEUED = 1024;
+
+	/**
+	 * Runs the refreshes
+	 */
+	private static final ThreadPoolExecutor EXECUTOR = executor();
+
+	/**
+	 * Number of refreshes completed
+	 */
+	private static final AtomicLong REFRESHES = new AtomicLong();
+
+	/**
+	 * Number of refreshes which failed
+	 */
+	private static final AtomicLong FAILURES = new AtomicLong();
+
+	/**
+	 * Number of refreshes not made because there wasn't enough spare rate limit, or too many were already queued
+	 */
+	private static final AtomicLong SKIPPED = new AtomicLong();
+
+	/**
+	 * <p>
+	 * Starts a background refresh, if there is spare rate limit for it
+	 * </p>
+	 *
+	 * @param token
+	 *            The token which will make the request
+	 * @param refresh
+	 *            The refresh
+	 * @return <code>true</code> if the refresh was started, <code>false</code> if it was skipped
+	 */
+	public static boolean refresh(final Token token, final Runnable refresh) {
+		if (!hasSpareCapacity(token)) {
+			SKIPPED.incrementAndGet();
+			return false;
+		}
+		try {
+			EXECUTOR.execute(() -> {
+				try {
+					StravaRateLimiter.withPriority(StravaRequestPriority.BULK, () -> {
+						refresh.run();
+						return null;
+					});
+					REFRESHES.incrementAndGet();
+				} catch (final RuntimeException e) {
+					FAILURES.incrementAndGet();
+					log.warn("Background refresh of cached object failed: " + e); //$NON-NLS-1$
+				}
+			});
+			return true;
+		} catch (final RejectedExecutionException e) {
+			SKIPPED.incrementAndGet();
+			return false;
+		}
+	}
+
+	/**
+	 * @param token
+	 *            A token
+	 * @return <code>true</code> if the token's application has enough rate limit to spare for background refreshes
+	 */
+	public static boolean hasSpareCapacity(final Token token) {
+		final StravaRateLimitUsage usage = StravaRateLimitLedger.forApplication(token == null ? null : token.getClientId()).getUsage();
+		final long now = System.currentTimeMillis();
+		return ((100L * usage.getRemaining(now)) >= ((long) usage.getLimit() * StravaConfig.CACHE_REFRESH_MIN_REMAINING_PERCENT))
+				&& ((100L * usage.getRemainingDaily(now)) >= ((long) usage.getLimitDaily() * StravaConfig.CACHE_REFRESH_MIN_REMAINING_PERCENT));
+	}
+
+	/**
+	 * @return Number of background refreshes completed
+	 */
+	public static long getRefreshes() {
+		return REFRESHES.get();
+	}
+
+	/**
+	 * @return Number of background refreshes which failed
+	 */
+	public static long getFailures() {
+		return FAILURES.get();
+	}
+
+	/**
+	 * @return Number of background refreshes skipped for lack of spare rate limit or queue space
+	 */
+	public static long getSkipped() {
+		return SKIPPED.get();
+	}
+
+	/**
+	 * @return Number of background refreshes waiting for a thread
+	 */
+	public static int getQueued() {
+		return EXECUTOR.getQueue().size();
+	}
+
+	/**
+	 * @return Executor with daemon threads, so pending refreshes never keep the JVM alive
+	 */
+	private static ThreadPoolExecutor executor() {
+		final AtomicInteger threadCount = new AtomicInteger();
+		final int threads = Math.max(1, StravaConfig.CACHE_REFRESH_THREADS);
+		final ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<Runnable>(MAX_QUEUED),
+				runnable -> {
+					final Thread thread = new Thread(runnable, "javastrava-cache-refresh-" + threadCount.incrementAndGet()); //$NON-NLS-1$
+					thread.setDaemon(true);
+					return thread;
+				});
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+	/**
+	 * No-args constructor - all access is static
+	 */
+	private StravaCacheRefresher() {
+	}
+
+}
@@ -0,0 +1,227 @@
+package javastrava.cache.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javastrava.cache.StravaCacheable;
+import javastrava.cache.impl.StravaCacheDiskStore.DiskEntry;
+import javastrava.cache.impl.StravaCacheStore.Entry;
+
+/**
+ * <p>
+ * The part of a {@link StravaCacheStore} holding objects of one class for one token, or of one class for all tokens
+ * </p>
+ *
+ * <p>
+ * If the store has a {@link StravaCacheDiskStore disk tier}, everything put in the segment is also written to disk, and objects which aren't in
+ * memory are looked for on disk before the segment reports a miss.
+ * </p>
+ *
+ * @author Dan Shannon
+ *
+ * @param <U>
+ *            Class of the objects' ids
+ * @param <T>
+ *            Class of the objects
+ */
+public class StravaCacheSegment<U, T> {
+	/**
+	 * The store this segment belongs to
+	 */
+	private final StravaCacheStore store;
+
+	/**
+	 * Hash identifying the segment, combined with ids for the store's frequency sketch
+	 */
+	private final int hash;
+
+	/**
+	 * Whether the segment is shared by all tokens
+	 */
+	final boolean shared;
+
+	/**
+	 * Class of the objects
+	 */
+	private final Class<T> class1;
+
+	/**
+	 * Disk tier, or <code>null</code> if there isn't one
+	 */
+	private final StravaCacheDiskStore disk;
+
+	/**
+	 * Name of the segment in the disk tier
+	 */
+	private final String diskName;
+
+	/**
+	 * Whether all the segment's objects on disk have been loaded into memory
+	 */
+	private volatile boolean loaded;
+
+	/**
+	 * The entries in the segment, keyed directly by id
+	 */
+	final ConcurrentHashMap<U, Entry<U, T>> entries = new ConcurrentHashMap<U, Entry<U, T>>();
+
+	/**
+	 * @param store
+	 *            The store this segment belongs to
+	 * @param hash
+	 *            Hash identifying the segment
+	 * @param shared
+	 *            Whether the segment is shared by all tokens
+	 * @param class1
+	 *            Class of the objects
+	 * @param disk
+	 *            Disk tier, or <code>null</code> if there isn't one
+	 * @param diskName
+	 *            Name of the segment in the disk tier
+	 */
+	StravaCacheSegment(final StravaCacheStore store, final int hash, final boolean shared, final Class<T> class1, final StravaCacheDiskStore disk,
+			final String diskName) {
+		this.store = store;
+		this.hash = hash;
+		this.shared = shared;
+		this.class1 = class1;
+		this.disk = disk;
+		this.diskName = diskName;
+	}
+
+	/**
+	 * @param id
+	 *            The object's id
+	 * @return The object, or <code>null</code> if it is not in cache or is stale
+	 */
+	public T get(final U id) {
+		final Entry<U, T> entry = entry(id);
+		return ((entry == null) || !entry.isFresh(System.nanoTime()) ? null : entry.value);
+	}
+
+	/**
+	 * @param id
+	 *            The object's id
+	 * @return The entry holding the object, which may be stale, or <code>null</code> if it is not in cache or has expired
+	 */
+	Entry<U, T> entry(final U id) {
+		final Entry<U, T> entry = this.store.read(this, id);
+		if ((entry != null) || (this.disk == null)) {
+			return entry;
+		}
+		return load(id);
+	}
+
+	/**
+	 * @param id
+	 *            The object's id
+	 * @param value
+	 *            The object
+	 * @param ttl
+	 *            Time to live in milliseconds, or a negative value if the object never goes stale
+	 * @param staleWhileRevalidate
+	 *            How long, in milliseconds, the object may still be served once it is stale
+	 */
+	public void put(final U id, final T value, final long ttl, final long staleWhileRevalidate) {
+		this.store.write(this, id, value, ttl, staleWhileRevalidate);
+		if (this.disk != null) {
+			this.disk.put(this.diskName, id, value, ttl, staleWhileRevalidate);
+		}
+	}
+
+	/**
+	 * @param id
+	 *            Id of the object to remove
+	 */
+	public void remove(final U id) {
+		this.store.remove(this, id);
+		if (this.disk != null) {
+			this.disk.remove(this.diskName, id);
+		}
+	}
+
+	/**
+	 * Removes all objects from the segment
+	 */
+	public void clear() {
+		this.store.clear(this);
+		if (this.disk != null) {
+			this.disk.clear(this.diskName);
+		}
+	}
+
+	/**
+	 * @return List of the fresh objects in the segment
+	 */
+	public List<T> values() {
+		if ((this.disk != null) && !this.loaded) {
+			loadAll();
+		}
+		final long now = System.nanoTime();
+		final List<T> values = new ArrayList<T>(this.entries.size());
+		for (final Entry<U, T> entry : this.entries.values()) {
+			if (entry.isFresh(now)) {
+				values.add(entry.value);
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * @return Number of objects in the segment
+	 */
+	public int size() {
+		return this.entries.size();
+	}
+
+	/**
+	 * @param id
+	 *            An object's id
+	 * @return Hash of the segment and id, for the store's frequency sketch
+	 */
+	int hash(final U id) {
+		return (31 * this.hash) + id.hashCode();
+	}
+
+	/**
+	 * Loads an object from the disk tier into memory
+	 *
+	 * @param id
+	 *            The object's id
+	 * @return Its entry, or <code>null</code> if it isn't on disk or has expired
+	 */
+	private Entry<U, T> load(final U id) {
+		final DiskEntry stored = this.disk.get(this.diskName, id, this.class1);
+		if (stored == null) {
+			return null;
+		}
+		final long now = System.currentTimeMillis();
+		if (stored.isExpired(now)) {
+			return null;
+		}
+		// Memory only; it's already on disk
+		this.store.write(this, id, this.class1.cast(stored.getValue()), stored.getRemainingTimeToLive(now), stored.getRemainingStaleWhileRevalidate(now));
+		return this.entries.get(id);
+	}
+
+	/**
+	 * Loads all the segment's objects on disk, which aren't already in memory, into memory
+	 */
+	@SuppressWarnings("unchecked")
+	private void loadAll() {
+		final long now = System.currentTimeMillis();
+		for (final String key : this.disk.ids(this.diskName)) {
+			final DiskEntry stored = this.disk.get(this.diskName, key, this.class1);
+			if ((stored == null) || stored.isExpired(now) || !(stored.getValue() instanceof StravaCacheable)) {
+				continue;
+			}
+			final T value = this.class1.cast(stored.getValue());
+			final U id = ((StravaCacheable<U>) value).getId();
+			if ((id != null) && !this.entries.containsKey(id)) {
+				this.store.write(this, id, value, stored.getRemainingTimeToLive(now), stored.getRemainingStaleWhileRevalidate(now));
+			}
+		}
+		this.loaded = true;
+	}
+}
@@ -0,0 +1,809 @@
+package javastrava.cache.impl;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javastrava.api.v3.auth.model.Token;
+import javastrava.cache.StravaCacheWeigher;
+import javastrava.config.StravaConfig;
+
+/**
+ * <p>
+ * Bounded, concurrent, in-memory store behind {@link StravaCacheImpl}
+ * </p>
+ *
+ * <p>
+ * The store is divided into {@link StravaCacheSegment segments}, one for each class of object and token, so data cached for one token is never
+ * visible to another. There is also a shared segment for each class, holding objects which look the same to every token (see
+ * {@link #sharedSegment(Class)}). Each segment is a {@link ConcurrentHashMap} keyed directly by the object's id, so reads take no locks and lookups don't
+ * allocate a key.
+ * </p>
+ *
+ * <p>
+ * The store as a whole is bounded by number of entries and by estimated weight (see {@link StravaCacheWeigher}). Eviction follows the W-TinyLFU
+ * scheme: new entries go into a small admission window; entries leaving the window compete with the main region's eviction victim, and only win a
+ * place in the main region if they have been accessed more often recently, according to a {@link FrequencySketch}. Within each region, victims are
+ * chosen in CLOCK order (entries which have been read since they were last considered get a second chance). This keeps popular objects in cache when
+ * a bulk operation streams many objects through it once, while the window still lets new objects build up some popularity.
+ * </p>
+ *
+ * <p>
+ * Objects evicted from memory are not lost if the store has a {@link StravaCacheDiskStore disk tier}; they are read back from disk on demand.
+ * </p>
+ *
+ * @author Dan Shannon
+ *
+ */
+public class StravaCacheStore {
+	/**
+	 * An entry in the store
+	 *
+	 * @param <U>
+	 *            Class of the object's id
+	 * @param <T>
+	 *            Class of the object
+	 */
+	static final class Entry<U, T> {
+		/**
+		 * State of an entry in the admission window
+		 */
+		static final int WINDOW = 0;
+		/**
+		 * State of an entry in the main region
+		 */
+		static final int MAIN = 1;
+		/**
+		 * State of an entry which has been removed
+		 */
+		static final int RETIRED = 2;
+
+		/**
+		 * Updater used to change state atomically
+		 */
+		@SuppressWarnings("rawtypes")
+		private static final AtomicIntegerFieldUpdater<Entry> STATE = AtomicIntegerFieldUpdater.newUpdater(Entry.class, "state"); //$NON-NLS-1$
+
+		/**
+		 * Updater used to ensure only one refresh of an entry is in progress
+		 */
+		@SuppressWarnings("rawtypes")
+		private static final AtomicIntegerFieldUpdater<Entry> REFRESHING = AtomicIntegerFieldUpdater.newUpdater(Entry.class, "refreshing"); //$NON-NLS-1$
+
+		/**
+		 * Segment the entry belongs to
+		 */
+		final StravaCacheSegment<U, T> segment;
+		/**
+		 * The object's id
+		 */
+		final U id;
+		/**
+		 * The object
+		 */
+		final T value;
+		/**
+		 * Estimated weight of the object
+		 */
+		final int weight;
+		/**
+		 * Hash of segment and id, used by the frequency sketch
+		 */
+		final int hash;
+		/**
+		 * {@link System#nanoTime()} after which the object is stale
+		 */
+		final long staleAt;
+		/**
+		 * {@link System#nanoTime()} after which the object may no longer be served at all
+		 */
+		final long expiresAt;
+		/**
+		 * 1 while a refresh of the entry is in progress
+		 */
+		volatile int refreshing;
+		/**
+		 * Whether the entry has been read since eviction last considered it
+		 */
+		volatile boolean referenced;
+		/**
+		 * {@link #WINDOW}, {@link #MAIN} or {@link #RETIRED} (once the entry has been removed from its segment and from the store's totals)
+		 */
+		volatile int state = WINDOW;
+
+		/**
+		 * @param segment
+		 *            Segment the entry belongs to
+		 * @param id
+		 *            The object's id
+		 * @param value
+		 *            The object
+		 * @param weight
+		 *            Estimated weight of the object
+		 * @param hash
+		 *            Hash of segment and id
+		 * @param ttl
+		 *            Time to live in milliseconds, or a negative value if the object never goes stale
+		 * @param staleWhileRevalidate
+		 *            How long, in milliseconds, the object may still be served once it is stale
+		 */
+		Entry(final StravaCacheSegment<U, T> segment, final U id, final T value, final int weight, final int hash, final long ttl,
+				final long staleWhileRevalidate) {
+			this.segment = segment;
+			this.id = id;
+			this.value = value;
+			this.weight = weight;
+			this.hash = hash;
+			if (ttl < 0) {
+				this.staleAt = Long.MAX_VALUE;
+				this.expiresAt = Long.MAX_VALUE;
+			} else {
+				this.staleAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(ttl);
+				this.expiresAt = this.staleAt + TimeUnit.MILLISECONDS.toNanos(Math.max(0, staleWhileRevalidate));
+			}
+		}
+
+		/**
+		 * @param now
+		 *            Current {@link System#nanoTime()}
+		 * @return <code>true</code> if the object's time to live has not yet passed
+		 */
+		boolean isFresh(final long now) {
+			return (this.staleAt == Long.MAX_VALUE) || ((now - this.staleAt) < 0);
+		}
+
+		/**
+		 * @param now
+		 *            Current {@link System#nanoTime()}
+		 * @return <code>true</code> if the object is past its time to live and its stale-while-revalidate period
+		 */
+		boolean isExpired(final long now) {
+			return (this.expiresAt != Long.MAX_VALUE) && ((now - this.expiresAt) >= 0);
+		}
+
+		/**
+		 * @return <code>true</code> if the caller should refresh the entry, <code>false</code> if a refresh is already in progress
+		 */
+		boolean startRefresh() {
+			return REFRESHING.compareAndSet(this, 0, 1);
+		}
+
+		/**
+		 * Indicates that a refresh of the entry has finished without replacing it
+		 */
+		void endRefresh() {
+			this.refreshing = 0;
+		}
+
+		/**
+		 * @return The state the entry was in before this call retired it, or {@link #RETIRED} if it was already retired
+		 */
+		int retire() {
+			while (true) {
+				final int current = this.state;
+				if ((current == RETIRED) || STATE.compareAndSet(this, current, RETIRED)) {
+					return current;
+				}
+			}
+		}
+
+		/**
+		 * @return <code>true</code> if the entry was moved from the window to the main region, <code>false</code> if it has been retired
+		 */
+		boolean promote() {
+			return STATE.compareAndSet(this, WINDOW, MAIN);
+		}
+	}
+
+	/**
+	 * Identifies a segment
+	 */
+	private static final class SegmentKey {
+		/**
+		 * Class of object stored
+		 */
+		private final Class<?> class1;
+		/**
+		 * Access token value
+		 */
+		private final String token;
+
+		/**
+		 * @param class1
+		 *            Class of object stored
+		 * @param token
+		 *            Access token value
+		 */
+		SegmentKey(final Class<?> class1, final String token) {
+			this.class1 = class1;
+			this.token = token;
+		}
+
+		/**
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(final Object obj) {
+			if (!(obj instanceof SegmentKey)) {
+				return false;
+			}
+			final SegmentKey other = (SegmentKey) obj;
+			return (this.class1 == other.class1) && ((this.token == null) ? (other.token == null) : this.token.equals(other.token));
+		}
+
+		/**
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return (31 * this.class1.getName().hashCode()) + ((this.token == null) ? 0 : this.token.hashCode());
+		}
+	}
+
+	/**
+	 * The default store, bounded as configured in config.properties
+	 */
+	private static final StravaCacheStore INSTANCE = new StravaCacheStore(StravaConfig.CACHE_MAX_ENTRIES, StravaConfig.CACHE_MAX_WEIGHT_BYTES,
+			new StravaObjectWeigher(), StravaCacheDiskStore.instance());
+
+	/**
+	 * @return The default store
+	 */
+	public static StravaCacheStore instance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Disk tier behind the store, or <code>null</code> if there isn't one
+	 */
+	private final StravaCacheDiskStore disk;
+
+	/**
+	 * Maximum number of entries
+	 */
+	private final int maxEntries;
+
+	/**
+	 * Maximum total estimated weight of entries
+	 */
+	private final long maxWeight;
+
+	/**
+	 * Estimates the weight of entries
+	 */
+	private final StravaCacheWeigher weigher;
+
+	/**
+	 * The segments
+	 */
+	private final ConcurrentHashMap<SegmentKey, StravaCacheSegment<?, ?>> segments = new ConcurrentHashMap<SegmentKey, StravaCacheSegment<?, ?>>();
+
+	/**
+	 * Entries in the admission window, in CLOCK order; may also contain entries which have since been retired or promoted, which are skipped
+	 */
+	private final ConcurrentLinkedDeque<Entry<?, ?>> window = new ConcurrentLinkedDeque<Entry<?, ?>>();
+
+	/**
+	 * Entries in the main region, in CLOCK order; may also contain retired entries, which are skipped (and periodically purged)
+	 */
+	private final ConcurrentLinkedDeque<Entry<?, ?>> main = new ConcurrentLinkedDeque<Entry<?, ?>>();
+
+	/**
+	 * Maximum number of entries in the admission window
+	 */
+	private final int windowMaxEntries;
+
+	/**
+	 * Current number of entries in the admission window
+	 */
+	private final AtomicInteger windowEntries = new AtomicInteger();
+
+	/**
+	 * Number of retired entries still in {@link #window} or {@link #main}
+	 */
+	private final AtomicInteger retiredInQueues = new AtomicInteger();
+
+	/**
+	 * Current number of entries
+	 */
+	private final AtomicInteger entries = new AtomicInteger();
+
+	/**
+	 * Current total estimated weight
+	 */
+	private final AtomicLong weight = new AtomicLong();
+
+	/**
+	 * Recent access frequencies
+	 */
+	private final FrequencySketch sketch;
+
+	/**
+	 * Held while evicting
+	 */
+	private final ReentrantLock evictionLock = new ReentrantLock();
+
+	/**
+	 * Number of reads which found an object
+	 */
+	private final LongAdder hits = new LongAdder();
+
+	/**
+	 * Number of reads which didn't find an object
+	 */
+	private final LongAdder misses = new LongAdder();
+
+	/**
+	 * Number of reads which found a stale object
+	 */
+	private final LongAdder staleHits = new LongAdder();
+
+	/**
+	 * Number of reads (fresh or stale) which found an object in a shared segment
+	 */
+	private final LongAdder sharedHits = new LongAdder();
+
+	/**
+	 * Number of entries removed because they had expired
+	 */
+	private final LongAdder expirations = new LongAdder();
+
+	/**
+	 * Number of entries evicted to stay within bounds
+	 */
+	private final LongAdder evictions = new LongAdder();
+
+	/**
+	 * Number of new entries dropped because they were less popular than the entry they would have evicted
+	 */
+	private final LongAdder rejections = new LongAdder();
+
+	/**
+	 * @param maxEntries
+	 *            Maximum number of entries
+	 * @param maxWeight
+	 *            Maximum total estimated weight of entries, in bytes
+	 * @param weigher
+	 *            Estimates the weight of entries
+	 */
+	public StravaCacheStore(final int maxEntries, final long maxWeight, final StravaCacheWeigher weigher) {
+		this(maxEntries, maxWeight, weigher, null);
+	}
+
+	/**
+	 * @param maxEntries
+	 *            Maximum number of entries
+	 * @param maxWeight
+	 *            Maximum total estimated weight of entries, in bytes
+	 * @param weigher
+	 *            Estimates the weight of entries
+	 * @param disk
+	 *            Disk tier behind the store, or <code>null</code> if objects should only be held in memory
+	 */
+	public StravaCacheStore(final int maxEntries, final long maxWeight, final StravaCacheWeigher weigher, final StravaCacheDiskStore disk) {
+		this.disk = disk;
+		this.maxEntries = maxEntries;
+		this.maxWeight = maxWeight;
+		this.weigher = weigher;
+		this.windowMaxEntries = Math.max(1, maxEntries / 100);
+		this.sketch = new FrequencySketch(maxEntries);
+	}
+
+	/**
+	 * @param class1
+	 *            Class of objects to be stored
+	 * @param token
+	 *            The token for which objects are stored
+	 * @param <T>
+	 *            Class of objects to be stored
+	 * @param <U>
+	 *            Class of the objects' ids
+	 * @return The segment of the store for the class and token
+	 */
+	@SuppressWarnings("unchecked")
+	public <U, T> StravaCacheSegment<U, T> segment(final Class<T> class1, final Token token) {
+		return (StravaCacheSegment<U, T>) this.segments.computeIfAbsent(new SegmentKey(class1, token.getToken()), key -> new StravaCacheSegment<U, T>(
+				this, key.hashCode(), false, class1, this.disk, StravaCacheDiskStore.segmentName(class1, token.getToken())));
+	}
+
+	/**
+	 * <p>
+	 * Returns the segment holding objects of the given class which are shared by all tokens. Only objects whose visibility does not depend on the
+	 * caller may be stored in it.
+	 * </p>
+	 *
+	 * @param class1
+	 *            Class of objects to be stored
+	 * @param <T>
+	 *            Class of objects to be stored
+	 * @param <U>
+	 *            Class of the objects' ids
+	 * @return The shared segment of the store for the class
+	 */
+	@SuppressWarnings("unchecked")
+	public <U, T> StravaCacheSegment<U, T> sharedSegment(final Class<T> class1) {
+		return (StravaCacheSegment<U, T>) this.segments.computeIfAbsent(new SegmentKey(class1, null), key -> new StravaCacheSegment<U, T>(this, key
+				.hashCode(), true, class1, this.disk, StravaCacheDiskStore.segmentName(class1, null)));
+	}
+
+	/**
+	 * @return Current number of entries
+	 */
+	public int getEntries() {
+		return this.entries.get();
+	}
+
+	/**
+	 * @return Current total estimated weight of entries, in bytes
+	 */
+	public long getWeight() {
+		return this.weight.get();
+	}
+
+	/**
+	 * @return Number of reads which found a fresh object
+	 */
+	public long getHits() {
+		return this.hits.sum();
+	}
+
+	/**
+	 * @return Number of reads which found a stale object
+	 */
+	public long getStaleHits() {
+		return this.staleHits.sum();
+	}
+
+	/**
+	 * @return Number of reads which found an object in a shared segment, and so didn't have to fetch it again for a different token
+	 */
+	public long getSharedHits() {
+		return this.sharedHits.sum();
+	}
+
+	/**
+	 * @return Number of entries removed because they had expired
+	 */
+	public long getExpirations() {
+		return this.expirations.sum();
+	}
+
+	/**
+	 * @return Number of reads which didn't find an object
+	 */
+	public long getMisses() {
+		return this.misses.sum();
+	}
+
+	/**
+	 * @return Number of entries evicted to stay within bounds
+	 */
+	public long getEvictions() {
+		return this.evictions.sum();
+	}
+
+	/**
+	 * @return Number of new entries dropped because they were less popular than the entry they would have evicted
+	 */
+	public long getRejections() {
+		return this.rejections.sum();
+	}
+
+	/**
+	 * Reads an entry from a segment
+	 *
+	 * @param segment
+	 *            The segment
+	 * @param id
+	 *            The object's id
+	 * @param <U>
+	 *            Class of the object's id
+	 * @param <T>
+	 *            Class of the object
+	 * @return The entry, which may be stale, or <code>null</code> if there isn't one or it has expired
+	 */
+	<U, T> Entry<U, T> read(final StravaCacheSegment<U, T> segment, final U id) {
+		this.sketch.increment(segment.hash(id));
+		final Entry<U, T> entry = segment.entries.get(id);
+		if (entry == null) {
+			this.misses.increment();
+			return null;
+		}
+		final long now = System.nanoTime();
+		if (!entry.isFresh(now)) {
+			if (entry.isExpired(now)) {
+				if (segment.entries.remove(id, entry)) {
+					retire(entry);
+					this.expirations.increment();
+				}
+				this.misses.increment();
+				return null;
+			}
+			this.staleHits.increment();
+		} else {
+			this.hits.increment();
+		}
+		if (segment.shared) {
+			this.sharedHits.increment();
+		}
+		if (!entry.referenced) {
+			entry.referenced = true;
+		}
+		return entry;
+	}
+
+	/**
+	 * Writes an object to a segment, then evicts as required to stay within bounds
+	 *
+	 * @param segment
+	 *            The segment
+	 * @param id
+	 *            The object's id
+	 * @param value
+	 *            The object
+	 * @param ttl
+	 *            Time to live in milliseconds, or a negative value if the object never goes stale
+	 * @param staleWhileRevalidate
+	 *            How long, in milliseconds, the object may still be served once it is stale
+	 * @param <U>
+	 *            Class of the object's id
+	 * @param <T>
+	 *            Class of the object
+	 */
+	<U, T> void write(final StravaCacheSegment<U, T> segment, final U id, final T value, final long ttl, final long staleWhileRevalidate) {
+		final int hash = segment.hash(id);
+		final Entry<U, T> entry = new Entry<U, T>(segment, id, value, weigh(value), hash, ttl, staleWhileRevalidate);
+		this.sketch.increment(hash);
+		this.entries.incrementAndGet();
+		this.windowEntries.incrementAndGet();
+		this.weight.addAndGet(entry.weight);
+		// The entry must be in its segment before eviction can select it from the window, or eviction would fail to remove it and it would stay in the
+		// segment, counted but never evictable
+		final Entry<U, T> previous = segment.entries.put(id, entry);
+		if (previous != null) {
+			retire(previous);
+		}
+		this.window.offerLast(entry);
+		if ((this.windowEntries.get() > this.windowMaxEntries) || (this.entries.get() > this.maxEntries) || (this.weight.get() > this.maxWeight)) {
+			evict();
+		}
+		if (this.retiredInQueues.get() > Math.max(1024, this.entries.get())) {
+			purge();
+		}
+	}
+
+	/**
+	 * Removes an entry from a segment
+	 *
+	 * @param segment
+	 *            The segment
+	 * @param id
+	 *            The object's id
+	 * @param <U>
+	 *            Class of the object's id
+	 * @param <T>
+	 *            Class of the object
+	 */
+	<U, T> void remove(final StravaCacheSegment<U, T> segment, final U id) {
+		final Entry<U, T> entry = segment.entries.remove(id);
+		if (entry != null) {
+			retire(entry);
+		}
+	}
+
+	/**
+	 * Removes all entries from a segment
+	 *
+	 * @param segment
+	 *            The segment
+	 * @param <U>
+	 *            Class of the object's id
+	 * @param <T>
+	 *            Class of the object
+	 */
+	<U, T> void clear(final StravaCacheSegment<U, T> segment) {
+		for (final Entry<U, T> entry : segment.entries.values()) {
+			if (segment.entries.remove(entry.id, entry)) {
+				retire(entry);
+			}
+		}
+	}
+
+	/**
+	 * Removes an entry which is still in {@link #window} or {@link #main} from the store's totals, if it hasn't been already; it is left in the
+	 * queue, to be skipped by {@link #select(ConcurrentLinkedDeque)} or removed by {@link #purge()}
+	 *
+	 * @param entry
+	 *            The entry
+	 */
+	private void retire(final Entry<?, ?> entry) {
+		if (release(entry)) {
+			this.retiredInQueues.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Removes an entry from the store's totals, if it hasn't been already
+	 *
+	 * @param entry
+	 *            The entry
+	 * @return <code>true</code> if this call retired the entry, <code>false</code> if it was already retired
+	 */
+	private boolean release(final Entry<?, ?> entry) {
+		final int previous = entry.retire();
+		if (previous == Entry.RETIRED) {
+			return false;
+		}
+		if (previous == Entry.WINDOW) {
+			this.windowEntries.decrementAndGet();
+		}
+		this.entries.decrementAndGet();
+		this.weight.addAndGet(-entry.weight);
+		return true;
+	}
+
+	/**
+	 * Called for an entry taken off {@link #window} or {@link #main} which will not be put back, having been retired (by another thread) since it was
+	 * selected; whoever retired it counted it as still queued
+	 */
+	private void retiredOffQueue() {
+		this.retiredInQueues.decrementAndGet();
+	}
+
+	/**
+	 * Moves entries out of the admission window, and evicts entries until the store is within bounds
+	 */
+	private void evict() {
+		this.evictionLock.lock();
+		try {
+			while (this.windowEntries.get() > this.windowMaxEntries) {
+				final Entry<?, ?> candidate = select(this.window);
+				if (candidate == null) {
+					break;
+				}
+				if (!candidate.promote()) {
+					retiredOffQueue();
+					continue;
+				}
+				this.windowEntries.decrementAndGet();
+				if ((this.entries.get() <= this.maxEntries) && (this.weight.get() <= this.maxWeight)) {
+					// Room for everyone
+					this.main.offerLast(candidate);
+					continue;
+				}
+				final Entry<?, ?> victim = select(this.main);
+				if (victim == null) {
+					this.main.offerLast(candidate);
+					continue;
+				}
+				if (this.sketch.frequency(candidate.hash) > this.sketch.frequency(victim.hash)) {
+					this.main.offerLast(candidate);
+					this.evictions.increment();
+					evictEntry(victim);
+				} else {
+					this.main.offerFirst(victim);
+					this.rejections.increment();
+					evictEntry(candidate);
+				}
+			}
+
+			// Still out of bounds (for example, because of one very heavy object)
+			while ((this.entries.get() > this.maxEntries) || (this.weight.get() > this.maxWeight)) {
+				Entry<?, ?> victim = select(this.main);
+				if (victim == null) {
+					victim = select(this.window);
+					if (victim == null) {
+						break;
+					}
+				}
+				this.evictions.increment();
+				evictEntry(victim);
+			}
+		} finally {
+			this.evictionLock.unlock();
+		}
+	}
+
+	/**
+	 * Selects the next entry in CLOCK order from a queue, and removes it from the queue. Must be called with the eviction lock held.
+	 *
+	 * @param queue
+	 *            The queue
+	 * @return The entry, or <code>null</code> if there are no live entries in the queue
+	 */
+	private Entry<?, ?> select(final ConcurrentLinkedDeque<Entry<?, ?>> queue) {
+		final boolean isWindow = (queue == this.window);
+		int secondChances = 0;
+		while (true) {
+			final Entry<?, ?> entry = queue.pollFirst();
+			if (entry == null) {
+				return null;
+			}
+			final int state = entry.state;
+			if (state == Entry.RETIRED) {
+				this.retiredInQueues.decrementAndGet();
+				continue;
+			}
+			if ((state == Entry.MAIN) && isWindow) {
+				// Already promoted; it's in the main queue too
+				continue;
+			}
+			if (entry.referenced && (secondChances++ < this.maxEntries)) {
+				entry.referenced = false;
+				queue.offerLast(entry);
+				continue;
+			}
+			return entry;
+		}
+	}
+
+	/**
+	 * @param entry
+	 *            Entry to evict from its segment, which has been taken off its queue by {@link #select(ConcurrentLinkedDeque)}
+	 * @param <U>
+	 *            Class of the object's id
+	 * @param <T>
+	 *            Class of the object
+	 */
+	private <U, T> void evictEntry(final Entry<U, T> entry) {
+		// If the entry is no longer in its segment, whoever replaced or removed it has already retired it
+		entry.segment.entries.remove(entry.id, entry);
+		if (!release(entry)) {
+			retiredOffQueue();
+		}
+	}
+
+	/**
+	 * Removes retired entries from {@link #window} and {@link #main}
+	 */
+	private void purge() {
+		if (!this.evictionLock.tryLock()) {
+			return;
+		}
+		try {
+			int purged = 0;
+			for (final ConcurrentLinkedDeque<Entry<?, ?>> queue : Arrays.asList(this.window, this.main)) {
+				for (final Iterator<Entry<?, ?>> iterator = queue.iterator(); iterator.hasNext();) {
+					if (iterator.next().state == Entry.RETIRED) {
+						iterator.remove();
+						purged++;
+					}
+				}
+			}
+			this.retiredInQueues.addAndGet(-purged);
+		} finally {
+			this.evictionLock.unlock();
+		}
+	}
+
+	/**
+	 * @param value
+	 *            Object to be stored
+	 * @return Its estimated weight; a failure to weigh it is treated as a nominal weight rather than a failure to cache it
+	 */
+	private int weigh(final Object value) {
+		try {
+			return Math.max(1, this.weigher.weigh(value));
+		} catch (final RuntimeException e) {
+			return 1024;
+		}
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "StravaCacheStore [entries=" + this.entries + ", weight=" + this.weight + ", hits=" + this.hits + ", staleHits=" + this.staleHits //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+				+ ", sharedHits=" + this.sharedHits + ", misses=" + this.misses + ", expirations=" + this.expirations + ", evictions=" + this.evictions //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+				+ ", rejections=" + this.rejections + "]"; //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+}
@@ -0,0 +1,204 @@
+package javastrava.cache.impl;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javastrava.config.StravaConfig;
+
+/**
+ * <p>
+ * Remembers, for a short time, the ids of objects which Strava has said don't exist
+ * </p>
+ *
+ * <p>
+ * Without it every lookup of a deleted object costs an API call, however often it is repeated (which it is, for example, when a backlog of webhook
+ * events is replayed). Entries expire after {@link StravaConfig#CACHE_NEGATIVE_TTL_MS}, and are removed straight away if the object is stored or
+ * removed in the {@link StravaCacheImpl cache} which owns them. Private objects don't need an entry here; their private representations are cached
+ * like any other object, and hits on them are counted in {@link #getPrivateHits()}.
+ * </p>
+ *
+ * @author Dan Shannon
+ *
+ * @param <U>
+ *            Class of the objects' ids
+ */
+public class StravaNegativeCache<U> {
+	/**
+	 * Number of lookups answered from a "not found" entry instead of by the API
+	 */
+	private static final AtomicLong NOT_FOUND_HITS = new AtomicLong();
+
+	/**
+	 * Number of lookups answered with a cached private representation instead of by the API
+	 */
+	private static final AtomicLong PRIVATE_HITS = new AtomicLong();
+
+	/**
+	 * Number of "not found" entries stored
+	 */
+	private static final AtomicLong STORES = new AtomicLong();
+
+	/**
+	 * Number of "not found" entries removed before they expired
+	 */
+	private static final AtomicLong INVALIDATIONS = new AtomicLong();
+
+	/**
+	 * Time at which each entry expires, as {@link System#nanoTime()}, by id
+	 */
+	private final ConcurrentHashMap<U, Long> expiries = new ConcurrentHashMap<U, Long>();
+
+	/**
+	 * How long entries last, in nanoseconds
+	 */
+	private final long ttl;
+
+	/**
+	 * Maximum number of entries
+	 */
+	private final int maxEntries;
+
+	/**
+	 * Creates a negative cache with the configured time to live and size
+	 */
+	public StravaNegativeCache() {
+		this(StravaConfig.CACHE_NEGATIVE_TTL_MS, StravaConfig.CACHE_NEGATIVE_MAX_ENTRIES);
+	}
+
+	/**
+	 * @param ttl
+	 *            How long entries last, in milliseconds; 0 or less disables the cache
+	 * @param maxEntries
+	 *            Maximum number of entries
+	 */
+	public StravaNegativeCache(final long ttl, final int maxEntries) {
+		this.ttl = TimeUnit.MILLISECONDS.toNanos(Math.max(0, ttl));
+		this.maxEntries = maxEntries;
+	}
+
+	/**
+	 * @param id
+	 *            An object's id
+	 * @return <code>true</code> if the object is known not to exist, in which case the lookup is counted as absorbed
+	 */
+	public boolean contains(final U id) {
+		if ((id == null) || this.expiries.isEmpty()) {
+			return false;
+		}
+		final Long expiry = this.expiries.get(id);
+		if (expiry == null) {
+			return false;
+		}
+		if ((expiry.longValue() - System.nanoTime()) <= 0) {
+			this.expiries.remove(id, expiry);
+			return false;
+		}
+		NOT_FOUND_HITS.incrementAndGet();
+		return true;
+	}
+
+	/**
+	 * <p>
+	 * Records that the object doesn't exist. If the cache is full, expired entries are dropped first; if it is still full the entry isn't stored.
+	 * </p>
+	 *
+	 * @param id
+	 *            The object's id
+	 */
+	public void put(final U id) {
+		if ((id == null) || (this.ttl == 0)) {
+			return;
+		}
+		final long now = System.nanoTime();
+		if ((this.expiries.size() >= this.maxEntries) && !this.expiries.containsKey(id)) {
+			purge(now);
+			if (this.expiries.size() >= this.maxEntries) {
+				return;
+			}
+		}
+		this.expiries.put(id, Long.valueOf(now + this.ttl));
+		STORES.incrementAndGet();
+	}
+
+	/**
+	 * @param id
+	 *            Id of an object which may now exist
+	 */
+	public void remove(final U id) {
+		if ((id != null) && !this.expiries.isEmpty() && (this.expiries.remove(id) != null)) {
+			INVALIDATIONS.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Removes all entries
+	 */
+	public void clear() {
+		this.expiries.clear();
+	}
+
+	/**
+	 * @return Number of entries, including any which have expired but not yet been removed
+	 */
+	public int size() {
+		return this.expiries.size();
+	}
+
+	/**
+	 * @param now
+	 *            Current time, as {@link System#nanoTime()}
+	 */
+	private void purge(final long now) {
+		for (final Iterator<Map.Entry<U, Long>> iterator = this.expiries.entrySet().iterator(); iterator.hasNext();) {
+			if ((iterator.next().getValue().longValue() - now) <= 0) {
+				iterator.remove();
+			}
+		}
+	}
+
+	/**
+	 * Counts a lookup answered with a cached private representation
+	 */
+	static void privateHit() {
+		PRIVATE_HITS.incrementAndGet();
+	}
+
+	/**
+	 * @return Number of lookups answered from a "not found" entry instead of by the API
+	 */
+	public static long getNotFoundHits() {
+		return NOT_FOUND_HITS.get();
+	}
+
+	/**
+	 * @return Number of lookups answered with a cached private representation instead of by the API
+	 */
+	public static long getPrivateHits() {
+		return PRIVATE_HITS.get();
+	}
+
+	/**
+	 * @return Total number of API requests absorbed by "not found" entries and cached private representations
+	 */
+	public static long getAbsorbed() {
+		return NOT_FOUND_HITS.get() + PRIVATE_HITS.get();
+	}
+
+	/**
+	 * @return Number of "not found" entries stored
+	 */
+	public static long getStores() {
+		return STORES.get();
+	}
+
+	/**
+	 * @return Number of "not found" entries removed before they expired, because the object was stored or removed
+	 */
+	public static long getInvalidations() {
+		return INVALIDATIONS.get();
+	}
+
+}
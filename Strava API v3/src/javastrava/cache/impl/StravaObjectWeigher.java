@@ -0,0 +1,178 @@
+package javastrava.cache.impl;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javastrava.cache.StravaCacheWeigher;
+
+/**
+ * <p>
+ * Default {@link StravaCacheWeigher}, which estimates the size of an object by walking its fields reflectively
+ * </p>
+ *
+ * <p>
+ * The estimate assumes compressed references (4 bytes) and 16 byte object headers, and isn't intended to be exact - only good enough to stop a cache
+ * full of large objects (activities with all their efforts, for example) using far more memory than a cache full of small ones. Objects which belong
+ * to the JDK (dates, for example) are given a fixed weight rather than being walked. Weights are only calculated when objects are put in cache.
+ * </p>
+ *
+ * @author Dan Shannon
+ *
+ */
+public class StravaObjectWeigher implements StravaCacheWeigher {
+	/**
+	 * Size of an object header
+	 */
+	private static final int HEADER = 16;
+
+	/**
+	 * Size of a reference
+	 */
+	private static final int REFERENCE = 4;
+
+	/**
+	 * Weight given to JDK objects which aren't walked
+	 */
+	private static final int OPAQUE = 32;
+
+	/**
+	 * Depth to which object graphs are walked
+	 */
+	private static final int MAX_DEPTH = 16;
+
+	/**
+	 * Instance fields of each class walked, including inherited fields
+	 */
+	private static final ConcurrentHashMap<Class<?>, Field[]> FIELDS = new ConcurrentHashMap<Class<?>, Field[]>();
+
+	/**
+	 * @see javastrava.cache.StravaCacheWeigher#weigh(java.lang.Object)
+	 */
+	@Override
+	public int weigh(final Object object) {
+		return (int) Math.min(Integer.MAX_VALUE, weigh(object, 0, new IdentityHashMap<Object, Object>()));
+	}
+
+	/**
+	 * @param object
+	 *            Object to weigh
+	 * @param depth
+	 *            Depth in the object graph
+	 * @param visited
+	 *            Objects already weighed
+	 * @return Estimated weight
+	 */
+	private static long weigh(final Object object, final int depth, final IdentityHashMap<Object, Object> visited) {
+		if ((object == null) || (object instanceof Enum) || (object instanceof Class) || (visited.put(object, object) != null)) {
+			return 0;
+		}
+		if (object instanceof String) {
+			return HEADER + 24 + (2L * ((String) object).length());
+		}
+		if ((object instanceof Number) || (object instanceof Boolean) || (object instanceof Character)) {
+			return HEADER + 8;
+		}
+		if (depth >= MAX_DEPTH) {
+			return OPAQUE;
+		}
+		final Class<?> class1 = object.getClass();
+		if (class1.isArray()) {
+			final int length = Array.getLength(object);
+			final Class<?> component = class1.getComponentType();
+			if (component.isPrimitive()) {
+				return HEADER + ((long) length * primitiveSize(component));
+			}
+			long weight = HEADER + ((long) length * REFERENCE);
+			for (int i = 0; i < length; i++) {
+				weight += weigh(Array.get(object, i), depth + 1, visited);
+			}
+			return weight;
+		}
+		if (object instanceof Collection) {
+			long weight = HEADER + 24 + (((Collection<?>) object).size() * (long) REFERENCE);
+			for (final Object element : (Collection<?>) object) {
+				weight += weigh(element, depth + 1, visited);
+			}
+			return weight;
+		}
+		if (object instanceof Map) {
+			long weight = HEADER + 32 + (((Map<?, ?>) object).size() * 32L);
+			for (final Map.Entry<?, ?> entry : ((Map<?, ?>) object).entrySet()) {
+				weight += weigh(entry.getKey(), depth + 1, visited) + weigh(entry.getValue(), depth + 1, visited);
+			}
+			return weight;
+		}
+		if (class1.getName().startsWith("java.")) { //$NON-NLS-1$
+			return OPAQUE;
+		}
+
+		long weight = HEADER;
+		for (final Field field : fields(class1)) {
+			final Class<?> type = field.getType();
+			if (type.isPrimitive()) {
+				weight += primitiveSize(type);
+			} else {
+				weight += REFERENCE;
+				try {
+					weight += weigh(field.get(object), depth + 1, visited);
+				} catch (final IllegalAccessException e) {
+					weight += OPAQUE;
+				}
+			}
+		}
+		return weight;
+	}
+
+	/**
+	 * @param class1
+	 *            A class
+	 * @return Its instance fields, including inherited ones, made accessible
+	 */
+	private static Field[] fields(final Class<?> class1) {
+		final Field[] fields = FIELDS.get(class1);
+		if (fields != null) {
+			return fields;
+		}
+		return FIELDS.computeIfAbsent(class1, key -> {
+			final List<Field> list = new ArrayList<Field>();
+			for (Class<?> c = key; (c != null) && (c != Object.class); c = c.getSuperclass()) {
+				for (final Field field : c.getDeclaredFields()) {
+					if (!Modifier.isStatic(field.getModifiers())) {
+						try {
+							field.setAccessible(true);
+							list.add(field);
+						} catch (final RuntimeException e) {
+							// Not accessible, so it won't be weighed
+						}
+					}
+				}
+			}
+			return list.toArray(new Field[list.size()]);
+		});
+	}
+
+	/**
+	 * @param type
+	 *            A primitive type
+	 * @return Its size in bytes
+	 */
+	private static int primitiveSize(final Class<?> type) {
+		if ((type == long.class) || (type == double.class)) {
+			return 8;
+		}
+		if ((type == int.class) || (type == float.class)) {
+			return 4;
+		}
+		if ((type == short.class) || (type == char.class)) {
+			return 2;
+		}
+		return 1;
+	}
+}
@@ -52,11 +52,13 @@ public class StravaConfig {
 	public static final String DATE_FORMAT = string("strava.date_format"); //$NON-NLS-1$
 
 	/**
-	 * Request rate limit every 15 minutes (default is 600)
+	 * Configured request rate limit every 15 minutes (default is 600); the limits actually reported by Strava are held per application by
+	 * {@link javastrava.ratelimit.StravaRateLimitLedger}
 	 */
 	public static int RATE_LIMIT = integer("strava.rate_limit").intValue(); //$NON-NLS-1$
 	/**
-	 * Daily request rate limit (default is 30,000)
+	 * Configured daily request rate limit (default is 30,000); the limits actually reported by Strava are held per application by
+	 * {@link javastrava.ratelimit.StravaRateLimitLedger}
 	 */
 	public static int RATE_LIMIT_DAILY = integer("strava.rate_limit_daily").intValue(); //$NON-NLS-1$
 
@@ -65,11 +67,186 @@ public class StravaConfig {
 	 */
 	public static final int WARN_AT_REQUEST_LIMIT_PERCENT = integer("strava.warn_at_request_limit_percent").intValue(); //$NON-NLS-1$
 
+	/**
+	 * Kind of executor used by tokens which aren't given one, to run asynchronous methods and parallel page requests; see
+	 * {@link javastrava.util.StravaExecutors}
+	 */
+	public static final String EXECUTOR = string("strava.executor"); //$NON-NLS-1$
+
+	/**
+	 * Maximum number of threads in the default executor, if it is bounded
+	 */
+	public static final int EXECUTOR_THREADS = integer("strava.executor.threads").intValue(); //$NON-NLS-1$
+
 	/**
 	 * The number of parallel pages to request simultaneously when running a listAll method
 	 */
 	public static final int PAGING_LIST_ALL_PARALLELISM = integer("strava.paging_list_all_parallelism").intValue(); //$NON-NLS-1$
 
+	/**
+	 * The number of pages to fetch ahead of the one being read when streaming the results of a listAll method
+	 */
+	public static final int PAGING_STREAM_PREFETCH = integer("strava.paging_stream_prefetch").intValue(); //$NON-NLS-1$
+
+	/**
+	 * The number of pages buffered for each subscriber when publishing the results of a listAll method
+	 */
+	public static final int PAGING_PUBLISHER_BUFFER_PAGES = integer("strava.paging_publisher_buffer_pages").intValue(); //$NON-NLS-1$
+
+	/**
+	 * Whether listAll methods adjust the number of pages they request in parallel to the rate limit and latency, starting from
+	 * {@link #PAGING_LIST_ALL_PARALLELISM}
+	 */
+	public static final boolean PAGING_ADAPTIVE = Boolean.valueOf(string("strava.paging_adaptive")).booleanValue(); //$NON-NLS-1$
+
+	/**
+	 * The most pages a listAll method will request in parallel when {@link #PAGING_ADAPTIVE adaptive}
+	 */
+	public static final int PAGING_PARALLELISM_MAX = integer("strava.paging_parallelism_max").intValue(); //$NON-NLS-1$
+
+	/**
+	 * The percentage by which recent page latency may exceed its long run average before adaptive listAll methods request fewer pages in parallel
+	 */
+	public static final int PAGING_LATENCY_TOLERANCE_PERCENT = integer("strava.paging_latency_tolerance_percent").intValue(); //$NON-NLS-1$
+
+	/**
+	 * Maximum number of idle connections held in the shared HTTP connection pool
+	 */
+	public static final int HTTP_MAX_IDLE_CONNECTIONS = integer("strava.http.max_idle_connections").intValue(); //$NON-NLS-1$
+
+	/**
+	 * How long (in milliseconds) an idle connection is kept alive in the shared HTTP connection pool
+	 */
+	public static final long HTTP_KEEP_ALIVE_DURATION_MS = integer("strava.http.keep_alive_duration_ms").longValue(); //$NON-NLS-1$
+
+	/**
+	 * HTTP connect timeout in milliseconds
+	 */
+	public static final long HTTP_CONNECT_TIMEOUT_MS = integer("strava.http.connect_timeout_ms").longValue(); //$NON-NLS-1$
+
+	/**
+	 * HTTP read timeout in milliseconds
+	 */
+	public static final long HTTP_READ_TIMEOUT_MS = integer("strava.http.read_timeout_ms").longValue(); //$NON-NLS-1$
+
+	/**
+	 * Maximum number of asynchronous HTTP requests that will be executed concurrently by the shared transport
+	 */
+	public static final int HTTP_MAX_REQUESTS = integer("strava.http.max_requests").intValue(); //$NON-NLS-1$
+
+	/**
+	 * Whether identical concurrent GET requests should be coalesced into a single request
+	 */
+	public static final boolean HTTP_COALESCE_GETS = Boolean.valueOf(string("strava.http.coalesce_gets")).booleanValue(); //$NON-NLS-1$
+
+	/**
+	 * Maximum number of objects held in cache, across all tokens
+	 */
+	public static final int CACHE_MAX_ENTRIES = integer("strava.cache.max_entries").intValue(); //$NON-NLS-1$
+
+	/**
+	 * Maximum estimated memory used by objects held in cache, in bytes, across all tokens
+	 */
+	public static final long CACHE_MAX_WEIGHT_BYTES = longValue("strava.cache.max_weight_bytes").longValue(); //$NON-NLS-1$
+
+	/**
+	 * Whether objects which look the same to every caller are cached once and shared by all tokens
+	 */
+	public static final boolean CACHE_SHARED = Boolean.valueOf(string("strava.cache.shared")).booleanValue(); //$NON-NLS-1$
+
+	/**
+	 * Whether cached objects are also stored on disk, so they survive a restart
+	 */
+	public static final boolean CACHE_DISK_ENABLED = Boolean.valueOf(string("strava.cache.disk.enabled")).booleanValue(); //$NON-NLS-1$
+
+	/**
+	 * File in which cached objects are stored on disk
+	 */
+	public static final String CACHE_DISK_FILE = string("strava.cache.disk.file"); //$NON-NLS-1$
+
+	/**
+	 * Maximum size of the on-disk cache, in bytes
+	 */
+	public static final long CACHE_DISK_MAX_BYTES = longValue("strava.cache.disk.max_bytes").longValue(); //$NON-NLS-1$
+
+	/**
+	 * How long the cache remembers that an object doesn't exist, in milliseconds (0 to disable)
+	 */
+	public static final long CACHE_NEGATIVE_TTL_MS = integer("strava.cache.negative.ttl_ms").longValue(); //$NON-NLS-1$
+
+	/**
+	 * Maximum number of objects each cache remembers as not existing
+	 */
+	public static final int CACHE_NEGATIVE_MAX_ENTRIES = integer("strava.cache.negative.max_entries").intValue(); //$NON-NLS-1$
+
+	/**
+	 * How long after expiry a cached object may still be served while it is refreshed in the background, in milliseconds
+	 */
+	public static final long CACHE_STALE_WHILE_REVALIDATE_MS = integer("strava.cache.stale_while_revalidate_ms").longValue(); //$NON-NLS-1$
+
+	/**
+	 * Number of threads used to refresh stale cached objects in the background
+	 */
+	public static final int CACHE_REFRESH_THREADS = integer("strava.cache.refresh_threads").intValue(); //$NON-NLS-1$
+
+	/**
+	 * Percentage of each rate limit window which must remain unused for a stale cached object to be refreshed in the background
+	 */
+	public static final int CACHE_REFRESH_MIN_REMAINING_PERCENT = integer("strava.cache.refresh_min_remaining_percent").intValue(); //$NON-NLS-1$
+
+	/**
+	 * Whether requests should be paced client-side to stay within the rate limits
+	 */
+	public static final boolean THROTTLE_ENABLED = Boolean.valueOf(string("strava.throttle.enabled")).booleanValue(); //$NON-NLS-1$
+
+	/**
+	 * Maximum number of requests that may be issued in a burst before being paced at the steady rate the 15 minute limit allows
+	 */
+	public static final int THROTTLE_BURST = integer("strava.throttle.burst").intValue(); //$NON-NLS-1$
+
+	/**
+	 * Percentage of each rate limit window held back for interactive requests, which bulk (list all) requests may not use
+	 */
+	public static final int THROTTLE_INTERACTIVE_RESERVE_PERCENT = integer("strava.throttle.interactive_reserve_percent").intValue(); //$NON-NLS-1$
+
+	/**
+	 * Maximum number of attempts made at a request which fails with a transient error (1 disables retries)
+	 */
+	public static final int RETRY_MAX_ATTEMPTS = integer("strava.retry.max_attempts").intValue(); //$NON-NLS-1$
+
+	/**
+	 * Delay before the first retry of a request, in milliseconds; doubled (with jitter) for each subsequent retry
+	 */
+	public static final long RETRY_BASE_DELAY_MS = integer("strava.retry.base_delay_ms").longValue(); //$NON-NLS-1$
+
+	/**
+	 * Maximum delay between retries of a request, in milliseconds
+	 */
+	public static final long RETRY_MAX_DELAY_MS = integer("strava.retry.max_delay_ms").longValue(); //$NON-NLS-1$
+
+	/**
+	 * Maximum time to wait for the rate limit window to reset before retrying a request which was rejected for exceeding the rate limit; if the
+	 * reset is further away than this, the request fails
+	 */
+	public static final long RETRY_RATE_LIMIT_MAX_WAIT_MS = integer("strava.retry.rate_limit_max_wait_ms").longValue(); //$NON-NLS-1$
+
+	/**
+	 * Maximum time to wait for the rate limit window to reset before retrying an {@link javastrava.ratelimit.StravaRequestPriority#INTERACTIVE
+	 * interactive} request which was rejected for exceeding the rate limit; if the reset is further away than this, the request fails with a
+	 * {@link javastrava.api.v3.service.exception.StravaAPIRateLimitException}
+	 */
+	public static final long RETRY_INTERACTIVE_RATE_LIMIT_MAX_WAIT_MS = integer("strava.retry.interactive_rate_limit_max_wait_ms").longValue(); //$NON-NLS-1$
+
+	/**
+	 * Directory in which {@link javastrava.sync.StravaActivitySync} stores each athlete's high-water mark
+	 */
+	public static final String ACTIVITY_SYNC_DIRECTORY = string("strava.activity_sync.directory"); //$NON-NLS-1$
+
+	/**
+	 * How far before the high-water mark each activity sync looks again, in seconds, to pick up activities which have been edited or deleted
+	 */
+	public static final long ACTIVITY_SYNC_LOOKBACK_SECONDS = integer("strava.activity_sync.lookback_seconds").longValue(); //$NON-NLS-1$
+
 	/**
 	 * Get the value of a String property
 	 * @param property The property name
@@ -79,6 +256,15 @@ public class StravaConfig {
 		return RESOURCE_BUNDLE.getString(property);
 	}
 
+	/**
+	 * @param key
+	 *            The name of a property
+	 * @return <code>true</code> if the property is defined
+	 */
+	public static boolean contains(final String key) {
+		return RESOURCE_BUNDLE.containsKey(key);
+	}
+
 	/**
 	 * @param key
 	 *            The name of the property to return
@@ -88,4 +274,13 @@ public class StravaConfig {
 		return Integer.valueOf(RESOURCE_BUNDLE.getString(key));
 	}
 
+	/**
+	 * @param key
+	 *            The name of the property to return
+	 * @return Long value of the property from the resource bundle
+	 */
+	public static Long longValue(final String key) {
+		return Long.valueOf(RESOURCE_BUNDLE.getString(key));
+	}
+
 }
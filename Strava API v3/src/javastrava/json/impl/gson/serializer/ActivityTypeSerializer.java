@@ -1,40 +1,27 @@
 package javastrava.json.impl.gson.serializer;
 
-import java.lang.reflect.Type;
-
 import javastrava.api.v3.model.reference.StravaActivityType;
 
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonDeserializer;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonParseException;
-import com.google.gson.JsonSerializationContext;
-import com.google.gson.JsonSerializer;
-
 /**
  * @author Dan Shannon
  *
  */
-public class ActivityTypeSerializer implements JsonSerializer<StravaActivityType>, JsonDeserializer<StravaActivityType> {
+public class ActivityTypeSerializer extends StringValueSerializer<StravaActivityType> {
 
 	/**
-	 * @see com.google.gson.JsonDeserializer#deserialize(com.google.gson.JsonElement, java.lang.reflect.Type,
-	 *      com.google.gson.JsonDeserializationContext)
+	 * @see javastrava.json.impl.gson.serializer.StringValueSerializer#fromValue(java.lang.String)
 	 */
 	@Override
-	public StravaActivityType deserialize(final JsonElement json, final Type type, final JsonDeserializationContext context)
-			throws JsonParseException {
-		StravaActivityType activityType = StravaActivityType.create(json.getAsString());
-		return activityType;
+	protected StravaActivityType fromValue(final String value) {
+		return StravaActivityType.create(value);
 	}
 
 	/**
-	 * @see com.google.gson.JsonSerializer#serialize(java.lang.Object, java.lang.reflect.Type,
-	 *      com.google.gson.JsonSerializationContext)
+	 * @see javastrava.json.impl.gson.serializer.StringValueSerializer#toValue(java.lang.Object)
 	 */
 	@Override
-	public JsonElement serialize(final StravaActivityType activityType, final Type type, final JsonSerializationContext context) {
-		return context.serialize(activityType.getValue());
+	protected String toValue(final StravaActivityType activityType) {
+		return activityType.getValue();
 	}
 
 }
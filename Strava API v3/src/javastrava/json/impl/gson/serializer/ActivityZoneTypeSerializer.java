@@ -1,39 +1,27 @@
 package javastrava.json.impl.gson.serializer;
 
-import java.lang.reflect.Type;
-
 import javastrava.api.v3.model.reference.StravaActivityZoneType;
 
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonDeserializer;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonParseException;
-import com.google.gson.JsonSerializationContext;
-import com.google.gson.JsonSerializer;
-
 /**
  * @author Dan Shannon
  *
  */
-public class ActivityZoneTypeSerializer implements JsonSerializer<StravaActivityZoneType>, JsonDeserializer<StravaActivityZoneType> {
+public class ActivityZoneTypeSerializer extends StringValueSerializer<StravaActivityZoneType> {
 
 	/**
-	 * @see com.google.gson.JsonDeserializer#deserialize(com.google.gson.JsonElement, java.lang.reflect.Type,
-	 *      com.google.gson.JsonDeserializationContext)
+	 * @see javastrava.json.impl.gson.serializer.StringValueSerializer#fromValue(java.lang.String)
 	 */
 	@Override
-	public StravaActivityZoneType deserialize(final JsonElement json, final Type type, final JsonDeserializationContext context)
-			throws JsonParseException {
-		return StravaActivityZoneType.create(json.getAsString());
+	protected StravaActivityZoneType fromValue(final String value) {
+		return StravaActivityZoneType.create(value);
 	}
 
 	/**
-	 * @see com.google.gson.JsonSerializer#serialize(java.lang.Object, java.lang.reflect.Type,
-	 *      com.google.gson.JsonSerializationContext)
+	 * @see javastrava.json.impl.gson.serializer.StringValueSerializer#toValue(java.lang.Object)
 	 */
 	@Override
-	public JsonElement serialize(final StravaActivityZoneType activityZoneType, final Type type, final JsonSerializationContext context) {
-		return context.serialize(activityZoneType.getValue());
+	protected String toValue(final StravaActivityZoneType activityZoneType) {
+		return activityZoneType.getValue();
 	}
 
 }
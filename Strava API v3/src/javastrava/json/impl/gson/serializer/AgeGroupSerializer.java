@@ -1,38 +1,27 @@
 package javastrava.json.impl.gson.serializer;
 
-import java.lang.reflect.Type;
-
 import javastrava.api.v3.model.reference.StravaAgeGroup;
 
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonDeserializer;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonParseException;
-import com.google.gson.JsonSerializationContext;
-import com.google.gson.JsonSerializer;
-
 /**
  * @author Dan Shannon
  *
  */
-public class AgeGroupSerializer implements JsonSerializer<StravaAgeGroup>, JsonDeserializer<StravaAgeGroup> {
+public class AgeGroupSerializer extends StringValueSerializer<StravaAgeGroup> {
 
 	/**
-	 * @see com.google.gson.JsonDeserializer#deserialize(com.google.gson.JsonElement, java.lang.reflect.Type,
-	 *      com.google.gson.JsonDeserializationContext)
+	 * @see javastrava.json.impl.gson.serializer.StringValueSerializer#fromValue(java.lang.String)
 	 */
 	@Override
-	public StravaAgeGroup deserialize(final JsonElement json, final Type type, final JsonDeserializationContext context) throws JsonParseException {
-		return StravaAgeGroup.create(json.getAsString());
+	protected StravaAgeGroup fromValue(final String value) {
+		return StravaAgeGroup.create(value);
 	}
 
 	/**
-	 * @see com.google.gson.JsonSerializer#serialize(java.lang.Object, java.lang.reflect.Type,
-	 *      com.google.gson.JsonSerializationContext)
+	 * @see javastrava.json.impl.gson.serializer.StringValueSerializer#toValue(java.lang.Object)
 	 */
 	@Override
-	public JsonElement serialize(final StravaAgeGroup ageGroup, final Type type, final JsonSerializationContext context) {
-		return context.serialize(ageGroup.getValue());
+	protected String toValue(final StravaAgeGroup ageGroup) {
+		return ageGroup.getValue();
 	}
 
 }
@@ -1,40 +1,27 @@
 package javastrava.json.impl.gson.serializer;
 
-import java.lang.reflect.Type;
-
 import javastrava.api.v3.auth.ref.AuthorisationResponseType;
 
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonDeserializer;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonParseException;
-import com.google.gson.JsonSerializationContext;
-import com.google.gson.JsonSerializer;
-
 /**
  * @author Dan Shannon
  *
  */
-public class AuthorisationResponseTypeSerializer implements JsonSerializer<AuthorisationResponseType>,
-		JsonDeserializer<AuthorisationResponseType> {
+public class AuthorisationResponseTypeSerializer extends StringValueSerializer<AuthorisationResponseType> {
 
 	/**
-	 * @see com.google.gson.JsonDeserializer#deserialize(com.google.gson.JsonElement, java.lang.reflect.Type,
-	 *      com.google.gson.JsonDeserializationContext)
+	 * @see javastrava.json.impl.gson.serializer.StringValueSerializer#fromValue(java.lang.String)
 	 */
 	@Override
-	public AuthorisationResponseType deserialize(final JsonElement json, final Type type, final JsonDeserializationContext context)
-			throws JsonParseException {
-		return AuthorisationResponseType.create(json.getAsString());
+	protected AuthorisationResponseType fromValue(final String value) {
+		return AuthorisationResponseType.create(value);
 	}
 
 	/**
-	 * @see com.google.gson.JsonSerializer#serialize(java.lang.Object, java.lang.reflect.Type,
-	 *      com.google.gson.JsonSerializationContext)
+	 * @see javastrava.json.impl.gson.serializer.StringValueSerializer#toValue(java.lang.Object)
 	 */
 	@Override
-	public JsonElement serialize(final AuthorisationResponseType authorisationResponseType, final Type type, final JsonSerializationContext context) {
-		return context.serialize(authorisationResponseType.getId());
+	protected String toValue(final AuthorisationResponseType authorisationResponseType) {
+		return authorisationResponseType.getId();
 	}
 
 }
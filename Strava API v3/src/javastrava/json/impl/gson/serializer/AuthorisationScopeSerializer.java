@@ -1,39 +1,27 @@
 package javastrava.json.impl.gson.serializer;
 
-import java.lang.reflect.Type;
-
 import javastrava.api.v3.auth.ref.AuthorisationScope;
 
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonDeserializer;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonParseException;
-import com.google.gson.JsonSerializationContext;
-import com.google.gson.JsonSerializer;
-
 /**
  * @author Dan Shannon
  *
  */
-public class AuthorisationScopeSerializer implements JsonSerializer<AuthorisationScope>, JsonDeserializer<AuthorisationScope> {
+public class AuthorisationScopeSerializer extends StringValueSerializer<AuthorisationScope> {
 
 	/**
-	 * @see com.google.gson.JsonDeserializer#deserialize(com.google.gson.JsonElement, java.lang.reflect.Type,
-	 *      com.google.gson.JsonDeserializationContext)
+	 * @see javastrava.json.impl.gson.serializer.StringValueSerializer#fromValue(java.lang.String)
 	 */
 	@Override
-	public AuthorisationScope deserialize(final JsonElement json, final Type type, final JsonDeserializationContext context)
-			throws JsonParseException {
-		return AuthorisationScope.create(json.getAsString());
+	protected AuthorisationScope fromValue(final String value) {
+		return AuthorisationScope.create(value);
 	}
 
 	/**
-	 * @see com.google.gson.JsonSerializer#serialize(java.lang.Object, java.lang.reflect.Type,
-	 *      com.google.gson.JsonSerializationContext)
+	 * @see javastrava.json.impl.gson.serializer.StringValueSerializer#toValue(java.lang.Object)
 	 */
 	@Override
-	public JsonElement serialize(final AuthorisationScope authorisationScope, final Type type, final JsonSerializationContext context) {
-		return context.serialize(authorisationScope.getId());
+	protected String toValue(final AuthorisationScope authorisationScope) {
+		return authorisationScope.getId();
 	}
 
 }
@@ -1,43 +1,27 @@
 package javastrava.json.impl.gson.serializer;
 
-import java.lang.reflect.Type;
-
 import javastrava.api.v3.model.reference.StravaClimbCategory;
 
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonDeserializer;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonParseException;
-import com.google.gson.JsonSerializationContext;
-import com.google.gson.JsonSerializer;
-
 /**
  * @author Dan Shannon
  *
  */
-public class ClimbCategorySerializer implements JsonSerializer<StravaClimbCategory>, JsonDeserializer<StravaClimbCategory> {
+public class ClimbCategorySerializer extends IntegerValueSerializer<StravaClimbCategory> {
 
 	/**
-	 * @see com.google.gson.JsonDeserializer#deserialize(com.google.gson.JsonElement, java.lang.reflect.Type,
-	 *      com.google.gson.JsonDeserializationContext)
+	 * @see javastrava.json.impl.gson.serializer.IntegerValueSerializer#fromValue(java.lang.Integer)
 	 */
 	@Override
-	public StravaClimbCategory deserialize(final JsonElement json, final Type type, final JsonDeserializationContext context)
-			throws JsonParseException {
-		try {
-			return StravaClimbCategory.create(Integer.valueOf(json.getAsInt()));
-		} catch (NumberFormatException e) {
-			throw new JsonParseException(e);
-		}
+	protected StravaClimbCategory fromValue(final Integer value) {
+		return StravaClimbCategory.create(value);
 	}
 
 	/**
-	 * @see com.google.gson.JsonSerializer#serialize(java.lang.Object, java.lang.reflect.Type,
-	 *      com.google.gson.JsonSerializationContext)
+	 * @see javastrava.json.impl.gson.serializer.IntegerValueSerializer#toValue(java.lang.Object)
 	 */
 	@Override
-	public JsonElement serialize(final StravaClimbCategory climbCategory, final Type type, final JsonSerializationContext context) {
-		return context.serialize(climbCategory.getValue());
+	protected Integer toValue(final StravaClimbCategory climbCategory) {
+		return climbCategory.getValue();
 	}
 
 }
@@ -1,38 +1,27 @@
 package javastrava.json.impl.gson.serializer;
 
-import java.lang.reflect.Type;
-
 import javastrava.api.v3.model.reference.StravaClubType;
 
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonDeserializer;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonParseException;
-import com.google.gson.JsonSerializationContext;
-import com.google.gson.JsonSerializer;
-
 /**
  * @author Dan Shannon
  *
  */
-public class ClubTypeSerializer implements JsonSerializer<StravaClubType>, JsonDeserializer<StravaClubType> {
+public class ClubTypeSerializer extends StringValueSerializer<StravaClubType> {
 
 	/**
-	 * @see com.google.gson.JsonDeserializer#deserialize(com.google.gson.JsonElement, java.lang.reflect.Type,
-	 *      com.google.gson.JsonDeserializationContext)
+	 * @see javastrava.json.impl.gson.serializer.StringValueSerializer#fromValue(java.lang.String)
 	 */
 	@Override
-	public StravaClubType deserialize(final JsonElement json, final Type type, final JsonDeserializationContext context) throws JsonParseException {
-		return StravaClubType.create(json.getAsString());
+	protected StravaClubType fromValue(final String value) {
+		return StravaClubType.create(value);
 	}
 
 	/**
-	 * @see com.google.gson.JsonSerializer#serialize(java.lang.Object, java.lang.reflect.Type,
-	 *      com.google.gson.JsonSerializationContext)
+	 * @see javastrava.json.impl.gson.serializer.StringValueSerializer#toValue(java.lang.Object)
 	 */
 	@Override
-	public JsonElement serialize(final StravaClubType clubType, final Type type, final JsonSerializationContext context) {
-		return context.serialize(clubType.getValue());
+	protected String toValue(final StravaClubType clubType) {
+		return clubType.getValue();
 	}
 
 }
@@ -1,39 +1,27 @@
 package javastrava.json.impl.gson.serializer;
 
-import java.lang.reflect.Type;
-
 import javastrava.api.v3.model.reference.StravaFollowerState;
 
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonDeserializer;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonParseException;
-import com.google.gson.JsonSerializationContext;
-import com.google.gson.JsonSerializer;
-
 /**
  * @author Dan Shannon
  *
  */
-public class FollowerStateSerializer implements JsonSerializer<StravaFollowerState>, JsonDeserializer<StravaFollowerState> {
+public class FollowerStateSerializer extends StringValueSerializer<StravaFollowerState> {
 
 	/**
-	 * @see com.google.gson.JsonDeserializer#deserialize(com.google.gson.JsonElement, java.lang.reflect.Type,
-	 *      com.google.gson.JsonDeserializationContext)
+	 * @see javastrava.json.impl.gson.serializer.StringValueSerializer#fromValue(java.lang.String)
 	 */
 	@Override
-	public StravaFollowerState deserialize(final JsonElement json, final Type type, final JsonDeserializationContext context)
-			throws JsonParseException {
-		return StravaFollowerState.create(json.getAsString());
+	protected StravaFollowerState fromValue(final String value) {
+		return StravaFollowerState.create(value);
 	}
 
 	/**
-	 * @see com.google.gson.JsonSerializer#serialize(java.lang.Object, java.lang.reflect.Type,
-	 *      com.google.gson.JsonSerializationContext)
+	 * @see javastrava.json.impl.gson.serializer.StringValueSerializer#toValue(java.lang.Object)
 	 */
 	@Override
-	public JsonElement serialize(final StravaFollowerState followerState, final Type type, final JsonSerializationContext context) {
-		return context.serialize(followerState.getValue());
+	protected String toValue(final StravaFollowerState followerState) {
+		return followerState.getValue();
 	}
 
 }
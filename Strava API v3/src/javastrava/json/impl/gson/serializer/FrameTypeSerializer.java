@@ -1,43 +1,27 @@
 package javastrava.json.impl.gson.serializer;
 
-import java.lang.reflect.Type;
-
 import javastrava.api.v3.model.reference.StravaFrameType;
-import javastrava.config.Messages;
-
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonDeserializer;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonParseException;
-import com.google.gson.JsonSerializationContext;
-import com.google.gson.JsonSerializer;
 
 /**
  * @author Dan Shannon
  *
  */
-public class FrameTypeSerializer implements JsonSerializer<StravaFrameType>, JsonDeserializer<StravaFrameType> {
+public class FrameTypeSerializer extends IntegerValueSerializer<StravaFrameType> {
 
 	/**
-	 * @see com.google.gson.JsonDeserializer#deserialize(com.google.gson.JsonElement, java.lang.reflect.Type,
-	 *      com.google.gson.JsonDeserializationContext)
+	 * @see javastrava.json.impl.gson.serializer.IntegerValueSerializer#fromValue(java.lang.Integer)
 	 */
 	@Override
-	public StravaFrameType deserialize(final JsonElement json, final Type type, final JsonDeserializationContext context) throws JsonParseException {
-		try {
-			return StravaFrameType.create(Integer.valueOf(json.getAsInt()));
-		} catch (NumberFormatException e) {
-			throw new JsonParseException(String.format(Messages.string("JsonUtilImpl.couldNotDeserialiseInteger"), json.getAsString()), e); //$NON-NLS-1$
-		}
+	protected StravaFrameType fromValue(final Integer value) {
+		return StravaFrameType.create(value);
 	}
 
 	/**
-	 * @see com.google.gson.JsonSerializer#serialize(java.lang.Object, java.lang.reflect.Type,
-	 *      com.google.gson.JsonSerializationContext)
+	 * @see javastrava.json.impl.gson.serializer.IntegerValueSerializer#toValue(java.lang.Object)
 	 */
 	@Override
-	public JsonElement serialize(final StravaFrameType frameType, final Type type, final JsonSerializationContext context) {
-		return context.serialize(frameType.getValue());
+	protected Integer toValue(final StravaFrameType frameType) {
+		return frameType.getValue();
 	}
 
 }
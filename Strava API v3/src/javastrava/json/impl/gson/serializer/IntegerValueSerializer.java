@@ -0,0 +1,74 @@
+package javastrava.json.impl.gson.serializer;
+
+import java.io.IOException;
+
+import javastrava.config.Messages;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * <p>
+ * Reads and writes a type which Strava represents as a single integer (e.g. {@link javastrava.api.v3.model.reference.StravaResourceState}), a
+ * token at a time
+ * </p>
+ *
+ * <p>
+ * <code>null</code> is read and written as <code>null</code> without being passed to {@link #fromValue(Integer)} or {@link #toValue(Object)}.
+ * </p>
+ *
+ * @author Dan Shannon
+ *
+ * @param <T>
+ *            The type read and written
+ */
+public abstract class IntegerValueSerializer<T> extends TypeAdapter<T> {
+	/**
+	 * @param value
+	 *            The integer returned by Strava
+	 * @return The matching object
+	 */
+	protected abstract T fromValue(final Integer value);
+
+	/**
+	 * @see com.google.gson.TypeAdapter#read(com.google.gson.stream.JsonReader)
+	 */
+	@Override
+	public T read(final JsonReader in) throws IOException {
+		if (in.peek() == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+		final int value;
+		try {
+			value = in.nextInt();
+		} catch (final NumberFormatException e) {
+			// The reader keeps the value it couldn't parse, so it can go in the message
+			throw new JsonParseException(String.format(Messages.string("JsonUtilImpl.couldNotDeserialiseInteger"), in.nextString()), e); //$NON-NLS-1$
+		}
+		return fromValue(Integer.valueOf(value));
+	}
+
+	/**
+	 * @param object
+	 *            An object which isn't <code>null</code>
+	 * @return The integer Strava uses for it
+	 */
+	protected abstract Integer toValue(final T object);
+
+	/**
+	 * @see com.google.gson.TypeAdapter#write(com.google.gson.stream.JsonWriter, java.lang.Object)
+	 */
+	@Override
+	public void write(final JsonWriter out, final T object) throws IOException {
+		if (object == null) {
+			out.nullValue();
+			return;
+		}
+		out.value(toValue(object));
+	}
+
+}
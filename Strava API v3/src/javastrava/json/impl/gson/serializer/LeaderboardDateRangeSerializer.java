@@ -1,40 +1,27 @@
 package javastrava.json.impl.gson.serializer;
 
-import java.lang.reflect.Type;
-
 import javastrava.api.v3.model.reference.StravaLeaderboardDateRange;
 
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonDeserializer;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonParseException;
-import com.google.gson.JsonSerializationContext;
-import com.google.gson.JsonSerializer;
-
 /**
  * @author Dan Shannon
  *
  */
-public class LeaderboardDateRangeSerializer implements JsonSerializer<StravaLeaderboardDateRange>,
-		JsonDeserializer<StravaLeaderboardDateRange> {
+public class LeaderboardDateRangeSerializer extends StringValueSerializer<StravaLeaderboardDateRange> {
 
 	/**
-	 * @see com.google.gson.JsonDeserializer#deserialize(com.google.gson.JsonElement, java.lang.reflect.Type,
-	 *      com.google.gson.JsonDeserializationContext)
+	 * @see javastrava.json.impl.gson.serializer.StringValueSerializer#fromValue(java.lang.String)
 	 */
 	@Override
-	public StravaLeaderboardDateRange deserialize(final JsonElement json, final Type type, final JsonDeserializationContext context)
-			throws JsonParseException {
-		return StravaLeaderboardDateRange.create(json.getAsString());
+	protected StravaLeaderboardDateRange fromValue(final String value) {
+		return StravaLeaderboardDateRange.create(value);
 	}
 
 	/**
-	 * @see com.google.gson.JsonSerializer#serialize(java.lang.Object, java.lang.reflect.Type,
-	 *      com.google.gson.JsonSerializationContext)
+	 * @see javastrava.json.impl.gson.serializer.StringValueSerializer#toValue(java.lang.Object)
 	 */
 	@Override
-	public JsonElement serialize(final StravaLeaderboardDateRange dateRange, final Type type, final JsonSerializationContext context) {
-		return context.serialize(dateRange.getValue());
+	protected String toValue(final StravaLeaderboardDateRange dateRange) {
+		return dateRange.getValue();
 	}
 
 }
@@ -1,37 +1,30 @@
 package javastrava.json.impl.gson.serializer;
 
-import java.lang.reflect.Type;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonDeserializer;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonParseException;
-import com.google.gson.JsonPrimitive;
-import com.google.gson.JsonSerializationContext;
-import com.google.gson.JsonSerializer;
+import javastrava.util.StravaDateUtils;
 
 /**
  * @author Dan Shannon
  *
  */
-public class LocalDateSerializer implements JsonDeserializer<LocalDate>, JsonSerializer<LocalDate> {
+public class LocalDateSerializer extends StringValueSerializer<LocalDate> {
 
 	/**
-	 * @see com.google.gson.JsonSerializer#serialize(java.lang.Object, java.lang.reflect.Type, com.google.gson.JsonSerializationContext)
+	 * @see javastrava.json.impl.gson.serializer.StringValueSerializer#fromValue(java.lang.String)
 	 */
 	@Override
-	public JsonElement serialize(final LocalDate src, final Type typeOfSrc, final JsonSerializationContext context) {
-		return new JsonPrimitive(src.format(DateTimeFormatter.ISO_DATE));
+	protected LocalDate fromValue(final String value) {
+		return StravaDateUtils.parseLocalDate(value);
 	}
 
 	/**
-	 * @see com.google.gson.JsonDeserializer#deserialize(com.google.gson.JsonElement, java.lang.reflect.Type, com.google.gson.JsonDeserializationContext)
+	 * @see javastrava.json.impl.gson.serializer.StringValueSerializer#toValue(java.lang.Object)
 	 */
 	@Override
-	public LocalDate deserialize(final JsonElement json, final Type typeOfT, final JsonDeserializationContext context) throws JsonParseException {
-		return LocalDate.parse(json.getAsString(), DateTimeFormatter.ISO_DATE);
+	protected String toValue(final LocalDate src) {
+		return src.format(DateTimeFormatter.ISO_DATE);
 	}
 
 }
@@ -1,37 +1,30 @@
 package javastrava.json.impl.gson.serializer;
 
-import java.lang.reflect.Type;
-import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonDeserializer;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonParseException;
-import com.google.gson.JsonPrimitive;
-import com.google.gson.JsonSerializationContext;
-import com.google.gson.JsonSerializer;
+import javastrava.util.StravaDateUtils;
 
 /**
  * @author Dan Shannon
  *
  */
-public class LocalDateTimeSerializer implements JsonSerializer<LocalDateTime>, JsonDeserializer<LocalDateTime> {
+public class LocalDateTimeSerializer extends StringValueSerializer<LocalDateTime> {
+
 	/**
-	 * @see com.google.gson.JsonSerializer#serialize(java.lang.Object, java.lang.reflect.Type, com.google.gson.JsonSerializationContext)
+	 * @see javastrava.json.impl.gson.serializer.StringValueSerializer#fromValue(java.lang.String)
 	 */
 	@Override
-	public JsonElement serialize(final LocalDateTime src, final Type srcType, final JsonSerializationContext context) {
-		return new JsonPrimitive(src.atZone(ZoneOffset.UTC).toString());
+	protected LocalDateTime fromValue(final String value) {
+		return StravaDateUtils.parseLocalDateTime(value);
 	}
 
 	/**
-	 * @see com.google.gson.JsonDeserializer#deserialize(com.google.gson.JsonElement, java.lang.reflect.Type, com.google.gson.JsonDeserializationContext)
+	 * @see javastrava.json.impl.gson.serializer.StringValueSerializer#toValue(java.lang.Object)
 	 */
 	@Override
-	public LocalDateTime deserialize(final JsonElement json, final Type type, final JsonDeserializationContext context) throws JsonParseException {
-		return LocalDateTime.ofInstant(Instant.parse(json.getAsString()), ZoneOffset.UTC);
+	protected String toValue(final LocalDateTime src) {
+		return src.atZone(ZoneOffset.UTC).toString();
 	}
 
 }
@@ -1,45 +1,72 @@
 package javastrava.json.impl.gson.serializer;
 
-import java.lang.reflect.Type;
-import java.util.ArrayList;
+import java.io.IOException;
 
 import javastrava.api.v3.model.StravaMapPoint;
 
-import com.google.gson.JsonArray;
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonDeserializer;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonParseException;
-import com.google.gson.JsonSerializationContext;
-import com.google.gson.JsonSerializer;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 
 /**
+ * <p>
+ * Reads and writes a {@link StravaMapPoint} as a <code>[latitude, longitude]</code> array, a token at a time
+ * </p>
+ *
  * @author Dan Shannon
  *
  */
-public class MapPointSerializer implements JsonDeserializer<StravaMapPoint>, JsonSerializer<StravaMapPoint> {
+public class MapPointSerializer extends TypeAdapter<StravaMapPoint> {
+
+	/**
+	 * @param in
+	 *            Reader positioned at a co-ordinate
+	 * @return The co-ordinate, or <code>null</code>
+	 * @throws IOException
+	 *             If it can't be read
+	 */
+	private static Float readCoordinate(final JsonReader in) throws IOException {
+		if (in.peek() == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+		return Float.valueOf((float) in.nextDouble());
+	}
 
 	/**
-	 * @see com.google.gson.JsonSerializer#serialize(java.lang.Object, java.lang.reflect.Type,
-	 *      com.google.gson.JsonSerializationContext)
+	 * @see com.google.gson.TypeAdapter#read(com.google.gson.stream.JsonReader)
 	 */
 	@Override
-	public JsonElement serialize(final StravaMapPoint point, final Type type, final JsonSerializationContext context) {
-		ArrayList<Float> list = new ArrayList<Float>();
-		list.add(point.getLatitude());
-		list.add(point.getLongitude());
-		return context.serialize(list);
+	public StravaMapPoint read(final JsonReader in) throws IOException {
+		if (in.peek() == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+		in.beginArray();
+		if (!in.hasNext()) { // Strava sends an empty array when there's no location
+			in.endArray();
+			return null;
+		}
+		final Float latitude = readCoordinate(in);
+		final Float longitude = readCoordinate(in);
+		while (in.hasNext()) {
+			in.skipValue();
+		}
+		in.endArray();
+		return new StravaMapPoint(latitude, longitude);
 	}
 
 	/**
-	 * @see com.google.gson.JsonDeserializer#deserialize(com.google.gson.JsonElement, java.lang.reflect.Type,
-	 *      com.google.gson.JsonDeserializationContext)
+	 * @see com.google.gson.TypeAdapter#write(com.google.gson.stream.JsonWriter, java.lang.Object)
 	 */
 	@Override
-	public StravaMapPoint deserialize(final JsonElement element, final Type type, final JsonDeserializationContext context)
-			throws JsonParseException {
-		JsonArray array = element.getAsJsonArray();
-		return new StravaMapPoint(Float.valueOf(array.get(0).getAsFloat()), Float.valueOf(array.get(1).getAsFloat()));
+	public void write(final JsonWriter out, final StravaMapPoint point) throws IOException {
+		if (point == null) {
+			out.nullValue();
+			return;
+		}
+		out.beginArray().value(point.getLatitude()).value(point.getLongitude()).endArray();
 	}
 
 }
@@ -1,40 +1,27 @@
 package javastrava.json.impl.gson.serializer;
 
-import java.lang.reflect.Type;
-
 import javastrava.api.v3.model.reference.StravaMeasurementMethod;
 
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonDeserializer;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonParseException;
-import com.google.gson.JsonSerializationContext;
-import com.google.gson.JsonSerializer;
-
 /**
  * @author Dan Shannon
  *
  */
-public class MeasurementMethodSerializer implements JsonSerializer<StravaMeasurementMethod>,
-		JsonDeserializer<StravaMeasurementMethod> {
+public class MeasurementMethodSerializer extends StringValueSerializer<StravaMeasurementMethod> {
 
 	/**
-	 * @see com.google.gson.JsonDeserializer#deserialize(com.google.gson.JsonElement, java.lang.reflect.Type,
-	 *      com.google.gson.JsonDeserializationContext)
+	 * @see javastrava.json.impl.gson.serializer.StringValueSerializer#fromValue(java.lang.String)
 	 */
 	@Override
-	public StravaMeasurementMethod deserialize(final JsonElement json, final Type type, final JsonDeserializationContext context)
-			throws JsonParseException {
-		return StravaMeasurementMethod.create(json.getAsString());
+	protected StravaMeasurementMethod fromValue(final String value) {
+		return StravaMeasurementMethod.create(value);
 	}
 
 	/**
-	 * @see com.google.gson.JsonSerializer#serialize(java.lang.Object, java.lang.reflect.Type,
-	 *      com.google.gson.JsonSerializationContext)
+	 * @see javastrava.json.impl.gson.serializer.StringValueSerializer#toValue(java.lang.Object)
 	 */
 	@Override
-	public JsonElement serialize(final StravaMeasurementMethod method, final Type type, final JsonSerializationContext context) {
-		return context.serialize(method.getValue());
+	protected String toValue(final StravaMeasurementMethod method) {
+		return method.getValue();
 	}
 
 }
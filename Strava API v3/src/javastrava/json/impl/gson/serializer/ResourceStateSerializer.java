@@ -1,44 +1,27 @@
 package javastrava.json.impl.gson.serializer;
 
-import java.lang.reflect.Type;
-
 import javastrava.api.v3.model.reference.StravaResourceState;
-import javastrava.config.Messages;
-
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonDeserializer;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonParseException;
-import com.google.gson.JsonSerializationContext;
-import com.google.gson.JsonSerializer;
 
 /**
  * @author Dan Shannon
  *
  */
-public class ResourceStateSerializer implements JsonSerializer<StravaResourceState>, JsonDeserializer<StravaResourceState> {
+public class ResourceStateSerializer extends IntegerValueSerializer<StravaResourceState> {
 
 	/**
-	 * @see com.google.gson.JsonDeserializer#deserialize(com.google.gson.JsonElement, java.lang.reflect.Type,
-	 *      com.google.gson.JsonDeserializationContext)
+	 * @see javastrava.json.impl.gson.serializer.IntegerValueSerializer#fromValue(java.lang.Integer)
 	 */
 	@Override
-	public StravaResourceState deserialize(final JsonElement json, final Type type, final JsonDeserializationContext context)
-			throws JsonParseException {
-		try {
-			return StravaResourceState.create(Integer.valueOf(json.getAsInt()));
-		} catch (NumberFormatException e) {
-			throw new JsonParseException(String.format(Messages.string("JsonUtilImpl.couldNotDeserialiseInteger"), json.getAsString()), e); //$NON-NLS-1$
-		}
+	protected StravaResourceState fromValue(final Integer value) {
+		return StravaResourceState.create(value);
 	}
 
 	/**
-	 * @see com.google.gson.JsonSerializer#serialize(java.lang.Object, java.lang.reflect.Type,
-	 *      com.google.gson.JsonSerializationContext)
+	 * @see javastrava.json.impl.gson.serializer.IntegerValueSerializer#toValue(java.lang.Object)
 	 */
 	@Override
-	public JsonElement serialize(final StravaResourceState resourceState, final Type type, final JsonSerializationContext context) {
-		return context.serialize(resourceState.getValue());
+	protected Integer toValue(final StravaResourceState resourceState) {
+		return resourceState.getValue();
 	}
 
 }
@@ -1,40 +1,27 @@
 package javastrava.json.impl.gson.serializer;
 
-import java.lang.reflect.Type;
-
 import javastrava.api.v3.model.reference.StravaSegmentActivityType;
 
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonDeserializer;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonParseException;
-import com.google.gson.JsonSerializationContext;
-import com.google.gson.JsonSerializer;
-
 /**
  * @author Dan Shannon
  *
  */
-public class SegmentActivityTypeSerializer implements JsonSerializer<StravaSegmentActivityType>,
-		JsonDeserializer<StravaSegmentActivityType> {
+public class SegmentActivityTypeSerializer extends StringValueSerializer<StravaSegmentActivityType> {
 
 	/**
-	 * @see com.google.gson.JsonDeserializer#deserialize(com.google.gson.JsonElement, java.lang.reflect.Type,
-	 *      com.google.gson.JsonDeserializationContext)
+	 * @see javastrava.json.impl.gson.serializer.StringValueSerializer#fromValue(java.lang.String)
 	 */
 	@Override
-	public StravaSegmentActivityType deserialize(final JsonElement json, final Type type, final JsonDeserializationContext context)
-			throws JsonParseException {
-		return StravaSegmentActivityType.create(json.getAsString());
+	protected StravaSegmentActivityType fromValue(final String value) {
+		return StravaSegmentActivityType.create(value);
 	}
 
 	/**
-	 * @see com.google.gson.JsonSerializer#serialize(java.lang.Object, java.lang.reflect.Type,
-	 *      com.google.gson.JsonSerializationContext)
+	 * @see javastrava.json.impl.gson.serializer.StringValueSerializer#toValue(java.lang.Object)
 	 */
 	@Override
-	public JsonElement serialize(final StravaSegmentActivityType segmentActivityType, final Type type, final JsonSerializationContext context) {
-		return context.serialize(segmentActivityType.getValue());
+	protected String toValue(final StravaSegmentActivityType segmentActivityType) {
+		return segmentActivityType.getValue();
 	}
 
 }
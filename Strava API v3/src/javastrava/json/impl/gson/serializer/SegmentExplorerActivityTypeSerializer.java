@@ -1,41 +1,27 @@
 package javastrava.json.impl.gson.serializer;
 
-import java.lang.reflect.Type;
-
 import javastrava.api.v3.model.reference.StravaSegmentExplorerActivityType;
 
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonDeserializer;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonParseException;
-import com.google.gson.JsonSerializationContext;
-import com.google.gson.JsonSerializer;
-
 /**
  * @author Dan Shannon
  *
  */
-public class SegmentExplorerActivityTypeSerializer implements JsonSerializer<StravaSegmentExplorerActivityType>,
-		JsonDeserializer<StravaSegmentExplorerActivityType> {
+public class SegmentExplorerActivityTypeSerializer extends StringValueSerializer<StravaSegmentExplorerActivityType> {
 
 	/**
-	 * @see com.google.gson.JsonDeserializer#deserialize(com.google.gson.JsonElement, java.lang.reflect.Type,
-	 *      com.google.gson.JsonDeserializationContext)
+	 * @see javastrava.json.impl.gson.serializer.StringValueSerializer#fromValue(java.lang.String)
 	 */
 	@Override
-	public StravaSegmentExplorerActivityType deserialize(final JsonElement json, final Type type, final JsonDeserializationContext context)
-			throws JsonParseException {
-		return StravaSegmentExplorerActivityType.create(json.getAsString());
+	protected StravaSegmentExplorerActivityType fromValue(final String value) {
+		return StravaSegmentExplorerActivityType.create(value);
 	}
 
 	/**
-	 * @see com.google.gson.JsonSerializer#serialize(java.lang.Object, java.lang.reflect.Type,
-	 *      com.google.gson.JsonSerializationContext)
+	 * @see javastrava.json.impl.gson.serializer.StringValueSerializer#toValue(java.lang.Object)
 	 */
 	@Override
-	public JsonElement serialize(final StravaSegmentExplorerActivityType segmentExplorerActivityType, final Type type,
-			final JsonSerializationContext context) {
-		return context.serialize(segmentExplorerActivityType.getValue());
+	protected String toValue(final StravaSegmentExplorerActivityType segmentExplorerActivityType) {
+		return segmentExplorerActivityType.getValue();
 	}
 
 }
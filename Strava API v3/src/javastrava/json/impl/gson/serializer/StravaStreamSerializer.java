@@ -1,116 +1,303 @@
 package javastrava.json.impl.gson.serializer;
 
-import java.lang.reflect.Type;
-import java.util.ArrayList;
-import java.util.List;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.BitSet;
 
-import javastrava.api.v3.model.StravaMapPoint;
 import javastrava.api.v3.model.StravaStream;
 import javastrava.api.v3.model.reference.StravaStreamResolutionType;
 import javastrava.api.v3.model.reference.StravaStreamSeriesDownsamplingType;
 import javastrava.api.v3.model.reference.StravaStreamType;
+import javastrava.config.Messages;
 
-import com.google.gson.JsonArray;
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonDeserializer;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
-import com.google.gson.JsonSerializationContext;
-import com.google.gson.JsonSerializer;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 
 /**
+ * <p>
+ * Reads and writes {@link StravaStream streams} a token at a time, parsing the samples straight into the stream's columns rather than
+ * building a tree of the whole response first
+ * </p>
+ *
+ * <p>
+ * Strava doesn't promise to send the <code>type</code> of a stream before its <code>data</code>, so the kind of sample (number, GPS
+ * co-ordinate or moving flag) is taken from the first sample which isn't <code>null</code>, and checked against the type at the end.
+ * </p>
+ *
  * @author Dan Shannon
  *
  */
-public class StravaStreamSerializer implements JsonSerializer<StravaStream>, JsonDeserializer<StravaStream> {
+public class StravaStreamSerializer extends TypeAdapter<StravaStream> {
+	/**
+	 * Samples allowed for before the stream's columns have to grow
+	 */
+	private static final int INITIAL_CAPACITY = 1024;
 
 	/**
-	 * @see com.google.gson.JsonDeserializer#deserialize(com.google.gson.JsonElement, java.lang.reflect.Type,
-	 *      com.google.gson.JsonDeserializationContext)
+	 * @param streamType
+	 *            Type of a stream
+	 * @return The kind of sample which it holds: a {@link JsonToken#NUMBER number}, a GPS co-ordinate ({@link JsonToken#BEGIN_ARRAY array}) or
+	 *         a moving flag ({@link JsonToken#BOOLEAN boolean})
 	 */
-	@Override
-	public StravaStream deserialize(final JsonElement element, final Type type, final JsonDeserializationContext context) throws JsonParseException {
-		JsonObject json = null;
-		try {
-			json = (JsonObject) element;
-		} catch (final ClassCastException e) { // happens if it's a primitive, or if it's crap data
-			throw new JsonParseException(e);
+	private static JsonToken sampleKind(final StravaStreamType streamType) {
+		if (streamType == StravaStreamType.MAPPOINT) {
+			return JsonToken.BEGIN_ARRAY;
 		}
+		if (streamType == StravaStreamType.MOVING) {
+			return JsonToken.BOOLEAN;
+		}
+		return JsonToken.NUMBER;
+	}
 
-		// Get the type, as that will determine what the deserialization should do
-		final StravaStreamType streamType = (StravaStreamType) context.deserialize(json.get("type"), StravaStreamType.class); //$NON-NLS-1$
+	/**
+	 * @param token
+	 *            The first token of a sample
+	 * @return The kind of sample it starts
+	 */
+	private static JsonToken sampleKind(final JsonToken token) {
+		return (token == JsonToken.STRING ? JsonToken.NUMBER : token);
+	}
 
-		final JsonArray array = json.getAsJsonArray("data"); //$NON-NLS-1$
-		List<StravaMapPoint> points = null;
-		List<Float> data = null;
-		List<Boolean> moving = null;
-		if (streamType == StravaStreamType.MAPPOINT) {
-			points = new ArrayList<StravaMapPoint>();
-			for (final JsonElement arrayElement : array) {
-				final Float latitude = Float.valueOf(arrayElement.getAsJsonArray().get(0).getAsFloat());
-				final Float longitude = Float.valueOf(arrayElement.getAsJsonArray().get(1).getAsFloat());
-				final StravaMapPoint point = new StravaMapPoint(latitude, longitude);
-				points.add(point);
+	/**
+	 * @param kind
+	 *            A kind of sample
+	 * @return The number of elements each sample takes up in a <code>float[]</code> column
+	 */
+	private static int width(final JsonToken kind) {
+		return (kind == JsonToken.BEGIN_ARRAY ? 2 : 1);
+	}
+
+	/**
+	 * @param in
+	 *            Reader positioned at the <code>data</code> array
+	 * @param stream
+	 *            Stream whose columns are to be filled
+	 * @param streamType
+	 *            Type of the stream, if it has been read already
+	 * @return The kind of sample found, or <code>null</code> if every sample was <code>null</code>
+	 * @throws IOException
+	 *             If the data can't be read
+	 */
+	private static JsonToken readData(final JsonReader in, final StravaStream stream, final StravaStreamType streamType) throws IOException {
+		JsonToken kind = (streamType == null ? null : sampleKind(streamType));
+		float[] values = new float[(kind == null ? 2 : width(kind)) * INITIAL_CAPACITY];
+		final BitSet moving = new BitSet();
+		final BitSet gaps = new BitSet();
+		JsonToken found = null;
+		int size = 0;
+
+		in.beginArray();
+		while (in.hasNext()) {
+			final JsonToken token = in.peek();
+			if (token == JsonToken.NULL) {
+				in.nextNull();
+				gaps.set(size++);
+				continue;
+			}
+			if (found == null) {
+				found = sampleKind(token);
+				if (kind == null) {
+					kind = found;
+				}
 			}
-		} else if (streamType == StravaStreamType.MOVING) {
-			moving = new ArrayList<Boolean>();
-			for (final JsonElement arrayElement : array) {
-				final Boolean bool = Boolean.valueOf(arrayElement.getAsBoolean());
-				moving.add(bool);
+			if (sampleKind(token) != kind) {
+				throw new JsonParseException(String.format(Messages.string("StravaStreamSerializer.unexpectedSample"), token, streamType)); //$NON-NLS-1$
 			}
-		} else {
-			data = new ArrayList<Float>();
-			for (final JsonElement arrayElement : array) {
-				if (arrayElement.isJsonNull()) {
-					data.add(null);
-				} else {
-					final Float dataElement = Float.valueOf(arrayElement.getAsFloat());
-					data.add(dataElement);
+			final int width = width(kind);
+			if (values.length < ((size + 1) * width)) {
+				values = Arrays.copyOf(values, 2 * values.length);
+			}
+			if (kind == JsonToken.BEGIN_ARRAY) {
+				in.beginArray();
+				final float latitude = readCoordinate(in);
+				final float longitude = readCoordinate(in);
+				while (in.hasNext()) {
+					in.skipValue();
 				}
+				in.endArray();
+				if (Float.isNaN(latitude) || Float.isNaN(longitude)) {
+					// No location for this sample (as with an empty or partly null map point)
+					gaps.set(size);
+				}
+				values[2 * size] = latitude;
+				values[(2 * size) + 1] = longitude;
+			} else if (kind == JsonToken.BOOLEAN) {
+				if (in.nextBoolean()) {
+					moving.set(size);
+				}
+			} else {
+				values[size] = (float) in.nextDouble();
+			}
+			size++;
+		}
+		in.endArray();
+
+		// Trim the column to the number of samples read, marking the gaps
+		final JsonToken columnKind = (kind == null ? JsonToken.NUMBER : kind);
+		final BitSet streamGaps = (gaps.isEmpty() ? null : gaps);
+		if (columnKind == JsonToken.BOOLEAN) {
+			stream.setMovingColumn(moving, size, streamGaps);
+		} else {
+			final int width = width(columnKind);
+			final float[] column = Arrays.copyOf(values, size * width);
+			for (int gap = gaps.nextSetBit(0); gap >= 0; gap = gaps.nextSetBit(gap + 1)) {
+				Arrays.fill(column, gap * width, (gap + 1) * width, Float.NaN);
 			}
+			if (columnKind == JsonToken.BEGIN_ARRAY) {
+				stream.setMapPointColumn(column, streamGaps);
+			} else {
+				stream.setDataColumn(column, streamGaps);
+			}
+		}
+		return found;
+	}
+
+	/**
+	 * @param in
+	 *            Reader positioned within a latlng sample
+	 * @return The next co-ordinate in the sample, or {@link Float#NaN} if it is <code>null</code> or the sample has no more elements
+	 * @throws IOException
+	 *             If it can't be read
+	 */
+	private static float readCoordinate(final JsonReader in) throws IOException {
+		if (!in.hasNext()) {
+			return Float.NaN;
+		}
+		if (in.peek() == JsonToken.NULL) {
+			in.nextNull();
+			return Float.NaN;
+		}
+		return (float) in.nextDouble();
+	}
+
+	/**
+	 * @param in
+	 *            Reader positioned at a string or <code>null</code>
+	 * @return The string, or <code>null</code>
+	 * @throws IOException
+	 *             If it can't be read
+	 */
+	private static String readString(final JsonReader in) throws IOException {
+		if (in.peek() == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+		return in.nextString();
+	}
+
+	/**
+	 * @see com.google.gson.TypeAdapter#read(com.google.gson.stream.JsonReader)
+	 */
+	@Override
+	public StravaStream read(final JsonReader in) throws IOException {
+		if (in.peek() == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+		if (in.peek() != JsonToken.BEGIN_OBJECT) { // happens if it's a primitive, or if it's crap data
+			throw new JsonParseException(String.format(Messages.string("StravaStreamSerializer.notAStream"), in.peek())); //$NON-NLS-1$
 		}
 
 		final StravaStream stream = new StravaStream();
-		stream.setData(data);
-		stream.setMapPoints(points);
-		stream.setMoving(moving);
-		stream.setOriginalSize(new Integer(json.get("original_size").getAsInt())); //$NON-NLS-1$
-		stream.setResolution((StravaStreamResolutionType) context.deserialize(json.get("resolution"), //$NON-NLS-1$
-				StravaStreamResolutionType.class));
-		stream.setSeriesType((StravaStreamSeriesDownsamplingType) context.deserialize(json.get("series_type"), //$NON-NLS-1$
-				StravaStreamSeriesDownsamplingType.class));
+		StravaStreamType streamType = null;
+		JsonToken found = null;
+		boolean hasData = false;
+		in.beginObject();
+		while (in.hasNext()) {
+			final String name = in.nextName();
+			if (name.equals("type")) { //$NON-NLS-1$
+				final String id = readString(in);
+				streamType = (id == null ? null : StravaStreamType.create(id));
+			} else if (name.equals("data") && (in.peek() == JsonToken.BEGIN_ARRAY)) { //$NON-NLS-1$
+				found = readData(in, stream, streamType);
+				hasData = true;
+			} else if (name.equals("original_size") && (in.peek() != JsonToken.NULL)) { //$NON-NLS-1$
+				stream.setOriginalSize(Integer.valueOf(in.nextInt()));
+			} else if (name.equals("resolution")) { //$NON-NLS-1$
+				final String id = readString(in);
+				stream.setResolution(id == null ? null : StravaStreamResolutionType.create(id));
+			} else if (name.equals("series_type")) { //$NON-NLS-1$
+				final String id = readString(in);
+				stream.setSeriesType(id == null ? null : StravaStreamSeriesDownsamplingType.create(id));
+			} else {
+				in.skipValue();
+			}
+		}
+		in.endObject();
+
+		// If the data came before the type, check that it was the right kind of data
+		final JsonToken expected = sampleKind(streamType);
+		if ((found != null) && (found != expected)) {
+			throw new JsonParseException(String.format(Messages.string("StravaStreamSerializer.unexpectedSample"), found, streamType)); //$NON-NLS-1$
+		}
+		if (found == null) {
+			// No data, or nothing but gaps, so the shape of the column couldn't be told from the data
+			final int size = (hasData ? stream.getSize() : 0);
+			final BitSet gaps = (size == 0 ? null : stream.getGaps());
+			if (expected == JsonToken.BOOLEAN) {
+				stream.setMovingColumn(new BitSet(), size, gaps);
+			} else {
+				final float[] column = new float[width(expected) * size];
+				Arrays.fill(column, Float.NaN);
+				if (expected == JsonToken.BEGIN_ARRAY) {
+					stream.setMapPointColumn(column, gaps);
+				} else {
+					stream.setDataColumn(column, gaps);
+				}
+			}
+		}
 		stream.setType(streamType);
 		return stream;
 	}
 
 	/**
-	 * @see com.google.gson.JsonSerializer#serialize(java.lang.Object, java.lang.reflect.Type,
-	 *      com.google.gson.JsonSerializationContext)
+	 * @see com.google.gson.TypeAdapter#write(com.google.gson.stream.JsonWriter, java.lang.Object)
 	 */
 	@Override
-	public JsonElement serialize(final StravaStream stream, final Type type, final JsonSerializationContext context) {
-		final JsonObject element = new JsonObject();
-		element.add("original_size", context.serialize(stream.getOriginalSize())); //$NON-NLS-1$
-		element.add("resolution", context.serialize(stream.getResolution())); //$NON-NLS-1$
-		element.add("series_type", context.serialize(stream.getSeriesType())); //$NON-NLS-1$
-		element.add("type", context.serialize(stream.getType())); //$NON-NLS-1$
-		final JsonArray dataArray = new JsonArray();
-		element.add("data", dataArray); //$NON-NLS-1$
+	public void write(final JsonWriter out, final StravaStream stream) throws IOException {
+		if (stream == null) {
+			out.nullValue();
+			return;
+		}
+		out.beginObject();
+		out.name("original_size").value(stream.getOriginalSize()); //$NON-NLS-1$
+		out.name("resolution").value(stream.getResolution() == null ? null : stream.getResolution().getValue()); //$NON-NLS-1$
+		out.name("series_type").value(stream.getSeriesType() == null ? null : stream.getSeriesType().getValue()); //$NON-NLS-1$
+		out.name("type").value(stream.getType() == null ? null : stream.getType().getValue()); //$NON-NLS-1$
+		out.name("data").beginArray(); //$NON-NLS-1$
 		if (stream.getType() == StravaStreamType.MAPPOINT) {
-			for (final StravaMapPoint point : stream.getMapPoints()) {
-				dataArray.add(context.serialize(point));
+			final float[] points = stream.getMapPointColumn();
+			for (int i = 0; i < stream.getSize(); i++) {
+				if (stream.isGap(i)) {
+					out.nullValue();
+				} else {
+					out.beginArray().value(Float.valueOf(points[2 * i])).value(Float.valueOf(points[(2 * i) + 1])).endArray();
+				}
 			}
 		} else if (stream.getType() == StravaStreamType.MOVING) {
-			for (final Boolean moving : stream.getMoving()) {
-				dataArray.add(context.serialize(moving));
+			final BitSet moving = stream.getMovingColumn();
+			for (int i = 0; i < stream.getSize(); i++) {
+				if (stream.isGap(i)) {
+					out.nullValue();
+				} else {
+					out.value(moving.get(i));
+				}
 			}
 		} else {
-			for (final Number number : stream.getData()) {
-				dataArray.add(context.serialize(number));
+			final float[] data = stream.getDataColumn();
+			for (int i = 0; i < stream.getSize(); i++) {
+				if (stream.isGap(i)) {
+					out.nullValue();
+				} else {
+					out.value(Float.valueOf(data[i]));
+				}
 			}
 		}
-		return element;
+		out.endArray();
+		out.endObject();
 	}
 
 }
@@ -1,40 +1,27 @@
 package javastrava.json.impl.gson.serializer;
 
-import java.lang.reflect.Type;
-
 import javastrava.api.v3.model.reference.StravaStreamResolutionType;
 
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonDeserializer;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonParseException;
-import com.google.gson.JsonSerializationContext;
-import com.google.gson.JsonSerializer;
-
 /**
  * @author Dan Shannon
  *
  */
-public class StreamResolutionTypeSerializer implements JsonSerializer<StravaStreamResolutionType>,
-		JsonDeserializer<StravaStreamResolutionType> {
+public class StreamResolutionTypeSerializer extends StringValueSerializer<StravaStreamResolutionType> {
 
 	/**
-	 * @see com.google.gson.JsonDeserializer#deserialize(com.google.gson.JsonElement, java.lang.reflect.Type,
-	 *      com.google.gson.JsonDeserializationContext)
+	 * @see javastrava.json.impl.gson.serializer.StringValueSerializer#fromValue(java.lang.String)
 	 */
 	@Override
-	public StravaStreamResolutionType deserialize(final JsonElement json, final Type type, final JsonDeserializationContext context)
-			throws JsonParseException {
-		return StravaStreamResolutionType.create(json.getAsString());
+	protected StravaStreamResolutionType fromValue(final String value) {
+		return StravaStreamResolutionType.create(value);
 	}
 
 	/**
-	 * @see com.google.gson.JsonSerializer#serialize(java.lang.Object, java.lang.reflect.Type,
-	 *      com.google.gson.JsonSerializationContext)
+	 * @see javastrava.json.impl.gson.serializer.StringValueSerializer#toValue(java.lang.Object)
 	 */
 	@Override
-	public JsonElement serialize(final StravaStreamResolutionType resolutionType, final Type type, final JsonSerializationContext context) {
-		return context.serialize(resolutionType.getValue());
+	protected String toValue(final StravaStreamResolutionType resolutionType) {
+		return resolutionType.getValue();
 	}
 
 }
@@ -1,40 +1,27 @@
 package javastrava.json.impl.gson.serializer;
 
-import java.lang.reflect.Type;
-
 import javastrava.api.v3.model.reference.StravaStreamSeriesDownsamplingType;
 
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonDeserializer;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonParseException;
-import com.google.gson.JsonSerializationContext;
-import com.google.gson.JsonSerializer;
-
 /**
  * @author Dan Shannon
  *
  */
-public class StreamSeriesDownsamplingTypeSerializer implements JsonSerializer<StravaStreamSeriesDownsamplingType>,
-		JsonDeserializer<StravaStreamSeriesDownsamplingType> {
+public class StreamSeriesDownsamplingTypeSerializer extends StringValueSerializer<StravaStreamSeriesDownsamplingType> {
 
 	/**
-	 * @see com.google.gson.JsonDeserializer#deserialize(com.google.gson.JsonElement, java.lang.reflect.Type,
-	 *      com.google.gson.JsonDeserializationContext)
+	 * @see javastrava.json.impl.gson.serializer.StringValueSerializer#fromValue(java.lang.String)
 	 */
 	@Override
-	public StravaStreamSeriesDownsamplingType deserialize(final JsonElement json, final Type type, final JsonDeserializationContext context)
-			throws JsonParseException {
-		return StravaStreamSeriesDownsamplingType.create(json.getAsString());
+	protected StravaStreamSeriesDownsamplingType fromValue(final String value) {
+		return StravaStreamSeriesDownsamplingType.create(value);
 	}
 
 	/**
-	 * @see com.google.gson.JsonSerializer#serialize(java.lang.Object, java.lang.reflect.Type,
-	 *      com.google.gson.JsonSerializationContext)
+	 * @see javastrava.json.impl.gson.serializer.StringValueSerializer#toValue(java.lang.Object)
 	 */
 	@Override
-	public JsonElement serialize(final StravaStreamSeriesDownsamplingType downsamplingType, final Type type, final JsonSerializationContext context) {
-		return context.serialize(downsamplingType.getValue());
+	protected String toValue(final StravaStreamSeriesDownsamplingType downsamplingType) {
+		return downsamplingType.getValue();
 	}
 
 }
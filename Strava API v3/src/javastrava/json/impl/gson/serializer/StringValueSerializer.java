@@ -0,0 +1,67 @@
+package javastrava.json.impl.gson.serializer;
+
+import java.io.IOException;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * <p>
+ * Reads and writes a type which Strava represents as a single string (e.g. most of the reference types, and dates), a token at a time
+ * </p>
+ *
+ * <p>
+ * <code>null</code> is read and written as <code>null</code> without being passed to {@link #fromValue(String)} or {@link #toValue(Object)}.
+ * </p>
+ *
+ * @author Dan Shannon
+ *
+ * @param <T>
+ *            The type read and written
+ */
+public abstract class StringValueSerializer<T> extends TypeAdapter<T> {
+	/**
+	 * @param value
+	 *            The string returned by Strava
+	 * @return The matching object
+	 */
+	protected abstract T fromValue(final String value);
+
+	/**
+	 * @see com.google.gson.TypeAdapter#read(com.google.gson.stream.JsonReader)
+	 */
+	@Override
+	public T read(final JsonReader in) throws IOException {
+		final JsonToken token = in.peek();
+		if (token == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+		if (token == JsonToken.BOOLEAN) {
+			return fromValue(Boolean.toString(in.nextBoolean()));
+		}
+		return fromValue(in.nextString());
+	}
+
+	/**
+	 * @param object
+	 *            An object which isn't <code>null</code>
+	 * @return The string Strava uses for it
+	 */
+	protected abstract String toValue(final T object);
+
+	/**
+	 * @see com.google.gson.TypeAdapter#write(com.google.gson.stream.JsonWriter, java.lang.Object)
+	 */
+	@Override
+	public void write(final JsonWriter out, final T object) throws IOException {
+		if (object == null) {
+			out.nullValue();
+			return;
+		}
+		out.value(toValue(object));
+	}
+
+}
@@ -1,40 +1,27 @@
 package javastrava.json.impl.gson.serializer;
 
-import java.lang.reflect.Type;
-
 import javastrava.api.v3.model.webhook.reference.StravaSubscriptionObjectType;
 
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonDeserializer;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonParseException;
-import com.google.gson.JsonSerializationContext;
-import com.google.gson.JsonSerializer;
-
 /**
  * @author Dan Shannon
  *
  */
-public class SubscriptionObjectTypeSerializer implements JsonSerializer<StravaSubscriptionObjectType>, JsonDeserializer<StravaSubscriptionObjectType> {
+public class SubscriptionObjectTypeSerializer extends IntegerValueSerializer<StravaSubscriptionObjectType> {
 
 	/**
-	 * @see com.google.gson.JsonDeserializer#deserialize(com.google.gson.JsonElement, java.lang.reflect.Type,
-	 *      com.google.gson.JsonDeserializationContext)
+	 * @see javastrava.json.impl.gson.serializer.IntegerValueSerializer#fromValue(java.lang.Integer)
 	 */
 	@Override
-	public StravaSubscriptionObjectType deserialize(final JsonElement json, final Type type, final JsonDeserializationContext context)
-			throws JsonParseException {
-		final StravaSubscriptionObjectType activityType = StravaSubscriptionObjectType.create(Integer.valueOf(json.getAsInt()));
-		return activityType;
+	protected StravaSubscriptionObjectType fromValue(final Integer value) {
+		return StravaSubscriptionObjectType.create(value);
 	}
 
 	/**
-	 * @see com.google.gson.JsonSerializer#serialize(java.lang.Object, java.lang.reflect.Type,
-	 *      com.google.gson.JsonSerializationContext)
+	 * @see javastrava.json.impl.gson.serializer.IntegerValueSerializer#toValue(java.lang.Object)
 	 */
 	@Override
-	public JsonElement serialize(final StravaSubscriptionObjectType skillLevel, final Type type, final JsonSerializationContext context) {
-		return context.serialize(skillLevel.getValue());
+	protected Integer toValue(final StravaSubscriptionObjectType objectType) {
+		return objectType.getValue();
 	}
 
 }
@@ -1,43 +1,27 @@
 package javastrava.json.impl.gson.serializer;
 
-import java.lang.reflect.Type;
-
 import javastrava.api.v3.model.reference.StravaWorkoutType;
-import javastrava.config.Messages;
-
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonDeserializer;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonParseException;
-import com.google.gson.JsonSerializationContext;
-import com.google.gson.JsonSerializer;
 
 /**
  * @author Dan Shannon
  *
  */
-public class WorkoutTypeSerializer implements JsonSerializer<StravaWorkoutType>, JsonDeserializer<StravaWorkoutType> {
+public class WorkoutTypeSerializer extends IntegerValueSerializer<StravaWorkoutType> {
 
 	/**
-	 * @see com.google.gson.JsonDeserializer#deserialize(com.google.gson.JsonElement, java.lang.reflect.Type,
-	 *      com.google.gson.JsonDeserializationContext)
+	 * @see javastrava.json.impl.gson.serializer.IntegerValueSerializer#fromValue(java.lang.Integer)
 	 */
 	@Override
-	public StravaWorkoutType deserialize(final JsonElement json, final Type type, final JsonDeserializationContext context) throws JsonParseException {
-		try {
-			return StravaWorkoutType.create(Integer.valueOf(json.getAsInt()));
-		} catch (NumberFormatException e) {
-			throw new JsonParseException(String.format(Messages.string("JsonUtilImpl.couldNotDeserialiseInteger"), json.getAsString()), e); //$NON-NLS-1$
-		}
+	protected StravaWorkoutType fromValue(final Integer value) {
+		return StravaWorkoutType.create(value);
 	}
 
 	/**
-	 * @see com.google.gson.JsonSerializer#serialize(java.lang.Object, java.lang.reflect.Type,
-	 *      com.google.gson.JsonSerializationContext)
+	 * @see javastrava.json.impl.gson.serializer.IntegerValueSerializer#toValue(java.lang.Object)
 	 */
 	@Override
-	public JsonElement serialize(final StravaWorkoutType workoutType, final Type type, final JsonSerializationContext context) {
-		return context.serialize(workoutType.getValue());
+	protected Integer toValue(final StravaWorkoutType workoutType) {
+		return workoutType.getValue();
 	}
 
 }
@@ -1,35 +1,29 @@
 package javastrava.json.impl.gson.serializer;
 
-import java.lang.reflect.Type;
 import java.time.ZonedDateTime;
 
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonDeserializer;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonParseException;
-import com.google.gson.JsonPrimitive;
-import com.google.gson.JsonSerializationContext;
-import com.google.gson.JsonSerializer;
+import javastrava.util.StravaDateUtils;
 
 /**
  * @author Dan Shannon
  *
  */
-public class ZonedDateTimeSerializer implements JsonSerializer<ZonedDateTime>, JsonDeserializer<ZonedDateTime> {
+public class ZonedDateTimeSerializer extends StringValueSerializer<ZonedDateTime> {
+
 	/**
-	 * @see com.google.gson.JsonSerializer#serialize(java.lang.Object, java.lang.reflect.Type, com.google.gson.JsonSerializationContext)
+	 * @see javastrava.json.impl.gson.serializer.StringValueSerializer#fromValue(java.lang.String)
 	 */
 	@Override
-	public JsonElement serialize(final ZonedDateTime src, final Type srcType, final JsonSerializationContext context) {
-		return new JsonPrimitive(src.toString());
+	protected ZonedDateTime fromValue(final String value) {
+		return StravaDateUtils.parseZonedDateTime(value);
 	}
 
 	/**
-	 * @see com.google.gson.JsonDeserializer#deserialize(com.google.gson.JsonElement, java.lang.reflect.Type, com.google.gson.JsonDeserializationContext)
+	 * @see javastrava.json.impl.gson.serializer.StringValueSerializer#toValue(java.lang.Object)
 	 */
 	@Override
-	public ZonedDateTime deserialize(final JsonElement json, final Type type, final JsonDeserializationContext context) throws JsonParseException {
-		return ZonedDateTime.parse(json.getAsString());
+	protected String toValue(final ZonedDateTime src) {
+		return src.toString();
 	}
 
 }
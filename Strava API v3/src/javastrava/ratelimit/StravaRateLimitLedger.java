@@ -0,0 +1,172 @@
+package javastrava.ratelimit;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javastrava.config.StravaConfig;
+
+/**
+ * <p>
+ * Thread-safe record of rate limit usage, one ledger per Strava application (identified by its client id)
+ * </p>
+ *
+ * <p>
+ * Each ledger holds an immutable {@link StravaRateLimitUsage} which is replaced atomically as responses arrive, so headroom can be queried at any
+ * time without locking and without re-parsing response headers.
+ * </p>
+ *
+ * @author Dan Shannon
+ *
+ */
+public class StravaRateLimitLedger {
+	/**
+	 * Key used for requests made with tokens which are not associated with a known application client id
+	 */
+	public static final Integer DEFAULT_APPLICATION = Integer.valueOf(0);
+
+	/**
+	 * All the ledgers, by application client id
+	 */
+	private static final ConcurrentHashMap<Integer, StravaRateLimitLedger> LEDGERS = new ConcurrentHashMap<Integer, StravaRateLimitLedger>();
+
+	/**
+	 * The ledger that most recently recorded a response
+	 */
+	private static final AtomicReference<StravaRateLimitLedger> LATEST = new AtomicReference<StravaRateLimitLedger>(forApplication(DEFAULT_APPLICATION));
+
+	/**
+	 * @param clientId
+	 *            The application's client id, or <code>null</code> if not known
+	 * @return The ledger for the application
+	 */
+	public static StravaRateLimitLedger forApplication(final Integer clientId) {
+		final Integer key = (clientId == null ? DEFAULT_APPLICATION : clientId);
+		final StravaRateLimitLedger ledger = LEDGERS.get(key);
+		if (ledger != null) {
+			return ledger;
+		}
+		return LEDGERS.computeIfAbsent(key, id -> new StravaRateLimitLedger(id));
+	}
+
+	/**
+	 * @return The ledger which most recently recorded usage from a response
+	 */
+	public static StravaRateLimitLedger latest() {
+		return LATEST.get();
+	}
+
+	/**
+	 * Application client id
+	 */
+	private final Integer clientId;
+
+	/**
+	 * Current usage
+	 */
+	private final AtomicReference<StravaRateLimitUsage> usage;
+
+	/**
+	 * @param clientId
+	 *            Application client id
+	 */
+	private StravaRateLimitLedger(final Integer clientId) {
+		this.clientId = clientId;
+		this.usage = new AtomicReference<StravaRateLimitUsage>(new StravaRateLimitUsage(0, StravaConfig.RATE_LIMIT, 0, StravaConfig.RATE_LIMIT_DAILY, 0L,
+				0L));
+	}
+
+	/**
+	 * @return the application client id
+	 */
+	public Integer getClientId() {
+		return this.clientId;
+	}
+
+	/**
+	 * @return The current usage
+	 */
+	public StravaRateLimitUsage getUsage() {
+		return this.usage.get();
+	}
+
+	/**
+	 * @return Requests remaining in the current 15 minute window
+	 */
+	public int getRemaining() {
+		return this.usage.get().getRemaining(System.currentTimeMillis());
+	}
+
+	/**
+	 * @return Requests remaining today
+	 */
+	public int getRemainingDaily() {
+		return this.usage.get().getRemainingDaily(System.currentTimeMillis());
+	}
+
+	/**
+	 * @return Milliseconds until the current 15 minute window resets
+	 */
+	public long getMillisUntilReset() {
+		return this.usage.get().getMillisUntilReset(System.currentTimeMillis());
+	}
+
+	/**
+	 * @return Milliseconds until the daily window resets
+	 */
+	public long getMillisUntilDailyReset() {
+		return this.usage.get().getMillisUntilDailyReset(System.currentTimeMillis());
+	}
+
+	/**
+	 * <p>
+	 * Records usage as reported in the headers of a response. Any of the values may be <code>null</code> if the corresponding header was missing,
+	 * in which case the previously recorded value is retained.
+	 * </p>
+	 *
+	 * @param requests
+	 *            Requests used in the 15 minute window
+	 * @param requestsDaily
+	 *            Requests used today
+	 * @param limit
+	 *            15 minute request limit
+	 * @param limitDaily
+	 *            Daily request limit
+	 * @param serverTime
+	 *            Server time at which the response was generated (milliseconds since the epoch)
+	 * @return The usage after recording
+	 */
+	public StravaRateLimitUsage record(final Integer requests, final Integer requestsDaily, final Integer limit, final Integer limitDaily,
+			final long serverTime) {
+		final long now = System.currentTimeMillis();
+		StravaRateLimitUsage current;
+		StravaRateLimitUsage merged;
+		do {
+			current = this.usage.get();
+			final StravaRateLimitUsage observed = new StravaRateLimitUsage(valueOr(requests, current.getRequests()), valueOr(limit, current.getLimit()),
+					valueOr(requestsDaily, current.getRequestsDaily()), valueOr(limitDaily, current.getLimitDaily()), serverTime, now);
+			merged = current.merge(observed);
+		} while (!this.usage.compareAndSet(current, merged));
+		LATEST.set(this);
+		return merged;
+	}
+
+	/**
+	 * @param value
+	 *            Value which may be <code>null</code>
+	 * @param defaultValue
+	 *            Value to use if it is
+	 * @return The value
+	 */
+	private static int valueOr(final Integer value, final int defaultValue) {
+		return (value == null ? defaultValue : value.intValue());
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "StravaRateLimitLedger [clientId=" + this.clientId + ", usage=" + this.usage.get() + "]"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
+}
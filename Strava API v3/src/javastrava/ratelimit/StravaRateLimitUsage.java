@@ -0,0 +1,250 @@
+package javastrava.ratelimit;
+
+/**
+ * <p>
+ * Immutable snapshot of an application's usage of the Strava API rate limits, as last reported by Strava in the <code>X-RateLimit-Usage</code> and
+ * <code>X-RateLimit-Limit</code> response headers
+ * </p>
+ *
+ * <p>
+ * Strava enforces two windows: a 15 minute window which resets at 0, 15, 30 and 45 minutes past the hour, and a daily window which resets at
+ * midnight UTC. Usage is only meaningful within the window it was reported in, so {@link #getRemaining(long)} and {@link #getRemainingDaily(long)}
+ * return the full limit once the reported window has passed.
+ * </p>
+ *
+ * @author Dan Shannon
+ *
+ */
+public final class StravaRateLimitUsage {
+	/**
+	 * Length of the short rate limit window in milliseconds
+	 */
+	public static final long WINDOW_MILLIS = 15 * 60 * 1000L;
+
+	/**
+	 * Length of the daily rate limit window in milliseconds
+	 */
+	public static final long DAILY_WINDOW_MILLIS = 24 * 60 * 60 * 1000L;
+
+	/**
+	 * Requests used in the current 15 minute window
+	 */
+	private final int requests;
+
+	/**
+	 * Request limit for each 15 minute window
+	 */
+	private final int limit;
+
+	/**
+	 * Requests used in the current day
+	 */
+	private final int requestsDaily;
+
+	/**
+	 * Daily request limit
+	 */
+	private final int limitDaily;
+
+	/**
+	 * Server time (milliseconds since the epoch) at which the usage was reported
+	 */
+	private final long serverTime;
+
+	/**
+	 * Local time (milliseconds since the epoch) at which the usage was received
+	 */
+	private final long receivedTime;
+
+	/**
+	 * @param requests
+	 *            Requests used in the current 15 minute window
+	 * @param limit
+	 *            Request limit for each 15 minute window
+	 * @param requestsDaily
+	 *            Requests used in the current day
+	 * @param limitDaily
+	 *            Daily request limit
+	 * @param serverTime
+	 *            Server time (milliseconds since the epoch) at which the usage was reported
+	 * @param receivedTime
+	 *            Local time (milliseconds since the epoch) at which the usage was received
+	 */
+	public StravaRateLimitUsage(final int requests, final int limit, final int requestsDaily, final int limitDaily, final long serverTime,
+			final long receivedTime) {
+		this.requests = requests;
+		this.limit = limit;
+		this.requestsDaily = requestsDaily;
+		this.limitDaily = limitDaily;
+		this.serverTime = serverTime;
+		this.receivedTime = receivedTime;
+	}
+
+	/**
+	 * @return Start (server time) of the 15 minute window this usage was reported in
+	 */
+	public long getWindowStart() {
+		return this.serverTime - (this.serverTime % WINDOW_MILLIS);
+	}
+
+	/**
+	 * @return Start (server time) of the day this usage was reported in
+	 */
+	public long getDailyWindowStart() {
+		return this.serverTime - (this.serverTime % DAILY_WINDOW_MILLIS);
+	}
+
+	/**
+	 * @return the requests used in the 15 minute window
+	 */
+	public int getRequests() {
+		return this.requests;
+	}
+
+	/**
+	 * @return the 15 minute request limit
+	 */
+	public int getLimit() {
+		return this.limit;
+	}
+
+	/**
+	 * @return the requests used in the day
+	 */
+	public int getRequestsDaily() {
+		return this.requestsDaily;
+	}
+
+	/**
+	 * @return the daily request limit
+	 */
+	public int getLimitDaily() {
+		return this.limitDaily;
+	}
+
+	/**
+	 * @return the server time at which the usage was reported
+	 */
+	public long getServerTime() {
+		return this.serverTime;
+	}
+
+	/**
+	 * @return the local time at which the usage was received
+	 */
+	public long getReceivedTime() {
+		return this.receivedTime;
+	}
+
+	/**
+	 * @param now
+	 *            Local time (milliseconds since the epoch)
+	 * @return Best estimate of the server's clock at the given local time
+	 */
+	public long estimateServerTime(final long now) {
+		return this.serverTime + (now - this.receivedTime);
+	}
+
+	/**
+	 * @param now
+	 *            Local time (milliseconds since the epoch)
+	 * @return Requests remaining in the 15 minute window at the given time
+	 */
+	public int getRemaining(final long now) {
+		if (estimateServerTime(now) >= (getWindowStart() + WINDOW_MILLIS)) {
+			return this.limit;
+		}
+		return Math.max(0, this.limit - this.requests);
+	}
+
+	/**
+	 * @param now
+	 *            Local time (milliseconds since the epoch)
+	 * @return Requests remaining in the day at the given time
+	 */
+	public int getRemainingDaily(final long now) {
+		if (estimateServerTime(now) >= (getDailyWindowStart() + DAILY_WINDOW_MILLIS)) {
+			return this.limitDaily;
+		}
+		return Math.max(0, this.limitDaily - this.requestsDaily);
+	}
+
+	/**
+	 * @param now
+	 *            Local time (milliseconds since the epoch)
+	 * @return Milliseconds until the 15 minute window resets
+	 */
+	public long getMillisUntilReset(final long now) {
+		final long server = estimateServerTime(now);
+		return WINDOW_MILLIS - (server % WINDOW_MILLIS);
+	}
+
+	/**
+	 * @param now
+	 *            Local time (milliseconds since the epoch)
+	 * @return Milliseconds until the daily window resets
+	 */
+	public long getMillisUntilDailyReset(final long now) {
+		final long server = estimateServerTime(now);
+		return DAILY_WINDOW_MILLIS - (server % DAILY_WINDOW_MILLIS);
+	}
+
+	/**
+	 * @param now
+	 *            Local time (milliseconds since the epoch)
+	 * @return Percentage of the 15 minute limit used at the given time
+	 */
+	public float getPercentUsed(final long now) {
+		return (this.limit == 0 ? 0 : (100f * (this.limit - getRemaining(now))) / this.limit);
+	}
+
+	/**
+	 * @param now
+	 *            Local time (milliseconds since the epoch)
+	 * @return Percentage of the daily limit used at the given time
+	 */
+	public float getPercentUsedDaily(final long now) {
+		return (this.limitDaily == 0 ? 0 : (100f * (this.limitDaily - getRemainingDaily(now))) / this.limitDaily);
+	}
+
+	/**
+	 * <p>
+	 * Merges a newly observed usage into this one. Responses can arrive out of order when requests run concurrently, so usage within the same window
+	 * only ever goes up, and a usage reported for an earlier window is ignored.
+	 * </p>
+	 *
+	 * @param observed
+	 *            The newly observed usage
+	 * @return The merged usage
+	 */
+	public StravaRateLimitUsage merge(final StravaRateLimitUsage observed) {
+		final boolean newer = observed.serverTime >= this.serverTime;
+
+		int mergedRequests = this.requests;
+		if (observed.getWindowStart() > getWindowStart()) {
+			mergedRequests = observed.requests;
+		} else if (observed.getWindowStart() == getWindowStart()) {
+			mergedRequests = Math.max(this.requests, observed.requests);
+		}
+
+		int mergedRequestsDaily = this.requestsDaily;
+		if (observed.getDailyWindowStart() > getDailyWindowStart()) {
+			mergedRequestsDaily = observed.requestsDaily;
+		} else if (observed.getDailyWindowStart() == getDailyWindowStart()) {
+			mergedRequestsDaily = Math.max(this.requestsDaily, observed.requestsDaily);
+		}
+
+		return new StravaRateLimitUsage(mergedRequests, newer ? observed.limit : this.limit, mergedRequestsDaily, newer ? observed.limitDaily
+				: this.limitDaily, newer ? observed.serverTime : this.serverTime, newer ? observed.receivedTime : this.receivedTime);
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "StravaRateLimitUsage [requests=" + this.requests + ", limit=" + this.limit + ", requestsDaily=" + this.requestsDaily + ", limitDaily=" //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+				+ this.limitDaily + ", serverTime=" + this.serverTime + ", receivedTime=" + this.receivedTime + "]"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
+}
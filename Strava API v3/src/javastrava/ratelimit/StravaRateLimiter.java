@@ -0,0 +1,578 @@
+package javastrava.ratelimit;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javastrava.config.StravaConfig;
+
+/**
+ * <p>
+ * Client-side admission control for requests to the Strava API, one limiter per application
+ * </p>
+ *
+ * <p>
+ * Requests are admitted from a token bucket which allows bursts of up to {@link StravaConfig#THROTTLE_BURST} requests and is refilled at the steady
+ * rate the 15 minute limit allows. Independently of the bucket, a request is only admitted while the application's {@link StravaRateLimitLedger}
+ * (corrected with every response from Strava) shows headroom in both the 15 minute and daily windows, after allowing for requests which are still
+ * in flight. When there is no headroom, requests queue until the window resets.
+ * </p>
+ *
+ * <p>
+ * {@link StravaRequestPriority#INTERACTIVE Interactive} requests always overtake queued {@link StravaRequestPriority#BULK bulk} requests, and bulk
+ * requests may not use the last {@link StravaConfig#THROTTLE_INTERACTIVE_RESERVE_PERCENT} percent of either window, so a long crawl can't starve
+ * interactive use. The priority of requests is set per thread with {@link #withPriority(StravaRequestPriority, Supplier)}.
+ * </p>
+ *
+ * <p>
+ * Requests may wait to be admitted either on their own thread ({@link #acquire(StravaRequestPriority)}) or without holding a thread at all
+ * ({@link #acquireAsync(StravaRequestPriority)}); both kinds of waiter are admitted in the same priority order.
+ * </p>
+ *
+ * @author Dan Shannon
+ *
+ */
+public class StravaRateLimiter {
+	/**
+	 * Logger
+	 */
+	private static Logger log = LogManager.getLogger();
+
+	/**
+	 * Longest time a queued request will sleep before re-checking whether it can go
+	 */
+	private static final long MAX_WAIT_MILLIS = 1000L;
+
+	/**
+	 * Re-checks limiters which have asynchronous waiters once the wait they were given has passed; admitting a waiter is quick, so one thread will do
+	 */
+	private static final ScheduledExecutorService TIMER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		final Thread thread = new Thread(runnable, "javastrava-rate-limiter"); //$NON-NLS-1$
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	/**
+	 * All the limiters, by application client id
+	 */
+	private static final ConcurrentHashMap<Integer, StravaRateLimiter> LIMITERS = new ConcurrentHashMap<Integer, StravaRateLimiter>();
+
+	/**
+	 * Priority of requests issued by the current thread
+	 */
+	private static final ThreadLocal<StravaRequestPriority> PRIORITY = new ThreadLocal<StravaRequestPriority>();
+
+	/**
+	 * Observer of requests issued by the current thread
+	 */
+	private static final ThreadLocal<StravaRequestObserver> OBSERVER = new ThreadLocal<StravaRequestObserver>();
+
+	/**
+	 * @param clientId
+	 *            The application's client id, or <code>null</code> if not known
+	 * @return The limiter for the application
+	 */
+	public static StravaRateLimiter forApplication(final Integer clientId) {
+		final Integer key = (clientId == null ? StravaRateLimitLedger.DEFAULT_APPLICATION : clientId);
+		final StravaRateLimiter limiter = LIMITERS.get(key);
+		if (limiter != null) {
+			return limiter;
+		}
+		return LIMITERS.computeIfAbsent(key, id -> new StravaRateLimiter(StravaRateLimitLedger.forApplication(id)));
+	}
+
+	/**
+	 * @return Priority of requests issued by the current thread
+	 */
+	public static StravaRequestPriority priority() {
+		final StravaRequestPriority priority = PRIORITY.get();
+		return (priority == null ? StravaRequestPriority.INTERACTIVE : priority);
+	}
+
+	/**
+	 * <p>
+	 * Runs the work on the current thread, issuing any requests it makes with the given priority
+	 * </p>
+	 *
+	 * @param priority
+	 *            Priority of requests
+	 * @param work
+	 *            The work to do
+	 * @param <T>
+	 *            Class of the result of the work
+	 * @return The result of the work
+	 */
+	public static <T> T withPriority(final StravaRequestPriority priority, final Supplier<T> work) {
+		final StravaRequestPriority previous = PRIORITY.get();
+		PRIORITY.set(priority);
+		try {
+			return work.get();
+		} finally {
+			if (previous == null) {
+				PRIORITY.remove();
+			} else {
+				PRIORITY.set(previous);
+			}
+		}
+	}
+
+	/**
+	 * @return Observer of requests issued by the current thread, or <code>null</code> if there isn't one
+	 */
+	public static StravaRequestObserver observer() {
+		return OBSERVER.get();
+	}
+
+	/**
+	 * <p>
+	 * Runs the work on the current thread, telling the observer about any requests it makes
+	 * </p>
+	 *
+	 * @param observer
+	 *            Observer of the requests
+	 * @param work
+	 *            The work to do
+	 * @param <T>
+	 *            Class of the result of the work
+	 * @return The result of the work
+	 */
+	public static <T> T withObserver(final StravaRequestObserver observer, final Supplier<T> work) {
+		final StravaRequestObserver previous = OBSERVER.get();
+		OBSERVER.set(observer);
+		try {
+			return work.get();
+		} finally {
+			if (previous == null) {
+				OBSERVER.remove();
+			} else {
+				OBSERVER.set(previous);
+			}
+		}
+	}
+
+	/**
+	 * Ledger of the application's rate limit usage
+	 */
+	private final StravaRateLimitLedger ledger;
+
+	/**
+	 * Lock guarding the bucket and queues
+	 */
+	private final ReentrantLock lock = new ReentrantLock();
+
+	/**
+	 * Queue of interactive requests waiting to be admitted
+	 */
+	private final Condition interactiveQueue = this.lock.newCondition();
+
+	/**
+	 * Queue of bulk requests waiting to be admitted
+	 */
+	private final Condition bulkQueue = this.lock.newCondition();
+
+	/**
+	 * A request waiting to be admitted without holding a thread
+	 */
+	private static final class AsyncWaiter {
+		/**
+		 * Completed once the request is admitted
+		 */
+		final CompletableFuture<Void> admitted = new CompletableFuture<Void>();
+		/**
+		 * Time at which the request started waiting
+		 */
+		final long start = System.currentTimeMillis();
+	}
+
+	/**
+	 * Interactive requests waiting to be admitted without holding a thread, in arrival order
+	 */
+	private final ArrayDeque<AsyncWaiter> interactiveAsync = new ArrayDeque<AsyncWaiter>();
+
+	/**
+	 * Bulk requests waiting to be admitted without holding a thread, in arrival order
+	 */
+	private final ArrayDeque<AsyncWaiter> bulkAsync = new ArrayDeque<AsyncWaiter>();
+
+	/**
+	 * Whether a re-check of the asynchronous waiters has been scheduled
+	 */
+	private boolean recheckScheduled = false;
+
+	/**
+	 * Number of interactive requests waiting to be admitted (on their own thread or asynchronously)
+	 */
+	private int interactiveWaiting = 0;
+
+	/**
+	 * Number of bulk requests waiting to be admitted (on their own thread or asynchronously)
+	 */
+	private int bulkWaiting = 0;
+
+	/**
+	 * Number of requests admitted for which no response has yet been received
+	 */
+	private int inFlight = 0;
+
+	/**
+	 * Tokens currently in the bucket
+	 */
+	private double tokens = StravaConfig.THROTTLE_BURST;
+
+	/**
+	 * Time (from {@link System#nanoTime()}) at which the bucket was last refilled
+	 */
+	private long lastRefill = System.nanoTime();
+
+	/**
+	 * Number of requests which had to wait to be admitted
+	 */
+	private final AtomicLong delayedRequests = new AtomicLong();
+
+	/**
+	 * Total time requests have spent waiting to be admitted
+	 */
+	private final AtomicLong delayMillis = new AtomicLong();
+
+	/**
+	 * @param ledger
+	 *            Ledger of the application's rate limit usage
+	 */
+	private StravaRateLimiter(final StravaRateLimitLedger ledger) {
+		this.ledger = ledger;
+	}
+
+	/**
+	 * <p>
+	 * Waits until a request of the given priority may be issued. Every successful call must be matched by a call to {@link #release()} once the
+	 * response has been received (and recorded in the ledger).
+	 * </p>
+	 *
+	 * @param priority
+	 *            Priority of the request
+	 * @throws InterruptedException
+	 *             If the thread is interrupted while waiting
+	 */
+	public void acquire(final StravaRequestPriority priority) throws InterruptedException {
+		final boolean interactive = (priority != StravaRequestPriority.BULK);
+		final long start = System.currentTimeMillis();
+		boolean waited = false;
+		List<AsyncWaiter> admitted = null;
+		this.lock.lock();
+		try {
+			if (interactive) {
+				this.interactiveWaiting++;
+			} else {
+				this.bulkWaiting++;
+			}
+			try {
+				while (true) {
+					long wait;
+					if (!interactive && (this.interactiveWaiting > 0)) {
+						wait = MAX_WAIT_MILLIS;
+					} else {
+						wait = tryAcquire(interactive);
+						if (wait == 0) {
+							break;
+						}
+					}
+					if (!waited) {
+						waited = true;
+						log.debug(String.format("Request queued by rate limiter for application %s, priority %s, for up to %dms", this.ledger.getClientId(), //$NON-NLS-1$
+								priority, Long.valueOf(wait)));
+					}
+					(interactive ? this.interactiveQueue : this.bulkQueue).await(Math.min(wait, MAX_WAIT_MILLIS), TimeUnit.MILLISECONDS);
+				}
+			} finally {
+				if (interactive) {
+					this.interactiveWaiting--;
+				} else {
+					this.bulkWaiting--;
+				}
+				signal();
+				admitted = drain();
+			}
+		} finally {
+			this.lock.unlock();
+		}
+		complete(admitted, null);
+		if (waited) {
+			this.delayedRequests.incrementAndGet();
+			this.delayMillis.addAndGet(System.currentTimeMillis() - start);
+		}
+	}
+
+	/**
+	 * <p>
+	 * Asks for a request of the given priority to be admitted, without holding a thread while it waits. Once the returned future completes the
+	 * request may be issued, and (as with {@link #acquire(StravaRequestPriority)}) must be followed by a call to {@link #release()} once the response
+	 * has been received, or to {@link #abandon()} if it is not issued after all.
+	 * </p>
+	 *
+	 * <p>
+	 * The future is completed on whichever thread admits the request: the calling thread if it can go straight away, otherwise the thread which
+	 * released the capacity it needed, or the limiter's timer thread.
+	 * </p>
+	 *
+	 * @param priority
+	 *            Priority of the request
+	 * @return Future which completes once the request is admitted
+	 */
+	public CompletableFuture<Void> acquireAsync(final StravaRequestPriority priority) {
+		final AsyncWaiter waiter = new AsyncWaiter();
+		List<AsyncWaiter> admitted;
+		this.lock.lock();
+		try {
+			if (priority == StravaRequestPriority.BULK) {
+				this.bulkAsync.add(waiter);
+				this.bulkWaiting++;
+			} else {
+				this.interactiveAsync.add(waiter);
+				this.interactiveWaiting++;
+			}
+			admitted = drain();
+		} finally {
+			this.lock.unlock();
+		}
+		complete(admitted, waiter);
+		return waiter.admitted;
+	}
+
+	/**
+	 * <p>
+	 * Indicates that an admitted request will not be issued after all, returning the capacity it was given
+	 * </p>
+	 */
+	public void abandon() {
+		List<AsyncWaiter> admitted;
+		this.lock.lock();
+		try {
+			if (this.inFlight > 0) {
+				this.inFlight--;
+			}
+			this.tokens = Math.min(StravaConfig.THROTTLE_BURST, this.tokens + 1);
+			signal();
+			admitted = drain();
+		} finally {
+			this.lock.unlock();
+		}
+		complete(admitted, null);
+	}
+
+	/**
+	 * <p>
+	 * Indicates that the response to an admitted request has been received
+	 * </p>
+	 */
+	public void release() {
+		List<AsyncWaiter> admitted;
+		this.lock.lock();
+		try {
+			if (this.inFlight > 0) {
+				this.inFlight--;
+			}
+			signal();
+			admitted = drain();
+		} finally {
+			this.lock.unlock();
+		}
+		complete(admitted, null);
+	}
+
+	/**
+	 * @return Number of requests which have had to wait to be admitted
+	 */
+	public long getDelayedRequests() {
+		return this.delayedRequests.get();
+	}
+
+	/**
+	 * @return Total time, in milliseconds, that requests have spent waiting to be admitted
+	 */
+	public long getDelayMillis() {
+		return this.delayMillis.get();
+	}
+
+	/**
+	 * @return Number of requests currently waiting to be admitted
+	 */
+	public int getQueueLength() {
+		this.lock.lock();
+		try {
+			return this.interactiveWaiting + this.bulkWaiting;
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * @return the ledger
+	 */
+	public StravaRateLimitLedger getLedger() {
+		return this.ledger;
+	}
+
+	/**
+	 * Wakes the next waiting request, interactive first. Must be called with the lock held.
+	 */
+	private void signal() {
+		if (this.interactiveWaiting > 0) {
+			this.interactiveQueue.signal();
+		} else if (this.bulkWaiting > 0) {
+			this.bulkQueue.signal();
+		}
+	}
+
+	/**
+	 * Admits as many asynchronous waiters as possible, interactive first, and schedules a re-check if any are left waiting. Must be called with the lock
+	 * held.
+	 *
+	 * @return The waiters admitted, to be completed once the lock has been released (or <code>null</code> if there are none)
+	 */
+	private List<AsyncWaiter> drain() {
+		List<AsyncWaiter> admitted = null;
+		while (true) {
+			final boolean interactive;
+			if (!this.interactiveAsync.isEmpty()) {
+				interactive = true;
+			} else if (!this.bulkAsync.isEmpty() && (this.interactiveWaiting == 0)) {
+				interactive = false;
+			} else {
+				// Any bulk waiters left will be re-checked when the interactive requests ahead of them are admitted
+				return admitted;
+			}
+			final ArrayDeque<AsyncWaiter> queue = (interactive ? this.interactiveAsync : this.bulkAsync);
+			if (!queue.peek().admitted.isDone()) {
+				final long wait = tryAcquire(interactive);
+				if (wait > 0) {
+					scheduleRecheck(wait);
+					return admitted;
+				}
+				if (admitted == null) {
+					admitted = new ArrayList<AsyncWaiter>();
+				}
+				admitted.add(queue.peek());
+			}
+			// Admitted, or given up on by whoever was waiting
+			queue.poll();
+			if (interactive) {
+				this.interactiveWaiting--;
+			} else {
+				this.bulkWaiting--;
+			}
+		}
+	}
+
+	/**
+	 * Schedules a re-check of the asynchronous waiters, unless one is already scheduled. Must be called with the lock held.
+	 *
+	 * @param wait
+	 *            How long to wait before re-checking, in milliseconds
+	 */
+	private void scheduleRecheck(final long wait) {
+		if (this.recheckScheduled) {
+			return;
+		}
+		this.recheckScheduled = true;
+		TIMER.schedule(() -> {
+			List<AsyncWaiter> admitted;
+			this.lock.lock();
+			try {
+				this.recheckScheduled = false;
+				admitted = drain();
+			} finally {
+				this.lock.unlock();
+			}
+			complete(admitted, null);
+		}, Math.min(wait, MAX_WAIT_MILLIS), TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Tells asynchronous waiters that they have been admitted. Must be called without the lock held, as whatever they do next runs on this thread.
+	 *
+	 * @param admitted
+	 *            The waiters admitted, or <code>null</code>
+	 * @param caller
+	 *            Waiter which has just asked to be admitted, and so hasn't had to wait if it is among them; or <code>null</code>
+	 */
+	private void complete(final List<AsyncWaiter> admitted, final AsyncWaiter caller) {
+		if (admitted == null) {
+			return;
+		}
+		final long now = System.currentTimeMillis();
+		for (final AsyncWaiter waiter : admitted) {
+			if (waiter != caller) {
+				this.delayedRequests.incrementAndGet();
+				this.delayMillis.addAndGet(now - waiter.start);
+			}
+			if (!waiter.admitted.complete(null)) {
+				// Given up on while it was being admitted
+				abandon();
+			}
+		}
+	}
+
+	/**
+	 * Attempts to admit a request. Must be called with the lock held.
+	 *
+	 * @param interactive
+	 *            <code>true</code> if the request is interactive
+	 * @return 0 if the request was admitted, otherwise how many milliseconds to wait before trying again
+	 */
+	private long tryAcquire(final boolean interactive) {
+		final long now = System.currentTimeMillis();
+		final StravaRateLimitUsage usage = this.ledger.getUsage();
+		final double ratePerMilli = (double) usage.getLimit() / StravaRateLimitUsage.WINDOW_MILLIS;
+
+		// Refill the bucket, carrying over the part of a millisecond not yet converted into tokens so frequent calls don't slow the refill
+		final long nanoTime = System.nanoTime();
+		final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(nanoTime - this.lastRefill);
+		final double refilled = this.tokens + (elapsedMillis * ratePerMilli);
+		if (refilled >= StravaConfig.THROTTLE_BURST) {
+			this.tokens = StravaConfig.THROTTLE_BURST;
+			this.lastRefill = nanoTime;
+		} else {
+			this.tokens = refilled;
+			this.lastRefill += TimeUnit.MILLISECONDS.toNanos(elapsedMillis);
+		}
+
+		// Check the windows
+		final int reserve = (interactive ? 0 : (usage.getLimit() * StravaConfig.THROTTLE_INTERACTIVE_RESERVE_PERCENT) / 100);
+		if ((usage.getRemaining(now) - this.inFlight - reserve) <= 0) {
+			return Math.max(1, usage.getMillisUntilReset(now));
+		}
+		final int reserveDaily = (interactive ? 0 : (usage.getLimitDaily() * StravaConfig.THROTTLE_INTERACTIVE_RESERVE_PERCENT) / 100);
+		if ((usage.getRemainingDaily(now) - this.inFlight - reserveDaily) <= 0) {
+			return Math.max(1, usage.getMillisUntilDailyReset(now));
+		}
+
+		// Check the bucket
+		if (this.tokens < 1) {
+			return (ratePerMilli <= 0 ? MAX_WAIT_MILLIS : Math.max(1, (long) Math.ceil((1 - this.tokens) / ratePerMilli)));
+		}
+		this.tokens -= 1;
+		this.inFlight++;
+		return 0;
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "StravaRateLimiter [ledger=" + this.ledger + ", delayedRequests=" + this.delayedRequests + ", delayMillis=" + this.delayMillis + "]"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+	}
+
+}
@@ -0,0 +1,61 @@
+package javastrava.ratelimit;
+
+/**
+ * <p>
+ * Told when a request has been admitted by the {@link StravaRateLimiter} and is about to be sent, and when its outcome arrives, so that the time the
+ * request spent on the network can be told apart from the time it spent waiting to be admitted
+ * </p>
+ *
+ * <p>
+ * Once admitted, and before it is sent, the observer is also asked whether the request is still wanted; if it isn't (and no identical request has
+ * been coalesced into it) it is not sent, but fails with a {@link java.util.concurrent.CancellationException}.
+ * </p>
+ *
+ * <p>
+ * An observer is set per thread with {@link StravaRateLimiter#withObserver(StravaRequestObserver, java.util.function.Supplier)}, and applies to
+ * the requests issued by that thread (wherever they are then executed). Requests coalesced into an identical one already in flight are not sent,
+ * so are not observed.
+ * </p>
+ *
+ * @author Dan Shannon
+ *
+ */
+public interface StravaRequestObserver {
+	/**
+	 * <p>
+	 * Asked once the request has been admitted, immediately before it is sent
+	 * </p>
+	 *
+	 * @return <code>true</code> if the request should still be sent
+	 */
+	public boolean wanted();
+
+	/**
+	 * <p>
+	 * Called instead of {@link #admitted(StravaRateLimitLedger)} when the request is no longer wanted, and so won't be sent
+	 * </p>
+	 */
+	public void abandoned();
+
+	/**
+	 * <p>
+	 * Called once the request has been admitted, immediately before it is sent
+	 * </p>
+	 *
+	 * @param ledger
+	 *            Rate limit ledger of the application issuing the request
+	 */
+	public void admitted(final StravaRateLimitLedger ledger);
+
+	/**
+	 * <p>
+	 * Called once the outcome of the request is known
+	 * </p>
+	 *
+	 * @param latencyNanos
+	 *            Time from the request being admitted until its outcome arrived, in nanoseconds
+	 * @param failure
+	 *            Why the request failed, or <code>null</code> if it succeeded
+	 */
+	public void completed(final long latencyNanos, final Throwable failure);
+}
@@ -0,0 +1,22 @@
+package javastrava.ratelimit;
+
+/**
+ * <p>
+ * Priority with which a request is admitted by the {@link StravaRateLimiter}
+ * </p>
+ *
+ * @author Dan Shannon
+ *
+ */
+public enum StravaRequestPriority {
+	/**
+	 * Requests made on behalf of a user who is waiting for the answer, such as getting a single activity; these overtake bulk requests when the rate
+	 * limit is under pressure
+	 */
+	INTERACTIVE,
+	/**
+	 * Requests made as part of a bulk crawl, such as the list all methods; these may not use the share of each window reserved for interactive
+	 * requests
+	 */
+	BULK;
+}
@@ -0,0 +1,275 @@
+package javastrava.sync;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.google.gson.Gson;
+
+import javastrava.api.v3.auth.model.Token;
+import javastrava.api.v3.model.StravaActivity;
+import javastrava.api.v3.service.ActivityService;
+import javastrava.api.v3.service.impl.ActivityServiceImpl;
+import javastrava.config.Messages;
+import javastrava.config.StravaConfig;
+import javastrava.json.impl.gson.JsonUtilImpl;
+import javastrava.ratelimit.StravaRateLimiter;
+import javastrava.ratelimit.StravaRequestPriority;
+import javastrava.sync.StravaActivitySyncState.Seen;
+import javastrava.util.Paging;
+
+/**
+ * <p>
+ * Keeps a copy of the authenticated athlete's activities up to date, by telling a {@link StravaActivitySyncListener} which activities have been
+ * created, updated or deleted since the last sync
+ * </p>
+ *
+ * <p>
+ * Each sync asks Strava only for the activities which started after the high-water mark (the latest start date seen) less the lookback period
+ * ({@link StravaConfig#ACTIVITY_SYNC_LOOKBACK_SECONDS}), so its cost depends on how many activities are new or recent, not on the length of the
+ * athlete's history. The first sync reads the whole history. Activities within the lookback period are compared with what they looked like last
+ * time, which is how edits are spotted; one which has gone missing from the results has been deleted (or made private). Edits and deletions of
+ * older activities are not seen.
+ * </p>
+ *
+ * <p>
+ * Strava returns activities in ascending order of start date when asked for those after a given date, so the state is saved to the
+ * {@link StravaActivitySyncStore} after every page; if the application stops part way through a sync, the next one resumes from the last page
+ * saved. Requests are made at {@link StravaRequestPriority#BULK bulk} priority.
+ * </p>
+ *
+ * @author Dan Shannon
+ *
+ */
+public class StravaActivitySync {
+	/**
+	 * Logger
+	 */
+	private static Logger log = LogManager.getLogger();
+
+	/**
+	 * Serialises activities so they can be compared with what they looked like last time
+	 */
+	private static final Gson GSON = new JsonUtilImpl().getGson();
+
+	/**
+	 * @param activity
+	 *            An activity
+	 * @return Checksum of its JSON representation
+	 */
+	private static long fingerprint(final StravaActivity activity) {
+		final CRC32 crc = new CRC32();
+		crc.update(GSON.toJson(activity).getBytes(StandardCharsets.UTF_8));
+		return crc.getValue();
+	}
+
+	/**
+	 * @param activity
+	 *            An activity
+	 * @return Its start date, in seconds since the epoch
+	 */
+	private static long startDate(final StravaActivity activity) {
+		return activity.getStartDate().toEpochSecond();
+	}
+
+	/**
+	 * Token whose athlete's activities are synced
+	 */
+	private final Token token;
+
+	/**
+	 * Where the state is kept between syncs
+	 */
+	private final StravaActivitySyncStore store;
+
+	/**
+	 * How far before the high-water mark each sync looks again, in seconds
+	 */
+	private final long lookbackSeconds;
+
+	/**
+	 * <p>
+	 * Syncs the token's athlete's activities, keeping the state in the directory configured by {@link StravaConfig#ACTIVITY_SYNC_DIRECTORY}
+	 * </p>
+	 *
+	 * @param token
+	 *            Token whose athlete's activities are to be synced
+	 */
+	public StravaActivitySync(final Token token) {
+		this(token, new StravaActivitySyncFileStore());
+	}
+
+	/**
+	 * @param token
+	 *            Token whose athlete's activities are to be synced
+	 * @param store
+	 *            Where the state is to be kept between syncs
+	 */
+	public StravaActivitySync(final Token token, final StravaActivitySyncStore store) {
+		this(token, store, StravaConfig.ACTIVITY_SYNC_LOOKBACK_SECONDS);
+	}
+
+	/**
+	 * @param token
+	 *            Token whose athlete's activities are to be synced
+	 * @param store
+	 *            Where the state is to be kept between syncs
+	 * @param lookbackSeconds
+	 *            How far before the high-water mark each sync looks again for edited and deleted activities, in seconds (0 to look only for new
+	 *            activities)
+	 */
+	public StravaActivitySync(final Token token, final StravaActivitySyncStore store, final long lookbackSeconds) {
+		if (token == null) {
+			throw new IllegalArgumentException(Messages.string("StravaActivitySync.cannotSyncWithNullToken")); //$NON-NLS-1$
+		}
+		this.token = token;
+		this.store = store;
+		this.lookbackSeconds = Math.max(0, lookbackSeconds);
+	}
+
+	/**
+	 * @return Identifier of the athlete whose activities are synced
+	 */
+	private Integer athleteId() {
+		return this.token.getAthlete().getId();
+	}
+
+	/**
+	 * @return The state saved by the last sync
+	 * @throws UncheckedIOException
+	 *             If the state can't be read
+	 */
+	public StravaActivitySyncState getState() {
+		try {
+			return this.store.load(athleteId());
+		} catch (final IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * <p>
+	 * Forgets the high-water mark, so the next sync reads the whole history again and reports every activity as created
+	 * </p>
+	 *
+	 * @throws UncheckedIOException
+	 *             If the state can't be written
+	 */
+	public synchronized void reset() {
+		save(StravaActivitySyncState.INITIAL);
+	}
+
+	/**
+	 * @param state
+	 *            State to save
+	 */
+	private void save(final StravaActivitySyncState state) {
+		try {
+			this.store.save(athleteId(), state);
+		} catch (final IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * <p>
+	 * Reports the changes since the last sync to the listener, and moves the high-water mark on
+	 * </p>
+	 *
+	 * <p>
+	 * If the listener throws an exception, the sync stops and the exception is passed on; the page being processed will be delivered again by the
+	 * next sync.
+	 * </p>
+	 *
+	 * @param listener
+	 *            Told about each activity created, updated or deleted
+	 * @return The state after the sync
+	 * @throws UncheckedIOException
+	 *             If the state can't be read or written
+	 */
+	public synchronized StravaActivitySyncState sync(final StravaActivitySyncListener listener) {
+		final ActivityService service = ActivityServiceImpl.instance(this.token);
+		StravaActivitySyncState state = getState();
+
+		// Look again at everything within the lookback period, including activities which started at the same second as the mark
+		final long windowStart = (state.getHighWaterMarkSeconds() == null ? 0L : Math.max(0L, state.getHighWaterMarkSeconds().longValue()
+				- this.lookbackSeconds));
+		final LocalDateTime after = LocalDateTime.ofEpochSecond(Math.max(0L, windowStart - 1), 0, ZoneOffset.UTC);
+
+		final Set<Integer> seen = new HashSet<Integer>();
+		int requests = 0;
+		int changes = 0;
+		boolean more = true;
+		for (int page = 1; more; page++) {
+			final Paging paging = new Paging(Integer.valueOf(page), StravaConfig.MAX_PAGE_SIZE);
+			final List<StravaActivity> activities = StravaRateLimiter.withPriority(StravaRequestPriority.BULK,
+					() -> service.listAuthenticatedAthleteActivities(null, after, paging));
+			requests++;
+			if (activities == null) {
+				break; // The athlete doesn't exist any more; leave the state as it is
+			}
+			more = (activities.size() == StravaConfig.MAX_PAGE_SIZE.intValue());
+
+			Long mark = state.getHighWaterMarkSeconds();
+			Integer markId = state.getHighWaterMarkId();
+			final Map<Integer, Seen> recent = new LinkedHashMap<Integer, Seen>(state.getRecent());
+			long pageEnd = Long.MIN_VALUE;
+			for (final StravaActivity activity : activities) {
+				final long startDate = startDate(activity);
+				final Seen now = new Seen(startDate, fingerprint(activity));
+				final Seen before = recent.put(activity.getId(), now);
+				seen.add(activity.getId());
+				if (before == null) {
+					listener.activityCreated(activity);
+					changes++;
+				} else if (before.getFingerprint() != now.getFingerprint()) {
+					listener.activityUpdated(activity);
+					changes++;
+				}
+				if ((mark == null) || (startDate > mark.longValue()) || ((startDate == mark.longValue()) && (activity.getId().intValue() > markId
+						.intValue()))) {
+					mark = Long.valueOf(startDate);
+					markId = activity.getId();
+				}
+				pageEnd = Math.max(pageEnd, startDate);
+			}
+
+			// Anything we should have passed by now but haven't seen has been deleted; on the last page, that's everything not seen
+			final Iterator<Map.Entry<Integer, Seen>> entries = recent.entrySet().iterator();
+			while (entries.hasNext()) {
+				final Map.Entry<Integer, Seen> entry = entries.next();
+				if (!seen.contains(entry.getKey()) && (!more || (entry.getValue().getStartDate() < pageEnd))) {
+					entries.remove();
+					listener.activityDeleted(entry.getKey());
+					changes++;
+				}
+			}
+
+			// Stop watching activities which the next sync won't look at again
+			if (mark != null) {
+				final long nextWindowStart = mark.longValue() - this.lookbackSeconds;
+				recent.values().removeIf(entry -> entry.getStartDate() < nextWindowStart);
+			}
+
+			state = StravaActivitySyncState.of(mark, markId, recent);
+			save(state);
+		}
+
+		log.info(String.format("Synced activities for athlete %s: %d changes from %d requests, %s", athleteId(), Integer.valueOf(changes), //$NON-NLS-1$
+				Integer.valueOf(requests), state));
+		return state;
+	}
+
+}
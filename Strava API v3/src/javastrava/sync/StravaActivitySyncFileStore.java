@@ -0,0 +1,131 @@
+package javastrava.sync;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javastrava.config.Messages;
+import javastrava.config.StravaConfig;
+import javastrava.sync.StravaActivitySyncState.Seen;
+
+/**
+ * <p>
+ * Keeps each athlete's {@link StravaActivitySyncState} in a small text file of its own
+ * </p>
+ *
+ * <p>
+ * A new state is written to a temporary file, forced to disk and then renamed over the old one, so after a crash the file holds either the old
+ * state or the new one, never a mixture.
+ * </p>
+ *
+ * @author Dan Shannon
+ *
+ */
+public class StravaActivitySyncFileStore implements StravaActivitySyncStore {
+	/**
+	 * First line of every file, identifying the format
+	 */
+	private static final String HEADER = "javastrava-activity-sync 1"; //$NON-NLS-1$
+
+	/**
+	 * Written in place of a value which is <code>null</code>
+	 */
+	private static final String NONE = "-"; //$NON-NLS-1$
+
+	/**
+	 * Directory holding the files
+	 */
+	private final Path directory;
+
+	/**
+	 * Keeps the files in the directory configured by {@link StravaConfig#ACTIVITY_SYNC_DIRECTORY}
+	 */
+	public StravaActivitySyncFileStore() {
+		this(Paths.get(StravaConfig.ACTIVITY_SYNC_DIRECTORY));
+	}
+
+	/**
+	 * @param directory
+	 *            Directory in which to keep the files; created when the first state is saved
+	 */
+	public StravaActivitySyncFileStore(final Path directory) {
+		this.directory = directory;
+	}
+
+	/**
+	 * @param athleteId
+	 *            Identifier of the athlete
+	 * @return The file holding the athlete's state
+	 */
+	private Path file(final Integer athleteId) {
+		return this.directory.resolve("activities-" + athleteId + ".sync"); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * @see javastrava.sync.StravaActivitySyncStore#load(java.lang.Integer)
+	 */
+	@Override
+	public StravaActivitySyncState load(final Integer athleteId) throws IOException {
+		final Path file = file(athleteId);
+		if (!Files.exists(file)) {
+			return StravaActivitySyncState.INITIAL;
+		}
+		final List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+		if ((lines.size() < 2) || !lines.get(0).equals(HEADER)) {
+			throw new IOException(String.format(Messages.string("StravaActivitySyncFileStore.notASyncFile"), file)); //$NON-NLS-1$
+		}
+		try {
+			final String[] mark = lines.get(1).split(" "); //$NON-NLS-1$
+			final Map<Integer, Seen> recent = new LinkedHashMap<Integer, Seen>();
+			for (final String line : lines.subList(2, lines.size())) {
+				final String[] fields = line.split(" "); //$NON-NLS-1$
+				recent.put(Integer.valueOf(fields[0]), new Seen(Long.parseLong(fields[1]), Long.parseLong(fields[2])));
+			}
+			return StravaActivitySyncState.of(mark[0].equals(NONE) ? null : Long.valueOf(mark[0]), mark[1].equals(NONE) ? null : Integer.valueOf(mark[1]),
+					recent);
+		} catch (final IllegalArgumentException | IndexOutOfBoundsException e) {
+			throw new IOException(String.format(Messages.string("StravaActivitySyncFileStore.unreadable"), file, e.getMessage()), e); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * @see javastrava.sync.StravaActivitySyncStore#save(java.lang.Integer, javastrava.sync.StravaActivitySyncState)
+	 */
+	@Override
+	public void save(final Integer athleteId, final StravaActivitySyncState state) throws IOException {
+		final StringBuilder text = new StringBuilder(HEADER).append('\n');
+		text.append(state.getHighWaterMarkSeconds() == null ? NONE : state.getHighWaterMarkSeconds().toString()).append(' ');
+		text.append(state.getHighWaterMarkId() == null ? NONE : state.getHighWaterMarkId().toString()).append('\n');
+		for (final Map.Entry<Integer, Seen> entry : state.getRecent().entrySet()) {
+			text.append(entry.getKey()).append(' ').append(entry.getValue().getStartDate()).append(' ').append(entry.getValue().getFingerprint()).append('\n');
+		}
+
+		Files.createDirectories(this.directory);
+		final Path file = file(athleteId);
+		final Path temp = file.resolveSibling(file.getFileName() + ".tmp"); //$NON-NLS-1$
+		try (final FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			final ByteBuffer buffer = ByteBuffer.wrap(text.toString().getBytes(StandardCharsets.UTF_8));
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+			channel.force(true);
+		}
+		try {
+			Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (final AtomicMoveNotSupportedException e) {
+			Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+}
@@ -0,0 +1,37 @@
+package javastrava.sync;
+
+import javastrava.api.v3.model.StravaActivity;
+
+/**
+ * <p>
+ * Receives the changes found by a {@link StravaActivitySync}
+ * </p>
+ *
+ * <p>
+ * Changes are delivered in order of activity start date, on the thread which called {@link StravaActivitySync#sync(StravaActivitySyncListener)}.
+ * Delivery is at least once: the high-water mark is saved after each page of changes has been delivered, so if the application stops part way
+ * through a page, the changes in that page are delivered again by the next sync.
+ * </p>
+ *
+ * @author Dan Shannon
+ *
+ */
+public interface StravaActivitySyncListener {
+	/**
+	 * @param activity
+	 *            An activity which has been seen for the first time
+	 */
+	public void activityCreated(final StravaActivity activity);
+
+	/**
+	 * @param activityId
+	 *            Identifier of an activity which has been deleted (or can no longer be seen with the token, e.g. because it has been made private)
+	 */
+	public void activityDeleted(final Integer activityId);
+
+	/**
+	 * @param activity
+	 *            An activity which has changed since it was last seen
+	 */
+	public void activityUpdated(final StravaActivity activity);
+}
@@ -0,0 +1,165 @@
+package javastrava.sync;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * <p>
+ * How far a {@link StravaActivitySync} has got: the start date and id of the latest activity seen (the high-water mark), and what the activities
+ * started within the lookback period before the mark looked like when they were last seen, so that later edits and deletions can be spotted
+ * </p>
+ *
+ * <p>
+ * Immutable; each page of a sync produces a new state. A {@link StravaActivitySyncStore} persists a state by saving its
+ * {@link #getHighWaterMarkSeconds() high-water mark}, {@link #getHighWaterMarkId() id} and {@link #getRecent() recent activities}, and restores it
+ * with {@link #of(Long, Integer, Map)}.
+ * </p>
+ *
+ * @author Dan Shannon
+ *
+ */
+public final class StravaActivitySyncState {
+	/**
+	 * What an activity looked like when it was last seen
+	 */
+	public static final class Seen {
+		/**
+		 * Start date of the activity, in seconds since the epoch
+		 */
+		private final long startDate;
+		/**
+		 * Checksum of the activity's JSON representation
+		 */
+		private final long fingerprint;
+
+		/**
+		 * @param startDate
+		 *            Start date of the activity, in seconds since the epoch
+		 * @param fingerprint
+		 *            Checksum of the activity's JSON representation
+		 */
+		public Seen(final long startDate, final long fingerprint) {
+			this.startDate = startDate;
+			this.fingerprint = fingerprint;
+		}
+
+		/**
+		 * @return Start date of the activity, in seconds since the epoch
+		 */
+		public long getStartDate() {
+			return this.startDate;
+		}
+
+		/**
+		 * @return Checksum of the activity's JSON representation
+		 */
+		public long getFingerprint() {
+			return this.fingerprint;
+		}
+	}
+
+	/**
+	 * State before anything has been synced
+	 */
+	public static final StravaActivitySyncState INITIAL = new StravaActivitySyncState(null, null, Collections.<Integer, Seen> emptyMap());
+
+	/**
+	 * Start date of the latest activity seen, in seconds since the epoch, or <code>null</code> if none has been seen
+	 */
+	private final Long highWaterMark;
+
+	/**
+	 * Identifier of the latest activity seen, or <code>null</code> if none has been seen
+	 */
+	private final Integer highWaterMarkId;
+
+	/**
+	 * Activities started within the lookback period before the high-water mark, by id
+	 */
+	private final Map<Integer, Seen> recent;
+
+	/**
+	 * <p>
+	 * Recreates a state saved by a {@link StravaActivitySyncStore}
+	 * </p>
+	 *
+	 * @param highWaterMark
+	 *            Start date of the latest activity seen, in seconds since the epoch, or <code>null</code> if none has been seen
+	 * @param highWaterMarkId
+	 *            Identifier of the latest activity seen, or <code>null</code> if none has been seen
+	 * @param recent
+	 *            Activities started within the lookback period before the high-water mark, by id
+	 * @return The state
+	 */
+	public static StravaActivitySyncState of(final Long highWaterMark, final Integer highWaterMarkId, final Map<Integer, Seen> recent) {
+		if ((highWaterMark == null) && (highWaterMarkId == null) && recent.isEmpty()) {
+			return INITIAL;
+		}
+		return new StravaActivitySyncState(highWaterMark, highWaterMarkId, recent);
+	}
+
+	/**
+	 * @param highWaterMark
+	 *            Start date of the latest activity seen, in seconds since the epoch
+	 * @param highWaterMarkId
+	 *            Identifier of the latest activity seen
+	 * @param recent
+	 *            Activities started within the lookback period before the high-water mark, by id
+	 */
+	private StravaActivitySyncState(final Long highWaterMark, final Integer highWaterMarkId, final Map<Integer, Seen> recent) {
+		this.highWaterMark = highWaterMark;
+		this.highWaterMarkId = highWaterMarkId;
+		this.recent = Collections.unmodifiableMap(new LinkedHashMap<Integer, Seen>(recent));
+	}
+
+	/**
+	 * @return Start date of the latest activity seen, or <code>null</code> if none has been seen
+	 */
+	public ZonedDateTime getHighWaterMark() {
+		if (this.highWaterMark == null) {
+			return null;
+		}
+		return ZonedDateTime.ofInstant(Instant.ofEpochSecond(this.highWaterMark.longValue()), ZoneOffset.UTC);
+	}
+
+	/**
+	 * @return Identifier of the latest activity seen, or <code>null</code> if none has been seen
+	 */
+	public Integer getHighWaterMarkId() {
+		return this.highWaterMarkId;
+	}
+
+	/**
+	 * @return Start date of the latest activity seen, in seconds since the epoch, or <code>null</code> if none has been seen
+	 */
+	public Long getHighWaterMarkSeconds() {
+		return this.highWaterMark;
+	}
+
+	/**
+	 * @return Activities started within the lookback period before the high-water mark, by id, in the order they were seen (unmodifiable)
+	 */
+	public Map<Integer, Seen> getRecent() {
+		return this.recent;
+	}
+
+	/**
+	 * @return Number of activities being watched for edits and deletions
+	 */
+	public int getRecentActivityCount() {
+		return this.recent.size();
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "StravaActivitySyncState [highWaterMark=" + getHighWaterMark() + ", highWaterMarkId=" + this.highWaterMarkId + ", recentActivities=" //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				+ this.recent.size() + "]"; //$NON-NLS-1$
+	}
+}
@@ -0,0 +1,38 @@
+package javastrava.sync;
+
+import java.io.IOException;
+
+/**
+ * <p>
+ * Durable storage for the {@link StravaActivitySyncState} of each athlete, so that a {@link StravaActivitySync} can resume where it stopped
+ * after the application is restarted
+ * </p>
+ *
+ * <p>
+ * {@link StravaActivitySyncFileStore} keeps each athlete's state in a file; implement this interface to keep it alongside your own copy of the
+ * activities instead (e.g. in the same database transaction).
+ * </p>
+ *
+ * @author Dan Shannon
+ *
+ */
+public interface StravaActivitySyncStore {
+	/**
+	 * @param athleteId
+	 *            Identifier of the athlete
+	 * @return The athlete's state, or {@link StravaActivitySyncState#INITIAL} if none has been saved
+	 * @throws IOException
+	 *             If the state can't be read
+	 */
+	public StravaActivitySyncState load(final Integer athleteId) throws IOException;
+
+	/**
+	 * @param athleteId
+	 *            Identifier of the athlete
+	 * @param state
+	 *            The athlete's state; once this method returns it must survive a crash
+	 * @throws IOException
+	 *             If the state can't be written
+	 */
+	public void save(final Integer athleteId, final StravaActivitySyncState state) throws IOException;
+}
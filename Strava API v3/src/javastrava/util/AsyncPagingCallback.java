@@ -0,0 +1,28 @@
+package javastrava.util;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import javastrava.api.v3.service.exception.BadRequestException;
+import javastrava.api.v3.service.exception.NotFoundException;
+
+/**
+ * <p>
+ * Asynchronous equivalent of {@link PagingCallback}; implement it with a lambda which asks the asynchronous API for a page, and
+ * {@link PagingHandler#handlePagingAsync(Paging, AsyncPagingCallback)} and {@link PagingHandler#handleListAllAsync(AsyncPagingCallback)} will
+ * get the lot without blocking a thread while the pages are on their way
+ * </p>
+ *
+ * @author Dan Shannon
+ * @param <T>
+ *            Class of the object in the list to be returned
+ *
+ */
+public interface AsyncPagingCallback<T> {
+	/**
+	 * @param thisPage The page of data to be returned
+	 * @return Future which completes with the page of data; or fails with a {@link NotFoundException} if the thing being paged doesn't exist, or a
+	 *         {@link BadRequestException} if the paging instructions are invalid
+	 */
+	public CompletableFuture<List<T>> getPageOfData(final Paging thisPage);
+}
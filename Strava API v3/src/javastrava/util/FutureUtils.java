@@ -0,0 +1,211 @@
+package javastrava.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * Utilities for composing {@link CompletableFuture}s without blocking a thread while they wait
+ * </p>
+ *
+ * <p>
+ * Failures are passed along as the javastrava exceptions themselves, not wrapped in {@link CompletionException}s, so that {@link #recover(CompletableFuture, Recovery)}
+ * can treat them as the service methods treat exceptions thrown by the synchronous API.
+ * </p>
+ *
+ * @author Dan Shannon
+ *
+ */
+public class FutureUtils {
+	/**
+	 * <p>
+	 * Turns a failure into a result (or a different failure), as a <code>catch</code> block would
+	 * </p>
+	 *
+	 * @param <T>
+	 *            Class of the result
+	 */
+	public interface Recovery<T> {
+		/**
+		 * @param cause
+		 *            Why the work failed
+		 * @return The result to use instead
+		 * @throws Throwable
+		 *             To fail anyway; throw <code>cause</code> if it isn't one this recovery deals with
+		 */
+		public T recover(Throwable cause) throws Throwable;
+	}
+
+	/**
+	 * @param futures
+	 *            Futures
+	 * @param <T>
+	 *            Class of their results
+	 * @return A future which completes with all the results, in the same order as the futures, once they have all completed; or fails as soon as
+	 *         any of them fails
+	 */
+	public static <T> CompletableFuture<List<T>> allOf(final List<CompletableFuture<T>> futures) {
+		final CompletableFuture<List<T>> all = new CompletableFuture<List<T>>();
+		CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[futures.size()])).whenComplete((ignored, error) -> {
+			if (error != null) {
+				all.completeExceptionally(unwrap(error));
+				return;
+			}
+			final List<T> results = new ArrayList<T>(futures.size());
+			for (final CompletableFuture<T> future : futures) {
+				results.add(future.join());
+			}
+			all.complete(results);
+		});
+		for (final CompletableFuture<T> future : futures) {
+			future.whenComplete((result, error) -> {
+				if (error != null) {
+					all.completeExceptionally(unwrap(error));
+				}
+			});
+		}
+		return all;
+	}
+
+	/**
+	 * @param work
+	 *            Work which starts off an asynchronous operation
+	 * @param <T>
+	 *            Class of the result
+	 * @return The future returned by the work, or a failed future if starting it threw an exception (e.g. because its arguments were invalid)
+	 */
+	public static <T> CompletableFuture<T> attempt(final Supplier<CompletableFuture<T>> work) {
+		try {
+			return work.get();
+		} catch (final RuntimeException e) {
+			return failed(e);
+		}
+	}
+
+	/**
+	 * @param future
+	 *            Future to complete
+	 * @param result
+	 *            Result to complete it with, if <code>error</code> is <code>null</code>
+	 * @param error
+	 *            Failure to complete it with, or <code>null</code>
+	 * @param <T>
+	 *            Class of the result
+	 * @return <code>true</code> if this completed the future
+	 */
+	public static <T> boolean complete(final CompletableFuture<T> future, final T result, final Throwable error) {
+		if (error == null) {
+			return future.complete(result);
+		}
+		return future.completeExceptionally(unwrap(error));
+	}
+
+	/**
+	 * @param cause
+	 *            Why the work failed
+	 * @param <T>
+	 *            Class of the result
+	 * @return A future which has already failed
+	 */
+	public static <T> CompletableFuture<T> failed(final Throwable cause) {
+		final CompletableFuture<T> future = new CompletableFuture<T>();
+		future.completeExceptionally(cause);
+		return future;
+	}
+
+	/**
+	 * @param future
+	 *            A future
+	 * @param type
+	 *            Class of failure to recover from
+	 * @param recovery
+	 *            Gives the result to use instead of a failure of that class
+	 * @param <T>
+	 *            Class of the result
+	 * @param <E>
+	 *            Class of failure
+	 * @return A future which completes as <code>future</code> does, except that a failure of the given class is replaced by a result
+	 */
+	public static <T, E extends Throwable> CompletableFuture<T> recover(final CompletableFuture<T> future, final Class<E> type,
+			final Function<? super E, ? extends T> recovery) {
+		return recover(future, cause -> {
+			if (type.isInstance(cause)) {
+				return recovery.apply(type.cast(cause));
+			}
+			throw cause;
+		});
+	}
+
+	/**
+	 * @param future
+	 *            A future
+	 * @param recovery
+	 *            Deals with a failure, given the javastrava exception (not a {@link CompletionException})
+	 * @param <T>
+	 *            Class of the result
+	 * @return A future which completes as <code>future</code> does, except that failures are passed through the recovery first
+	 */
+	public static <T> CompletableFuture<T> recover(final CompletableFuture<T> future, final Recovery<T> recovery) {
+		final CompletableFuture<T> recovered = new CompletableFuture<T>();
+		future.whenComplete((result, error) -> {
+			if (error == null) {
+				recovered.complete(result);
+				return;
+			}
+			try {
+				recovered.complete(recovery.recover(unwrap(error)));
+			} catch (final Throwable e) {
+				recovered.completeExceptionally(e);
+			}
+		});
+		return recovered;
+	}
+
+	/**
+	 * @param future
+	 *            A future
+	 * @param recovery
+	 *            Deals with a failure, given the javastrava exception, by starting off more asynchronous work (or returning a failed future to fail
+	 *            anyway)
+	 * @param <T>
+	 *            Class of the result
+	 * @return A future which completes as <code>future</code> does, or if that fails, as the future returned by the recovery does
+	 */
+	public static <T> CompletableFuture<T> recoverWith(final CompletableFuture<T> future, final Function<Throwable, CompletableFuture<T>> recovery) {
+		final CompletableFuture<T> recovered = new CompletableFuture<T>();
+		future.whenComplete((result, error) -> {
+			if (error == null) {
+				recovered.complete(result);
+				return;
+			}
+			attempt(() -> recovery.apply(unwrap(error))).whenComplete((recoveredResult, recoveredError) -> complete(recovered, recoveredResult,
+					recoveredError));
+		});
+		return recovered;
+	}
+
+	/**
+	 * @param error
+	 *            A failure reported by a future
+	 * @return The underlying cause, if the failure is a {@link CompletionException} or {@link ExecutionException} wrapping it
+	 */
+	public static Throwable unwrap(final Throwable error) {
+		Throwable cause = error;
+		while (((cause instanceof CompletionException) || (cause instanceof ExecutionException)) && (cause.getCause() != null)) {
+			cause = cause.getCause();
+		}
+		return cause;
+	}
+
+	/**
+	 * No-args constructor - all access is static
+	 */
+	private FutureUtils() {
+	}
+
+}
@@ -1,14 +1,28 @@
 package javastrava.util;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 import javastrava.api.v3.service.exception.BadRequestException;
 import javastrava.api.v3.service.exception.NotFoundException;
 import javastrava.api.v3.service.exception.UnauthorizedException;
 import javastrava.api.v3.service.impl.ActivityServiceImpl;
 import javastrava.config.StravaConfig;
+import javastrava.ratelimit.StravaRateLimitLedger;
+import javastrava.ratelimit.StravaRateLimiter;
+import javastrava.ratelimit.StravaRequestObserver;
+import javastrava.ratelimit.StravaRequestPriority;
+import javastrava.util.flow.Publisher;
 
 /**
  * <p>
@@ -24,9 +38,10 @@ import javastrava.config.StravaConfig;
  */
 public class PagingHandler {
 	/**
-	 * A ForkJoinPool used for parallel processing of large paging requests
+	 * Logger
 	 */
-	private static ForkJoinPool pool = new ForkJoinPool();
+	private static Logger log = LogManager.getLogger();
+
 	/**
 	 * <p>
 	 * Returns ALL the data from a Strava service that would normally only return a page of data, by simply getting pages 1..n until there's no more data to retrieve
@@ -45,7 +60,26 @@ public class PagingHandler {
 	 * @return The list containing all the records
 	 */
 	public static <T> List<T> handleListAll(final PagingCallback<T> callback) {
-		return handleListAll(callback, StravaConfig.PAGING_LIST_ALL_PARALLELISM);
+		return handleListAll(callback, 0, StravaExecutors.defaultExecutor());
+	}
+
+	/**
+	 * <p>
+	 * Returns ALL the data from a Strava service that would normally only return a page of data, by simply getting pages 1..n until there's no more data to retrieve
+	 * </p>
+	 *
+	 * <p>
+	 * USE WITH CAUTION! THIS WILL VERY RAPIDLY EAT THROUGH YOUR STRAVA QUOTA!
+	 * </p>
+	 *
+	 * @param callback The callback function that returns one page of data
+	 * @param executor Executor on which the pages are requested
+	 * @param <T> the parameterised type of list to be returned
+	 * @return The list containing all the records
+	 * @see #handleListAll(PagingCallback, int, Executor)
+	 */
+	public static <T> List<T> handleListAll(final PagingCallback<T> callback, final Executor executor) {
+		return handleListAll(callback, 0, executor);
 	}
 
 	/**
@@ -61,43 +95,540 @@ public class PagingHandler {
 	 * The {@link PagingCallback} provides the method to return a single page of data
 	 * </p>
 	 *
+	 * <p>
+	 * Requests are issued with {@link StravaRequestPriority#BULK bulk} priority, so that interactive requests aren't starved of rate limit
+	 * </p>
+	 *
+	 * <p>
+	 * If <code>parallelism</code> is 0 and {@link StravaConfig#PAGING_ADAPTIVE} is set, the number of concurrent pages is decided by the
+	 * {@link PagingParallelismController} of the application making the requests, which raises it while there is plenty of rate limit left and
+	 * lowers it as the limit is approached or Strava slows down
+	 * </p>
+	 *
 	 * @param callback The callback function that returns one page of data
 	 * @param <T> the parameterised type of list to be returned
 	 * @param parallelism How many concurrent pages should be retrieved. This gives the user an opportunity to specify the right number of pages if
+	 *            they know roughly how many there will be; 0 to use the default
 	 * @return The list containing all the records
 	 */
 	public static <T> List<T> handleListAll(final PagingCallback<T> callback, final int parallelism) {
-		int parallelismUsed = parallelism;
-		if (parallelismUsed == 0) {
-			parallelismUsed = StravaConfig.PAGING_LIST_ALL_PARALLELISM;
+		return handleListAll(callback, parallelism, StravaExecutors.defaultExecutor());
+	}
+
+	/**
+	 * <p>
+	 * Returns ALL the data from a Strava service that would normally only return a page of data, by simply getting pages 1..n until there's no more data to retrieve
+	 * </p>
+	 *
+	 * <p>
+	 * USE WITH CAUTION! THIS WILL VERY RAPIDLY EAT THROUGH YOUR STRAVA QUOTA!
+	 * </p>
+	 *
+	 * @param callback The callback function that returns one page of data
+	 * @param parallelism How many concurrent pages should be retrieved; 0 to use the default
+	 * @param executor Executor on which the pages are requested
+	 * @param <T> the parameterised type of list to be returned
+	 * @return The list containing all the records
+	 * @see #handleListAll(PagingCallback, int)
+	 */
+	public static <T> List<T> handleListAll(final PagingCallback<T> callback, final int parallelism, final Executor executor) {
+		return StravaRateLimiter.withPriority(StravaRequestPriority.BULK, () -> listAll(callback, parallelism, null, executor,
+				new PagingStatistics()));
+	}
+
+	/**
+	 * <p>
+	 * Returns the data from a Strava service that would normally only return a page of data, getting pages 1..n as {@link #handleListAll(PagingCallback)}
+	 * does, but stopping at the first record which meets the stop condition (e.g. the first activity before a given date, when listing newest first).
+	 * The condition is checked as each page arrives; once it is met no more pages are requested, and pages already asked for beyond it are cancelled.
+	 * </p>
+	 *
+	 * @param callback The callback function that returns one page of data
+	 * @param stopWhen Condition met by the first record which is NOT wanted
+	 * @param executor Executor on which the pages are requested
+	 * @param <T> the parameterised type of list to be returned
+	 * @return The records before the first one which meets the stop condition (or all of them, if none does); <code>null</code> if the thing being
+	 *         paged doesn't exist
+	 */
+	public static <T> List<T> handleListAllUntil(final PagingCallback<T> callback, final Predicate<? super T> stopWhen, final Executor executor) {
+		return handleListAllUntil(callback, stopWhen, executor, new PagingStatistics());
+	}
+
+	/**
+	 * <p>
+	 * As {@link #handleListAllUntil(PagingCallback, Predicate, Executor)}, counting the requests made, and those saved by cancelling pages fetched
+	 * ahead before they were sent, in the given statistics
+	 * </p>
+	 *
+	 * @param callback The callback function that returns one page of data
+	 * @param stopWhen Condition met by the first record which is NOT wanted
+	 * @param executor Executor on which the pages are requested
+	 * @param statistics Statistics in which to count the requests
+	 * @param <T> the parameterised type of list to be returned
+	 * @return The records before the first one which meets the stop condition (or all of them, if none does); <code>null</code> if the thing being
+	 *         paged doesn't exist
+	 */
+	public static <T> List<T> handleListAllUntil(final PagingCallback<T> callback, final Predicate<? super T> stopWhen, final Executor executor,
+			final PagingStatistics statistics) {
+		return StravaRateLimiter.withPriority(StravaRequestPriority.BULK, () -> listAll(callback, 0, stopWhen, executor, statistics));
+	}
+
+	/**
+	 * <p>
+	 * Returns a lazily paged {@link Stream} of ALL the data from a Strava service that would normally only return a page of data. Pages are only
+	 * requested as the stream is consumed (plus {@link StravaConfig#PAGING_STREAM_PREFETCH} fetched ahead), and pages which have been consumed are
+	 * not held on to, so a caller can process very long lists in constant memory, or stop early without spending rate limit on the rest.
+	 * </p>
+	 *
+	 * <p>
+	 * If the thing being paged doesn't exist, or is private, the stream is empty. The stream should be closed (e.g. with try-with-resources) if it
+	 * isn't consumed to the end, to abandon the pages fetched ahead.
+	 * </p>
+	 *
+	 * @param callback The callback function that returns one page of data
+	 * @param <T> the parameterised type of stream to be returned
+	 * @return Stream of all the records
+	 */
+	public static <T> Stream<T> handleStreamAll(final PagingCallback<T> callback) {
+		return handleStreamAll(callback, StravaExecutors.defaultExecutor());
+	}
+
+	/**
+	 * @param callback The callback function that returns one page of data
+	 * @param executor Executor on which pages are fetched ahead
+	 * @param <T> the parameterised type of stream to be returned
+	 * @return Stream of all the records
+	 * @see #handleStreamAll(PagingCallback)
+	 */
+	public static <T> Stream<T> handleStreamAll(final PagingCallback<T> callback, final Executor executor) {
+		return handleIterateAll(callback, StravaConfig.PAGING_STREAM_PREFETCH, executor).stream();
+	}
+
+	/**
+	 * <p>
+	 * Returns a lazily paged {@link PagingIterator iterator} over ALL the data from a Strava service that would normally only return a page of data
+	 * </p>
+	 *
+	 * @param callback The callback function that returns one page of data
+	 * @param <T> the parameterised type of iterator to be returned
+	 * @param prefetch How many pages should be fetched ahead of the one being read (0 to only fetch pages as they are needed)
+	 * @return Iterator over all the records
+	 * @see #handleStreamAll(PagingCallback)
+	 */
+	public static <T> PagingIterator<T> handleIterateAll(final PagingCallback<T> callback, final int prefetch) {
+		return handleIterateAll(callback, prefetch, StravaExecutors.defaultExecutor());
+	}
+
+	/**
+	 * @param callback The callback function that returns one page of data
+	 * @param prefetch How many pages should be fetched ahead of the one being read (0 to only fetch pages as they are needed)
+	 * @param executor Executor on which pages are fetched ahead
+	 * @param <T> the parameterised type of iterator to be returned
+	 * @return Iterator over all the records
+	 * @see #handleIterateAll(PagingCallback, int)
+	 */
+	public static <T> PagingIterator<T> handleIterateAll(final PagingCallback<T> callback, final int prefetch, final Executor executor) {
+		return new PagingIterator<T>(callback, StravaConfig.MAX_PAGE_SIZE.intValue(), prefetch, executor);
+	}
+
+	/**
+	 * <p>
+	 * Returns a {@link Publisher} of ALL the data from a Strava service that would normally only return a page of data. Pages are only requested
+	 * from Strava as subscribers ask for more data, and at most {@link StravaConfig#PAGING_PUBLISHER_BUFFER_PAGES} pages are buffered for each
+	 * subscriber, so a slow consumer holds back the requests rather than being flooded.
+	 * </p>
+	 *
+	 * @param callback The callback function that returns one page of data
+	 * @param <T> the parameterised type of publisher to be returned
+	 * @return Publisher of all the records
+	 * @see PagingPublisher
+	 */
+	public static <T> Publisher<T> handlePublishAll(final PagingCallback<T> callback) {
+		return handlePublishAll(callback, StravaExecutors.defaultExecutor());
+	}
+
+	/**
+	 * @param callback The callback function that returns one page of data
+	 * @param executor Executor on which pages are fetched
+	 * @param <T> the parameterised type of publisher to be returned
+	 * @return Publisher of all the records
+	 * @see #handlePublishAll(PagingCallback)
+	 */
+	public static <T> Publisher<T> handlePublishAll(final PagingCallback<T> callback, final Executor executor) {
+		return new PagingPublisher<T>(callback, StravaConfig.MAX_PAGE_SIZE.intValue(), StravaConfig.PAGING_PUBLISHER_BUFFER_PAGES, executor);
+	}
+
+	/**
+	 * <p>
+	 * Asynchronous equivalent of {@link #handleListAll(PagingCallback)}: gets ALL the data through the same sliding window of page requests, but
+	 * without a thread waiting on it. Each page is asked for as the one ahead of it in the window arrives, on whichever thread delivered that page.
+	 * </p>
+	 *
+	 * <p>
+	 * USE WITH CAUTION! THIS WILL VERY RAPIDLY EAT THROUGH YOUR STRAVA QUOTA!
+	 * </p>
+	 *
+	 * @param callback The callback function that asks for one page of data
+	 * @param <T> the parameterised type of list to be returned
+	 * @return Future which completes with the list containing all the records; or with <code>null</code> if the thing being paged doesn't exist
+	 */
+	public static <T> CompletableFuture<List<T>> handleListAllAsync(final AsyncPagingCallback<T> callback) {
+		return handleListAllAsync(callback, 0);
+	}
+
+	/**
+	 * @param callback The callback function that asks for one page of data
+	 * @param parallelism How many concurrent pages should be retrieved; 0 to use the default (which adapts if {@link StravaConfig#PAGING_ADAPTIVE}
+	 *            is set)
+	 * @param <T> the parameterised type of list to be returned
+	 * @return Future which completes with the list containing all the records; or with <code>null</code> if the thing being paged doesn't exist
+	 * @see #handleListAllAsync(AsyncPagingCallback)
+	 */
+	public static <T> CompletableFuture<List<T>> handleListAllAsync(final AsyncPagingCallback<T> callback, final int parallelism) {
+		return listAllAsync(callback, parallelism, null, new PagingStatistics());
+	}
+
+	/**
+	 * <p>
+	 * Asynchronous equivalent of {@link #handleListAllUntil(PagingCallback, Predicate, Executor)}: gets pages through the same sliding window as
+	 * {@link #handleListAllAsync(AsyncPagingCallback)}, stopping at the first record which meets the stop condition
+	 * </p>
+	 *
+	 * @param callback The callback function that asks for one page of data
+	 * @param stopWhen Condition met by the first record which is NOT wanted
+	 * @param <T> the parameterised type of list to be returned
+	 * @return Future which completes with the records before the first one which meets the stop condition (or all of them, if none does); or with
+	 *         <code>null</code> if the thing being paged doesn't exist
+	 */
+	public static <T> CompletableFuture<List<T>> handleListAllUntilAsync(final AsyncPagingCallback<T> callback, final Predicate<? super T> stopWhen) {
+		return handleListAllUntilAsync(callback, stopWhen, new PagingStatistics());
+	}
+
+	/**
+	 * <p>
+	 * As {@link #handleListAllUntilAsync(AsyncPagingCallback, Predicate)}, counting the requests made, and those saved by cancelling pages fetched
+	 * ahead before they were sent, in the given statistics
+	 * </p>
+	 *
+	 * @param callback The callback function that asks for one page of data
+	 * @param stopWhen Condition met by the first record which is NOT wanted
+	 * @param statistics Statistics in which to count the requests
+	 * @param <T> the parameterised type of list to be returned
+	 * @return Future which completes with the records before the first one which meets the stop condition (or all of them, if none does); or with
+	 *         <code>null</code> if the thing being paged doesn't exist
+	 */
+	public static <T> CompletableFuture<List<T>> handleListAllUntilAsync(final AsyncPagingCallback<T> callback, final Predicate<? super T> stopWhen,
+			final PagingStatistics statistics) {
+		return listAllAsync(callback, 0, stopWhen, statistics);
+	}
+
+	/**
+	 * @param callback The callback function that asks for one page of data
+	 * @param parallelism How many concurrent pages should be retrieved; 0 for the default
+	 * @param stopWhen Condition met by the first record which is not wanted, or <code>null</code> to get them all
+	 * @param statistics Statistics in which to count the requests
+	 * @param <T> the parameterised type of list to be returned
+	 * @return Future which completes with the records
+	 */
+	private static <T> CompletableFuture<List<T>> listAllAsync(final AsyncPagingCallback<T> callback, final int parallelism,
+			final Predicate<? super T> stopWhen, final PagingStatistics statistics) {
+		final AsyncListAll<T> listAll = new AsyncListAll<T>(callback, new WindowSize(parallelism), stopWhen, statistics);
+		listAll.advance();
+		return listAll.result;
+	}
+
+	/**
+	 * @param page A page of data
+	 * @param stopWhen Condition met by the first record which is not wanted, or <code>null</code>
+	 * @param <T> the parameterised type of the page
+	 * @return Index in the page of the first record which meets the condition, or -1 if none does
+	 */
+	private static <T> int indexOfStop(final List<T> page, final Predicate<? super T> stopWhen) {
+		if (stopWhen != null) {
+			for (int i = 0; i < page.size(); i++) {
+				if (stopWhen.test(page.get(i))) {
+					return i;
+				}
+			}
 		}
-		boolean loop = true;
+		return -1;
+	}
+
+	/**
+	 * @param pagesUsed Number of the page containing the first record which met the stop condition
+	 * @param statistics Statistics of the requests made so far
+	 */
+	private static void logStop(final int pagesUsed, final PagingStatistics statistics) {
+		log.debug(String.format("Stopped listing at page %d: %s", Integer.valueOf(pagesUsed), statistics)); //$NON-NLS-1$
+	}
+
+	/**
+	 * <p>
+	 * Gets pages of {@link StravaConfig#MAX_PAGE_SIZE} through a sliding window: <code>parallelism</code> page requests are kept in flight, and as
+	 * each page arrives (in order) the window is topped up, so a slow page only holds up the pages behind it rather than a whole batch. Once a
+	 * short page arrives no more pages are requested, and any still in flight beyond it are abandoned.
+	 * </p>
+	 *
+	 * <p>
+	 * When adaptive, the size of the window is asked of the {@link PagingParallelismController} each time it is topped up; if it has shrunk, pages
+	 * already in flight are left to complete and the window drains down to the new size.
+	 * </p>
+	 *
+	 * <p>
+	 * If there's a stop condition, the first record which meets it ends the list in the same way as a short page.
+	 * </p>
+	 *
+	 * @param callback The callback function that returns one page of data
+	 * @param <T> the parameterised type of list to be returned
+	 * @param parallelism How many concurrent pages should be retrieved; 0 for the default
+	 * @param stopWhen Condition met by the first record which is not wanted, or <code>null</code> to get them all
+	 * @param executor Executor on which the pages are requested
+	 * @param statistics Statistics in which to count the requests
+	 * @return The list containing all the records
+	 */
+	private static <T> List<T> listAll(final PagingCallback<T> callback, final int parallelism, final Predicate<? super T> stopWhen,
+			final Executor executor, final PagingStatistics statistics) {
+		final WindowSize windowSize = new WindowSize(parallelism);
+		final int pageSize = StravaConfig.MAX_PAGE_SIZE.intValue();
+		final StravaRequestPriority priority = StravaRateLimiter.priority();
+		final ArrayDeque<PageRequest<T>> window = new ArrayDeque<PageRequest<T>>();
 		final List<T> records = new ArrayList<T>();
 		int page = 0;
-		final Integer pageSize = Integer.valueOf(StravaConfig.MAX_PAGE_SIZE.intValue() * parallelismUsed);
+		int pagesUsed = 0;
+		boolean stopped = false;
 
-		while (loop) {
-			page++;
-			List<T> currentPage;
-			try {
-				currentPage = handlePaging(new Paging(Integer.valueOf(page), pageSize), callback);
-			} catch (final NotFoundException e) {
-				return null;
-			} catch (final UnauthorizedException e) {
-				return new ArrayList<T>();
-			} catch (final BadRequestException e) {
-				return new ArrayList<T>();
+		try {
+			while (true) {
+				final int size = windowSize.get();
+				while (window.size() < size) {
+					window.add(new PageRequest<T>(windowSize, statistics).sendOn(requestPage(callback, ++page, pageSize, priority, executor),
+							executor));
+				}
+				final List<T> currentPage = StravaExecutors.join(window.poll().future);
+				pagesUsed++;
+				if (currentPage == null) {
+					return null; // Activity doesn't exist
+				}
+				final int stop = indexOfStop(currentPage, stopWhen);
+				if (stop >= 0) {
+					records.addAll(currentPage.subList(0, stop));
+					stopped = true;
+					return records;
+				}
+				records.addAll(currentPage);
+				if (currentPage.size() < pageSize) {
+					return records;
+				}
 			}
-			if (currentPage == null) {
-				return null; // Activity doesn't exist
+		} finally {
+			for (final PageRequest<T> abandoned : window) {
+				abandoned.abandon();
 			}
-			records.addAll(currentPage);
-			if (currentPage.size() < pageSize.intValue()) {
-				loop = false;
+			if (stopped) {
+				logStop(pagesUsed, statistics);
 			}
 		}
-		return records;
+	}
+
+	/**
+	 * @param callback The callback function that returns one page of data
+	 * @param page Number of the page to get
+	 * @param pageSize Size of the page
+	 * @param priority Priority of the request
+	 * @param executor Executor on which the page is requested
+	 * @param <T> the parameterised type of list to be returned
+	 * @return Gets the page of data; <code>null</code> if the thing being paged doesn't exist
+	 */
+	private static <T> Supplier<List<T>> requestPage(final PagingCallback<T> callback, final int page, final int pageSize,
+			final StravaRequestPriority priority, final Executor executor) {
+		final Paging paging = new Paging(Integer.valueOf(page), Integer.valueOf(pageSize));
+		return () -> StravaRateLimiter.withPriority(priority, () -> handlePaging(paging, callback, executor));
+	}
+
+	/**
+	 * <p>
+	 * Decides the size of a listAll window. When adaptive, the window starts at {@link StravaConfig#PAGING_LIST_ALL_PARALLELISM}; once the first
+	 * page request has been admitted by the rate limiter, it is bound to the {@link PagingParallelismController} of the application making the
+	 * requests, which decides the size from then on and is told how long each page's HTTP call took (not counting the time spent waiting for the
+	 * rate limiter).
+	 * </p>
+	 */
+	private static final class WindowSize {
+		/**
+		 * Size of the window when not adaptive, or until bound to a controller
+		 */
+		private final int fixed;
+
+		/**
+		 * Whether the size is decided by a {@link PagingParallelismController}
+		 */
+		private final boolean adaptive;
+
+		/**
+		 * Controller of the application making the requests, once known
+		 */
+		private volatile PagingParallelismController controller;
+
+		/**
+		 * @param parallelism How many concurrent pages should be retrieved; 0 for the default
+		 */
+		WindowSize(final int parallelism) {
+			this.adaptive = (parallelism == 0) && StravaConfig.PAGING_ADAPTIVE;
+			this.fixed = Math.max(1, (parallelism == 0) ? StravaConfig.PAGING_LIST_ALL_PARALLELISM : parallelism);
+		}
+
+		/**
+		 * @return Number of page requests to keep in flight
+		 */
+		int get() {
+			final PagingParallelismController bound = this.controller;
+			return (bound == null) ? this.fixed : bound.getParallelism();
+		}
+
+		/**
+		 * Binds the window to the controller of the application making the requests, if adaptive and not already bound
+		 *
+		 * @param ledger Rate limit ledger of the application making the requests
+		 */
+		void bind(final StravaRateLimitLedger ledger) {
+			if (this.adaptive && (this.controller == null)) {
+				this.controller = PagingParallelismController.forApplication(ledger.getClientId());
+			}
+		}
+
+		/**
+		 * Tells the controller, if the window is bound to one, how a page request went
+		 *
+		 * @param latencyNanos How long the request's HTTP call took, in nanoseconds
+		 * @param failure Why the request failed, or <code>null</code> if it succeeded
+		 */
+		void record(final long latencyNanos, final Throwable failure) {
+			final PagingParallelismController bound = this.controller;
+			if (bound == null) {
+				return;
+			}
+			if (failure == null) {
+				bound.recordSuccess(latencyNanos);
+			} else {
+				bound.recordFailure(failure);
+			}
+		}
+	}
 
+	/**
+	 * <p>
+	 * A page of data requested through a listAll window, which can be abandoned. Page requests spend most of their time waiting to be admitted by
+	 * the rate limiter, so that is where abandonment is checked: a page abandoned before the executor gets round to it, or while it waits for the
+	 * rate limiter, is never sent to Strava.
+	 * </p>
+	 *
+	 * <p>
+	 * As observer of the page's requests, it also counts them in the call's {@link PagingStatistics}, and reports the time taken by their HTTP calls
+	 * to the window's {@link PagingParallelismController}.
+	 * </p>
+	 *
+	 * @param <T> the parameterised type of the page
+	 */
+	private static final class PageRequest<T> implements StravaRequestObserver {
+		/**
+		 * Set by whichever comes first: the request starting, or the request being abandoned
+		 */
+		private final AtomicBoolean claimed = new AtomicBoolean();
+
+		/**
+		 * Set once the page is no longer wanted
+		 */
+		private volatile boolean abandoned = false;
+
+		/**
+		 * Size of the window the page was requested through
+		 */
+		private final WindowSize windowSize;
+
+		/**
+		 * Statistics of the listAll call
+		 */
+		private final PagingStatistics statistics;
+
+		/**
+		 * Completes with the page of data
+		 */
+		CompletableFuture<List<T>> future;
+
+		/**
+		 * @param windowSize Size of the window the page is requested through
+		 * @param statistics Statistics of the listAll call
+		 */
+		PageRequest(final WindowSize windowSize, final PagingStatistics statistics) {
+			this.windowSize = windowSize;
+			this.statistics = statistics;
+			statistics.requested();
+		}
+
+		/**
+		 * @param request Gets the page of data
+		 * @param executor Executor on which the page is requested
+		 * @return This page request
+		 */
+		PageRequest<T> sendOn(final Supplier<List<T>> request, final Executor executor) {
+			this.future = CompletableFuture.supplyAsync(() -> this.claimed.compareAndSet(false, true) ? StravaRateLimiter.withObserver(this,
+					request) : null, executor);
+			return this;
+		}
+
+		/**
+		 * @param request Asks for the page of data
+		 * @return This page request
+		 */
+		PageRequest<T> send(final Supplier<CompletableFuture<List<T>>> request) {
+			this.claimed.set(true);
+			this.future = StravaRateLimiter.withObserver(this, request);
+			return this;
+		}
+
+		/**
+		 * Abandons the page; any of its requests not yet sent won't be
+		 */
+		void abandon() {
+			this.abandoned = true;
+			if (this.claimed.compareAndSet(false, true)) {
+				this.statistics.saved();
+			}
+			this.future.cancel(false);
+		}
+
+		/**
+		 * @see javastrava.ratelimit.StravaRequestObserver#wanted()
+		 */
+		@Override
+		public boolean wanted() {
+			return !this.abandoned;
+		}
+
+		/**
+		 * @see javastrava.ratelimit.StravaRequestObserver#abandoned()
+		 */
+		@Override
+		public void abandoned() {
+			this.statistics.saved();
+		}
+
+		/**
+		 * @see javastrava.ratelimit.StravaRequestObserver#admitted(javastrava.ratelimit.StravaRateLimitLedger)
+		 */
+		@Override
+		public void admitted(final StravaRateLimitLedger ledger) {
+			this.statistics.sent();
+			this.windowSize.bind(ledger);
+		}
+
+		/**
+		 * @see javastrava.ratelimit.StravaRequestObserver#completed(long, java.lang.Throwable)
+		 */
+		@Override
+		public void completed(final long latencyNanos, final Throwable failure) {
+			this.windowSize.record(latencyNanos, failure);
+		}
 	}
 
 	/**
@@ -118,22 +649,47 @@ public class PagingHandler {
 	 * @return List of strava objects as per the paging instruction
 	 */
 	public static <T> List<T> handlePaging(final Paging pagingInstruction, final PagingCallback<T> callback) {
+		return handlePaging(pagingInstruction, callback, StravaExecutors.defaultExecutor());
+	}
+
+	/**
+	 * <p>
+	 * Validates paging instructions and converts them to Strava-compatible paging instructions, then gets the whole lot for you, requesting the pages
+	 * in parallel on the given executor if there is more than one
+	 * </p>
+	 *
+	 * @param pagingInstruction
+	 *            The overarching paging instruction to be managed
+	 * @param callback
+	 *            An implementation of PagingCallback which actually gets the relevant page of data from the Strava API
+	 * @param executor
+	 *            Executor on which the pages are requested
+	 * @param <T>
+	 *            The class of objects which will be returned in the list
+	 * @return List of strava objects as per the paging instruction
+	 */
+	public static <T> List<T> handlePaging(final Paging pagingInstruction, final PagingCallback<T> callback, final Executor executor) {
 		PagingUtils.validatePagingArguments(pagingInstruction);
-		List<T> records = new ArrayList<>();
+		List<T> records;
 		try {
 			final List<Paging> pages = PagingUtils.convertToStravaPaging(pagingInstruction);
 
 			// If there's only the one page to get, don't bother going all parallel!
 			if (pages.size() == 1) {
-				final Paging paging = pages.get(0);
-				records = callback.getPageOfData(paging);
-				records = PagingUtils.ignoreLastN(records, paging.getIgnoreLastN());
-				records = PagingUtils.ignoreFirstN(records, paging.getIgnoreFirstN());
-				return records;
+				return getPage(pages.get(0), callback);
 			}
 
 			// But if there is more than one, get them in parallel
-			records = pool.invoke(new PagingForkJoinTask<T>(callback, pages));
+			final StravaRequestPriority priority = StravaRateLimiter.priority();
+			final List<CompletableFuture<List<T>>> futures = new ArrayList<CompletableFuture<List<T>>>(pages.size());
+			for (final Paging paging : pages) {
+				futures.add(CompletableFuture.supplyAsync(() -> StravaRateLimiter.withPriority(priority, () -> getPageIfFound(paging, callback)), executor));
+			}
+			final List<List<T>> pagesOfData = new ArrayList<List<T>>(futures.size());
+			for (final CompletableFuture<List<T>> future : futures) {
+				pagesOfData.add(StravaExecutors.join(future));
+			}
+			records = PagingUtils.concatenate(pagesOfData);
 		} catch (final NotFoundException e) {
 			return null;
 		} catch (final UnauthorizedException e) {
@@ -144,4 +700,228 @@ public class PagingHandler {
 		return records;
 
 	}
+
+	/**
+	 * <p>
+	 * Asynchronous equivalent of {@link #handlePaging(Paging, PagingCallback)}: validates paging instructions and converts them to Strava-compatible
+	 * paging instructions, then asks for all the pages at once and combines them as they arrive
+	 * </p>
+	 *
+	 * @param pagingInstruction
+	 *            The overarching paging instruction to be managed
+	 * @param callback
+	 *            An implementation of AsyncPagingCallback which asks the asynchronous API for the relevant page of data
+	 * @param <T>
+	 *            The class of objects which will be returned in the list
+	 * @return Future which completes with the list of strava objects as per the paging instruction; with <code>null</code> if the thing being paged
+	 *         doesn't exist, or an empty list if it is private. Invalid paging instructions fail it with an {@link IllegalArgumentException}.
+	 */
+	public static <T> CompletableFuture<List<T>> handlePagingAsync(final Paging pagingInstruction, final AsyncPagingCallback<T> callback) {
+		return FutureUtils.attempt(() -> {
+			PagingUtils.validatePagingArguments(pagingInstruction);
+			final List<Paging> pages = PagingUtils.convertToStravaPaging(pagingInstruction);
+
+			// Only the one page
+			if (pages.size() == 1) {
+				return FutureUtils.recover(getPageAsync(pages.get(0), callback), cause -> {
+					if (cause instanceof NotFoundException) {
+						return null;
+					}
+					if ((cause instanceof UnauthorizedException) || (cause instanceof BadRequestException)) {
+						return new ArrayList<T>();
+					}
+					throw cause;
+				});
+			}
+
+			// Ask for all of them, and put them together in order
+			final List<CompletableFuture<List<T>>> futures = new ArrayList<CompletableFuture<List<T>>>(pages.size());
+			for (final Paging paging : pages) {
+				futures.add(FutureUtils.recover(getPageAsync(paging, callback), cause -> {
+					if ((cause instanceof NotFoundException) || (cause instanceof BadRequestException)) {
+						return null;
+					}
+					throw cause;
+				}));
+			}
+			return FutureUtils.recover(FutureUtils.allOf(futures).thenApply(PagingUtils::concatenate), UnauthorizedException.class,
+					e -> new ArrayList<T>());
+		});
+	}
+
+	/**
+	 * @param paging A Strava-compatible paging instruction
+	 * @param callback The callback function that asks for one page of data
+	 * @param <T> The class of objects which will be returned in the list
+	 * @return Future which completes with the page of data, trimmed as the paging instruction requires
+	 */
+	private static <T> CompletableFuture<List<T>> getPageAsync(final Paging paging, final AsyncPagingCallback<T> callback) {
+		return FutureUtils.attempt(() -> callback.getPageOfData(paging)).thenApply(
+				records -> PagingUtils.trim(records, paging));
+	}
+
+	/**
+	 * @param paging A Strava-compatible paging instruction
+	 * @param callback The callback function that returns one page of data
+	 * @param <T> The class of objects which will be returned in the list
+	 * @return The page of data, trimmed as the paging instruction requires
+	 */
+	private static <T> List<T> getPage(final Paging paging, final PagingCallback<T> callback) {
+		return PagingUtils.trim(callback.getPageOfData(paging), paging);
+	}
+
+	/**
+	 * @param paging A Strava-compatible paging instruction
+	 * @param callback The callback function that returns one page of data
+	 * @param <T> The class of objects which will be returned in the list
+	 * @return The page of data, trimmed as the paging instruction requires, or <code>null</code> if it wasn't found or the request was bad
+	 */
+	private static <T> List<T> getPageIfFound(final Paging paging, final PagingCallback<T> callback) {
+		try {
+			return getPage(paging, callback);
+		} catch (final NotFoundException e) {
+			return null;
+		} catch (final BadRequestException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * <p>
+	 * The state of one {@link PagingHandler#handleListAllAsync(AsyncPagingCallback, int)}: a window of page requests in flight, and the records
+	 * collected so far
+	 * </p>
+	 *
+	 * <p>
+	 * Only one call to {@link #advance()} is ever running: it is called once to start, and after that only when the page at the head of the window
+	 * arrives, and it never waits - if the head of the window hasn't arrived yet, it asks to be called again when it does, and returns.
+	 * </p>
+	 *
+	 * @param <T> the parameterised type of list to be returned
+	 */
+	private static final class AsyncListAll<T> {
+		/**
+		 * The callback function that asks for one page of data
+		 */
+		private final AsyncPagingCallback<T> callback;
+
+		/**
+		 * Decides how many page requests to have in flight
+		 */
+		private final WindowSize windowSize;
+
+		/**
+		 * Condition met by the first record which is not wanted, or <code>null</code> to get them all
+		 */
+		private final Predicate<? super T> stopWhen;
+
+		/**
+		 * Size of each page
+		 */
+		private final int pageSize = StravaConfig.MAX_PAGE_SIZE.intValue();
+
+		/**
+		 * Page requests in flight, in page order
+		 */
+		private final ArrayDeque<PageRequest<T>> window = new ArrayDeque<PageRequest<T>>();
+
+		/**
+		 * Records collected so far
+		 */
+		private final List<T> records = new ArrayList<T>();
+
+		/**
+		 * Completed with the records once the last page arrives
+		 */
+		final CompletableFuture<List<T>> result = new CompletableFuture<List<T>>();
+
+		/**
+		 * Number of the last page requested
+		 */
+		private int page;
+
+		/**
+		 * Number of pages taken from the head of the window
+		 */
+		private int pagesUsed;
+
+		/**
+		 * Statistics in which to count the requests
+		 */
+		private final PagingStatistics statistics;
+
+		/**
+		 * @param callback The callback function that asks for one page of data
+		 * @param windowSize Decides how many page requests to have in flight
+		 * @param stopWhen Condition met by the first record which is not wanted, or <code>null</code> to get them all
+		 * @param statistics Statistics in which to count the requests
+		 */
+		AsyncListAll(final AsyncPagingCallback<T> callback, final WindowSize windowSize, final Predicate<? super T> stopWhen,
+				final PagingStatistics statistics) {
+			this.callback = callback;
+			this.windowSize = windowSize;
+			this.stopWhen = stopWhen;
+			this.statistics = statistics;
+		}
+
+		/**
+		 * Takes in every page that has arrived at the head of the window, topping the window up as it goes, until the result is known or the next
+		 * page hasn't arrived yet
+		 */
+		void advance() {
+			boolean stopped = false;
+			while (!this.result.isDone()) {
+				final int size = this.windowSize.get();
+				while (this.window.size() < size) {
+					this.window.add(requestPage(++this.page));
+				}
+				final CompletableFuture<List<T>> head = this.window.peek().future;
+				if (!head.isDone()) {
+					head.whenComplete((currentPage, error) -> advance());
+					return;
+				}
+				this.window.poll();
+				this.pagesUsed++;
+				try {
+					final List<T> currentPage = head.join();
+					if (currentPage == null) {
+						this.result.complete(null); // Thing being paged doesn't exist
+					} else {
+						final int stop = indexOfStop(currentPage, this.stopWhen);
+						if (stop >= 0) {
+							this.records.addAll(currentPage.subList(0, stop));
+							this.result.complete(this.records);
+							stopped = true;
+						} else {
+							this.records.addAll(currentPage);
+							if (currentPage.size() < this.pageSize) {
+								this.result.complete(this.records);
+							}
+						}
+					}
+				} catch (final RuntimeException e) {
+					this.result.completeExceptionally(FutureUtils.unwrap(e));
+				}
+			}
+
+			// Abandon any pages beyond the last one
+			for (final PageRequest<T> abandoned : this.window) {
+				abandoned.abandon();
+			}
+			this.window.clear();
+			if (stopped) {
+				logStop(this.pagesUsed, this.statistics);
+			}
+		}
+
+		/**
+		 * @param pageNumber Number of the page to ask for
+		 * @return Request for the page, whose future completes with the page of data; <code>null</code> if the thing being paged doesn't exist
+		 */
+		private PageRequest<T> requestPage(final int pageNumber) {
+			final Paging paging = new Paging(Integer.valueOf(pageNumber), Integer.valueOf(this.pageSize));
+			return new PageRequest<T>(this.windowSize, this.statistics).send(() -> StravaRateLimiter.withPriority(StravaRequestPriority.BULK,
+					() -> handlePagingAsync(paging, this.callback)));
+		}
+	}
 }
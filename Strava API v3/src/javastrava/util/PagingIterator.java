@@ -0,0 +1,245 @@
+package javastrava.util;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import javastrava.ratelimit.StravaRateLimiter;
+import javastrava.ratelimit.StravaRequestPriority;
+
+/**
+ * <p>
+ * Iterates over ALL the data from a Strava service that would normally only return a page of data, getting pages 1..n only as they are needed
+ * </p>
+ *
+ * <p>
+ * Unlike {@link PagingHandler#handleListAll(PagingCallback)}, which holds every page in memory before returning anything, only the page being read
+ * and the pages being fetched ahead of it are held; pages which have been read can be garbage collected. A caller which stops early doesn't spend
+ * rate limit on pages it never reads, apart from those already fetched ahead.
+ * </p>
+ *
+ * <p>
+ * Once a full page has been read, up to <code>prefetch</code> further pages are requested in the background, so the next page is normally
+ * ready by the time it's wanted. Requests are issued with {@link StravaRequestPriority#BULK bulk} priority.
+ * </p>
+ *
+ * <p>
+ * Not thread safe; like any {@link Iterator} it should only be used by one thread at a time.
+ * </p>
+ *
+ * @author Dan Shannon
+ *
+ * @param <T>
+ *            Class of the objects returned
+ */
+public class PagingIterator<T> implements Iterator<T>, AutoCloseable {
+	/**
+	 * The callback function that returns one page of data
+	 */
+	private final PagingCallback<T> callback;
+
+	/**
+	 * Number of objects requested in each page
+	 */
+	private final int pageSize;
+
+	/**
+	 * Maximum number of pages fetched ahead of the one being read
+	 */
+	private final int prefetch;
+
+	/**
+	 * Runs page requests in the background
+	 */
+	private final Executor executor;
+
+	/**
+	 * Pages requested but not yet read, in page order
+	 */
+	private final ArrayDeque<CompletableFuture<List<T>>> pending = new ArrayDeque<CompletableFuture<List<T>>>();
+
+	/**
+	 * The page being read
+	 */
+	private List<T> current = Collections.emptyList();
+
+	/**
+	 * Index of the next object to be returned from the current page
+	 */
+	private int index;
+
+	/**
+	 * Number of the next page to be requested
+	 */
+	private int nextPage = 1;
+
+	/**
+	 * Number of pages requested so far
+	 */
+	private int pagesRequested;
+
+	/**
+	 * Whether the last page has been read (or the iterator has been closed), so no more pages should be requested
+	 */
+	private boolean finished;
+
+	/**
+	 * @param callback
+	 *            The callback function that returns one page of data
+	 * @param pageSize
+	 *            Number of objects to request in each page
+	 * @param prefetch
+	 *            Maximum number of pages to fetch ahead of the one being read (0 to only fetch pages when they are needed)
+	 * @param executor
+	 *            Runs page requests in the background
+	 */
+	public PagingIterator(final PagingCallback<T> callback, final int pageSize, final int prefetch, final Executor executor) {
+		this.callback = callback;
+		this.pageSize = pageSize;
+		this.prefetch = Math.max(0, prefetch);
+		this.executor = executor;
+	}
+
+	/**
+	 * @see java.util.Iterator#hasNext()
+	 */
+	@Override
+	public boolean hasNext() {
+		while (this.index >= this.current.size()) {
+			if (!advance()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @see java.util.Iterator#next()
+	 */
+	@Override
+	public T next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		return this.current.get(this.index++);
+	}
+
+	/**
+	 * <p>
+	 * Stops fetching pages. Pages fetched ahead which haven't been started are abandoned.
+	 * </p>
+	 *
+	 * @see java.lang.AutoCloseable#close()
+	 */
+	@Override
+	public void close() {
+		this.finished = true;
+		this.current = Collections.emptyList();
+		this.index = 0;
+		abandonPending();
+	}
+
+	/**
+	 * @return Number of pages requested from Strava so far
+	 */
+	public int getPagesRequested() {
+		return this.pagesRequested;
+	}
+
+	/**
+	 * @return A sequential, ordered stream of the objects, which closes this iterator when it is closed
+	 */
+	public Stream<T> stream() {
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false).onClose(this::close);
+	}
+
+	/**
+	 * Moves on to the next page
+	 *
+	 * @return <code>true</code> if there is a next page, <code>false</code> if there are no more
+	 */
+	private boolean advance() {
+		this.current = Collections.emptyList();
+		this.index = 0;
+		if (this.pending.isEmpty()) {
+			if (this.finished) {
+				return false;
+			}
+			request();
+		}
+		final List<T> page = await(this.pending.poll());
+
+		// A short page (or none, if the thing being paged doesn't exist or isn't visible) is the last one
+		if ((page == null) || (page.size() < this.pageSize)) {
+			this.finished = true;
+			abandonPending();
+		} else {
+			while (!this.finished && (this.pending.size() < this.prefetch)) {
+				request();
+			}
+		}
+		if (page == null) {
+			return false;
+		}
+		this.current = page;
+		return true;
+	}
+
+	/**
+	 * Requests the next page, in the background if pages are being fetched ahead
+	 */
+	private void request() {
+		final Paging paging = new Paging(Integer.valueOf(this.nextPage++), Integer.valueOf(this.pageSize));
+		this.pagesRequested++;
+		if (this.prefetch == 0) {
+			this.pending.add(CompletableFuture.completedFuture(fetch(paging)));
+		} else {
+			this.pending.add(CompletableFuture.supplyAsync(() -> fetch(paging), this.executor));
+		}
+	}
+
+	/**
+	 * @param paging
+	 *            The page to get
+	 * @return The page of data, or <code>null</code> if the thing being paged doesn't exist
+	 */
+	private List<T> fetch(final Paging paging) {
+		return StravaRateLimiter.withPriority(StravaRequestPriority.BULK, () -> PagingHandler.handlePaging(paging, this.callback, this.executor));
+	}
+
+	/**
+	 * Cancels the pages fetched ahead; any which have already been requested from Strava are left to complete, but are ignored
+	 */
+	private void abandonPending() {
+		for (final CompletableFuture<List<T>> future : this.pending) {
+			future.cancel(false);
+		}
+		this.pending.clear();
+	}
+
+	/**
+	 * @param future
+	 *            A page being fetched
+	 * @return The page, once it has arrived
+	 */
+	private List<T> await(final CompletableFuture<List<T>> future) {
+		try {
+			return future.join();
+		} catch (final CompletionException e) {
+			close();
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw e;
+		}
+	}
+}
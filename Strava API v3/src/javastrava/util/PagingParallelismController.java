@@ -0,0 +1,360 @@
+package javastrava.util;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javastrava.api.v3.service.exception.StravaAPIRateLimitException;
+import javastrava.config.StravaConfig;
+import javastrava.ratelimit.StravaRateLimitLedger;
+
+/**
+ * <p>
+ * Decides how many page requests a listAll method keeps in flight, adjusting it as pages come back
+ * </p>
+ *
+ * <p>
+ * The controller follows the AIMD (additive increase, multiplicative decrease) pattern. While less than half of
+ * {@link StravaConfig#WARN_AT_REQUEST_LIMIT_PERCENT} of the 15 minute rate limit has been used and page latency is flat, parallelism rises by
+ * about one request per round of pages. It is halved, at most once per round, if:
+ * </p>
+ * <ul>
+ * <li>usage reaches {@link StravaConfig#WARN_AT_REQUEST_LIMIT_PERCENT}, or</li>
+ * <li>latency climbs more than {@link StravaConfig#PAGING_LATENCY_TOLERANCE_PERCENT} above its long run average (a sign that Strava, or the
+ * network, is struggling), or</li>
+ * <li>Strava reports that the rate limit has been exceeded</li>
+ * </ul>
+ * <p>
+ * In between, it holds steady.
+ * </p>
+ *
+ * <p>
+ * Parallelism starts at {@link StravaConfig#PAGING_LIST_ALL_PARALLELISM} and stays between 1 and {@link StravaConfig#PAGING_PARALLELISM_MAX}.
+ * </p>
+ *
+ * <p>
+ * Each application has its own rate limit, so each has its own controller ({@link #forApplication(Integer)}), which reads usage from that
+ * application's {@link StravaRateLimitLedger}.
+ * </p>
+ *
+ * @author Dan Shannon
+ *
+ */
+public class PagingParallelismController {
+	/**
+	 * A decision made when a page came back
+	 */
+	public enum Decision {
+		/**
+		 * Parallelism was raised
+		 */
+		INCREASE,
+		/**
+		 * Parallelism was left as it was
+		 */
+		HOLD,
+		/**
+		 * Parallelism was lowered because rate limit usage was high
+		 */
+		DECREASE_FOR_USAGE,
+		/**
+		 * Parallelism was lowered because latency was climbing
+		 */
+		DECREASE_FOR_LATENCY,
+		/**
+		 * Parallelism was lowered because Strava reported that the rate limit was exceeded
+		 */
+		DECREASE_FOR_RATE_LIMIT
+	}
+
+	/**
+	 * Weight given to each new latency in the short term average
+	 */
+	private static final double FAST_WEIGHT = 0.3;
+
+	/**
+	 * Weight given to each new latency in the long run average
+	 */
+	private static final double SLOW_WEIGHT = 0.05;
+
+	/**
+	 * Number of latencies to observe before latency is used to make decisions
+	 */
+	private static final int WARM_UP = 8;
+
+	/**
+	 * The controllers used by {@link PagingHandler}, by client id of the application
+	 */
+	private static final ConcurrentHashMap<Integer, PagingParallelismController> CONTROLLERS = new ConcurrentHashMap<Integer, PagingParallelismController>();
+
+	/**
+	 * @param clientId
+	 *            Client id of the application, or <code>null</code> if not known
+	 * @return The controller used by {@link PagingHandler} for the application's requests
+	 */
+	public static PagingParallelismController forApplication(final Integer clientId) {
+		final Integer key = (clientId == null ? StravaRateLimitLedger.DEFAULT_APPLICATION : clientId);
+		final PagingParallelismController controller = CONTROLLERS.get(key);
+		if (controller != null) {
+			return controller;
+		}
+		return CONTROLLERS.computeIfAbsent(key, id -> new PagingParallelismController(StravaRateLimitLedger.forApplication(id),
+				StravaConfig.PAGING_LIST_ALL_PARALLELISM, StravaConfig.PAGING_PARALLELISM_MAX, StravaConfig.WARN_AT_REQUEST_LIMIT_PERCENT,
+				StravaConfig.PAGING_LATENCY_TOLERANCE_PERCENT));
+	}
+
+	/**
+	 * Ledger of the application's rate limit usage
+	 */
+	private final StravaRateLimitLedger ledger;
+
+	/**
+	 * Most page requests to have in flight
+	 */
+	private final int max;
+
+	/**
+	 * Percentage of the 15 minute rate limit at or above which parallelism is lowered
+	 */
+	private final int warnPercent;
+
+	/**
+	 * Factor by which the short term average latency may exceed the long run average before parallelism is lowered
+	 */
+	private final double latencyTolerance;
+
+	/**
+	 * Current parallelism; fractional so that it can rise by a fraction of a request for each page
+	 */
+	private double limit;
+
+	/**
+	 * Short term average latency, in nanoseconds
+	 */
+	private double fastLatency;
+
+	/**
+	 * Long run average latency, in nanoseconds
+	 */
+	private double slowLatency;
+
+	/**
+	 * Number of latencies observed
+	 */
+	private long samples;
+
+	/**
+	 * Number of pages which have come back since parallelism was last lowered
+	 */
+	private int sinceDecrease;
+
+	/**
+	 * The most recent decision
+	 */
+	private Decision lastDecision = Decision.HOLD;
+
+	/**
+	 * Number of times parallelism was raised
+	 */
+	private final AtomicLong increases = new AtomicLong();
+
+	/**
+	 * Number of times parallelism was lowered because of rate limit usage
+	 */
+	private final AtomicLong usageDecreases = new AtomicLong();
+
+	/**
+	 * Number of times parallelism was lowered because of latency
+	 */
+	private final AtomicLong latencyDecreases = new AtomicLong();
+
+	/**
+	 * Number of times parallelism was lowered because the rate limit was exceeded
+	 */
+	private final AtomicLong rateLimitDecreases = new AtomicLong();
+
+	/**
+	 * @param ledger
+	 *            Ledger of the application's rate limit usage
+	 * @param initial
+	 *            Parallelism to start with
+	 * @param max
+	 *            Most page requests to have in flight
+	 * @param warnPercent
+	 *            Percentage of the 15 minute rate limit at or above which parallelism is lowered
+	 * @param latencyTolerancePercent
+	 *            Percentage by which the short term average latency may exceed the long run average before parallelism is lowered
+	 */
+	public PagingParallelismController(final StravaRateLimitLedger ledger, final int initial, final int max, final int warnPercent,
+			final int latencyTolerancePercent) {
+		this.ledger = ledger;
+		this.max = Math.max(1, max);
+		this.limit = Math.max(1, Math.min(initial, this.max));
+		this.warnPercent = warnPercent;
+		this.latencyTolerance = 1 + (latencyTolerancePercent / 100.0);
+		this.sinceDecrease = Integer.MAX_VALUE;
+	}
+
+	/**
+	 * @return Number of page requests to keep in flight
+	 */
+	public synchronized int getParallelism() {
+		return (int) this.limit;
+	}
+
+	/**
+	 * Records a page which came back successfully, and adjusts parallelism according to the usage recorded in the application's ledger
+	 *
+	 * @param latencyNanos
+	 *            How long the page's HTTP call took, in nanoseconds
+	 * @return The decision made
+	 */
+	public Decision recordSuccess(final long latencyNanos) {
+		return recordSuccess(latencyNanos, this.ledger.getUsage().getPercentUsed(System.currentTimeMillis()));
+	}
+
+	/**
+	 * Records a page which came back successfully, and adjusts parallelism
+	 *
+	 * @param latencyNanos
+	 *            How long the page's HTTP call took, in nanoseconds
+	 * @param percentUsed
+	 *            Percentage of the 15 minute rate limit used
+	 * @return The decision made
+	 */
+	public synchronized Decision recordSuccess(final long latencyNanos, final float percentUsed) {
+		if (this.samples++ == 0) {
+			this.fastLatency = latencyNanos;
+			this.slowLatency = latencyNanos;
+		} else {
+			this.fastLatency += FAST_WEIGHT * (latencyNanos - this.fastLatency);
+			this.slowLatency += SLOW_WEIGHT * (latencyNanos - this.slowLatency);
+		}
+		if (this.sinceDecrease != Integer.MAX_VALUE) {
+			this.sinceDecrease++;
+		}
+
+		if (percentUsed >= this.warnPercent) {
+			return decide(decrease(Decision.DECREASE_FOR_USAGE, this.usageDecreases));
+		}
+		if ((this.samples > WARM_UP) && (this.fastLatency > (this.slowLatency * this.latencyTolerance))) {
+			return decide(decrease(Decision.DECREASE_FOR_LATENCY, this.latencyDecreases));
+		}
+		if ((percentUsed < (this.warnPercent / 2f)) && (this.limit < this.max)) {
+			this.limit = Math.min(this.max, this.limit + (1 / this.limit));
+			this.increases.incrementAndGet();
+			return decide(Decision.INCREASE);
+		}
+		return decide(Decision.HOLD);
+	}
+
+	/**
+	 * Records a page which failed, lowering parallelism if it failed because the rate limit was exceeded
+	 *
+	 * @param failure
+	 *            Why the page failed
+	 * @return The decision made
+	 */
+	public synchronized Decision recordFailure(final Throwable failure) {
+		if (failure instanceof StravaAPIRateLimitException) {
+			return decide(decrease(Decision.DECREASE_FOR_RATE_LIMIT, this.rateLimitDecreases));
+		}
+		return decide(Decision.HOLD);
+	}
+
+	/**
+	 * Halves parallelism, unless it has already been lowered in the current round of pages
+	 *
+	 * @param decision
+	 *            Reason for lowering it
+	 * @param counter
+	 *            Counter of decreases for that reason
+	 * @return The decision made
+	 */
+	private Decision decrease(final Decision decision, final AtomicLong counter) {
+		if ((this.sinceDecrease < this.limit) || (this.limit <= 1)) {
+			return Decision.HOLD;
+		}
+		this.limit = Math.max(1, Math.floor(this.limit / 2));
+		this.sinceDecrease = 0;
+		counter.incrementAndGet();
+		return decision;
+	}
+
+	/**
+	 * @param decision
+	 *            A decision
+	 * @return The decision, having recorded it as the most recent
+	 */
+	private Decision decide(final Decision decision) {
+		this.lastDecision = decision;
+		return decision;
+	}
+
+	/**
+	 * @return Ledger of the application's rate limit usage
+	 */
+	public StravaRateLimitLedger getLedger() {
+		return this.ledger;
+	}
+
+	/**
+	 * @return The most recent decision
+	 */
+	public synchronized Decision getLastDecision() {
+		return this.lastDecision;
+	}
+
+	/**
+	 * @return Short term average page latency, in milliseconds
+	 */
+	public synchronized double getRecentLatencyMillis() {
+		return this.fastLatency / 1000000;
+	}
+
+	/**
+	 * @return Long run average page latency, in milliseconds
+	 */
+	public synchronized double getAverageLatencyMillis() {
+		return this.slowLatency / 1000000;
+	}
+
+	/**
+	 * @return Number of times parallelism was raised
+	 */
+	public long getIncreases() {
+		return this.increases.get();
+	}
+
+	/**
+	 * @return Number of times parallelism was lowered because rate limit usage was high
+	 */
+	public long getUsageDecreases() {
+		return this.usageDecreases.get();
+	}
+
+	/**
+	 * @return Number of times parallelism was lowered because latency was climbing
+	 */
+	public long getLatencyDecreases() {
+		return this.latencyDecreases.get();
+	}
+
+	/**
+	 * @return Number of times parallelism was lowered because Strava reported that the rate limit was exceeded
+	 */
+	public long getRateLimitDecreases() {
+		return this.rateLimitDecreases.get();
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public synchronized String toString() {
+		return "PagingParallelismController [clientId=" + this.ledger.getClientId() + ", parallelism=" + getParallelism() //$NON-NLS-1$ //$NON-NLS-2$
+				+ ", lastDecision=" + this.lastDecision //$NON-NLS-1$
+				+ ", recentLatencyMillis=" + (long) getRecentLatencyMillis() + ", averageLatencyMillis=" + (long) getAverageLatencyMillis() //$NON-NLS-1$ //$NON-NLS-2$
+				+ ", increases=" + getIncreases() + ", usageDecreases=" + getUsageDecreases() + ", latencyDecreases=" + getLatencyDecreases() //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				+ ", rateLimitDecreases=" + getRateLimitDecreases() + "]"; //$NON-NLS-1$ //$NON-NLS-2$
+	}
+}
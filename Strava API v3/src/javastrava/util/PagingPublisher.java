@@ -0,0 +1,298 @@
+package javastrava.util;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javastrava.api.v3.service.exception.NotFoundException;
+import javastrava.config.Messages;
+import javastrava.ratelimit.StravaRateLimiter;
+import javastrava.ratelimit.StravaRequestPriority;
+import javastrava.util.flow.Publisher;
+import javastrava.util.flow.Subscriber;
+import javastrava.util.flow.Subscription;
+
+/**
+ * <p>
+ * Publishes ALL the data from a Strava service that would normally only return a page of data, fetching pages 1..n only as fast as subscribers
+ * {@link Subscription#request(long) request} them
+ * </p>
+ *
+ * <p>
+ * Each subscriber gets its own pass through the pages. A page is only requested from Strava when the subscriber has asked for more items than are
+ * already buffered, and only if the buffer (of <code>bufferPages</code> pages) has room for it, so neither the rate limit nor memory is spent on
+ * items nobody is ready for. Only one page is fetched at a time for each subscriber, at {@link StravaRequestPriority#BULK bulk} priority.
+ * </p>
+ *
+ * <p>
+ * Failures are signalled to the subscriber through {@link Subscriber#onError(Throwable)} with the exception thrown by the
+ * {@link PagingCallback} (so {@link javastrava.api.v3.service.exception.StravaAPIRateLimitException}, {@link NotFoundException} and so on can be
+ * told apart); a callback which returns <code>null</code>, which service methods do if the thing being paged doesn't exist, is signalled as a
+ * {@link NotFoundException}.
+ * </p>
+ *
+ * @author Dan Shannon
+ *
+ * @param <T>
+ *            Class of the objects published
+ */
+public class PagingPublisher<T> implements Publisher<T> {
+	/**
+	 * The callback function that returns one page of data
+	 */
+	private final PagingCallback<T> callback;
+
+	/**
+	 * Number of objects requested in each page
+	 */
+	private final int pageSize;
+
+	/**
+	 * Maximum number of objects buffered for each subscriber
+	 */
+	private final int bufferSize;
+
+	/**
+	 * Runs page requests
+	 */
+	private final Executor executor;
+
+	/**
+	 * @param callback
+	 *            The callback function that returns one page of data
+	 * @param pageSize
+	 *            Number of objects to request in each page
+	 * @param bufferPages
+	 *            Maximum number of pages buffered for each subscriber (at least 1)
+	 * @param executor
+	 *            Runs page requests
+	 */
+	public PagingPublisher(final PagingCallback<T> callback, final int pageSize, final int bufferPages, final Executor executor) {
+		this.callback = callback;
+		this.pageSize = pageSize;
+		this.bufferSize = pageSize * Math.max(1, bufferPages);
+		this.executor = executor;
+	}
+
+	/**
+	 * @see javastrava.util.flow.Publisher#subscribe(javastrava.util.flow.Subscriber)
+	 */
+	@Override
+	public void subscribe(final Subscriber<? super T> subscriber) {
+		if (subscriber == null) {
+			throw new NullPointerException();
+		}
+		final PagingSubscription subscription = new PagingSubscription(subscriber);
+		subscriber.onSubscribe(subscription);
+	}
+
+	/**
+	 * <p>
+	 * One subscriber's pass through the pages
+	 * </p>
+	 *
+	 * <p>
+	 * All calls to the subscriber are made from {@link #drain()}, which only ever runs on one thread at a time; the buffer and paging state are only
+	 * touched there too. Page requests run on the executor and hand their results back through volatile fields.
+	 * </p>
+	 */
+	private final class PagingSubscription implements Subscription {
+		/**
+		 * The subscriber
+		 */
+		private final Subscriber<? super T> subscriber;
+
+		/**
+		 * Number of items requested but not yet sent
+		 */
+		private final AtomicLong requested = new AtomicLong();
+
+		/**
+		 * Number of times {@link #drain()} has been asked to run and hasn't yet caught up with; only the caller which raises it from 0 runs the loop
+		 */
+		private final AtomicInteger work = new AtomicInteger();
+
+		/**
+		 * Items fetched but not yet sent
+		 */
+		private final ArrayDeque<T> buffer = new ArrayDeque<T>();
+
+		/**
+		 * Number of the next page to be requested
+		 */
+		private int nextPage = 1;
+
+		/**
+		 * Whether a page is being fetched
+		 */
+		private boolean fetching;
+
+		/**
+		 * Whether the last page has been fetched
+		 */
+		private boolean lastPage;
+
+		/**
+		 * Whether {@link Subscriber#onComplete()} or {@link Subscriber#onError(Throwable)} has been called, or the subscription cancelled
+		 */
+		private boolean done;
+
+		/**
+		 * Page which has arrived but not yet been buffered
+		 */
+		private volatile List<T> arrived;
+
+		/**
+		 * Failure to be signalled to the subscriber
+		 */
+		private volatile Throwable error;
+
+		/**
+		 * Whether the subscriber has cancelled
+		 */
+		private volatile boolean cancelled;
+
+		/**
+		 * @param subscriber
+		 *            The subscriber
+		 */
+		PagingSubscription(final Subscriber<? super T> subscriber) {
+			this.subscriber = subscriber;
+		}
+
+		/**
+		 * @see javastrava.util.flow.Subscription#request(long)
+		 */
+		@Override
+		public void request(final long n) {
+			if (n <= 0) {
+				this.error = new IllegalArgumentException(Messages.string("PagingPublisher.requestNotPositive")); //$NON-NLS-1$
+			} else {
+				long current;
+				long updated;
+				do {
+					current = this.requested.get();
+					updated = current + n;
+					if (updated < 0) {
+						updated = Long.MAX_VALUE;
+					}
+				} while (!this.requested.compareAndSet(current, updated));
+			}
+			drain();
+		}
+
+		/**
+		 * @see javastrava.util.flow.Subscription#cancel()
+		 */
+		@Override
+		public void cancel() {
+			this.cancelled = true;
+			drain();
+		}
+
+		/**
+		 * Sends the subscriber whatever it has asked for and is available, signals completion or failure, and fetches another page if one is needed
+		 */
+		private void drain() {
+			if (this.work.getAndIncrement() != 0) {
+				return;
+			}
+			int missed = 1;
+			do {
+				if (!this.done) {
+					step();
+				}
+				missed = this.work.addAndGet(-missed);
+			} while (missed != 0);
+		}
+
+		/**
+		 * One pass of the {@link #drain()} loop
+		 */
+		private void step() {
+			if (this.cancelled) {
+				finish();
+				return;
+			}
+
+			// Take delivery of a page that has arrived
+			final List<T> page = this.arrived;
+			if (page != null) {
+				this.arrived = null;
+				this.buffer.addAll(page);
+				this.lastPage = (page.size() < PagingPublisher.this.pageSize);
+				this.fetching = false;
+			}
+
+			// Send what's been asked for
+			long sent = 0;
+			final long wanted = this.requested.get();
+			while ((sent < wanted) && !this.buffer.isEmpty()) {
+				if (this.cancelled) {
+					finish();
+					return;
+				}
+				this.subscriber.onNext(this.buffer.poll());
+				sent++;
+			}
+			if ((sent != 0) && (wanted != Long.MAX_VALUE)) {
+				this.requested.addAndGet(-sent);
+			}
+
+			// A failure is signalled once everything before it has been sent (or straight away if the subscriber broke the rules)
+			final Throwable failure = this.error;
+			if ((failure != null) && (this.buffer.isEmpty() || (failure instanceof IllegalArgumentException))) {
+				finish();
+				this.subscriber.onError(failure);
+				return;
+			}
+			if (this.buffer.isEmpty() && this.lastPage) {
+				finish();
+				this.subscriber.onComplete();
+				return;
+			}
+
+			// Fetch another page if there's demand it would help meet and room to put it
+			if (!this.fetching && !this.lastPage && (failure == null) && (this.requested.get() > this.buffer.size())
+					&& ((this.buffer.size() + PagingPublisher.this.pageSize) <= PagingPublisher.this.bufferSize)) {
+				this.fetching = true;
+				final Paging paging = new Paging(Integer.valueOf(this.nextPage++), Integer.valueOf(PagingPublisher.this.pageSize));
+				PagingPublisher.this.executor.execute(() -> fetch(paging));
+			}
+		}
+
+		/**
+		 * Gets a page of data and hands it to {@link #drain()}
+		 *
+		 * @param paging
+		 *            The page to get
+		 */
+		private void fetch(final Paging paging) {
+			if (this.cancelled) {
+				return;
+			}
+			try {
+				final List<T> page = StravaRateLimiter.withPriority(StravaRequestPriority.BULK, () -> PagingPublisher.this.callback.getPageOfData(paging));
+				if (page == null) {
+					this.error = new NotFoundException(Messages.string("PagingPublisher.notFound")); //$NON-NLS-1$
+				} else {
+					this.arrived = page;
+				}
+			} catch (final Throwable e) {
+				this.error = e;
+			}
+			drain();
+		}
+
+		/**
+		 * Stops the subscription; no further calls are made to the subscriber
+		 */
+		private void finish() {
+			this.done = true;
+			this.cancelled = true;
+			this.buffer.clear();
+		}
+	}
+}
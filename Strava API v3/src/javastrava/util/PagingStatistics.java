@@ -0,0 +1,85 @@
+package javastrava.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>
+ * Counts the requests made by one call to a listAll method of the {@link PagingHandler}, and how many of the pages it fetched ahead were never
+ * requested from Strava because they turned out not to be needed
+ * </p>
+ *
+ * <p>
+ * A page fetched ahead may still be waiting for the rate limiter when the call returns; it is counted as saved (or sent) once the limiter admits
+ * it, so the counts may go on changing for a while after the call has returned.
+ * </p>
+ *
+ * @author Dan Shannon
+ *
+ */
+public class PagingStatistics {
+	/**
+	 * Number of pages asked for
+	 */
+	private final AtomicInteger pagesRequested = new AtomicInteger();
+
+	/**
+	 * Number of requests sent to Strava, including retries
+	 */
+	private final AtomicInteger requestsSent = new AtomicInteger();
+
+	/**
+	 * Number of requests which were not sent because the page was no longer wanted
+	 */
+	private final AtomicInteger requestsSaved = new AtomicInteger();
+
+	/**
+	 * Records that a page was asked for
+	 */
+	void requested() {
+		this.pagesRequested.incrementAndGet();
+	}
+
+	/**
+	 * Records that a request was sent to Strava
+	 */
+	void sent() {
+		this.requestsSent.incrementAndGet();
+	}
+
+	/**
+	 * Records that a request was not sent, because its page was no longer wanted
+	 */
+	void saved() {
+		this.requestsSaved.incrementAndGet();
+	}
+
+	/**
+	 * @return Number of pages asked for
+	 */
+	public int getPagesRequested() {
+		return this.pagesRequested.get();
+	}
+
+	/**
+	 * @return Number of requests sent to Strava, including retries
+	 */
+	public int getRequestsSent() {
+		return this.requestsSent.get();
+	}
+
+	/**
+	 * @return Number of requests which were not sent because the page was no longer wanted
+	 */
+	public int getRequestsSaved() {
+		return this.requestsSaved.get();
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "PagingStatistics [pagesRequested=" + getPagesRequested() + ", requestsSent=" + getRequestsSent() + ", requestsSaved=" //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				+ getRequestsSaved() + "]"; //$NON-NLS-1$
+	}
+}
@@ -15,6 +15,36 @@ import javastrava.config.StravaConfig;
  */
 public class PagingUtils {
 
+	/**
+	 * <p>
+	 * Puts pages of data together, in page order, in a single list sized to hold them all
+	 * </p>
+	 *
+	 * @param pages
+	 *            Pages of data, indexed by their position in the result; a <code>null</code> page is skipped
+	 * @param <T>
+	 *            The class of object in the pages
+	 * @return All the items in the pages, or <code>null</code> if every page is <code>null</code>
+	 */
+	public static <T> List<T> concatenate(final List<List<T>> pages) {
+		int size = -1;
+		for (final List<T> page : pages) {
+			if (page != null) {
+				size = Math.max(size, 0) + page.size();
+			}
+		}
+		if (size < 0) {
+			return null;
+		}
+		final List<T> records = new ArrayList<T>(size);
+		for (final List<T> page : pages) {
+			if (page != null) {
+				records.addAll(page);
+			}
+		}
+		return records;
+	}
+
 	/**
 	 * <p>
 	 * Utility method - give it any paging instruction and it will return a list of paging instructions that will work with the Strava API (i.e. that conform to
@@ -56,17 +86,17 @@ public class PagingUtils {
 			return stravaPaging;
 		}
 
-		// Otherwise, return a series of pages
-		int currentPage = 0;
-		for (int i = 1; i <= lastElement; i = i + StravaConfig.MAX_PAGE_SIZE.intValue()) {
-			currentPage++;
-			if (((currentPage * StravaConfig.MAX_PAGE_SIZE.intValue())) >= firstElement) {
-				final int ignoreLastN = Math.max(0, (currentPage * StravaConfig.MAX_PAGE_SIZE.intValue()) - lastElement);
-				final int ignoreFirstN = Math.max(0, firstElement - ((currentPage - 1) * StravaConfig.MAX_PAGE_SIZE.intValue()) - 1);
-				stravaPaging.add(new Paging(Integer.valueOf(currentPage), StravaConfig.MAX_PAGE_SIZE, ignoreFirstN, ignoreLastN));
-			}
-		}
-		return stravaPaging;
+		// Otherwise, return a series of pages - working out the first and last straight away, rather than counting up to them from page 1
+		final int maxPageSize = StravaConfig.MAX_PAGE_SIZE.intValue();
+		final int firstPage = ((Math.max(1, firstElement) - 1) / maxPageSize) + 1;
+		final int lastPage = ((lastElement - 1) / maxPageSize) + 1;
+		final List<Paging> stravaPages = new ArrayList<Paging>(Math.max(0, (lastPage - firstPage) + 1));
+		for (int currentPage = firstPage; currentPage <= lastPage; currentPage++) {
+			final int ignoreLastN = Math.max(0, (currentPage * maxPageSize) - lastElement);
+			final int ignoreFirstN = Math.max(0, firstElement - ((currentPage - 1) * maxPageSize) - 1);
+			stravaPages.add(new Paging(Integer.valueOf(currentPage), StravaConfig.MAX_PAGE_SIZE, ignoreFirstN, ignoreLastN));
+		}
+		return stravaPages;
 
 	}
 
@@ -75,6 +105,10 @@ public class PagingUtils {
 	 * Removes the first N items from a list
 	 * </p>
 	 *
+	 * <p>
+	 * Nothing is copied: the result is a view of the rest of the list
+	 * </p>
+	 *
 	 * @param list
 	 *            List of items
 	 * @param ignoreFirstN
@@ -96,12 +130,7 @@ public class PagingUtils {
 		if (ignoreFirstN >= list.size()) {
 			return new ArrayList<T>();
 		}
-		// return list.subList(ignoreFirstN, list.size() - 1);
-		final ArrayList<T> returnList = new ArrayList<T>();
-		for (int i = ignoreFirstN; i < list.size(); i++) {
-			returnList.add(list.get(i));
-		}
-		return returnList;
+		return list.subList(ignoreFirstN, list.size());
 	}
 
 	/**
@@ -109,6 +138,10 @@ public class PagingUtils {
 	 * Removes the last ignoreLastN items from the list
 	 * </p>
 	 *
+	 * <p>
+	 * Nothing is copied: the result is a view of the rest of the list
+	 * </p>
+	 *
 	 * @param list
 	 *            List of items
 	 * @param ignoreLastN
@@ -133,6 +166,41 @@ public class PagingUtils {
 		return list.subList(0, list.size() - ignoreLastN);
 	}
 
+	/**
+	 * <p>
+	 * Removes the items from a page of data which a Strava paging instruction says are to be ignored
+	 * </p>
+	 *
+	 * <p>
+	 * Nothing is copied: the result is a single view of the items which are left
+	 * </p>
+	 *
+	 * @param list
+	 *            Page of data returned by Strava
+	 * @param paging
+	 *            The Strava paging instruction the page was returned for
+	 * @param <T>
+	 *            The class of object in the list
+	 * @return The items which are left
+	 * @see #ignoreFirstN(List, int)
+	 * @see #ignoreLastN(List, int)
+	 */
+	public static <T> List<T> trim(final List<T> list, final Paging paging) {
+		final int ignoreFirstN = paging.getIgnoreFirstN();
+		final int ignoreLastN = paging.getIgnoreLastN();
+		if ((ignoreFirstN < 0) || (ignoreLastN < 0)) {
+			throw new IllegalArgumentException(Messages.string("PagingUtils.cannotRemove") + Math.min(ignoreFirstN, ignoreLastN) //$NON-NLS-1$
+					+ Messages.string("PagingUtils.itemsFromAList")); //$NON-NLS-1$
+		}
+		if ((list == null) || ((ignoreFirstN == 0) && (ignoreLastN == 0))) {
+			return list;
+		}
+		if ((ignoreFirstN + ignoreLastN) >= list.size()) {
+			return new ArrayList<T>();
+		}
+		return list.subList(ignoreFirstN, list.size() - ignoreLastN);
+	}
+
 	/**
 	 * <p>
 	 * Throw an IllegalArgumentException if the page or perPage parameters are set but are invalid
@@ -6,8 +6,11 @@ package javastrava.util;
 import java.util.ArrayList;
 import java.util.List;
 
+import com.google.gson.Gson;
+
 import javastrava.api.v3.auth.model.Token;
 import javastrava.api.v3.model.StravaActivity;
+import javastrava.api.v3.model.StravaAthlete;
 import javastrava.api.v3.model.StravaClub;
 import javastrava.api.v3.model.StravaGear;
 import javastrava.api.v3.model.StravaSegment;
@@ -15,12 +18,17 @@ import javastrava.api.v3.model.StravaSegmentEffort;
 import javastrava.api.v3.model.StravaSegmentLeaderboard;
 import javastrava.api.v3.model.StravaSegmentLeaderboardEntry;
 import javastrava.api.v3.model.reference.StravaResourceState;
+import javastrava.json.impl.gson.JsonUtilImpl;
 
 /**
  * @author Dan Shannon
  *
  */
 public class PrivacyUtils {
+	/**
+	 * Used to copy segments before removing data specific to the authenticated athlete
+	 */
+	private static final Gson GSON = new JsonUtilImpl().getGson();
 
 	/**
 	 * <p>
@@ -174,6 +182,18 @@ public class PrivacyUtils {
 		return activity;
 	}
 
+	/**
+	 * <p>Creates a {@link StravaAthlete} with resourceState = {@link StravaResourceState#PRIVATE}</p>
+	 * @param id The id of the athlete to create
+	 * @return The private athlete
+	 */
+	public static StravaAthlete privateAthlete(final Integer id) {
+		final StravaAthlete athlete = new StravaAthlete();
+		athlete.setId(id);
+		athlete.setResourceState(StravaResourceState.PRIVATE);
+		return athlete;
+	}
+
 	/**
 	 * <p>Creates a {@link StravaClub} with resourceState = {@link StravaResourceState#PRIVATE}</p>
 	 * @param id The id of the club to create
@@ -241,6 +261,57 @@ public class PrivacyUtils {
 
 	}
 
+	/**
+	 * <p>
+	 * Checks if a club looks the same to every caller, so it can be cached once and shared by all tokens
+	 * </p>
+	 * @param club the club to check
+	 * @return <code>true</code> if the club is public and is a full representation returned by Strava
+	 */
+	public static boolean clubIsShareable(final StravaClub club) {
+		return (club.getResourceState() != StravaResourceState.PRIVATE) && (club.getResourceState() != StravaResourceState.UPDATING)
+				&& Boolean.FALSE.equals(club.getPrivateClub());
+	}
+
+	/**
+	 * <p>
+	 * Checks if a segment looks the same to every caller, so it can be cached once and shared by all tokens
+	 * </p>
+	 * <p>
+	 * Private segments are never shared. Data about the authenticated athlete (whether they starred it, their PR and effort stats) is removed by
+	 * {@link #segmentForSharing(StravaSegment)} before a segment is shared.
+	 * </p>
+	 * @param segment the segment to check
+	 * @return <code>true</code> if the segment is public and is a full representation returned by Strava
+	 */
+	public static boolean segmentIsShareable(final StravaSegment segment) {
+		return (segment.getResourceState() != StravaResourceState.PRIVATE) && (segment.getResourceState() != StravaResourceState.UPDATING)
+				&& Boolean.FALSE.equals(segment.getPrivateSegment());
+	}
+
+	/**
+	 * <p>
+	 * Returns the view of a shareable segment which every athlete sees, without the data about the authenticated athlete (whether they starred it,
+	 * their PR and effort stats)
+	 * </p>
+	 * @param segment the segment to share
+	 * @return The segment itself if it carries no data about the authenticated athlete, otherwise a copy with that data removed
+	 */
+	@SuppressWarnings("deprecation")
+	public static StravaSegment segmentForSharing(final StravaSegment segment) {
+		if ((segment.getStarred() == null) && (segment.getStarredDate() == null) && (segment.getPrTime() == null)
+				&& (segment.getAthletePrEffort() == null) && (segment.getAthleteSegmentStats() == null)) {
+			return segment;
+		}
+		final StravaSegment shared = GSON.fromJson(GSON.toJsonTree(segment), StravaSegment.class);
+		shared.setStarred(null);
+		shared.setStarredDate(null);
+		shared.setPrTime(null);
+		shared.setAthletePrEffort(null);
+		shared.setAthleteSegmentStats(null);
+		return shared;
+	}
+
 	/**
 	 * <p>
 	 * Checks if a segment is flagged as private
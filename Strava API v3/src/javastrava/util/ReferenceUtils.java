@@ -0,0 +1,153 @@
+package javastrava.util;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * <p>
+ * Utilities for the reference types (the enums in <code>javastrava.api.v3.model.reference</code> and the like), which are looked up by the
+ * identifier Strava uses for them each time a field is deserialised
+ * </p>
+ *
+ * @author Dan Shannon
+ *
+ */
+public class ReferenceUtils {
+	/**
+	 * <p>
+	 * An identifier which is equal to any other with the same letters, regardless of case; used as the key of an index built by
+	 * {@link ReferenceUtils#indexIgnoringCase(Enum[], Function)}
+	 * </p>
+	 *
+	 * @author Dan Shannon
+	 *
+	 */
+	public static final class CaseInsensitiveKey {
+		/**
+		 * The identifier
+		 */
+		private final String	id;
+		/**
+		 * Hash of the identifier in lower case, worked out without converting it
+		 */
+		private final int		hash;
+
+		/**
+		 * @param id
+		 *            The identifier
+		 */
+		CaseInsensitiveKey(final String id) {
+			this.id = id;
+			int hash = 0;
+			for (int i = 0; i < id.length(); i++) {
+				final char c = id.charAt(i);
+				if ((c >= 'A') && (c <= 'Z')) {
+					hash = (31 * hash) + (c + ('a' - 'A'));
+				} else if (c < 128) {
+					hash = (31 * hash) + c;
+				} else {
+					hash = (31 * hash) + Character.toLowerCase(Character.toUpperCase(c));
+				}
+			}
+			this.hash = hash;
+		}
+
+		/**
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(final Object obj) {
+			return (obj instanceof CaseInsensitiveKey) && this.id.equalsIgnoreCase(((CaseInsensitiveKey) obj).id);
+		}
+
+		/**
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return this.hash;
+		}
+
+		/**
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return this.id;
+		}
+	}
+
+	/**
+	 * <p>
+	 * Indexes the values of a reference type by their identifiers, once, so that {@link Map#get(Object)} replaces a scan of every value
+	 * </p>
+	 *
+	 * <p>
+	 * If two values have the same identifier, the first is indexed, as a scan would have found it first. Values with a <code>null</code>
+	 * identifier are not indexed.
+	 * </p>
+	 *
+	 * @param values
+	 *            The values, in declaration order
+	 * @param id
+	 *            Gets the identifier of a value
+	 * @param <K>
+	 *            The class of identifier
+	 * @param <E>
+	 *            The reference type
+	 * @return An immutable map of the values by identifier
+	 */
+	public static <K, E extends Enum<E>> Map<K, E> index(final E[] values, final Function<E, K> id) {
+		final Map<K, E> index = new HashMap<K, E>();
+		for (final E value : values) {
+			final K key = id.apply(value);
+			if (key != null) {
+				index.putIfAbsent(key, value);
+			}
+		}
+		return Collections.unmodifiableMap(index);
+	}
+
+	/**
+	 * <p>
+	 * As {@link #index(Enum[], Function)}, for a reference type whose identifiers are matched regardless of case; use
+	 * {@link #lookupIgnoringCase(Map, String)} to look them up
+	 * </p>
+	 *
+	 * @param values
+	 *            The values, in declaration order
+	 * @param id
+	 *            Gets the identifier of a value
+	 * @param <E>
+	 *            The reference type
+	 * @return An immutable map of the values by identifier
+	 */
+	public static <E extends Enum<E>> Map<CaseInsensitiveKey, E> indexIgnoringCase(final E[] values, final Function<E, String> id) {
+		return index(values, value -> {
+			final String key = id.apply(value);
+			return (key == null ? null : new CaseInsensitiveKey(key));
+		});
+	}
+
+	/**
+	 * @param index
+	 *            An index built by {@link #indexIgnoringCase(Enum[], Function)}
+	 * @param id
+	 *            The identifier, in any case
+	 * @param <E>
+	 *            The reference type
+	 * @return The matching value, or <code>null</code> if there isn't one
+	 */
+	public static <E extends Enum<E>> E lookupIgnoringCase(final Map<CaseInsensitiveKey, E> index, final String id) {
+		return (id == null ? null : index.get(new CaseInsensitiveKey(id)));
+	}
+
+	/**
+	 * No-args constructor - all access is static
+	 */
+	private ReferenceUtils() {
+	}
+
+}
@@ -3,14 +3,161 @@
  */
 package javastrava.util;
 
+import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.Year;
 import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
 
 /**
  * @author Dan Shannon
  *
  */
 public class StravaDateUtils {
+	/**
+	 * Length of a date in the format Strava uses, <code>yyyy-MM-dd</code>
+	 */
+	private static final int	DATE_LENGTH			= 10;
+
+	/**
+	 * Length of a date and time in the format Strava uses, <code>yyyy-MM-dd'T'HH:mm:ss'Z'</code>
+	 */
+	private static final int	DATE_TIME_LENGTH	= 20;
+
+	/**
+	 * @param text
+	 *            Text
+	 * @param start
+	 *            Index of the first digit
+	 * @param length
+	 *            Number of digits
+	 * @return The number the digits make up, or -1 if they aren't all digits
+	 */
+	private static int digits(final String text, final int start, final int length) {
+		int value = 0;
+		for (int i = start; i < (start + length); i++) {
+			final char c = text.charAt(i);
+			if ((c < '0') || (c > '9')) {
+				return -1;
+			}
+			value = (10 * value) + (c - '0');
+		}
+		return value;
+	}
+
+	/**
+	 * @param text
+	 *            Text which may start with a date in the format <code>yyyy-MM-dd</code>
+	 * @return The date, or <code>null</code> if the text doesn't start with a valid one
+	 */
+	private static LocalDate fastLocalDate(final String text) {
+		if ((text.length() < DATE_LENGTH) || (text.charAt(4) != '-') || (text.charAt(7) != '-')) {
+			return null;
+		}
+		final int year = digits(text, 0, 4);
+		final int month = digits(text, 5, 2);
+		final int day = digits(text, 8, 2);
+		if ((year < 0) || (month < 1) || (month > 12) || (day < 1) || (day > Month.of(month).length(Year.isLeap(year)))) {
+			return null;
+		}
+		return LocalDate.of(year, month, day);
+	}
+
+	/**
+	 * @param text
+	 *            Text which may be a date and time in the format <code>yyyy-MM-dd'T'HH:mm:ss'Z'</code>
+	 * @return The date and time, or <code>null</code> if the text isn't a valid one in exactly that format
+	 */
+	private static LocalDateTime fastLocalDateTime(final String text) {
+		if ((text.length() != DATE_TIME_LENGTH) || (text.charAt(10) != 'T') || (text.charAt(13) != ':') || (text.charAt(16) != ':')
+				|| (text.charAt(19) != 'Z')) {
+			return null;
+		}
+		final LocalDate date = fastLocalDate(text);
+		final int hour = digits(text, 11, 2);
+		final int minute = digits(text, 14, 2);
+		final int second = digits(text, 17, 2);
+		if ((date == null) || (hour < 0) || (hour > 23) || (minute < 0) || (minute > 59) || (second < 0) || (second > 59)) {
+			return null;
+		}
+		return LocalDateTime.of(date, LocalTime.of(hour, minute, second));
+	}
+
+	/**
+	 * <p>
+	 * Parses a date as returned by Strava, e.g. <code>2015-04-07</code>
+	 * </p>
+	 *
+	 * <p>
+	 * Dates in exactly that format are parsed directly; anything else is left to {@link DateTimeFormatter#ISO_DATE}.
+	 * </p>
+	 *
+	 * @param text
+	 *            The date
+	 * @return The date, or <code>null</code> if the text is <code>null</code>
+	 * @throws java.time.format.DateTimeParseException
+	 *             If the text isn't an ISO-8601 date
+	 */
+	public static LocalDate parseLocalDate(final String text) {
+		if (text == null) {
+			return null;
+		}
+		final LocalDate date = (text.length() == DATE_LENGTH ? fastLocalDate(text) : null);
+		return (date != null ? date : LocalDate.parse(text, DateTimeFormatter.ISO_DATE));
+	}
+
+	/**
+	 * <p>
+	 * Parses a date and time as returned by Strava, e.g. <code>2015-04-07T10:46:49Z</code>, as the equivalent date and time in UTC
+	 * </p>
+	 *
+	 * <p>
+	 * Strava almost always sends dates and times in exactly that format, so they are parsed directly, which is several times quicker than
+	 * {@link Instant#parse(CharSequence)}. Anything else (fractions of a second, other offsets, leap seconds, invalid dates) is left to
+	 * {@link Instant#parse(CharSequence)}, which also reports any errors.
+	 * </p>
+	 *
+	 * @param text
+	 *            The date and time
+	 * @return The date and time in UTC, or <code>null</code> if the text is <code>null</code>
+	 * @throws java.time.format.DateTimeParseException
+	 *             If the text isn't an ISO-8601 instant
+	 */
+	public static LocalDateTime parseLocalDateTime(final String text) {
+		if (text == null) {
+			return null;
+		}
+		final LocalDateTime dateTime = fastLocalDateTime(text);
+		return (dateTime != null ? dateTime : LocalDateTime.ofInstant(Instant.parse(text), ZoneOffset.UTC));
+	}
+
+	/**
+	 * <p>
+	 * Parses a date and time as returned by Strava, e.g. <code>2015-04-07T10:46:49Z</code>
+	 * </p>
+	 *
+	 * <p>
+	 * As with {@link #parseLocalDateTime(String)}, text in exactly that format is parsed directly, and anything else is left to
+	 * {@link ZonedDateTime#parse(CharSequence)}.
+	 * </p>
+	 *
+	 * @param text
+	 *            The date and time
+	 * @return The date and time, or <code>null</code> if the text is <code>null</code>
+	 * @throws java.time.format.DateTimeParseException
+	 *             If the text isn't an ISO-8601 date and time
+	 */
+	public static ZonedDateTime parseZonedDateTime(final String text) {
+		if (text == null) {
+			return null;
+		}
+		final LocalDateTime dateTime = fastLocalDateTime(text);
+		return (dateTime != null ? ZonedDateTime.of(dateTime, ZoneOffset.UTC) : ZonedDateTime.parse(text));
+	}
 
 	/**
 	 * @param date
@@ -0,0 +1,178 @@
+package javastrava.util;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javastrava.config.StravaConfig;
+
+/**
+ * <p>
+ * Executors on which the parallel page requests made by {@link PagingHandler} are run, and on which asynchronous service methods deliver
+ * their results
+ * </p>
+ *
+ * <p>
+ * Those tasks spend almost all their time blocked waiting for Strava, so they are kept off {@link java.util.concurrent.ForkJoinPool#commonPool()},
+ * where they would starve parallel streams elsewhere in the application and be capped at the number of processors. Each
+ * {@link javastrava.api.v3.auth.model.Token} has an executor, given when it is created or defaulting to {@link #defaultExecutor()}; there are three
+ * kinds:
+ * </p>
+ * <ul>
+ * <li>{@link #boundedPool(int)} - a pool of at most <code>threads</code> threads. When every thread is busy a task is run by the thread which
+ * submitted it, so work slows down rather than queueing up (and a task waiting on the pages it has submitted can never deadlock the pool).</li>
+ * <li>{@link #perRequest()} - a new thread for every task; virtual threads when the JVM supports them (Java 21 and later), otherwise daemon
+ * platform threads</li>
+ * <li>{@link #callerRuns()} - every task is run straight away by the thread which submitted it, so page requests are made one at a time and
+ * the results of asynchronous methods are delivered on the HTTP thread which received the response</li>
+ * </ul>
+ * <p>
+ * Any other {@link Executor} can be used too.
+ * </p>
+ *
+ * @author Dan Shannon
+ *
+ */
+public class StravaExecutors {
+	/**
+	 * Value of {@link StravaConfig#EXECUTOR} for {@link #boundedPool(int)}
+	 */
+	public static final String BOUNDED = "bounded"; //$NON-NLS-1$
+
+	/**
+	 * Value of {@link StravaConfig#EXECUTOR} for {@link #perRequest()}
+	 */
+	public static final String PER_REQUEST = "per_request"; //$NON-NLS-1$
+
+	/**
+	 * Value of {@link StravaConfig#EXECUTOR} for {@link #callerRuns()}
+	 */
+	public static final String CALLER_RUNS = "caller_runs"; //$NON-NLS-1$
+
+	/**
+	 * Executor used by tokens which weren't given one, created when first needed
+	 */
+	private static volatile Executor defaultExecutor;
+
+	/**
+	 * @return The executor configured by {@link StravaConfig#EXECUTOR} and {@link StravaConfig#EXECUTOR_THREADS}, shared by all tokens which
+	 *         weren't given one of their own
+	 */
+	public static Executor defaultExecutor() {
+		Executor executor = defaultExecutor;
+		if (executor == null) {
+			synchronized (StravaExecutors.class) {
+				executor = defaultExecutor;
+				if (executor == null) {
+					executor = create(StravaConfig.EXECUTOR, StravaConfig.EXECUTOR_THREADS);
+					defaultExecutor = executor;
+				}
+			}
+		}
+		return executor;
+	}
+
+	/**
+	 * @param kind
+	 *            {@link #BOUNDED}, {@link #PER_REQUEST} or {@link #CALLER_RUNS}; anything else is treated as {@link #BOUNDED}
+	 * @param threads
+	 *            Maximum number of threads, for {@link #BOUNDED}
+	 * @return The executor
+	 */
+	public static Executor create(final String kind, final int threads) {
+		if (PER_REQUEST.equalsIgnoreCase(kind)) {
+			return perRequest();
+		}
+		if (CALLER_RUNS.equalsIgnoreCase(kind)) {
+			return callerRuns();
+		}
+		return boundedPool(threads);
+	}
+
+	/**
+	 * @param threads
+	 *            Maximum number of threads
+	 * @return A pool of daemon threads which runs a task on the submitting thread when all its threads are busy
+	 */
+	public static Executor boundedPool(final int threads) {
+		return new ThreadPoolExecutor(0, Math.max(1, threads), 60, TimeUnit.SECONDS, new SynchronousQueue<Runnable>(), daemonThreads("javastrava-io-"), //$NON-NLS-1$
+				new ThreadPoolExecutor.CallerRunsPolicy());
+	}
+
+	/**
+	 * @return An executor which starts a new thread for every task; virtual threads if the JVM supports them
+	 */
+	public static Executor perRequest() {
+		final Executor virtual = virtualThreadPerTask();
+		if (virtual != null) {
+			return virtual;
+		}
+		final ThreadFactory threadFactory = daemonThreads("javastrava-request-"); //$NON-NLS-1$
+		return runnable -> threadFactory.newThread(runnable).start();
+	}
+
+	/**
+	 * @return An executor which runs every task straight away on the submitting thread
+	 */
+	public static Executor callerRuns() {
+		return Runnable::run;
+	}
+
+	/**
+	 * @param future
+	 *            A future
+	 * @param <T>
+	 *            Class of the result
+	 * @return The result, once it's ready; if the work failed with a runtime exception, that exception is thrown rather than a
+	 *         {@link CompletionException}
+	 */
+	public static <T> T join(final CompletableFuture<T> future) {
+		try {
+			return future.join();
+		} catch (final CompletionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * @param prefix
+	 *            Prefix of the threads' names
+	 * @return A factory of daemon threads, so that idle executors don't prevent the JVM from exiting
+	 */
+	private static ThreadFactory daemonThreads(final String prefix) {
+		final AtomicInteger threadCount = new AtomicInteger();
+		return runnable -> {
+			final Thread thread = new Thread(runnable, prefix + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	/**
+	 * @return <code>Executors.newVirtualThreadPerTaskExecutor()</code>, or <code>null</code> if the JVM doesn't have virtual threads
+	 */
+	private static Executor virtualThreadPerTask() {
+		try {
+			final Method method = java.util.concurrent.Executors.class.getMethod("newVirtualThreadPerTaskExecutor"); //$NON-NLS-1$
+			return (Executor) method.invoke(null);
+		} catch (final ReflectiveOperationException | RuntimeException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * No-args constructor - all access is static
+	 */
+	private StravaExecutors() {
+	}
+
+}
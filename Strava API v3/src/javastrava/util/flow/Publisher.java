@@ -0,0 +1,32 @@
+package javastrava.util.flow;
+
+/**
+ * <p>
+ * A producer of items which are received by {@link Subscriber subscribers}, each at the rate it {@link Subscription#request(long) requests} them
+ * </p>
+ *
+ * <p>
+ * Has the same shape as <code>java.util.concurrent.Flow.Publisher</code> (and <code>org.reactivestreams.Publisher</code>), which aren't available to
+ * a Java 8 library without an extra dependency, and follows the same rules; adapting to either is a one line lambda.
+ * </p>
+ *
+ * @author Dan Shannon
+ *
+ * @param <T>
+ *            Class of the items published
+ */
+@FunctionalInterface
+public interface Publisher<T> {
+	/**
+	 * <p>
+	 * Adds the subscriber. {@link Subscriber#onSubscribe(Subscription)} is called with a new subscription, and nothing is published until the
+	 * subscriber requests it.
+	 * </p>
+	 *
+	 * @param subscriber
+	 *            The subscriber
+	 * @throws NullPointerException
+	 *             If the subscriber is <code>null</code>
+	 */
+	public void subscribe(Subscriber<? super T> subscriber);
+}
@@ -0,0 +1,47 @@
+package javastrava.util.flow;
+
+/**
+ * <p>
+ * A receiver of items from a {@link Publisher}
+ * </p>
+ *
+ * <p>
+ * Has the same shape as <code>java.util.concurrent.Flow.Subscriber</code>. Calls to a subscriber are never made concurrently, and after
+ * {@link #onError(Throwable)} or {@link #onComplete()} no further calls are made.
+ * </p>
+ *
+ * @author Dan Shannon
+ *
+ * @param <T>
+ *            Class of the items received
+ */
+public interface Subscriber<T> {
+	/**
+	 * Called before any other method, with the subscription through which items are requested
+	 *
+	 * @param subscription
+	 *            The subscription
+	 */
+	public void onSubscribe(Subscription subscription);
+
+	/**
+	 * Called with the next item; never called more often than items have been requested
+	 *
+	 * @param item
+	 *            The item
+	 */
+	public void onNext(T item);
+
+	/**
+	 * Called if the publisher fails; no further calls are made
+	 *
+	 * @param throwable
+	 *            The failure
+	 */
+	public void onError(Throwable throwable);
+
+	/**
+	 * Called once all the items have been published; no further calls are made
+	 */
+	public void onComplete();
+}
@@ -0,0 +1,29 @@
+package javastrava.util.flow;
+
+/**
+ * <p>
+ * Links a {@link Publisher} and a {@link Subscriber}, allowing the subscriber to control how many items it is sent
+ * </p>
+ *
+ * <p>
+ * Has the same shape as <code>java.util.concurrent.Flow.Subscription</code>.
+ * </p>
+ *
+ * @author Dan Shannon
+ *
+ */
+public interface Subscription {
+	/**
+	 * Adds to the number of items the subscriber is ready to receive. A request for 0 or fewer items is an error, which is signalled to the
+	 * subscriber through {@link Subscriber#onError(Throwable)}.
+	 *
+	 * @param n
+	 *            Number of additional items wanted; {@link Long#MAX_VALUE} means there is no limit
+	 */
+	public void request(long n);
+
+	/**
+	 * Asks the publisher to stop sending items; some items may still arrive before it takes effect
+	 */
+	public void cancel();
+}